@@ -0,0 +1,144 @@
+package net.sparkzz.entropy.baker;
+
+import net.sparkzz.entropy.render.CompressedFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Bakes the PNG textures of a directory into block-compressed KTX2 or DDS containers with their full
+ * mipmap chains, which the engine uploads as {@link net.sparkzz.entropy.render.CompressedTexture compressed
+ * textures} without decoding or generating mipmaps at load time.
+ * <p>
+ * The output mirrors the input directory, with each PNG replaced by its container. Textures whose container
+ * is newer than the PNG are skipped. Encoding is done in software, so baking runs anywhere Java does.
+ * Run it with {@code mvn exec:java} from the module, see the README.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class AssetBaker {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetBaker.class);
+
+    private final Path input, output;
+    private final CompressedFormat format;
+    private final Container container;
+
+    /**
+     * Constructs an asset baker.
+     *
+     * @param input     The directory to bake the PNGs of.
+     * @param output    The directory to write the containers to.
+     * @param format    The format to encode, or null to pick BC1 for opaque images and BC3 otherwise.
+     * @param container The container to write.
+     */
+    public AssetBaker(Path input, Path output, CompressedFormat format, Container container) {
+        if (input == null || output == null) throw new IllegalArgumentException("Directories cannot be null");
+        if (container == null) throw new IllegalArgumentException("Container cannot be null");
+        if (format != null && format != CompressedFormat.BC1 && format != CompressedFormat.BC3)
+            throw new IllegalArgumentException("The baker encodes BC1 and BC3 only, not " + format);
+
+        this.input = input;
+        this.output = output;
+        this.format = format;
+        this.container = container;
+    }
+
+    /**
+     * Bakes every PNG under the input directory that changed since it was last baked.
+     *
+     * @return The number of textures baked.
+     * @throws IOException If a PNG cannot be read or a container cannot be written.
+     */
+    public int bake() throws IOException {
+        if (!Files.isDirectory(input)) throw new IllegalArgumentException("Input is not a directory: " + input);
+
+        List<Path> images;
+
+        try (Stream<Path> files = Files.walk(input)) {
+            images = files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".png"))
+                    .sorted()
+                    .toList();
+        }
+
+        int baked = 0;
+
+        for (Path image : images) {
+            Path target = target(image);
+
+            if (Files.exists(target)
+                    && Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(image)) >= 0) continue;
+
+            bake(image, target);
+            baked++;
+        }
+
+        log.info("Baked {} of {} textures into {}", baked, images.size(), output);
+        return baked;
+    }
+
+    /**
+     * Bakes a single PNG into a container.
+     *
+     * @param image  The PNG file.
+     * @param target The container file.
+     * @throws IOException If the PNG cannot be read or the container cannot be written.
+     */
+    public void bake(Path image, Path target) throws IOException {
+        BufferedImage decoded = ImageIO.read(image.toFile());
+
+        if (decoded == null) throw new IOException("Not a readable image: " + image);
+
+        // Stored bottom row first, as GL expects
+        RgbaImage source = RgbaImage.of(decoded).flipped();
+        CompressedFormat encoding = format != null ? format
+                : source.isOpaque() ? CompressedFormat.BC1 : CompressedFormat.BC3;
+        List<byte[]> levels = new ArrayList<>();
+
+        for (RgbaImage level : source.mipChain()) levels.add(BlockEncoder.encode(level, encoding));
+
+        container.write(target, encoding, source.width(), source.height(), levels);
+        log.debug("Baked {} as {} with {} levels", image, encoding, levels.size());
+    }
+
+    private Path target(Path image) {
+        String relative = input.relativize(image).toString();
+
+        return output.resolve(relative.substring(0, relative.length() - ".png".length()) + container.getExtension());
+    }
+
+    /**
+     * Runs the baker.
+     *
+     * @param args The input directory, the output directory, and optionally the format
+     *             ({@code auto}, {@code bc1} or {@code bc3}) and the container ({@code ktx2} or {@code dds}).
+     * @throws IOException If a texture cannot be baked.
+     */
+    public static void main(String[] args) throws IOException {
+        // Unset -Dbaker.input or -Dbaker.output arrive as null arguments from exec:java
+        if (args.length < 2 || args.length > 4 || isMissing(args[0]) || isMissing(args[1]))
+            throw new IllegalArgumentException("Usage: AssetBaker <input> <output> [auto|bc1|bc3] [ktx2|dds]");
+
+        String formatName = args.length > 2 ? args[2].toUpperCase(Locale.ROOT) : "AUTO";
+        CompressedFormat format = formatName.equals("AUTO") ? null : CompressedFormat.valueOf(formatName);
+        Container container = args.length > 3 ? Container.valueOf(args[3].toUpperCase(Locale.ROOT)) : Container.KTX2;
+
+        new AssetBaker(Path.of(args[0]), Path.of(args[1]), format, container).bake();
+    }
+
+    private static boolean isMissing(String arg) {
+        return arg == null || arg.isBlank();
+    }
+}
@@ -0,0 +1,301 @@
+package net.sparkzz.entropy.baker;
+
+import net.sparkzz.entropy.render.CompressedFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A software encoder for the BC1 and BC3 block-compressed formats, so textures can be baked on machines
+ * without a GPU or vendor tools.
+ * <p>
+ * Each 4x4 block picks its two endpoint colors along the principal axis of its texels, which is fast and
+ * close to what range-fit encoders achieve for sprite art. Blocks along the right and top edges of images
+ * that aren't a multiple of 4 repeat the edge texels.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class BlockEncoder {
+
+    private static final int TEXELS = CompressedFormat.BLOCK_SIZE * CompressedFormat.BLOCK_SIZE;
+    // BC1 blocks with 1-bit alpha treat texels below this as transparent
+    private static final int ALPHA_THRESHOLD = 128;
+
+    private BlockEncoder() {}
+
+    /**
+     * Encodes an image into compressed blocks, row by row of blocks.
+     *
+     * @param image  The image, in the row order to store.
+     * @param format The format, {@link CompressedFormat#BC1} or {@link CompressedFormat#BC3}.
+     * @return The compressed level.
+     */
+    public static byte[] encode(RgbaImage image, CompressedFormat format) {
+        if (format != CompressedFormat.BC1 && format != CompressedFormat.BC3)
+            throw new IllegalArgumentException("The software encoder doesn't support " + format);
+
+        int blocksX = (image.width() + 3) / 4, blocksY = (image.height() + 3) / 4;
+        ByteBuffer out = ByteBuffer.allocate(format.levelBytes(image.width(), image.height()))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        int[] texels = new int[TEXELS * 4];
+
+        for (int blockY = 0; blockY < blocksY; blockY++) {
+            for (int blockX = 0; blockX < blocksX; blockX++) {
+                for (int i = 0; i < TEXELS; i++) {
+                    for (int channel = 0; channel < 4; channel++)
+                        texels[i * 4 + channel] = image.get(blockX * 4 + (i & 3), blockY * 4 + (i >> 2), channel);
+                }
+
+                if (format == CompressedFormat.BC3) {
+                    encodeAlphaBlock(texels, out);
+                    encodeColorBlock(texels, false, out);
+                } else {
+                    encodeColorBlock(texels, true, out);
+                }
+            }
+        }
+
+        return out.array();
+    }
+
+    /**
+     * Encodes the colors of a block as a BC1 block.
+     *
+     * @param texels       The 16 texels of the block, 4 channels each, row by row.
+     * @param punchThrough True to encode texels below half alpha as transparent, false to ignore alpha.
+     * @param out          The buffer to write the 8-byte block to, little-endian.
+     */
+    static void encodeColorBlock(int[] texels, boolean punchThrough, ByteBuffer out) {
+        boolean transparent = false;
+        int opaque = 0;
+
+        for (int i = 0; i < TEXELS; i++) {
+            if (punchThrough && texels[i * 4 + 3] < ALPHA_THRESHOLD) transparent = true;
+            else opaque++;
+        }
+
+        if (opaque == 0) {
+            // Three-color mode, every texel transparent
+            out.putShort((short) 0).putShort((short) 0).putInt(-1);
+            return;
+        }
+
+        int[] endpoints = endpoints(texels, punchThrough);
+        int color0 = endpoints[0], color1 = endpoints[1];
+
+        // Four-color mode is selected by color0 > color1, three colors and transparency by color0 <= color1
+        if (transparent ? color0 > color1 : color0 < color1) {
+            int swap = color0;
+            color0 = color1;
+            color1 = swap;
+        }
+
+        int[] palette = palette(color0, color1, !transparent && color0 > color1);
+        int colors = transparent || color0 == color1 ? 3 : 4;
+        int indices = 0;
+
+        for (int i = 0; i < TEXELS; i++) {
+            int index;
+
+            if (punchThrough && texels[i * 4 + 3] < ALPHA_THRESHOLD) index = 3;
+            else index = nearest(texels, i, palette, colors);
+
+            indices |= index << (i * 2);
+        }
+
+        out.putShort((short) color0).putShort((short) color1).putInt(indices);
+    }
+
+    /**
+     * Encodes the alpha of a block as a BC3 alpha block.
+     *
+     * @param texels The 16 texels of the block, 4 channels each, row by row.
+     * @param out    The buffer to write the 8-byte block to, little-endian.
+     */
+    static void encodeAlphaBlock(int[] texels, ByteBuffer out) {
+        int min = 255, max = 0;
+
+        for (int i = 0; i < TEXELS; i++) {
+            min = Math.min(min, texels[i * 4 + 3]);
+            max = Math.max(max, texels[i * 4 + 3]);
+        }
+
+        long indices = 0L;
+
+        // Eight interpolated values, as alpha0 > alpha1
+        if (max > min) {
+            for (int i = 0; i < TEXELS; i++) {
+                int alpha = texels[i * 4 + 3];
+                int best = 0, bestError = Integer.MAX_VALUE;
+
+                for (int index = 0; index < 8; index++) {
+                    int error = Math.abs(alpha - alphaPalette(max, min, index));
+
+                    if (error < bestError) {
+                        best = index;
+                        bestError = error;
+                    }
+                }
+
+                indices |= (long) best << (i * 3);
+            }
+        }
+
+        out.put((byte) max).put((byte) min);
+
+        for (int i = 0; i < 6; i++) out.put((byte) (indices >>> (i * 8)));
+    }
+
+    /**
+     * Gets an entry of the palette of an eight-value BC3 alpha block.
+     *
+     * @param alpha0 The first endpoint, greater than the second.
+     * @param alpha1 The second endpoint.
+     * @param index  The index, 0 to 7.
+     * @return The alpha value.
+     */
+    static int alphaPalette(int alpha0, int alpha1, int index) {
+        return switch (index) {
+            case 0 -> alpha0;
+            case 1 -> alpha1;
+            default -> ((8 - index) * alpha0 + (index - 1) * alpha1) / 7;
+        };
+    }
+
+    /**
+     * Packs a color into RGB565, rounding to nearest.
+     *
+     * @param red   The red channel, 0 to 255.
+     * @param green The green channel, 0 to 255.
+     * @param blue  The blue channel, 0 to 255.
+     * @return The packed color.
+     */
+    static int pack565(int red, int green, int blue) {
+        return (red * 31 + 127) / 255 << 11 | (green * 63 + 127) / 255 << 5 | (blue * 31 + 127) / 255;
+    }
+
+    // Expands a 565 color to RGB, replicating the high bits into the low ones as decoders do
+    private static int[] unpack565(int color) {
+        int red = color >> 11 & 0x1F, green = color >> 5 & 0x3F, blue = color & 0x1F;
+
+        return new int[]{red << 3 | red >> 2, green << 2 | green >> 4, blue << 3 | blue >> 2};
+    }
+
+    private static int[] palette(int color0, int color1, boolean fourColors) {
+        int[] first = unpack565(color0), second = unpack565(color1);
+        int[] palette = new int[12];
+
+        for (int channel = 0; channel < 3; channel++) {
+            palette[channel] = first[channel];
+            palette[3 + channel] = second[channel];
+
+            if (fourColors) {
+                palette[6 + channel] = (2 * first[channel] + second[channel]) / 3;
+                palette[9 + channel] = (first[channel] + 2 * second[channel]) / 3;
+            } else {
+                palette[6 + channel] = (first[channel] + second[channel]) / 2;
+            }
+        }
+
+        return palette;
+    }
+
+    private static int nearest(int[] texels, int texel, int[] palette, int colors) {
+        int best = 0, bestError = Integer.MAX_VALUE;
+
+        for (int index = 0; index < colors; index++) {
+            int error = 0;
+
+            for (int channel = 0; channel < 3; channel++) {
+                int difference = texels[texel * 4 + channel] - palette[index * 3 + channel];
+
+                error += difference * difference;
+            }
+
+            if (error < bestError) {
+                best = index;
+                bestError = error;
+            }
+        }
+
+        return best;
+    }
+
+    // Finds the endpoints as the extremes of the texels along their principal axis, packed as 565
+    private static int[] endpoints(int[] texels, boolean punchThrough) {
+        float[] mean = new float[3];
+        int count = 0;
+
+        for (int i = 0; i < TEXELS; i++) {
+            if (punchThrough && texels[i * 4 + 3] < ALPHA_THRESHOLD) continue;
+
+            for (int channel = 0; channel < 3; channel++) mean[channel] += texels[i * 4 + channel];
+
+            count++;
+        }
+
+        for (int channel = 0; channel < 3; channel++) mean[channel] /= count;
+
+        float[] covariance = new float[9];
+
+        for (int i = 0; i < TEXELS; i++) {
+            if (punchThrough && texels[i * 4 + 3] < ALPHA_THRESHOLD) continue;
+
+            for (int row = 0; row < 3; row++) {
+                for (int column = 0; column < 3; column++) {
+                    covariance[row * 3 + column] += (texels[i * 4 + row] - mean[row])
+                            * (texels[i * 4 + column] - mean[column]);
+                }
+            }
+        }
+
+        // Power iteration converges on the axis of greatest variance within a few steps
+        float[] axis = {1f, 1f, 1f};
+
+        for (int iteration = 0; iteration < 8; iteration++) {
+            float[] next = new float[3];
+            float length = 0f;
+
+            for (int row = 0; row < 3; row++) {
+                for (int column = 0; column < 3; column++) next[row] += covariance[row * 3 + column] * axis[column];
+
+                length = Math.max(length, Math.abs(next[row]));
+            }
+
+            if (length == 0f) break;
+
+            for (int channel = 0; channel < 3; channel++) axis[channel] = next[channel] / length;
+        }
+
+        float minimum = Float.MAX_VALUE, maximum = -Float.MAX_VALUE;
+
+        for (int i = 0; i < TEXELS; i++) {
+            if (punchThrough && texels[i * 4 + 3] < ALPHA_THRESHOLD) continue;
+
+            float projection = 0f;
+
+            for (int channel = 0; channel < 3; channel++)
+                projection += (texels[i * 4 + channel] - mean[channel]) * axis[channel];
+
+            minimum = Math.min(minimum, projection);
+            maximum = Math.max(maximum, projection);
+        }
+
+        float squaredLength = axis[0] * axis[0] + axis[1] * axis[1] + axis[2] * axis[2];
+        int[] endpoints = new int[2];
+
+        for (int end = 0; end < 2; end++) {
+            float projection = (end == 0 ? maximum : minimum) / squaredLength;
+            int[] color = new int[3];
+
+            for (int channel = 0; channel < 3; channel++)
+                color[channel] = Math.clamp(Math.round(mean[channel] + axis[channel] * projection), 0, 255);
+
+            endpoints[end] = pack565(color[0], color[1], color[2]);
+        }
+
+        return endpoints;
+    }
+}
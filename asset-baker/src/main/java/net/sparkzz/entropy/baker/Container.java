@@ -0,0 +1,223 @@
+package net.sparkzz.entropy.baker;
+
+import net.sparkzz.entropy.render.CompressedFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * The texture containers the baker writes, both read by the engine's
+ * {@link net.sparkzz.entropy.render.CompressedTexture}.
+ * <p>
+ * Levels are written as encoded, first row at the bottom, which KTX2 records as the {@code "ru"} orientation.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public enum Container {
+
+    /**
+     * Khronos KTX 2.0, the portable choice.
+     */
+    KTX2(".ktx2"),
+
+    /**
+     * DirectDraw Surface with a legacy header, for tools that don't read KTX2.
+     */
+    DDS(".dds");
+
+    private static final byte[] KTX2_IDENTIFIER = {
+            (byte) 0xAB, 'K', 'T', 'X', ' ', '2', '0', (byte) 0xBB, '\r', '\n', 0x1A, '\n'
+    };
+    private static final String WRITER = "entropy asset-baker";
+
+    private final String extension;
+
+    Container(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Gets the file extension of the container.
+     *
+     * @return The extension, including the dot.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Writes compressed levels into a container file, replacing it atomically.
+     *
+     * @param file   The file to write.
+     * @param format The compressed format of the levels.
+     * @param width  The width of the base level in texels.
+     * @param height The height of the base level in texels.
+     * @param levels The compressed levels, base level first.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(Path file, CompressedFormat format, int width, int height, List<byte[]> levels) throws IOException {
+        byte[] bytes = this == KTX2 ? ktx2(format, width, height, levels) : dds(format, width, height, levels);
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+
+        try {
+            Files.write(temporary, bytes);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Builds a KTX2 container.
+     *
+     * @param format The compressed format of the levels.
+     * @param width  The width of the base level in texels.
+     * @param height The height of the base level in texels.
+     * @param levels The compressed levels, base level first.
+     * @return The container.
+     */
+    static byte[] ktx2(CompressedFormat format, int width, int height, List<byte[]> levels) {
+        byte[] descriptor = dataFormatDescriptor(format);
+        byte[] keyValue = keyValueData();
+        int descriptorOffset = 80 + levels.size() * 24;
+        int keyValueOffset = descriptorOffset + descriptor.length;
+        // Levels are aligned to the block size, which is a multiple of 4
+        int alignment = format.getBlockBytes();
+        int total = align(keyValueOffset + keyValue.length, alignment);
+        long[] offsets = new long[levels.size()];
+
+        // Smallest level first, so a streaming reader gets a usable image soonest
+        for (int level = levels.size() - 1; level >= 0; level--) {
+            offsets[level] = total;
+            total = align(total + levels.get(level).length, alignment);
+        }
+
+        ByteBuffer bytes = ByteBuffer.allocate(total).order(ByteOrder.LITTLE_ENDIAN);
+
+        bytes.put(KTX2_IDENTIFIER)
+                .putInt(format.getVkFormat()).putInt(1).putInt(width).putInt(height)
+                .putInt(0).putInt(0).putInt(1).putInt(levels.size()).putInt(0)
+                .putInt(descriptorOffset).putInt(descriptor.length)
+                .putInt(keyValueOffset).putInt(keyValue.length)
+                .putLong(0L).putLong(0L);
+
+        for (int level = 0; level < levels.size(); level++) {
+            byte[] data = levels.get(level);
+
+            bytes.putLong(offsets[level]).putLong(data.length).putLong(data.length);
+            bytes.put((int) offsets[level], data);
+        }
+
+        bytes.put(descriptor).put(keyValue);
+
+        return bytes.array();
+    }
+
+    /**
+     * Builds a DDS container with a legacy header.
+     *
+     * @param format The compressed format of the levels, one with a four-character code.
+     * @param width  The width of the base level in texels.
+     * @param height The height of the base level in texels.
+     * @param levels The compressed levels, base level first.
+     * @return The container.
+     */
+    static byte[] dds(CompressedFormat format, int width, int height, List<byte[]> levels) {
+        if (format.getFourCC() == null) throw new IllegalArgumentException("DDS files can't hold " + format);
+
+        int total = 128;
+
+        for (byte[] level : levels) total += level.length;
+
+        ByteBuffer bytes = ByteBuffer.allocate(total).order(ByteOrder.LITTLE_ENDIAN);
+        boolean mipmaps = levels.size() > 1;
+
+        // CAPS, HEIGHT, WIDTH, PIXELFORMAT, MIPMAPCOUNT and LINEARSIZE
+        bytes.put("DDS ".getBytes(StandardCharsets.US_ASCII))
+                .putInt(124).putInt(0x1 | 0x2 | 0x4 | 0x1000 | 0x20000 | 0x80000)
+                .putInt(height).putInt(width).putInt(levels.getFirst().length).putInt(0).putInt(levels.size());
+
+        bytes.position(76);
+        bytes.putInt(32).putInt(0x4).put(format.getFourCC().getBytes(StandardCharsets.US_ASCII));
+
+        // TEXTURE, plus COMPLEX and MIPMAP with mipmaps
+        bytes.position(108);
+        bytes.putInt(0x1000 | (mipmaps ? 0x8 | 0x400000 : 0));
+
+        bytes.position(128);
+
+        for (byte[] level : levels) bytes.put(level);
+
+        return bytes.array();
+    }
+
+    // A basic data format descriptor block describing the compressed format
+    private static byte[] dataFormatDescriptor(CompressedFormat format) {
+        // KHR_DF_MODEL_BC1A with its alpha-present channel, or KHR_DF_MODEL_BC3 with alpha and color samples
+        int model;
+        int[][] samples;
+
+        switch (format) {
+            case BC1 -> {
+                model = 128;
+                samples = new int[][]{{0, 63, 1}};
+            }
+            case BC3 -> {
+                model = 130;
+                samples = new int[][]{{0, 63, 15}, {64, 63, 0}};
+            }
+            default -> throw new IllegalArgumentException("The baker doesn't write " + format);
+        }
+
+        int blockSize = 24 + samples.length * 16;
+        ByteBuffer bytes = ByteBuffer.allocate(4 + blockSize).order(ByteOrder.LITTLE_ENDIAN);
+
+        bytes.putInt(4 + blockSize).putInt(0).putShort((short) 2).putShort((short) blockSize);
+        // Model, BT.709 primaries, linear transfer, straight alpha, then 4x4 texel blocks
+        bytes.put((byte) model).put((byte) 1).put((byte) 1).put((byte) 0);
+        bytes.put((byte) 3).put((byte) 3).put((byte) 0).put((byte) 0);
+        bytes.put((byte) format.getBlockBytes()).put(new byte[7]);
+
+        for (int[] sample : samples) {
+            bytes.putShort((short) sample[0]).put((byte) sample[1]).put((byte) sample[2]);
+            bytes.putInt(0).putInt(0).putInt(-1);
+        }
+
+        return bytes.array();
+    }
+
+    private static byte[] keyValueData() {
+        ByteBuffer bytes = ByteBuffer.allocate(128).order(ByteOrder.LITTLE_ENDIAN);
+
+        // Sorted by key
+        keyValue(bytes, "KTXorientation", "ru");
+        keyValue(bytes, "KTXwriter", WRITER);
+
+        byte[] keyValue = new byte[bytes.position()];
+
+        bytes.get(0, keyValue);
+
+        return keyValue;
+    }
+
+    private static void keyValue(ByteBuffer bytes, String key, String value) {
+        byte[] entry = (key + '\0' + value + '\0').getBytes(StandardCharsets.UTF_8);
+
+        bytes.putInt(entry.length).put(entry);
+        bytes.position(align(bytes.position(), 4));
+    }
+
+    private static int align(int offset, int alignment) {
+        return (offset + alignment - 1) / alignment * alignment;
+    }
+}
@@ -0,0 +1,68 @@
+package net.sparkzz.entropy.baker;
+
+import net.sparkzz.entropy.io.pack.AssetPackWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Packs every file of a directory into an {@link net.sparkzz.entropy.io.pack.AssetPack}, each looked up by
+ * its path relative to the directory with forward slashes, e.g. {@code shaders/sprite_vertex_shader.glsl}.
+ * Run it with {@code mvn exec:java@pack} from the module, see the README.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class PackBuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(PackBuilder.class);
+
+    private PackBuilder() {}
+
+    /**
+     * Packs a directory.
+     *
+     * @param input    The directory to pack.
+     * @param output   The pack file to write.
+     * @param compress True to deflate assets where it pays off, false to store every asset.
+     * @return The number of assets packed.
+     * @throws IOException If a file cannot be read or the pack cannot be written.
+     */
+    public static int pack(Path input, Path output, boolean compress) throws IOException {
+        if (!Files.isDirectory(input)) throw new IllegalArgumentException("Input is not a directory: " + input);
+
+        List<Path> files;
+
+        try (Stream<Path> walk = Files.walk(input)) {
+            files = walk.filter(Files::isRegularFile).sorted().toList();
+        }
+
+        try (AssetPackWriter writer = new AssetPackWriter(output, compress)) {
+            for (Path file : files)
+                writer.add(input.relativize(file).toString().replace('\\', '/'), Files.readAllBytes(file));
+        }
+
+        log.info("Packed {} assets from {} into {} ({} bytes)", files.size(), input, output, Files.size(output));
+        return files.size();
+    }
+
+    /**
+     * Runs the pack builder.
+     *
+     * @param args The input directory, the pack file, and optionally {@code store} to store every asset
+     *             uncompressed.
+     * @throws IOException If the pack cannot be built.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3 || args.length == 3 && !args[2].equals("store") && !args[2].equals("compress"))
+            throw new IllegalArgumentException("Usage: PackBuilder <input> <output> [compress|store]");
+
+        pack(Path.of(args[0]), Path.of(args[1]), args.length < 3 || args[2].equals("compress"));
+    }
+}
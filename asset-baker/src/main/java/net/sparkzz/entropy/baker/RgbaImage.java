@@ -0,0 +1,151 @@
+package net.sparkzz.entropy.baker;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An uncompressed image with 8-bit RGBA texels, as decoded from a source PNG.
+ *
+ * @param width  The width in texels.
+ * @param height The height in texels.
+ * @param texels The texels, 4 bytes each, row by row.
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public record RgbaImage(int width, int height, byte[] texels) {
+
+    /**
+     * Constructs an image, checking that the texels cover it.
+     *
+     * @param width  The width in texels.
+     * @param height The height in texels.
+     * @param texels The texels, 4 bytes each, row by row.
+     */
+    public RgbaImage {
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("Image dimensions must be positive");
+        if (texels == null || texels.length != width * height * 4)
+            throw new IllegalArgumentException("Texels do not cover a " + width + "x" + height + " RGBA image");
+    }
+
+    /**
+     * Converts a decoded image.
+     *
+     * @param image The image, in any color model.
+     * @return The RGBA image, top row first.
+     */
+    public static RgbaImage of(BufferedImage image) {
+        int width = image.getWidth(), height = image.getHeight();
+        int[] argb = image.getRGB(0, 0, width, height, null, 0, width);
+        byte[] texels = new byte[width * height * 4];
+
+        for (int i = 0; i < argb.length; i++) {
+            texels[i * 4] = (byte) (argb[i] >>> 16);
+            texels[i * 4 + 1] = (byte) (argb[i] >>> 8);
+            texels[i * 4 + 2] = (byte) argb[i];
+            texels[i * 4 + 3] = (byte) (argb[i] >>> 24);
+        }
+
+        return new RgbaImage(width, height, texels);
+    }
+
+    /**
+     * Gets a channel of a texel, clamping the coordinates to the edges of the image.
+     *
+     * @param x       The column.
+     * @param y       The row.
+     * @param channel The channel, 0 to 3 for red, green, blue and alpha.
+     * @return The channel value, 0 to 255.
+     */
+    public int get(int x, int y, int channel) {
+        x = Math.clamp(x, 0, width - 1);
+        y = Math.clamp(y, 0, height - 1);
+
+        return texels[(y * width + x) * 4 + channel] & 0xFF;
+    }
+
+    /**
+     * Checks if every texel is fully opaque.
+     *
+     * @return True if the image has no transparency, false otherwise.
+     */
+    public boolean isOpaque() {
+        for (int i = 3; i < texels.length; i += 4) if (texels[i] != (byte) 0xFF) return false;
+
+        return true;
+    }
+
+    /**
+     * Reverses the order of the rows, e.g. to store an image bottom row first as GL expects.
+     *
+     * @return The flipped image.
+     */
+    public RgbaImage flipped() {
+        byte[] flipped = new byte[texels.length];
+        int rowBytes = width * 4;
+
+        for (int row = 0; row < height; row++)
+            System.arraycopy(texels, row * rowBytes, flipped, (height - 1 - row) * rowBytes, rowBytes);
+
+        return new RgbaImage(width, height, flipped);
+    }
+
+    /**
+     * Halves the image with a box filter. Colors are weighted by alpha, so transparent texels
+     * don't darken the edges of sprites.
+     *
+     * @return The next mipmap level.
+     */
+    public RgbaImage downsampled() {
+        int nextWidth = Math.max(1, width / 2), nextHeight = Math.max(1, height / 2);
+        byte[] next = new byte[nextWidth * nextHeight * 4];
+
+        for (int y = 0; y < nextHeight; y++) {
+            for (int x = 0; x < nextWidth; x++) {
+                int alpha = 0, red = 0, green = 0, blue = 0;
+
+                for (int i = 0; i < 4; i++) {
+                    int sourceX = x * 2 + (i & 1), sourceY = y * 2 + (i >> 1);
+                    int a = get(sourceX, sourceY, 3);
+
+                    alpha += a;
+                    red += get(sourceX, sourceY, 0) * a;
+                    green += get(sourceX, sourceY, 1) * a;
+                    blue += get(sourceX, sourceY, 2) * a;
+                }
+
+                int offset = (y * nextWidth + x) * 4;
+
+                if (alpha > 0) {
+                    next[offset] = (byte) ((red + alpha / 2) / alpha);
+                    next[offset + 1] = (byte) ((green + alpha / 2) / alpha);
+                    next[offset + 2] = (byte) ((blue + alpha / 2) / alpha);
+                }
+
+                next[offset + 3] = (byte) ((alpha + 2) / 4);
+            }
+        }
+
+        return new RgbaImage(nextWidth, nextHeight, next);
+    }
+
+    /**
+     * Builds the full mipmap chain of the image, down to 1x1.
+     *
+     * @return The levels, this image first.
+     */
+    public List<RgbaImage> mipChain() {
+        List<RgbaImage> levels = new ArrayList<>();
+        RgbaImage level = this;
+
+        levels.add(level);
+
+        while (level.width > 1 || level.height > 1) {
+            level = level.downsampled();
+            levels.add(level);
+        }
+
+        return levels;
+    }
+}
@@ -0,0 +1,111 @@
+package net.sparkzz.entropy.baker;
+
+import net.sparkzz.entropy.render.CompressedFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetBakerTest {
+
+    @TempDir
+    Path input;
+
+    @TempDir
+    Path output;
+
+    @Test
+    void testBakesKtx2WithFullMipChain() throws IOException {
+        png(input.resolve("sprites/player.png"), 16, 8, 0xFF336699);
+
+        assertEquals(1, new AssetBaker(input, output, null, Container.KTX2).bake());
+
+        ByteBuffer baked = read(output.resolve("sprites/player.ktx2"));
+
+        // Opaque images are encoded as BC1
+        assertEquals(CompressedFormat.BC1.getVkFormat(), baked.getInt(12));
+        assertEquals(16, baked.getInt(20));
+        assertEquals(8, baked.getInt(24));
+        assertEquals(5, baked.getInt(40));
+        // The base level holds 4x2 blocks, aligned to the block size
+        assertEquals(64L, baked.getLong(88));
+        assertEquals(0L, baked.getLong(80) % 8L);
+    }
+
+    @Test
+    void testBakesTranslucentDdsAsBc3() throws IOException {
+        png(input.resolve("glow.png"), 4, 4, 0x80FFFFFF);
+
+        new AssetBaker(input, output, null, Container.DDS).bake();
+
+        ByteBuffer baked = read(output.resolve("glow.dds"));
+
+        assertEquals("DXT5", new String(baked.array(), 84, 4));
+        assertEquals(3, baked.getInt(28));
+        assertEquals(128 + 3 * 16, baked.capacity());
+    }
+
+    @Test
+    void testSkipsUpToDateTextures() throws IOException {
+        Path image = png(input.resolve("tile.png"), 4, 4, 0xFF000000);
+        AssetBaker baker = new AssetBaker(input, output, CompressedFormat.BC1, Container.KTX2);
+
+        assertEquals(1, baker.bake());
+        assertEquals(0, baker.bake());
+
+        Files.setLastModifiedTime(image, FileTime.fromMillis(System.currentTimeMillis() + 60_000L));
+        assertEquals(1, baker.bake());
+    }
+
+    @Test
+    void testRejectsFormatsWithoutEncoder() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AssetBaker(input, output, CompressedFormat.BC7, Container.KTX2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AssetBaker(input.resolve("missing"), output, null, Container.KTX2).bake());
+    }
+
+    @Test
+    void testMainRequiresInputAndOutput() {
+        assertThrows(IllegalArgumentException.class, () -> AssetBaker.main(new String[] {null, null}));
+        assertThrows(IllegalArgumentException.class, () -> AssetBaker.main(new String[] {input.toString(), ""}));
+    }
+
+    @Test
+    void testMipChainWeightsColorsByAlpha() {
+        // A red texel next to transparent black ones stays red when halved
+        byte[] texels = new byte[2 * 2 * 4];
+        texels[0] = (byte) 255;
+        texels[3] = (byte) 255;
+
+        RgbaImage halved = new RgbaImage(2, 2, texels).downsampled();
+
+        assertEquals(1, halved.width());
+        assertEquals(255, halved.get(0, 0, 0));
+        assertEquals(64, halved.get(0, 0, 3));
+        assertEquals(3, new RgbaImage(4, 3, new byte[4 * 3 * 4]).mipChain().size());
+    }
+
+    private static Path png(Path file, int width, int height, int argb) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        for (int y = 0; y < height; y++) for (int x = 0; x < width; x++) image.setRGB(x, y, argb);
+
+        Files.createDirectories(file.getParent());
+        ImageIO.write(image, "png", file.toFile());
+        return file;
+    }
+
+    private static ByteBuffer read(Path file) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
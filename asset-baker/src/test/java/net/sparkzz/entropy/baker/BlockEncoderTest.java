@@ -0,0 +1,101 @@
+package net.sparkzz.entropy.baker;
+
+import net.sparkzz.entropy.render.CompressedFormat;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockEncoderTest {
+
+    @Test
+    void testSolidBlockUsesFirstEndpoint() {
+        ByteBuffer block = colorBlock(solid(255, 0, 0, 255), true);
+
+        assertEquals(BlockEncoder.pack565(255, 0, 0), block.getShort(0) & 0xFFFF);
+        assertEquals(0, block.getInt(4));
+    }
+
+    @Test
+    void testTwoColorBlockRoundTrips() {
+        int[] texels = solid(0, 0, 0, 255);
+
+        for (int i = 0; i < 16; i += 2) set(texels, i, 255, 255, 255, 255);
+
+        ByteBuffer block = colorBlock(texels, true);
+        int color0 = block.getShort(0) & 0xFFFF, color1 = block.getShort(2) & 0xFFFF;
+
+        // Opaque blocks use four-color mode
+        assertTrue(color0 > color1);
+
+        for (int i = 0; i < 16; i++) {
+            int index = block.getInt(4) >>> (i * 2) & 3;
+
+            assertEquals(i % 2 == 0 ? 0xFFFF : 0x0000, index == 0 ? color0 : index == 1 ? color1 : -1);
+        }
+    }
+
+    @Test
+    void testTransparentTexelsUseThreeColorMode() {
+        int[] texels = solid(0, 128, 255, 255);
+
+        set(texels, 5, 0, 0, 0, 0);
+
+        ByteBuffer block = colorBlock(texels, true);
+
+        assertTrue((block.getShort(0) & 0xFFFF) <= (block.getShort(2) & 0xFFFF));
+        assertEquals(3, block.getInt(4) >>> 10 & 3);
+        assertNotEquals(3, block.getInt(4) & 3);
+    }
+
+    @Test
+    void testAlphaBlockInterpolatesBetweenExtremes() {
+        int[] texels = solid(0, 0, 0, 0);
+
+        set(texels, 15, 0, 0, 0, 255);
+
+        ByteBuffer block = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+
+        BlockEncoder.encodeAlphaBlock(texels, block);
+
+        assertEquals(255, block.get(0) & 0xFF);
+        assertEquals(0, block.get(1) & 0xFF);
+        // Texel 0 takes the second endpoint, texel 15 in the top bits the first
+        assertEquals(1, block.get(2) & 7);
+        assertEquals(0, (block.get(7) & 0xFF) >>> 5);
+        assertEquals(182, BlockEncoder.alphaPalette(255, 0, 3));
+    }
+
+    @Test
+    void testEncodeSizesLevelsInBlocks() {
+        RgbaImage image = new RgbaImage(5, 3, new byte[5 * 3 * 4]);
+
+        assertEquals(2 * 8, BlockEncoder.encode(image, CompressedFormat.BC1).length);
+        assertEquals(2 * 16, BlockEncoder.encode(image, CompressedFormat.BC3).length);
+        assertThrows(IllegalArgumentException.class, () -> BlockEncoder.encode(image, CompressedFormat.BC7));
+    }
+
+    private static ByteBuffer colorBlock(int[] texels, boolean punchThrough) {
+        ByteBuffer block = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+
+        BlockEncoder.encodeColorBlock(texels, punchThrough, block);
+        return block;
+    }
+
+    private static int[] solid(int red, int green, int blue, int alpha) {
+        int[] texels = new int[64];
+
+        for (int i = 0; i < 16; i++) set(texels, i, red, green, blue, alpha);
+
+        return texels;
+    }
+
+    private static void set(int[] texels, int texel, int red, int green, int blue, int alpha) {
+        texels[texel * 4] = red;
+        texels[texel * 4 + 1] = green;
+        texels[texel * 4 + 2] = blue;
+        texels[texel * 4 + 3] = alpha;
+    }
+}
@@ -0,0 +1,36 @@
+package net.sparkzz.entropy.baker;
+
+import net.sparkzz.entropy.io.pack.AssetPack;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackBuilderTest {
+
+    @TempDir
+    Path input;
+
+    @TempDir
+    Path output;
+
+    @Test
+    void testPacksFilesByRelativePath() throws IOException {
+        Files.createDirectories(input.resolve("shaders"));
+        Files.writeString(input.resolve("shaders/sprite.glsl"), "#version 330 core\n");
+        Files.write(input.resolve("player.png"), new byte[]{1, 2, 3});
+
+        Path file = output.resolve("assets.pack");
+
+        assertEquals(2, PackBuilder.pack(input, file, true));
+
+        try (AssetPack pack = AssetPack.open(file)) {
+            assertEquals("#version 330 core\n", pack.getString("/shaders/sprite.glsl"));
+            assertEquals(3, pack.get("player.png").remaining());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package net.sparkzz.entropy.benchmarks;
+
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.orthographic.Renderable2D;
+import net.sparkzz.entropy.render.orthographic.model.MutableSprite;
+import net.sparkzz.entropy.render.orthographic.model.Sprite;
+import net.sparkzz.entropy.render.orthographic.model.UIElement;
+import org.joml.Vector2f;
+import org.joml.Vector4f;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a renderable's transform and color through the copying vector getters with the
+ * primitive accessors over a mix of renderable types, as a batch sees them. Run with the GC profiler
+ * (the default of {@link BenchmarkRunner}) to see the allocation rate per operation, which should be zero
+ * for the primitive accessors.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorAllocationBenchmark {
+
+    private final Renderable2D[] renderables = new Renderable2D[3];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // No texture is ever bound, so it doesn't need a context
+        Texture texture = new Texture(0, 1, 1) {};
+
+        Vector2f position = new Vector2f(10f, 20f), size = new Vector2f(32f, 48f);
+        Vector4f color = new Vector4f(1f, 0.5f, 0.25f, 1f);
+
+        // Several concrete types keep the getters from being inlined, and their copies from being optimized away
+        renderables[0] = new Sprite(texture, position, size, color, 45f);
+        renderables[1] = new MutableSprite(texture, position, size, color, 45f);
+        renderables[2] = new UIElement(texture, position, size, color, 0f, 1);
+    }
+
+    @Benchmark
+    public float vectorGetters() {
+        float sum = 0f;
+
+        for (Renderable2D renderable : renderables) {
+            Vector2f position = renderable.getPosition(), size = renderable.getSize();
+            Vector4f color = renderable.getColor();
+
+            sum += position.x + position.y + size.x + size.y + color.x + color.y + color.z + color.w;
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public float primitiveAccessors() {
+        float sum = 0f;
+
+        for (Renderable2D renderable : renderables) {
+            sum += renderable.getX() + renderable.getY() + renderable.getWidth() + renderable.getHeight()
+                    + renderable.getRed() + renderable.getGreen() + renderable.getBlue() + renderable.getAlpha();
+        }
+
+        return sum;
+    }
+}
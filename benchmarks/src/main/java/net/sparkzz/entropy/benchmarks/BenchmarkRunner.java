@@ -0,0 +1,56 @@
+package net.sparkzz.entropy.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the regular JMH command line options, and unless they say
+ * otherwise writes the results as JSON to {@code jmh-results.json} and attaches the GC profiler, so runs
+ * of different releases can be compared for time and allocation regressions.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Default file the results are written to.
+     */
+    public static final String DEFAULT_RESULT_FILE = "jmh-results.json";
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args The JMH command line options.
+     * @throws CommandLineOptionException If the options cannot be parsed.
+     * @throws RunnerException            If a benchmark fails to run.
+     * @throws IOException                If JMH's own entry point fails to list or print help.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()
+                || commandLine.shouldListResultFormats() || commandLine.shouldListWithParams()) {
+            // Listing and help are handled by JMH's own entry point
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+
+        if (!commandLine.getResultFormat().hasValue()) options.resultFormat(ResultFormatType.JSON);
+        if (!commandLine.getResult().hasValue()) options.result(DEFAULT_RESULT_FILE);
+        if (commandLine.getProfilers().isEmpty()) options.addProfiler(GCProfiler.class);
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,133 @@
+package net.sparkzz.entropy.benchmarks;
+
+import net.sparkzz.entropy.EntropyEngine;
+import net.sparkzz.entropy.IEntropyGame;
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.orthographic.camera.Camera2D;
+import net.sparkzz.entropy.render.orthographic.shader.Shader2D;
+import org.lwjgl.BufferUtils;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static net.sparkzz.entropy.io.util.ResourceLoader.loadResourceAsString;
+import static org.lwjgl.opengl.GL11.glFinish;
+
+/**
+ * Benchmark state owning a headless engine, for benchmarks that need an OpenGL context.
+ * The context is current on the benchmark thread, so GL benchmarks must run single-threaded.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+public class HeadlessContext implements IEntropyGame {
+
+    /**
+     * Width of the offscreen framebuffer.
+     */
+    public static final int WIDTH = 1280;
+
+    /**
+     * Height of the offscreen framebuffer.
+     */
+    public static final int HEIGHT = 720;
+
+    private final Camera2D camera = new Camera2D();
+
+    private EntropyEngine engine;
+    private Runnable frame = () -> {};
+
+    /**
+     * Starts the headless engine on the benchmark thread.
+     */
+    @Setup(Level.Trial)
+    public void start() {
+        engine = EntropyEngine.headless(this, WIDTH, HEIGHT);
+        engine.start();
+        camera.resize(WIDTH, HEIGHT);
+    }
+
+    /**
+     * Stops the headless engine.
+     */
+    @TearDown(Level.Trial)
+    public void stop() {
+        engine.stop();
+    }
+
+    /**
+     * Sets what is rendered in every frame stepped with {@link #step()}.
+     *
+     * @param frame The frame's rendering.
+     */
+    public void setFrame(Runnable frame) {
+        this.frame = frame;
+    }
+
+    /**
+     * Steps a frame and waits for the GPU to finish it, so the work of one frame doesn't queue up into the next.
+     */
+    public void step() {
+        engine.step();
+        glFinish();
+    }
+
+    /**
+     * Gets the engine running the context.
+     *
+     * @return The headless engine.
+     */
+    public EntropyEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Gets a camera covering the offscreen framebuffer.
+     *
+     * @return The camera.
+     */
+    public Camera2D getCamera() {
+        return camera;
+    }
+
+    /**
+     * Creates an opaque white texture.
+     *
+     * @param size The width and height in pixels.
+     * @return The texture.
+     */
+    public Texture createTexture(int size) {
+        ByteBuffer pixels = BufferUtils.createByteBuffer(size * size * 4);
+
+        while (pixels.hasRemaining()) pixels.put((byte) 0xFF);
+
+        return new Texture(size, size, pixels.flip());
+    }
+
+    /**
+     * Creates a plain per-item shader drawing flat colored quads, for batches setting uniforms per item.
+     *
+     * @return The shader.
+     * @throws IOException If the shader sources cannot be read.
+     */
+    public Shader2D createShader() throws IOException {
+        return new Shader2D(
+                loadResourceAsString("/shaders/benchmark_vertex_shader.glsl"),
+                loadResourceAsString("/shaders/benchmark_fragment_shader.glsl"));
+    }
+
+    @Override
+    public void update() {}
+
+    @Override
+    public void render() {
+        frame.run();
+    }
+}
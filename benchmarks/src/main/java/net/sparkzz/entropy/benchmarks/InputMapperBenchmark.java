@@ -0,0 +1,53 @@
+package net.sparkzz.entropy.benchmarks;
+
+import net.sparkzz.entropy.input.mappings.InputAction;
+import net.sparkzz.entropy.input.mappings.InputMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.glfw.GLFW.GLFW_KEY_UP;
+
+/**
+ * Measures looking up key bindings, for actions with a user binding and actions falling back to their default,
+ * from one thread and from several threads sharing the mapper.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputMapperBenchmark {
+
+    private final InputMapper<InputAction> mapper = new InputMapper<>(InputAction.class);
+
+    // Fields rather than constants, so the lookups can't be folded
+    private InputAction userAction = InputAction.MOVE_FORWARD;
+    private InputAction defaultAction = InputAction.INTERACT;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper.setBinding(userAction, GLFW_KEY_UP);
+    }
+
+    @Benchmark
+    public int getUserBinding() {
+        return mapper.getBinding(userAction);
+    }
+
+    @Benchmark
+    public int getDefaultBinding() {
+        return mapper.getBinding(defaultAction);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int getBindingContended() {
+        return mapper.getBinding(userAction);
+    }
+}
@@ -0,0 +1,141 @@
+package net.sparkzz.entropy.benchmarks;
+
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.orthographic.batch.InstancedSpriteRenderBatch;
+import net.sparkzz.entropy.render.orthographic.batch.RenderBatch2D;
+import net.sparkzz.entropy.render.orthographic.batch.SpriteRenderBatch;
+import net.sparkzz.entropy.render.orthographic.camera.Camera2D;
+import net.sparkzz.entropy.render.orthographic.model.Sprite;
+import net.sparkzz.entropy.render.orthographic.shader.AbstractShader2D;
+import net.sparkzz.entropy.render.orthographic.shader.InstancedShader2D;
+import net.sparkzz.entropy.render.orthographic.shader.Shader2D;
+import org.joml.Vector2f;
+import org.joml.Vector4f;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures submitting sprites to a batch, and submitting and flushing them into a headless frame.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBatchBenchmark {
+
+    /**
+     * The sprite batch implementations benchmarked.
+     */
+    public enum Batch {
+        /**
+         * {@link InstancedSpriteRenderBatch}, one instanced draw per texture.
+         */
+        INSTANCED,
+
+        /**
+         * {@link SpriteRenderBatch}, one draw per sprite.
+         */
+        PER_SPRITE
+    }
+
+    @Param({"1000", "10000", "100000"})
+    private int items;
+
+    @Param({"INSTANCED", "PER_SPRITE"})
+    private Batch batchType;
+
+    private final List<Sprite> sprites = new ArrayList<>();
+
+    private HeadlessContext context;
+    private Camera2D camera;
+    private AbstractShader2D shader;
+    private Texture texture;
+    private RenderBatch2D<Sprite> batch;
+
+    @Setup(Level.Trial)
+    public void setUp(HeadlessContext context) throws IOException {
+        this.context = context;
+        this.camera = context.getCamera();
+
+        texture = context.createTexture(16);
+
+        if (batchType == Batch.INSTANCED) {
+            InstancedShader2D instancedShader = InstancedShader2D.createDefault();
+
+            shader = instancedShader;
+            batch = new InstancedSpriteRenderBatch(instancedShader);
+        } else {
+            Shader2D spriteShader = context.createShader();
+
+            shader = spriteShader;
+            batch = new SpriteRenderBatch(spriteShader);
+        }
+
+        // Fixed seed, every run draws the same frame
+        Random random = new Random(42L);
+
+        for (int i = 0; i < items; i++) {
+            Sprite sprite = new Sprite(texture,
+                    new Vector2f(random.nextFloat() * HeadlessContext.WIDTH, random.nextFloat() * HeadlessContext.HEIGHT),
+                    new Vector2f(8f + random.nextFloat() * 24f, 8f + random.nextFloat() * 24f),
+                    new Vector4f(1f, 1f, 1f, random.nextInt(10) == 0 ? 0.5f : 1f),
+                    random.nextFloat() * 360f);
+
+            sprite.setZIndex(random.nextInt(16));
+            sprites.add(sprite);
+        }
+
+        context.setFrame(this::drawFrame);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (batch instanceof InstancedSpriteRenderBatch instanced) instanced.cleanup();
+        if (batch instanceof SpriteRenderBatch perSprite) perSprite.cleanup();
+
+        shader.cleanup();
+        texture.cleanup();
+        sprites.clear();
+    }
+
+    /**
+     * Submits every sprite without flushing, the per-item cost on the game thread.
+     *
+     * @return The batch size, so the work isn't eliminated.
+     */
+    @Benchmark
+    public int submit() {
+        batch.begin(camera);
+
+        for (int i = 0, size = sprites.size(); i < size; i++) batch.submit(sprites.get(i));
+
+        return batch.getSize();
+    }
+
+    /**
+     * Submits every sprite and flushes the batch in a headless frame, waiting for the GPU to finish it.
+     */
+    @Benchmark
+    public void submitAndFlush() {
+        context.step();
+    }
+
+    private void drawFrame() {
+        batch.begin(camera);
+
+        for (int i = 0, size = sprites.size(); i < size; i++) batch.submit(sprites.get(i));
+
+        batch.end();
+    }
+}
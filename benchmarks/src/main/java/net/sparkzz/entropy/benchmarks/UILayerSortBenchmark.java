@@ -0,0 +1,96 @@
+package net.sparkzz.entropy.benchmarks;
+
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.orthographic.batch.UIRenderBatch;
+import net.sparkzz.entropy.render.orthographic.model.UIElement;
+import net.sparkzz.entropy.render.orthographic.shader.Shader2D;
+import org.joml.Vector2f;
+import org.joml.Vector4f;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sorting UI elements into draw order by layer, z-index and texture.
+ * The shader and textures need a headless context, sorting itself doesn't touch GL.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UILayerSortBenchmark {
+
+    private static final int LAYERS = 8, TEXTURES = 4;
+
+    @Param({"100", "1000", "10000"})
+    private int items;
+
+    private final Texture[] textures = new Texture[TEXTURES];
+
+    private Shader2D shader;
+    private SortingBatch batch;
+
+    @Setup(Level.Trial)
+    public void setUp(HeadlessContext context) throws IOException {
+        shader = context.createShader();
+        batch = new SortingBatch(shader);
+
+        for (int i = 0; i < TEXTURES; i++) textures[i] = context.createTexture(4);
+
+        // Persistent elements stay submitted, so each invocation sorts the same set
+        batch.setPersistent(true);
+        batch.begin(context.getCamera());
+
+        Random random = new Random(42L);
+
+        for (int i = 0; i < items; i++) {
+            UIElement element = new UIElement(textures[random.nextInt(TEXTURES)],
+                    new Vector2f(random.nextFloat() * HeadlessContext.WIDTH, random.nextFloat() * HeadlessContext.HEIGHT),
+                    new Vector2f(32f, 32f),
+                    new Vector4f(1f, 1f, 1f, random.nextInt(4) == 0 ? 0.5f : 1f),
+                    0f, random.nextInt(LAYERS));
+
+            element.setZIndex(random.nextInt(100));
+            element.setPersistent(true);
+            batch.submit(element);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batch.clear();
+        shader.cleanup();
+
+        for (Texture texture : textures) texture.cleanup();
+    }
+
+    /**
+     * Sorts the submitted elements into draw order.
+     *
+     * @return The number of queued elements, so the work isn't eliminated.
+     */
+    @Benchmark
+    public int sortLayers() {
+        return batch.sort();
+    }
+
+    // Exposes the batch's sort without drawing
+    private static final class SortingBatch extends UIRenderBatch {
+
+        private SortingBatch(Shader2D shader) {
+            super(shader);
+        }
+
+        private int sort() {
+            return sortItems().size();
+        }
+    }
+}
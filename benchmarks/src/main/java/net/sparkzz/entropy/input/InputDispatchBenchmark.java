@@ -0,0 +1,83 @@
+package net.sparkzz.entropy.input;
+
+import net.sparkzz.entropy.benchmarks.HeadlessContext;
+import org.lwjgl.glfw.GLFWGamepadState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Measures fanning an input event out to the registered listeners, the way the key callback dispatches it.
+ * Lives in the input package to reach the package-private {@link InputManager#dispatch}.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputDispatchBenchmark {
+
+    @Param({"1", "8", "64"})
+    private int listeners;
+
+    private long window;
+    private InputManager manager;
+    private int key = GLFW_KEY_W;
+
+    @Setup(Level.Trial)
+    public void setUp(HeadlessContext context) {
+        window = context.getEngine().getWindow();
+        manager = new InputManager(window);
+
+        for (int i = 0; i < listeners; i++) manager.addListener(new CountingListener());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // Detach the callbacks before closing them, the window frees whatever is still attached when destroyed
+        glfwSetKeyCallback(window, null);
+        glfwSetMouseButtonCallback(window, null);
+        glfwSetCursorPosCallback(window, null);
+
+        manager.cleanup();
+    }
+
+    @Benchmark
+    public void dispatchKeyEvent() {
+        int key = this.key;
+
+        manager.dispatch(listener -> listener.onKeyEvent(key, GLFW_PRESS, 0));
+    }
+
+    private static final class CountingListener implements InputListener {
+
+        private long events;
+
+        @Override
+        public void onKeyEvent(int key, int action, int mods) {
+            events += key;
+        }
+
+        @Override
+        public void onMouseButtonEvent(int button, int action, int mods) {
+            events += button;
+        }
+
+        @Override
+        public void onMouseMove(double xPos, double yPos) {
+            events++;
+        }
+
+        @Override
+        public void onGamepadEvent(int joyId, GLFWGamepadState state) {
+            events++;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+#version 330 core
+
+out vec4 color;
+
+uniform vec4 uColor;
+
+void main() {
+    color = uColor;
+}
\ No newline at end of file
@@ -1,20 +1,49 @@
 package net.sparkzz.entropy;
 
+import net.sparkzz.entropy.input.InputManager;
+import net.sparkzz.entropy.render.Framebuffer;
+import net.sparkzz.entropy.render.GLStateCache;
+import net.sparkzz.entropy.render.RenderStats;
+import net.sparkzz.entropy.render.TextureLoader;
+import net.sparkzz.entropy.render.TextureManager;
+import net.sparkzz.entropy.render.orthographic.shader.ShaderCache;
 import org.lwjgl.glfw.GLFW;
 import org.lwjgl.glfw.GLFWErrorCallback;
 import org.lwjgl.glfw.GLFWVidMode;
+import org.lwjgl.opengl.GL;
 import org.lwjgl.system.MemoryStack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.lwjgl.glfw.Callbacks.glfwFreeCallbacks;
+import static net.sparkzz.entropy.render.RenderStats.Phase.RENDER;
+import static net.sparkzz.entropy.render.RenderStats.Phase.SWAP;
+import static net.sparkzz.entropy.render.RenderStats.Phase.UPDATE;
 import static org.lwjgl.glfw.GLFW.*;
 import static org.lwjgl.system.MemoryStack.stackPush;
 
 /**
  * Main class for the Entropy Engine.
+ * <p>
+ * An engine either runs a windowed game loop with {@link #run()}, or is created with
+ * {@link #headless(IEntropyGame, int, int)} to render into an offscreen {@link Framebuffer} without a visible
+ * window. A headless engine is driven one frame at a time with {@link #step()}, which makes frames
+ * deterministic for benchmarks and golden-image tests, and its frames are read back with
+ * {@link #readFrame(ByteBuffer)}. Without a display server it falls back to GLFW's null platform with an EGL
+ * context, e.g. Mesa's surfaceless platform, where {@code LIBGL_ALWAYS_SOFTWARE=1} selects llvmpipe on machines
+ * without a GPU.
+ * <p>
+ * The windowed loop updates the game at the fixed rate of its {@link FixedTimestep} and renders once per frame
+ * with the interpolation alpha. An {@link IPipelinedGame} can instead be run {@link #setPipelined(boolean)
+ * pipelined}, updated on a simulation thread that hands render snapshots to the main thread, so the next
+ * frame's update overlaps this frame's render and swap. Gamepads can only be read on the main thread, so
+ * {@link #addInputManager(InputManager) registered input managers} are polled by the loop after the events.
  *
  * @author Brendon Butler
  * @version 0.1.0-PREALPHA
@@ -26,34 +55,310 @@ public class EntropyEngine {
     private static final Logger log = LoggerFactory.getLogger(EntropyEngine.class);
 
     private final IEntropyGame game;
+    private final boolean headless;
+    private final int width, height;
 
     private long window;
     private String windowTitle = "Entropy Engine";
 
+    private final FixedTimestep timestep = new FixedTimestep();
+    private final List<InputManager> inputManagers = new CopyOnWriteArrayList<>();
+
+    private Framebuffer framebuffer;
+    private Pipeline<?> pipeline;
+    private boolean started, pipelined;
+    private volatile boolean simulating;
+    private long frameIndex;
+
     /**
      * Constructs an Entropy Engine instance with the specified game.
      *
      * @param game The game instance to run with the engine.
      */
     public EntropyEngine(IEntropyGame game) {
+        this(game, false, WINDOW_WIDTH, WINDOW_HEIGHT);
+    }
+
+    private EntropyEngine(IEntropyGame game, boolean headless, int width, int height) {
         if (game == null) throw new IllegalArgumentException("Game instance cannot be null");
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("Resolution must be positive");
 
         this.game = game;
+        this.headless = headless;
+        this.width = width;
+        this.height = height;
         this.windowTitle = game.getWindowTitle() != null ? game.getWindowTitle() : windowTitle;
     }
 
+    /**
+     * Creates a headless Entropy Engine, rendering the game into an offscreen framebuffer of the specified
+     * resolution instead of a window. Call {@link #start()} before stepping it.
+     *
+     * @param game   The game instance to run with the engine.
+     * @param width  The width of the rendered frames in pixels.
+     * @param height The height of the rendered frames in pixels.
+     * @return The headless engine.
+     */
+    public static EntropyEngine headless(IEntropyGame game, int width, int height) {
+        return new EntropyEngine(game, true, width, height);
+    }
+
     /**
      * Starts the Entropy Engine with the provided game instance.
      */
     public void run() {
+        if (headless) throw new IllegalStateException("Headless engines are driven with step() instead of run()");
+
         try {
             init();
-            loop();
+            pipeline = Pipeline.of(game);
+
+            if (pipelined) pipelinedLoop();
+            else loop();
         } finally {
             cleanup();
         }
     }
 
+    /**
+     * Starts a headless engine, creating its hidden context and offscreen framebuffer on the calling thread,
+     * which must be the thread stepping it.
+     */
+    public void start() {
+        if (!headless) throw new IllegalStateException("Only headless engines can be started, use run() instead");
+        if (started) throw new IllegalStateException("Engine is already started");
+
+        try {
+            initHeadless();
+            pipeline = Pipeline.of(game);
+        } catch (RuntimeException exception) {
+            cleanup();
+            throw exception;
+        }
+
+        started = true;
+    }
+
+    /**
+     * Updates and renders a single frame into the offscreen framebuffer. Each frame is exactly one
+     * simulation step rendered at its final state, i.e. an alpha of 1, regardless of the time taken.
+     * Unlike the windowed loop, exceptions thrown by the game propagate to the caller.
+     */
+    public void step() {
+        ensureStarted();
+
+        RenderStats stats = RenderStats.get();
+
+        stats.beginFrame();
+        framebuffer.bind();
+
+        stats.beginPhase(UPDATE);
+        simulate();
+        stats.endPhase(UPDATE);
+
+        stats.beginPhase(RENDER);
+        TextureLoader.get().update();
+        draw(1f);
+        TextureManager.get().update();
+        stats.endPhase(RENDER);
+
+        stats.endFrame();
+        frameIndex++;
+    }
+
+    /**
+     * Updates and renders several frames into the offscreen framebuffer.
+     *
+     * @param frames The number of frames to step.
+     */
+    public void step(int frames) {
+        if (frames < 0) throw new IllegalArgumentException("Frame count cannot be negative");
+
+        for (int i = 0; i < frames; i++) step();
+    }
+
+    /**
+     * Reads the last rendered frame back as tightly packed RGBA8, top row first.
+     *
+     * @param destination The buffer to read into, with at least {@link #getFrameBytes()} remaining.
+     */
+    public void readFrame(ByteBuffer destination) {
+        ensureStarted();
+        framebuffer.readPixels(destination);
+    }
+
+    /**
+     * Stops a headless engine, releasing its framebuffer and context.
+     */
+    public void stop() {
+        if (!started) return;
+
+        started = false;
+        cleanup();
+    }
+
+    /**
+     * Gets the number of frames stepped since the engine was started.
+     *
+     * @return The frame index of the next frame.
+     */
+    public long getFrameIndex() {
+        return frameIndex;
+    }
+
+    /**
+     * Gets the size of a frame read back by {@link #readFrame(ByteBuffer)}.
+     *
+     * @return The frame size in bytes.
+     */
+    public int getFrameBytes() {
+        return width * height * Framebuffer.BYTES_PER_PIXEL;
+    }
+
+    /**
+     * Sets whether the game is updated on a separate simulation thread. The main thread keeps polling
+     * events, rendering and swapping, and renders the latest snapshot the simulation thread published, so
+     * the update of the next frame overlaps the render and swap of this one. Only {@link IPipelinedGame}s
+     * can be pipelined, and only before the engine runs.
+     *
+     * @param pipelined True to update the game on a simulation thread, false to update it on the main thread.
+     */
+    public void setPipelined(boolean pipelined) {
+        if (headless) throw new IllegalStateException("Headless engines can't be pipelined, they step on one thread");
+        if (window != 0L) throw new IllegalStateException("Pipelining must be set before the engine runs");
+        if (pipelined && !(game instanceof IPipelinedGame))
+            throw new IllegalStateException("Only games implementing IPipelinedGame can be pipelined");
+
+        this.pipelined = pipelined;
+    }
+
+    /**
+     * Checks if the game is updated on a separate simulation thread.
+     *
+     * @return True if the engine is pipelined, false otherwise.
+     */
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Gets the fixed timestep of the windowed loop, e.g. to change its update rate. A pipelined engine
+     * steps it on the simulation thread and reads the step length once when it starts, so change it
+     * before the engine runs.
+     *
+     * @return The timestep.
+     */
+    public FixedTimestep getTimestep() {
+        return timestep;
+    }
+
+    /**
+     * Registers an input manager whose gamepads the windowed loop polls on the main thread every frame,
+     * right after the window events. A pipelined game must read gamepads this way, as its simulation thread
+     * can't make GLFW calls, and its gamepad listeners then run on the main thread. Registered managers
+     * shouldn't also be {@link InputManager#update() updated} by the game.
+     *
+     * @param inputManager The input manager to poll.
+     */
+    public void addInputManager(InputManager inputManager) {
+        if (inputManager == null) throw new IllegalArgumentException("Input manager cannot be null");
+
+        inputManagers.add(inputManager);
+    }
+
+    /**
+     * Stops polling an input manager.
+     *
+     * @param inputManager The input manager to stop polling.
+     */
+    public void removeInputManager(InputManager inputManager) {
+        inputManagers.remove(inputManager);
+    }
+
+    /**
+     * Gets the GLFW window hosting the engine's context, e.g. to create an input manager for it.
+     *
+     * @return The window handle, or 0 if the engine isn't running.
+     */
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * Gets the width of the window or rendered frames.
+     *
+     * @return The width in pixels.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the window or rendered frames.
+     *
+     * @return The height in pixels.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Checks if the engine renders offscreen.
+     *
+     * @return True if the engine is headless, false otherwise.
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    private void ensureStarted() {
+        if (!started) throw new IllegalStateException("Headless engine is not started");
+    }
+
+    private void initHeadless() {
+        GLFWErrorCallback.createPrint(System.err).set();
+
+        boolean nullPlatform = false;
+
+        // Without a display server, fall back to the null platform, which renders through EGL or OSMesa
+        if (!glfwInit()) {
+            glfwInitHint(GLFW_PLATFORM, GLFW_PLATFORM_NULL);
+
+            boolean initialized = glfwInit();
+
+            glfwInitHint(GLFW_PLATFORM, GLFW_ANY_PLATFORM);
+
+            if (!initialized) throw new IllegalStateException("Unable to initialize GLFW");
+
+            nullPlatform = true;
+        }
+
+        glfwDefaultWindowHints();
+        glfwWindowHint(GLFW_VISIBLE, GLFW_FALSE);
+        glfwWindowHint(GLFW_CONTEXT_VERSION_MAJOR, 3);
+        glfwWindowHint(GLFW_CONTEXT_VERSION_MINOR, 3);
+        glfwWindowHint(GLFW_OPENGL_PROFILE, GLFW_OPENGL_CORE_PROFILE);
+        glfwWindowHint(GLFW_OPENGL_FORWARD_COMPAT, GLFW_TRUE);
+
+        if (nullPlatform) glfwWindowHint(GLFW_CONTEXT_CREATION_API, GLFW_EGL_CONTEXT_API);
+
+        // The window only hosts the context, frames go to the framebuffer
+        window = glfwCreateWindow(1, 1, windowTitle, 0L, 0L);
+
+        if (window == 0L) throw new RuntimeException("Failed to create the hidden GLFW context");
+
+        glfwMakeContextCurrent(window);
+        glfwSwapInterval(0);
+        GL.createCapabilities();
+        GLStateCache.get().invalidate();
+
+        framebuffer = new Framebuffer(width, height);
+        framebuffer.bind();
+        frameIndex = 0L;
+
+        log.info("Headless context created at {}x{}{}", width, height, nullPlatform ? " on the null platform" : "");
+    }
+
     private void init() {
         GLFWErrorCallback.createPrint(System.err).set();
 
@@ -63,7 +368,7 @@ public class EntropyEngine {
         glfwWindowHint(GLFW_VISIBLE, GLFW_FALSE);
         glfwWindowHint(GLFW_RESIZABLE, GLFW_TRUE);
 
-        window = glfwCreateWindow(WINDOW_WIDTH, WINDOW_HEIGHT, windowTitle, 0L, 0L);
+        window = glfwCreateWindow(width, height, windowTitle, 0L, 0L);
 
         if (window == 0L) throw new RuntimeException("Failed to create the GLFW window");
 
@@ -74,9 +379,8 @@ public class EntropyEngine {
 
             GLFWVidMode videoMode = glfwGetVideoMode(glfwGetPrimaryMonitor());
 
-            if (videoMode == null) throw new RuntimeException("Failed to get video mode for primary monitor");
-
-            glfwSetWindowPos(window,
+            if (videoMode == null) log.warn("Failed to get video mode for primary monitor, not centering the window");
+            else glfwSetWindowPos(window,
                     (videoMode.width() - pw.get(0)) / 2,
                     (videoMode.height() - ph.get(0)) / 2
             );
@@ -88,23 +392,148 @@ public class EntropyEngine {
     }
 
     private void loop() {
+        RenderStats stats = RenderStats.get();
+        long previousTime = System.nanoTime();
+
+        timestep.reset();
+
         while (!glfwWindowShouldClose(window)) {
-            glfwPollEvents();
+            pollEvents();
+            stats.beginFrame();
+
+            long time = System.nanoTime();
+            int steps = timestep.advance(time - previousTime);
+
+            previousTime = time;
 
             try {
-                game.update();
-                game.render();
+                stats.beginPhase(UPDATE);
+                for (int i = 0; i < steps; i++) simulate();
+                stats.endPhase(UPDATE);
+
+                stats.beginPhase(RENDER);
+                TextureLoader.get().update();
+                draw(timestep.getAlpha());
+                TextureManager.get().update();
+                stats.endPhase(RENDER);
             } catch (Exception exception) {
                 log.error("Error during game loop", exception);
             }
 
+            stats.beginPhase(SWAP);
             glfwSwapBuffers(window);
+            stats.endPhase(SWAP);
+
+            stats.endFrame();
+        }
+    }
+
+    // Renders snapshots on the main thread while the simulation thread updates the game
+    private void pipelinedLoop() {
+        RenderStats stats = RenderStats.get();
+        Thread simulation = Thread.ofPlatform().name("entropy-simulation").daemon().unstarted(this::simulationLoop);
+        // The simulation thread owns the timestep from here on, so it isn't read again
+        long stepNanos = timestep.getStepNanos();
+
+        simulating = true;
+        simulation.start();
+
+        try {
+            while (!glfwWindowShouldClose(window)) {
+                pollEvents();
+                stats.beginFrame();
+
+                try {
+                    stats.beginPhase(RENDER);
+                    TextureLoader.get().update();
+                    pipeline.renderLatest(stepNanos);
+                    TextureManager.get().update();
+                    stats.endPhase(RENDER);
+                } catch (Exception exception) {
+                    log.error("Error during game loop", exception);
+                }
+
+                stats.beginPhase(SWAP);
+                glfwSwapBuffers(window);
+                stats.endPhase(SWAP);
+
+                stats.endFrame();
+            }
+        } finally {
+            simulating = false;
+            simulation.interrupt();
+
+            try {
+                simulation.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
 
+    private void simulationLoop() {
+        long previousTime = System.nanoTime();
+
+        timestep.reset();
+
+        while (simulating) {
+            long time = System.nanoTime();
+            int steps = timestep.advance(time - previousTime);
+
+            previousTime = time;
+
+            for (int i = 0; i < steps; i++) {
+                try {
+                    simulate();
+                } catch (Exception exception) {
+                    log.error("Error during simulation step", exception);
+                }
+            }
+
+            // Sleep until the next step is due
+            if (steps == 0) LockSupport.parkNanos((long) ((1f - timestep.getAlpha()) * timestep.getStepNanos()));
+        }
+    }
+
+    // Polls the window events, then the gamepads of the registered input managers
+    private void pollEvents() {
+        glfwPollEvents();
+
+        for (InputManager inputManager : inputManagers) {
+            try {
+                inputManager.update();
+            } catch (Exception exception) {
+                log.error("Error while polling input", exception);
+            }
+        }
+    }
+
+    private void simulate() {
+        game.update();
+
+        if (pipeline != null) pipeline.publish();
+    }
+
+    private void draw(float alpha) {
+        if (pipeline != null) pipeline.render(alpha);
+        else game.render(alpha);
+    }
+
     private void cleanup() {
-        glfwFreeCallbacks(window);
-        glfwDestroyWindow(window);
+        if (framebuffer != null) {
+            framebuffer.cleanup();
+            framebuffer = null;
+        }
+
+        if (window != 0L) {
+            RenderStats.get().cleanup();
+            ShaderCache.get().cleanup();
+            TextureLoader.get().cleanup();
+            TextureManager.get().cleanup();
+            glfwFreeCallbacks(window);
+            glfwDestroyWindow(window);
+            window = 0L;
+        }
 
         glfwTerminate();
 
@@ -112,4 +541,45 @@ public class EntropyEngine {
             if (errorCallback == null) log.warn("Error callback was not set");
         }
     }
+
+    // Ties a pipelined game to its snapshots, capturing the snapshot type
+    private static final class Pipeline<S> {
+
+        private final IPipelinedGame<S> game;
+        private final SnapshotBuffer<S> snapshots;
+
+        private Pipeline(IPipelinedGame<S> game) {
+            this.game = game;
+            this.snapshots = new SnapshotBuffer<>(game::createSnapshot);
+
+            // Start with the initial state as both the previous and current snapshot
+            for (int i = 0; i < 2; i++) {
+                publish();
+                snapshots.acquire();
+            }
+        }
+
+        private static Pipeline<?> of(IEntropyGame game) {
+            return game instanceof IPipelinedGame<?> pipelinedGame ? new Pipeline<>(pipelinedGame) : null;
+        }
+
+        private void publish() {
+            game.snapshot(snapshots.write());
+            snapshots.publish();
+        }
+
+        private void render(float alpha) {
+            snapshots.acquire();
+            game.render(snapshots.getPrevious(), snapshots.getCurrent(), alpha);
+        }
+
+        // Renders the latest snapshot published by the simulation thread, at how far past it the frame is
+        private void renderLatest(long stepNanos) {
+            snapshots.acquire();
+
+            float alpha = (float) (System.nanoTime() - snapshots.getCurrentNanos()) / stepNanos;
+
+            game.render(snapshots.getPrevious(), snapshots.getCurrent(), Math.clamp(alpha, 0f, 1f));
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package net.sparkzz.entropy;
+
+/**
+ * A fixed-timestep accumulator, which decouples the simulation rate from the frame rate.
+ * <p>
+ * Each frame {@link #advance(long) advances} the accumulator by the time that passed, and the game is updated
+ * once per whole step it holds. The remainder becomes the {@link #getAlpha() interpolation alpha}, the fraction
+ * of a step between the last two simulated states at which to render, so high refresh rates get smooth motion
+ * without simulating more often. A frame runs at most {@link #getMaxSteps()} steps: after a long stall the
+ * steps beyond that are dropped rather than caught up on, which would make the next frame slower still.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class FixedTimestep {
+
+    /**
+     * Default number of simulation steps per second.
+     */
+    public static final int DEFAULT_UPDATE_RATE = 60;
+
+    /**
+     * Default number of steps a single frame may run to catch up.
+     */
+    public static final int DEFAULT_MAX_STEPS = 5;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private int updateRate;
+    private long stepNanos;
+    private int maxSteps;
+    private long accumulator;
+    private long droppedSteps;
+
+    /**
+     * Constructs a timestep with the default update rate and catch-up limit.
+     */
+    public FixedTimestep() {
+        this(DEFAULT_UPDATE_RATE, DEFAULT_MAX_STEPS);
+    }
+
+    /**
+     * Constructs a timestep.
+     *
+     * @param updateRate The number of simulation steps per second.
+     * @param maxSteps   The number of steps a single frame may run to catch up.
+     */
+    public FixedTimestep(int updateRate, int maxSteps) {
+        setUpdateRate(updateRate);
+        setMaxSteps(maxSteps);
+    }
+
+    /**
+     * Adds the time that passed since the last frame and takes the whole steps it completes.
+     *
+     * @param elapsedNanos The time since the last frame in nanoseconds.
+     * @return The number of steps to simulate this frame, at most {@link #getMaxSteps()}.
+     */
+    public int advance(long elapsedNanos) {
+        if (elapsedNanos < 0) throw new IllegalArgumentException("Elapsed time cannot be negative");
+
+        accumulator += elapsedNanos;
+
+        int steps = (int) Math.min(accumulator / stepNanos, maxSteps);
+
+        accumulator -= steps * stepNanos;
+
+        // Drop the steps the frame couldn't run, keeping the fraction of a step for the alpha
+        if (accumulator >= stepNanos) {
+            droppedSteps += accumulator / stepNanos;
+            accumulator %= stepNanos;
+        }
+
+        return steps;
+    }
+
+    /**
+     * Gets the interpolation alpha, the fraction of a step accumulated past the last simulated state.
+     * Render at {@code previous + (current - previous) * alpha} to interpolate between the last two states.
+     *
+     * @return The alpha between 0 (inclusive) and 1 (exclusive).
+     */
+    public float getAlpha() {
+        return (float) ((double) accumulator / stepNanos);
+    }
+
+    /**
+     * Sets the number of simulation steps per second, e.g. 60 or 120.
+     *
+     * @param updateRate The update rate in hertz.
+     */
+    public void setUpdateRate(int updateRate) {
+        if (updateRate <= 0) throw new IllegalArgumentException("Update rate must be positive");
+
+        this.updateRate = updateRate;
+        this.stepNanos = NANOS_PER_SECOND / updateRate;
+        this.accumulator = Math.min(accumulator, stepNanos - 1);
+    }
+
+    /**
+     * Gets the number of simulation steps per second.
+     *
+     * @return The update rate in hertz.
+     */
+    public int getUpdateRate() {
+        return updateRate;
+    }
+
+    /**
+     * Gets the simulated time per step, the delta time of every update.
+     *
+     * @return The step length in nanoseconds.
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * Gets the simulated time per step, the delta time of every update.
+     *
+     * @return The step length in seconds.
+     */
+    public float getStepSeconds() {
+        return (float) stepNanos / NANOS_PER_SECOND;
+    }
+
+    /**
+     * Sets the number of steps a single frame may run to catch up after a slow frame.
+     *
+     * @param maxSteps The maximum steps per frame.
+     */
+    public void setMaxSteps(int maxSteps) {
+        if (maxSteps <= 0) throw new IllegalArgumentException("Maximum steps per frame must be positive");
+
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Gets the number of steps a single frame may run to catch up after a slow frame.
+     *
+     * @return The maximum steps per frame.
+     */
+    public int getMaxSteps() {
+        return maxSteps;
+    }
+
+    /**
+     * Gets the number of steps dropped because frames couldn't catch up, i.e. how far the simulation has
+     * fallen behind real time.
+     *
+     * @return The dropped step count.
+     */
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+
+    /**
+     * Discards the accumulated time, e.g. after loading a level, so the time spent isn't simulated.
+     */
+    public void reset() {
+        accumulator = 0L;
+    }
+}
@@ -11,9 +11,9 @@ package net.sparkzz.entropy;
 public interface IEntropyGame {
 
     /**
-     * Updates the game logic. This method is called on each frame to process
-     * game state changes, physics calculations, and other updates. Called once
-     * per frame before render().
+     * Updates the game logic. This method is called once per fixed simulation step to process
+     * game state changes, physics calculations, and other updates, so it may run zero or several
+     * times per frame. Each call advances the game by {@link FixedTimestep#getStepSeconds()}.
      */
     void update();
 
@@ -23,6 +23,17 @@ public interface IEntropyGame {
      */
     void render();
 
+    /**
+     * Renders the game visuals between the last two simulated states. Override this instead of
+     * {@link #render()} to interpolate motion, which keeps it smooth when the display refreshes faster
+     * than the simulation steps. Calls {@link #render()} by default.
+     *
+     * @param alpha The fraction of a step past the last simulated state, between 0 and 1.
+     */
+    default void render(float alpha) {
+        render();
+    }
+
     /**
      * Gets the title of the game window.
      * Override this to change the window title.
@@ -0,0 +1,61 @@
+package net.sparkzz.entropy;
+
+/**
+ * A game whose simulation and rendering are split by render snapshots, which lets a
+ * {@link EntropyEngine#setPipelined(boolean) pipelined} engine update it on a separate simulation thread
+ * while the main thread renders and swaps the previous frame.
+ * <p>
+ * After every {@link #update()} the engine has the game copy what rendering needs into a snapshot, and the
+ * render thread only ever draws snapshots, so the two threads share no mutable game state. In a pipelined
+ * engine {@link #update()} and {@link #snapshot(Object)} run on the simulation thread, which must not make
+ * OpenGL or GLFW calls, while {@link #render(Object, Object, float)} runs on the main thread owning the context.
+ * Gamepads are read by {@link EntropyEngine#addInputManager(net.sparkzz.entropy.input.InputManager) registering}
+ * input managers with the engine. Without pipelining all three run on the main thread.
+ *
+ * @param <S> The type of render snapshot.
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public interface IPipelinedGame<S> extends IEntropyGame {
+
+    /**
+     * Creates an empty render snapshot. Called on the main thread when the engine starts, a few times,
+     * and the snapshots are reused from then on.
+     *
+     * @return The snapshot.
+     */
+    S createSnapshot();
+
+    /**
+     * Copies the state rendering needs into a snapshot. Called after each update. The snapshot may still
+     * hold an older state, so every field should be written.
+     *
+     * @param snapshot The snapshot to write.
+     */
+    void snapshot(S snapshot);
+
+    /**
+     * Renders the game visuals between the two latest snapshots, e.g. at
+     * {@code previous + (current - previous) * alpha}.
+     *
+     * @param previous The snapshot before the current one.
+     * @param current  The latest snapshot.
+     * @param alpha    The fraction of a step past the current snapshot, between 0 and 1.
+     */
+    void render(S previous, S current, float alpha);
+
+    /**
+     * Not called for pipelined games, the engine renders snapshots with {@link #render(Object, Object, float)}.
+     */
+    @Override
+    default void render() {}
+
+    /**
+     * Not called for pipelined games, the engine renders snapshots with {@link #render(Object, Object, float)}.
+     *
+     * @param alpha The fraction of a step past the last simulated state, between 0 and 1.
+     */
+    @Override
+    default void render(float alpha) {}
+}
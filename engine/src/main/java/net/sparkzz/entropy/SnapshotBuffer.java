@@ -0,0 +1,122 @@
+package net.sparkzz.entropy;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A lock-free exchange of render snapshots from the simulation thread to the render thread.
+ * <p>
+ * The buffer holds four reusable snapshots: one the writer fills, one ready to be taken, and the current
+ * and previous ones the reader renders, so it can interpolate between the last two states. Publishing
+ * swaps the filled snapshot with the ready one, and acquiring swaps the reader's previous snapshot for the
+ * ready one if it's newer, so neither side ever waits or allocates, and a snapshot is never written while
+ * it's being read. A slow reader skips snapshots instead of stalling the writer.
+ * <p>
+ * Exactly one thread may write and one thread may read.
+ *
+ * @param <S> The type of snapshot, a mutable object the writer overwrites each time.
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class SnapshotBuffer<S> {
+
+    private final AtomicReference<Slot<S>> ready;
+
+    // Owned by the writer
+    private Slot<S> writing;
+
+    // Owned by the reader
+    private Slot<S> current, previous;
+
+    /**
+     * Constructs a snapshot buffer.
+     *
+     * @param factory Creates the four snapshots, which are reused from then on.
+     */
+    public SnapshotBuffer(Supplier<S> factory) {
+        if (factory == null) throw new IllegalArgumentException("Snapshot factory cannot be null");
+
+        writing = new Slot<>(factory.get());
+        ready = new AtomicReference<>(new Slot<>(factory.get()));
+        current = new Slot<>(factory.get());
+        previous = new Slot<>(factory.get());
+    }
+
+    /**
+     * Gets the snapshot for the writer to fill before {@link #publish()}ing it. It may hold an older state,
+     * so every field should be written.
+     *
+     * @return The snapshot to write.
+     */
+    public S write() {
+        return writing.snapshot;
+    }
+
+    /**
+     * Publishes the written snapshot, stamped with the current time, replacing any snapshot the reader
+     * hasn't acquired yet.
+     */
+    public void publish() {
+        writing.nanos = System.nanoTime();
+        writing.fresh = true;
+        writing = ready.getAndSet(writing);
+    }
+
+    /**
+     * Takes the latest published snapshot as the current one, making the current one the previous one.
+     * Does nothing if nothing was published since the last acquire.
+     *
+     * @return True if a new snapshot was acquired, false otherwise.
+     */
+    public boolean acquire() {
+        // Only the writer swaps the ready slot in the meantime, and only for another fresh one
+        if (!ready.get().fresh) return false;
+
+        previous.fresh = false;
+
+        Slot<S> latest = ready.getAndSet(previous);
+
+        previous = current;
+        current = latest;
+        return true;
+    }
+
+    /**
+     * Gets the last acquired snapshot.
+     *
+     * @return The current snapshot.
+     */
+    public S getCurrent() {
+        return current.snapshot;
+    }
+
+    /**
+     * Gets the snapshot acquired before the current one.
+     *
+     * @return The previous snapshot.
+     */
+    public S getPrevious() {
+        return previous.snapshot;
+    }
+
+    /**
+     * Gets the time the current snapshot was published.
+     *
+     * @return The {@link System#nanoTime()} of the publish, or 0 if nothing was acquired yet.
+     */
+    public long getCurrentNanos() {
+        return current.nanos;
+    }
+
+    private static final class Slot<S> {
+
+        private final S snapshot;
+        private long nanos;
+        private boolean fresh;
+
+        private Slot(S snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+}
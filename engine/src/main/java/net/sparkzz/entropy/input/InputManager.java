@@ -34,7 +34,8 @@ public class InputManager {
     private final Set<Integer> keysDown = ConcurrentHashMap.newKeySet();
     private final Set<Integer> mouseButtonsDown = ConcurrentHashMap.newKeySet();
 
-    private double mouseX, mouseY;
+    // Written by the callbacks on the main thread, read by a pipelined engine's simulation thread
+    private volatile double mouseX, mouseY;
 
     private GLFWKeyCallback keyCallback;
     private GLFWMouseButtonCallback mouseButtonCallback;
@@ -52,7 +53,9 @@ public class InputManager {
 
     /**
      * Updates the input state by checking for gamepad events.
-     * This should be called regularly to process input events.
+     * This should be called regularly to process input events, on the main thread as it makes GLFW calls.
+     * A pipelined game should {@link net.sparkzz.entropy.EntropyEngine#addInputManager(InputManager) register}
+     * its input manager with the engine instead, which polls it on the main thread.
      */
     public void update() {
         for (int joyId = GLFW_JOYSTICK_1; joyId <= GLFW_JOYSTICK_LAST; joyId++) {
@@ -0,0 +1,237 @@
+package net.sparkzz.entropy.io.pack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * A read-only archive of assets, memory-mapped as a whole so assets are read without copies.
+ * <p>
+ * A pack holds the assets back to back, followed by an index of the FNV-1a hashes of their paths,
+ * sorted so a lookup is a binary search of the mapped index. Opening a pack maps the file and checks
+ * its header, nothing else is read up front. Stored assets come out as direct {@link ByteBuffer} slices
+ * of the mapping, which can go straight to e.g. {@code stbi_load_from_memory}; assets compressed
+ * when the pack was built are inflated into a new direct buffer. Packs are built with
+ * {@link AssetPackWriter}.
+ * <p>
+ * Lookups are thread-safe. The mapping stays valid until the pack and every slice taken from it are
+ * unreachable, closing the pack only closes its file.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class AssetPack implements AutoCloseable {
+
+    // "EPAK" read little-endian
+    static final int MAGIC = 0x4B415045;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    static final int ENTRY_BYTES = 32;
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapping;
+    private final int entryCount;
+    private final int indexOffset;
+
+    private AssetPack(Path file, FileChannel channel, MappedByteBuffer mapping, int entryCount, int indexOffset) {
+        this.file = file;
+        this.channel = channel;
+        this.mapping = mapping;
+        this.entryCount = entryCount;
+        this.indexOffset = indexOffset;
+    }
+
+    /**
+     * Opens an asset pack.
+     *
+     * @param file The pack file.
+     * @return The opened pack.
+     * @throws IOException If the file cannot be mapped or isn't a valid pack.
+     */
+    public static AssetPack open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+
+        try {
+            long size = channel.size();
+
+            if (size > Integer.MAX_VALUE) throw new IOException("Asset pack is larger than 2 GiB: " + file);
+            if (size < HEADER_BYTES) throw new IOException("Not an asset pack: " + file);
+
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            ByteBuffer bytes = mapping.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+            if (bytes.getInt(0) != MAGIC) throw new IOException("Not an asset pack: " + file);
+            if (bytes.getInt(4) != VERSION)
+                throw new IOException("Unsupported asset pack version " + bytes.getInt(4) + ": " + file);
+
+            int entryCount = bytes.getInt(8);
+            long indexOffset = bytes.getLong(16);
+
+            if (entryCount < 0 || indexOffset < HEADER_BYTES || indexOffset + (long) entryCount * ENTRY_BYTES != size)
+                throw new IOException("Asset pack index is corrupt: " + file);
+
+            return new AssetPack(file, channel, mapping, entryCount, (int) indexOffset);
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Checks if the pack holds an asset.
+     *
+     * @param path The path of the asset, relative to the packed directory.
+     * @return True if the asset is in the pack, false otherwise.
+     */
+    public boolean contains(String path) {
+        return find(hash(path)) >= 0;
+    }
+
+    /**
+     * Gets an asset.
+     *
+     * @param path The path of the asset, relative to the packed directory.
+     * @return The asset, a read-only slice of the mapping if it is stored, from position zero.
+     * @throws IOException If the asset isn't in the pack or can't be inflated.
+     */
+    public ByteBuffer get(String path) throws IOException {
+        int entry = find(hash(path));
+
+        if (entry < 0) throw new NoSuchFileException(path, null, "Asset is not in pack " + file);
+
+        ByteBuffer index = index();
+        int position = indexOffset + entry * ENTRY_BYTES;
+        long offset = index.getLong(position + 8);
+        int storedLength = index.getInt(position + 16), length = index.getInt(position + 20);
+        int compression = index.getInt(position + 24);
+
+        if (offset < HEADER_BYTES || offset + storedLength > indexOffset)
+            throw new IOException("Asset " + path + " lies outside pack " + file);
+
+        ByteBuffer stored = mapping.slice((int) offset, storedLength);
+
+        return switch (compression) {
+            case 0 -> stored;
+            case 1 -> inflate(path, stored, length);
+            default -> throw new IOException("Asset " + path + " uses unknown compression " + compression);
+        };
+    }
+
+    /**
+     * Gets a text asset, e.g. a shader source.
+     *
+     * @param path The path of the asset, relative to the packed directory.
+     * @return The asset decoded as UTF-8.
+     * @throws IOException If the asset isn't in the pack or can't be inflated.
+     */
+    public String getString(String path) throws IOException {
+        return StandardCharsets.UTF_8.decode(get(path)).toString();
+    }
+
+    /**
+     * Gets the number of assets in the pack.
+     *
+     * @return The asset count.
+     */
+    public int size() {
+        return entryCount;
+    }
+
+    /**
+     * Gets the pack file.
+     *
+     * @return The file path.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Closes the pack file. Slices already taken stay readable.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Hashes an asset path with 64-bit FNV-1a. Paths are normalized first: backslashes become slashes
+     * and a leading slash is dropped, so classpath-style paths find the same assets.
+     *
+     * @param path The asset path.
+     * @return The hash.
+     */
+    public static long hash(String path) {
+        String normalized = path.replace('\\', '/');
+
+        if (normalized.startsWith("/")) normalized = normalized.substring(1);
+
+        long hash = FNV_OFFSET_BASIS;
+
+        for (byte value : normalized.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= value & 0xFF;
+            hash *= FNV_PRIME;
+        }
+
+        return hash;
+    }
+
+    // Binary search of the index, sorted by unsigned hash
+    private int find(long hash) {
+        ByteBuffer index = index();
+        int low = 0, high = entryCount - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = Long.compareUnsigned(index.getLong(indexOffset + middle * ENTRY_BYTES), hash);
+
+            if (comparison < 0) low = middle + 1;
+            else if (comparison > 0) high = middle - 1;
+            else return middle;
+        }
+
+        return -1;
+    }
+
+    // A view for absolute little-endian reads, cheap enough to take per lookup and safe to share between threads
+    private ByteBuffer index() {
+        return mapping.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static ByteBuffer inflate(String path, ByteBuffer stored, int length) throws IOException {
+        ByteBuffer inflated = ByteBuffer.allocateDirect(length);
+        Inflater inflater = new Inflater();
+
+        try {
+            inflater.setInput(stored);
+
+            while (inflated.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(inflated) == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+            }
+
+            if (inflated.hasRemaining() || !inflater.finished())
+                throw new IOException("Asset " + path + " is truncated");
+        } catch (DataFormatException exception) {
+            throw new IOException("Asset " + path + " is corrupt", exception);
+        } finally {
+            inflater.end();
+        }
+
+        return inflated.flip();
+    }
+}
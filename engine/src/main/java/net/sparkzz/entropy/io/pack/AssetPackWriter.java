@@ -0,0 +1,163 @@
+package net.sparkzz.entropy.io.pack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Builds an {@link AssetPack}, streaming each asset into the file as it is added and writing the index
+ * when the writer is closed. The pack replaces the target file atomically on close, so a failed build
+ * leaves the previous pack in place.
+ * <p>
+ * Assets are deflated when that saves at least an eighth of their size, and stored otherwise, which keeps
+ * already-compressed formats such as PNG or KTX2 zero-copy. Stored assets are aligned to 16 bytes.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class AssetPackWriter implements AutoCloseable {
+
+    private static final int ALIGNMENT = 16;
+
+    private final Path file, temporary;
+    private final FileChannel channel;
+    private final boolean compress;
+    private final Map<Long, String> paths = new HashMap<>();
+    private final List<long[]> entries = new ArrayList<>();
+
+    private long position = AssetPack.HEADER_BYTES;
+    private boolean closed;
+
+    /**
+     * Starts writing a pack that deflates assets where it pays off.
+     *
+     * @param file The pack file to write.
+     * @throws IOException If the file cannot be created.
+     */
+    public AssetPackWriter(Path file) throws IOException {
+        this(file, true);
+    }
+
+    /**
+     * Starts writing a pack.
+     *
+     * @param file     The pack file to write.
+     * @param compress True to deflate assets where it pays off, false to store every asset.
+     * @throws IOException If the file cannot be created.
+     */
+    public AssetPackWriter(Path file, boolean compress) throws IOException {
+        this.file = file;
+        this.temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        this.compress = compress;
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+
+        channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Adds an asset.
+     *
+     * @param path The path the asset is looked up by, relative to the packed directory.
+     * @param data The asset.
+     * @throws IOException If the asset cannot be written.
+     */
+    public void add(String path, byte[] data) throws IOException {
+        if (closed) throw new IllegalStateException("Asset pack writer is closed");
+        if (path == null || data == null) throw new IllegalArgumentException("Asset path and data cannot be null");
+
+        long hash = AssetPack.hash(path);
+        String existing = paths.putIfAbsent(hash, path);
+
+        if (existing != null)
+            throw new IllegalArgumentException(existing.equals(path) ? "Asset " + path + " was already added"
+                    : "Asset paths " + existing + " and " + path + " have the same hash");
+
+        byte[] deflated = compress ? deflate(data) : null;
+        boolean stored = deflated == null || deflated.length > data.length - data.length / 8;
+        byte[] contents = stored ? data : deflated;
+
+        position = (position + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+        write(ByteBuffer.wrap(contents), position);
+        entries.add(new long[]{hash, position, contents.length, data.length, stored ? 0 : 1});
+        position += contents.length;
+    }
+
+    /**
+     * Writes the index and header and moves the pack into place.
+     *
+     * @throws IOException If the pack cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+
+        closed = true;
+
+        try (channel) {
+            entries.sort((first, second) -> Long.compareUnsigned(first[0], second[0]));
+
+            ByteBuffer index = ByteBuffer.allocate(entries.size() * AssetPack.ENTRY_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (long[] entry : entries) {
+                index.putLong(entry[0]).putLong(entry[1])
+                        .putInt((int) entry[2]).putInt((int) entry[3]).putInt((int) entry[4]).putInt(0);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(AssetPack.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(AssetPack.MAGIC).putInt(AssetPack.VERSION).putInt(entries.size()).putInt(0)
+                    .putLong(position);
+
+            write(index.flip(), position);
+            write(header.flip(), 0L);
+            channel.force(true);
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(temporary);
+            throw exception;
+        }
+
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void write(ByteBuffer bytes, long offset) throws IOException {
+        if (offset + bytes.remaining() > Integer.MAX_VALUE)
+            throw new IOException("Asset pack would be larger than 2 GiB");
+
+        while (bytes.hasRemaining()) offset += channel.write(bytes, offset);
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+
+            byte[] buffer = new byte[Math.max(64, data.length)];
+            int length = 0;
+
+            while (!deflater.finished()) {
+                if (length == buffer.length) return null;
+
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+}
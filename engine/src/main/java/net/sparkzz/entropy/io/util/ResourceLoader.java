@@ -1,26 +1,347 @@
 package net.sparkzz.entropy.io.util;
 
+import net.sparkzz.entropy.io.pack.AssetPack;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.Objects;
+import java.nio.file.NoSuchFileException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Utility class for loading resources from the classpath.
+ * Utility class for loading resources from the classpath, or from an {@link AssetPack} if one is set.
+ * Resources in the pack take precedence, and resources missing from it are loaded from the classpath.
+ * <p>
+ * {@link #load(String)} reads resources on virtual threads and returns futures, so the render thread never
+ * blocks on I/O. Loads of a path already being read share that read, and loaded resources are kept in a
+ * cache bounded by their total size, evicting the least recently used first. Cached resources are softly
+ * referenced, so the garbage collector may drop them under memory pressure, and a dropped resource is simply
+ * read again. {@link #preload(Collection)} warms the cache with a level's resources and reports its progress.
+ * The blocking methods go through the same cache.
  */
 public class ResourceLoader {
 
     /**
-     * Loads a resource file as a string.
+     * Default capacity of the resource cache.
+     */
+    public static final long DEFAULT_CACHE_BYTES = 64L << 20;
+
+    private static final ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor();
+    private static final Map<String, CompletableFuture<ByteBuffer>> reads = new ConcurrentHashMap<>();
+    // Access-ordered, so iteration starts at the least recently used resource; guarded by itself
+    private static final LinkedHashMap<String, Cached> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static volatile AssetPack pack;
+    private static long cacheBytes = DEFAULT_CACHE_BYTES;
+    private static long cachedBytes;
+
+    /**
+     * Sets the asset pack resources are loaded from before falling back to the classpath.
+     * Clears the cache, as it may hold resources the pack replaces.
+     *
+     * @param pack The asset pack, or null to load from the classpath only.
+     */
+    public static void setPack(AssetPack pack) {
+        ResourceLoader.pack = pack;
+        clearCache();
+    }
+
+    /**
+     * Gets the asset pack resources are loaded from before falling back to the classpath.
+     *
+     * @return The asset pack, or null if there is none.
+     */
+    public static AssetPack getPack() {
+        return pack;
+    }
+
+    /**
+     * Sets the capacity of the resource cache, evicting resources until it fits.
+     *
+     * @param bytes The total size of the cached resources, zero to cache nothing.
+     */
+    public static void setCacheBytes(long bytes) {
+        if (bytes < 0) throw new IllegalArgumentException("Cache capacity cannot be negative");
+
+        synchronized (cache) {
+            cacheBytes = bytes;
+            trim();
+        }
+    }
+
+    /**
+     * Gets the capacity of the resource cache.
+     *
+     * @return The total size the cached resources may take.
+     */
+    public static long getCacheBytes() {
+        synchronized (cache) {
+            return cacheBytes;
+        }
+    }
+
+    /**
+     * Gets the total size of the cached resources, including any the garbage collector already dropped.
+     *
+     * @return The cached size in bytes.
+     */
+    public static long getCachedBytes() {
+        synchronized (cache) {
+            return cachedBytes;
+        }
+    }
+
+    /**
+     * Checks if a resource is cached, without counting as a use of it.
+     *
+     * @param filePath The path to the resource file.
+     * @return True if the resource is cached and wasn't dropped by the garbage collector, false otherwise.
+     */
+    public static boolean isCached(String filePath) {
+        synchronized (cache) {
+            // Not cache.get, which would move the resource to the back of the eviction order
+            for (Map.Entry<String, Cached> entry : cache.entrySet())
+                if (entry.getKey().equals(filePath)) return entry.getValue().bytes().get() != null;
+
+            return false;
+        }
+    }
+
+    /**
+     * Drops every cached resource. Reads in flight still complete, and are cached when they do.
+     */
+    public static void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+            cachedBytes = 0L;
+        }
+    }
+
+    /**
+     * Loads a resource file asynchronously, from the cache if it's there.
+     *
+     * @param filePath The path to the resource file.
+     * @return A future completing with a read-only view of the contents, from position zero, or exceptionally
+     * with an {@link UncheckedIOException} if the resource cannot be read.
+     */
+    public static CompletableFuture<ByteBuffer> load(String filePath) {
+        if (filePath == null) throw new IllegalArgumentException("Resource path cannot be null");
+
+        ByteBuffer cached = cached(filePath);
+
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        CompletableFuture<ByteBuffer> read = reads.computeIfAbsent(filePath, path -> {
+            CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+
+            readers.execute(() -> {
+                try {
+                    future.complete(cache(path, read(path)));
+                } catch (IOException exception) {
+                    future.completeExceptionally(new UncheckedIOException(exception));
+                } catch (RuntimeException exception) {
+                    future.completeExceptionally(exception);
+                } finally {
+                    reads.remove(path, future);
+                }
+            });
+
+            return future;
+        });
+
+        // Every caller gets its own view, so positions don't interfere
+        return read.thenApply(ByteBuffer::duplicate);
+    }
+
+    /**
+     * Loads a resource file asynchronously as a string, from the cache if it's there.
+     *
+     * @param filePath The path to the resource file.
+     * @return A future completing with the contents decoded as UTF-8, or exceptionally with an
+     * {@link UncheckedIOException} if the resource cannot be read.
+     */
+    public static CompletableFuture<String> loadAsString(String filePath) {
+        return load(filePath).thenApply(bytes -> StandardCharsets.UTF_8.decode(bytes).toString());
+    }
+
+    /**
+     * Loads resources into the cache ahead of time, e.g. during a level transition. Resources that fail
+     * to load don't stop the others.
+     *
+     * @param filePaths The paths to the resource files.
+     * @return The progress of the preload.
+     */
+    public static Preload preload(Collection<String> filePaths) {
+        List<String> paths = List.copyOf(filePaths);
+        Preload preload = new Preload(paths.size());
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[paths.size()];
+
+        for (int i = 0; i < loads.length; i++)
+            loads[i] = load(paths.get(i)).whenComplete((bytes, exception) -> preload.loaded.incrementAndGet());
+
+        CompletableFuture.allOf(loads).whenComplete((ignored, exception) -> {
+            if (exception == null) preload.future.complete(null);
+            else preload.future.completeExceptionally(exception);
+        });
+
+        return preload;
+    }
+
+    /**
+     * Loads a resource file as a string, blocking until it's read.
      *
      * @param filePath The path to the resource file.
      * @return The contents of the resource file as a string.
      * @throws IOException If an I/O error occurs when reading from the file or a malformed or unmappable byte sequence is read.
      */
     public static String loadResourceAsString(String filePath) throws IOException {
-        try (var inputStream = Objects.requireNonNull(
-                ResourceLoader.class.getResourceAsStream(filePath),
-                "Resource not found: " + filePath)) {
-            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        return StandardCharsets.UTF_8.decode(loadResource(filePath)).toString();
+    }
+
+    /**
+     * Loads a resource file into a direct buffer, e.g. to decode it with stb, blocking until it's read.
+     * Resources stored in the asset pack are returned without a copy.
+     *
+     * @param filePath The path to the resource file.
+     * @return A read-only view of the contents of the resource file, from position zero.
+     * @throws IOException If an I/O error occurs when reading from the file.
+     */
+    public static ByteBuffer loadResource(String filePath) throws IOException {
+        try {
+            return load(filePath).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof UncheckedIOException io) throw io.getCause();
+            if (exception.getCause() instanceof RuntimeException runtime) throw runtime;
+
+            throw exception;
+        }
+    }
+
+    private static ByteBuffer read(String filePath) throws IOException {
+        AssetPack current = pack;
+
+        if (current != null && current.contains(filePath)) return current.get(filePath).asReadOnlyBuffer();
+
+        try (InputStream inputStream = ResourceLoader.class.getResourceAsStream(filePath)) {
+            if (inputStream == null) throw new NoSuchFileException(filePath, null, "Resource not found");
+
+            byte[] bytes = inputStream.readAllBytes();
+
+            return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+        }
+    }
+
+    private static ByteBuffer cached(String filePath) {
+        synchronized (cache) {
+            Cached cached = cache.get(filePath);
+            ByteBuffer bytes = cached == null ? null : cached.bytes().get();
+
+            if (cached != null && bytes == null) {
+                // Dropped by the garbage collector
+                cache.remove(filePath);
+                cachedBytes -= cached.weight();
+            }
+
+            return bytes == null ? null : bytes.duplicate();
+        }
+    }
+
+    private static ByteBuffer cache(String filePath, ByteBuffer bytes) {
+        synchronized (cache) {
+            Cached previous = cache.put(filePath, new Cached(new SoftReference<>(bytes), bytes.capacity()));
+
+            cachedBytes += bytes.capacity();
+
+            if (previous != null) cachedBytes -= previous.weight();
+
+            trim();
+        }
+
+        return bytes;
+    }
+
+    // Evicts the least recently used resources until the cache fits its capacity
+    private static void trim() {
+        Iterator<Cached> iterator = cache.values().iterator();
+
+        while (cachedBytes > cacheBytes && iterator.hasNext()) {
+            cachedBytes -= iterator.next().weight();
+            iterator.remove();
+        }
+    }
+
+    private record Cached(SoftReference<ByteBuffer> bytes, long weight) {}
+
+    /**
+     * The progress of a {@link #preload(Collection) preload}, safe to poll from the render thread,
+     * e.g. to draw a loading bar.
+     */
+    public static final class Preload {
+
+        private final int total;
+        private final AtomicInteger loaded = new AtomicInteger();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Preload(int total) {
+            this.total = total;
+        }
+
+        /**
+         * Gets the number of resources being preloaded.
+         *
+         * @return The resource count.
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * Gets the number of resources done loading, including ones that failed.
+         *
+         * @return The loaded resource count.
+         */
+        public int getLoaded() {
+            return loaded.get();
+        }
+
+        /**
+         * Gets the fraction of resources done loading.
+         *
+         * @return The progress between 0 and 1.
+         */
+        public float getProgress() {
+            return total == 0 ? 1f : (float) loaded.get() / total;
+        }
+
+        /**
+         * Checks if every resource is done loading.
+         *
+         * @return True if the preload is done, false otherwise.
+         */
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        /**
+         * Gets a future completing once every resource is done loading, exceptionally if any failed.
+         *
+         * @return The future.
+         */
+        public CompletableFuture<Void> future() {
+            return future;
         }
     }
 }
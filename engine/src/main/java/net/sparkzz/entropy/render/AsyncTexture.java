@@ -0,0 +1,165 @@
+package net.sparkzz.entropy.render;
+
+import net.sparkzz.entropy.io.pack.AssetPack;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A texture loaded in the background by the {@link TextureLoader}.
+ * <p>
+ * The texture is usable right away: until its image is uploaded it holds a 1x1 placeholder, and its
+ * ID never changes, so sprites and regions created from it pick up the image once it arrives.
+ * Its size is that of the placeholder until then.
+ * <p>
+ * Textures interned by the {@link TextureManager} can be evicted to stay within its video memory budget:
+ * the GL texture is replaced by a low-resolution mipmap or by the placeholder, while the reported size stays
+ * that of the image so sprites keep their layout, and the image is streamed back in once it's used again.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class AsyncTexture extends Texture {
+
+    private final AssetPack pack;
+    private final String path;
+    private final CompletableFuture<AsyncTexture> future = new CompletableFuture<>();
+
+    private int width = 1, height = 1;
+    private int residentWidth = 1, residentHeight = 1;
+    private boolean loading, deleted;
+
+    /**
+     * Wraps a texture holding the placeholder.
+     *
+     * @param id      The OpenGL texture ID.
+     * @param pack    The asset pack holding the image, or null if it is a file.
+     * @param path    The path of the image being loaded.
+     * @param sampler The sampler settings applied once the image is uploaded.
+     */
+    AsyncTexture(int id, AssetPack pack, String path, SamplerSettings sampler) {
+        super(id, 1, 1, sampler);
+
+        this.pack = pack;
+        this.path = path;
+    }
+
+    /**
+     * Gets the future completed once the image is uploaded, or completed exceptionally if it failed to load.
+     * It completes on the thread updating the {@link TextureLoader}, so its callbacks may use the context.
+     *
+     * @return The future of the loaded texture.
+     */
+    public CompletableFuture<AsyncTexture> getFuture() {
+        return future;
+    }
+
+    /**
+     * Checks if the image was uploaded and replaced the placeholder.
+     *
+     * @return True if the texture is loaded, false otherwise.
+     */
+    public boolean isLoaded() {
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    /**
+     * Checks if the full image is in video memory, i.e. it's loaded and not evicted.
+     * A texture that failed to load counts as resident, there is nothing to stream.
+     *
+     * @return True if the texture is resident, false otherwise.
+     */
+    public boolean isResident() {
+        return !loading && residentWidth == width && residentHeight == height;
+    }
+
+    /**
+     * Gets the path of the image, within its {@link #getPack() asset pack} if it has one.
+     *
+     * @return The image path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the asset pack holding the image.
+     *
+     * @return The asset pack, or null if the image is a file.
+     */
+    public AssetPack getPack() {
+        return pack;
+    }
+
+    /**
+     * Gets the width of the texture.
+     *
+     * @return The image width in pixels, or 1 while the placeholder is shown.
+     */
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the texture.
+     *
+     * @return The image height in pixels, or 1 while the placeholder is shown.
+     */
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Estimates the video memory the texture currently occupies, i.e. that of the placeholder
+     * or low-resolution mipmap while it's evicted.
+     *
+     * @return The estimated resident size in bytes.
+     */
+    @Override
+    public long getResidentBytes() {
+        return estimateBytes(residentWidth, residentHeight, getSampler().usesMipmaps());
+    }
+
+    /**
+     * Cleans up the texture resources. An upload still in progress is dropped.
+     */
+    @Override
+    public void cleanup() {
+        deleted = true;
+        super.cleanup();
+    }
+
+    int getResidentWidth() {
+        return residentWidth;
+    }
+
+    int getResidentHeight() {
+        return residentHeight;
+    }
+
+    boolean isLoading() {
+        return loading;
+    }
+
+    boolean isDeleted() {
+        return deleted;
+    }
+
+    void setLoading(boolean loading) {
+        this.loading = loading;
+    }
+
+    // Sets the size of the image, which is then fully resident
+    void resize(int width, int height) {
+        this.width = width;
+        this.height = height;
+        setResident(width, height);
+    }
+
+    void setResident(int width, int height) {
+        residentWidth = width;
+        residentHeight = height;
+    }
+}
@@ -0,0 +1,174 @@
+package net.sparkzz.entropy.render;
+
+import org.lwjgl.opengl.GLCapabilities;
+
+import static org.lwjgl.opengl.EXTTextureCompressionS3TC.GL_COMPRESSED_RGBA_S3TC_DXT1_EXT;
+import static org.lwjgl.opengl.EXTTextureCompressionS3TC.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT;
+import static org.lwjgl.opengl.GL42.GL_COMPRESSED_RGBA_BPTC_UNORM;
+import static org.lwjgl.opengl.GL43.GL_COMPRESSED_RGB8_ETC2;
+import static org.lwjgl.opengl.GL43.GL_COMPRESSED_RGBA8_ETC2_EAC;
+
+/**
+ * The block-compressed formats a {@link CompressedTexture} can be loaded from.
+ * Every format encodes blocks of 4x4 texels, and each knows its codes in the KTX2 and DDS containers.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public enum CompressedFormat {
+
+    /**
+     * BC1 (DXT1), RGB with 1-bit alpha at 4 bits per texel.
+     */
+    BC1(GL_COMPRESSED_RGBA_S3TC_DXT1_EXT, 8, 133, 71, "DXT1"),
+
+    /**
+     * BC3 (DXT5), RGBA at 8 bits per texel.
+     */
+    BC3(GL_COMPRESSED_RGBA_S3TC_DXT5_EXT, 16, 137, 77, "DXT5"),
+
+    /**
+     * BC7 (BPTC), high quality RGBA at 8 bits per texel.
+     */
+    BC7(GL_COMPRESSED_RGBA_BPTC_UNORM, 16, 145, 98, null),
+
+    /**
+     * ETC2 RGB at 4 bits per texel, common on mobile and embedded GPUs.
+     */
+    ETC2_RGB(GL_COMPRESSED_RGB8_ETC2, 8, 147, 0, null),
+
+    /**
+     * ETC2 with EAC alpha, RGBA at 8 bits per texel.
+     */
+    ETC2_RGBA(GL_COMPRESSED_RGBA8_ETC2_EAC, 16, 151, 0, null);
+
+    /**
+     * Width and height of a compressed block in texels.
+     */
+    public static final int BLOCK_SIZE = 4;
+
+    private final int internalFormat;
+    private final int blockBytes;
+    private final int vkFormat;
+    private final int dxgiFormat;
+    private final String fourCC;
+
+    CompressedFormat(int internalFormat, int blockBytes, int vkFormat, int dxgiFormat, String fourCC) {
+        this.internalFormat = internalFormat;
+        this.blockBytes = blockBytes;
+        this.vkFormat = vkFormat;
+        this.dxgiFormat = dxgiFormat;
+        this.fourCC = fourCC;
+    }
+
+    /**
+     * Gets the OpenGL internal format.
+     *
+     * @return The internal format.
+     */
+    public int getInternalFormat() {
+        return internalFormat;
+    }
+
+    /**
+     * Gets the size of a compressed block.
+     *
+     * @return The block size in bytes.
+     */
+    public int getBlockBytes() {
+        return blockBytes;
+    }
+
+    /**
+     * Gets the Vulkan format identifying the format in KTX2 containers.
+     *
+     * @return The {@code VkFormat} value.
+     */
+    public int getVkFormat() {
+        return vkFormat;
+    }
+
+    /**
+     * Gets the DXGI format identifying the format in DDS containers with a DX10 header.
+     *
+     * @return The {@code DXGI_FORMAT} value, or 0 if DDS doesn't support the format.
+     */
+    public int getDxgiFormat() {
+        return dxgiFormat;
+    }
+
+    /**
+     * Gets the four-character code identifying the format in DDS containers with a legacy header.
+     *
+     * @return The four-character code, or null if the format needs a DX10 header.
+     */
+    public String getFourCC() {
+        return fourCC;
+    }
+
+    /**
+     * Computes the size of a mipmap level in this format.
+     *
+     * @param width  The width of the level in texels.
+     * @param height The height of the level in texels.
+     * @return The level size in bytes.
+     */
+    public int levelBytes(int width, int height) {
+        return blocks(width) * blocks(height) * blockBytes;
+    }
+
+    /**
+     * Checks if the driver of the current context can sample the format.
+     *
+     * @param capabilities The capabilities of the context.
+     * @return True if the format is supported, false otherwise.
+     */
+    public boolean isSupported(GLCapabilities capabilities) {
+        return switch (this) {
+            case BC1, BC3 -> capabilities.GL_EXT_texture_compression_s3tc;
+            case BC7 -> capabilities.OpenGL42 || capabilities.GL_ARB_texture_compression_bptc;
+            case ETC2_RGB, ETC2_RGBA -> capabilities.OpenGL43 || capabilities.GL_ARB_ES3_compatibility;
+        };
+    }
+
+    /**
+     * Gets the format identified by a Vulkan format in a KTX2 container.
+     *
+     * @param vkFormat The {@code VkFormat} value.
+     * @return The format, or null if it isn't supported.
+     */
+    public static CompressedFormat fromVkFormat(int vkFormat) {
+        for (CompressedFormat format : values()) if (format.vkFormat == vkFormat) return format;
+
+        return null;
+    }
+
+    /**
+     * Gets the format identified by a DXGI format in a DDS container.
+     *
+     * @param dxgiFormat The {@code DXGI_FORMAT} value.
+     * @return The format, or null if it isn't supported.
+     */
+    public static CompressedFormat fromDxgiFormat(int dxgiFormat) {
+        for (CompressedFormat format : values()) if (dxgiFormat != 0 && format.dxgiFormat == dxgiFormat) return format;
+
+        return null;
+    }
+
+    /**
+     * Gets the format identified by a four-character code in a DDS container.
+     *
+     * @param fourCC The four-character code.
+     * @return The format, or null if it isn't supported.
+     */
+    public static CompressedFormat fromFourCC(String fourCC) {
+        for (CompressedFormat format : values()) if (fourCC.equals(format.fourCC)) return format;
+
+        return null;
+    }
+
+    private static int blocks(int texels) {
+        return Math.max(1, (texels + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+}
@@ -0,0 +1,367 @@
+package net.sparkzz.entropy.render;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+import org.lwjgl.system.MemoryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL12.GL_TEXTURE_MAX_LEVEL;
+import static org.lwjgl.opengl.GL13.glCompressedTexImage2D;
+import static org.lwjgl.opengl.GL13.glCompressedTexSubImage2D;
+import static org.lwjgl.opengl.GL42.glTexStorage2D;
+
+/**
+ * A texture loaded from a KTX2 or DDS container of GPU-compressed blocks, with its mipmaps baked offline.
+ * <p>
+ * Block-compressed textures take a quarter to an eighth of the memory of {@code GL_RGBA8}, and uploading
+ * baked mipmaps skips generating them at load time. The containers are written by the asset baker.
+ * Their levels are uploaded as stored, first row at the bottom as GL expects: block-compressed images can't
+ * be flipped cheaply, so the baker flips images before encoding them. KTX2 files record this with their
+ * {@code KTXorientation} key, DDS files can't and are assumed to follow the same convention.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class CompressedTexture extends Texture {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressedTexture.class);
+
+    private static final byte[] KTX2_IDENTIFIER = {
+            (byte) 0xAB, 'K', 'T', 'X', ' ', '2', '0', (byte) 0xBB, '\r', '\n', 0x1A, '\n'
+    };
+    // "DDS " read little-endian
+    private static final int DDS_MAGIC = 0x20534444;
+    private static final int DDS_HEADER_SIZE = 124;
+    private static final int DDSD_MIPMAPCOUNT = 0x20000;
+    private static final int DDPF_FOURCC = 0x4;
+    private static final int DDSCAPS2_CUBEMAP = 0x200;
+    private static final int D3D10_RESOURCE_DIMENSION_TEXTURE2D = 3;
+
+    private final CompressedFormat format;
+    private final int levels;
+    private final long estimatedBytes;
+
+    /**
+     * Loads a compressed texture from the specified container file.
+     *
+     * @param path The file path to the KTX2 or DDS container.
+     */
+    public CompressedTexture(String path) {
+        this(path, SamplerSettings.DEFAULT);
+    }
+
+    /**
+     * Loads a compressed texture from the specified container file, sampled with the specified settings.
+     *
+     * @param path    The file path to the KTX2 or DDS container.
+     * @param sampler The sampler settings.
+     */
+    public CompressedTexture(String path, SamplerSettings sampler) {
+        this(path, load(path), sampler);
+    }
+
+    private CompressedTexture(String path, Image image, SamplerSettings sampler) {
+        super(upload(path, image, sampler), image.width(), image.height(), sampler);
+
+        this.format = image.format();
+        this.levels = image.levels().size();
+
+        long bytes = 0L;
+
+        for (ByteBuffer level : image.levels()) bytes += level.remaining();
+
+        this.estimatedBytes = bytes;
+
+        MemoryUtil.memFree(image.data());
+    }
+
+    /**
+     * Checks if a file is a container loaded by this class, judging by its extension.
+     *
+     * @param path The file path.
+     * @return True if the file is a KTX2 or DDS container, false otherwise.
+     */
+    public static boolean isContainer(String path) {
+        String name = path.toLowerCase(Locale.ROOT);
+
+        return name.endsWith(".ktx2") || name.endsWith(".dds");
+    }
+
+    /**
+     * Gets the compressed format of the texture.
+     *
+     * @return The format.
+     */
+    public CompressedFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets the number of mipmap levels baked into the texture.
+     *
+     * @return The level count.
+     */
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Gets the video memory used by the texture's compressed levels.
+     *
+     * @return The size in bytes.
+     */
+    @Override
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private static Image load(String path) {
+        log.info("Loading compressed texture from path: {}", path);
+
+        ByteBuffer data = null;
+
+        try {
+            byte[] bytes = Files.readAllBytes(Path.of(path));
+            data = MemoryUtil.memAlloc(bytes.length).put(bytes).flip();
+
+            Image image = read(data);
+
+            if (!image.bottomUp())
+                log.warn("Compressed texture {} is stored top row first and will appear flipped", path);
+
+            return image;
+        } catch (IOException exception) {
+            if (data != null) MemoryUtil.memFree(data);
+
+            throw new RuntimeException("Failed to load texture file: " + path, exception);
+        }
+    }
+
+    private static int upload(String path, Image image, SamplerSettings sampler) {
+        if (sampler == null) {
+            MemoryUtil.memFree(image.data());
+            throw new IllegalArgumentException("Sampler settings cannot be null");
+        }
+
+        GLCapabilities capabilities = GL.getCapabilities();
+        CompressedFormat format = image.format();
+
+        if (!format.isSupported(capabilities)) {
+            MemoryUtil.memFree(image.data());
+            throw new RuntimeException("Compressed format " + format + " of " + path + " is not supported by the driver");
+        }
+
+        GLStateCache state = GLStateCache.get();
+        int levels = image.levels().size();
+        int internalFormat = format.getInternalFormat();
+        boolean storage = capabilities.OpenGL42 || capabilities.GL_ARB_texture_storage;
+        int textureId = glGenTextures();
+
+        state.bindTexture(GL_TEXTURE_2D, textureId);
+
+        if (storage) glTexStorage2D(GL_TEXTURE_2D, levels, internalFormat, image.width(), image.height());
+
+        for (int level = 0; level < levels; level++) {
+            int width = Math.max(1, image.width() >> level), height = Math.max(1, image.height() >> level);
+            ByteBuffer blocks = image.levels().get(level);
+
+            if (storage) glCompressedTexSubImage2D(GL_TEXTURE_2D, level, 0, 0, width, height, internalFormat, blocks);
+            else glCompressedTexImage2D(GL_TEXTURE_2D, level, internalFormat, width, height, 0, blocks);
+        }
+
+        // Files may bake fewer levels than a full chain, which is complete up to the last one
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAX_LEVEL, levels - 1);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, sampler.minFilter());
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, sampler.magFilter());
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, sampler.wrapS());
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, sampler.wrapT());
+        state.bindTexture(GL_TEXTURE_2D, 0);
+
+        return textureId;
+    }
+
+    /**
+     * Reads a KTX2 or DDS container, recognized by its magic bytes.
+     *
+     * @param data The container, from position zero; the levels are slices of it.
+     * @return The image.
+     * @throws IOException If the container is malformed or holds an unsupported format.
+     */
+    static Image read(ByteBuffer data) throws IOException {
+        ByteBuffer bytes = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+        if (bytes.capacity() >= KTX2_IDENTIFIER.length
+                && bytes.slice(0, KTX2_IDENTIFIER.length).equals(ByteBuffer.wrap(KTX2_IDENTIFIER)))
+            return readKtx2(data, bytes);
+
+        if (bytes.capacity() >= 4 && bytes.getInt(0) == DDS_MAGIC) return readDds(data, bytes);
+
+        throw new IOException("Not a KTX2 or DDS container");
+    }
+
+    private static Image readKtx2(ByteBuffer data, ByteBuffer bytes) throws IOException {
+        require(bytes, 0, 80);
+
+        int vkFormat = bytes.getInt(12);
+        int width = bytes.getInt(20), height = bytes.getInt(24);
+        int depth = bytes.getInt(28), layers = bytes.getInt(32), faces = bytes.getInt(36);
+        int levelCount = Math.max(1, bytes.getInt(40));
+        int supercompression = bytes.getInt(44);
+        int keyValueOffset = bytes.getInt(56), keyValueLength = bytes.getInt(60);
+
+        CompressedFormat format = CompressedFormat.fromVkFormat(vkFormat);
+
+        if (format == null) throw new IOException("Unsupported KTX2 format " + vkFormat);
+        if (depth != 0 || layers > 1 || faces != 1) throw new IOException("Only 2D KTX2 textures are supported");
+        if (supercompression != 0) throw new IOException("Supercompressed KTX2 textures are not supported");
+
+        checkSize(width, height, levelCount);
+        require(bytes, 80, levelCount * 24);
+
+        List<ByteBuffer> levels = new ArrayList<>(levelCount);
+
+        for (int level = 0; level < levelCount; level++) {
+            long offset = bytes.getLong(80 + level * 24), length = bytes.getLong(88 + level * 24);
+
+            levels.add(level(data, format, width, height, level, offset, length));
+        }
+
+        String orientation = keyValue(bytes, keyValueOffset, keyValueLength, "KTXorientation");
+        // The default orientation is "rd", i.e. rows run down
+        boolean bottomUp = orientation != null && orientation.length() > 1 && orientation.charAt(1) == 'u';
+
+        return new Image(format, width, height, levels, data, bottomUp);
+    }
+
+    private static Image readDds(ByteBuffer data, ByteBuffer bytes) throws IOException {
+        require(bytes, 0, 128);
+
+        if (bytes.getInt(4) != DDS_HEADER_SIZE) throw new IOException("Malformed DDS header");
+
+        int flags = bytes.getInt(8);
+        int height = bytes.getInt(12), width = bytes.getInt(16);
+        int levelCount = (flags & DDSD_MIPMAPCOUNT) != 0 ? Math.max(1, bytes.getInt(28)) : 1;
+        int pixelFormatFlags = bytes.getInt(80);
+        String fourCC = new String(new byte[]{bytes.get(84), bytes.get(85), bytes.get(86), bytes.get(87)},
+                StandardCharsets.US_ASCII);
+
+        if ((bytes.getInt(112) & DDSCAPS2_CUBEMAP) != 0) throw new IOException("DDS cube maps are not supported");
+        if ((pixelFormatFlags & DDPF_FOURCC) == 0) throw new IOException("Uncompressed DDS textures are not supported");
+
+        CompressedFormat format;
+        int offset = 128;
+
+        if (fourCC.equals("DX10")) {
+            require(bytes, 128, 20);
+
+            int dxgiFormat = bytes.getInt(128);
+
+            if (bytes.getInt(132) != D3D10_RESOURCE_DIMENSION_TEXTURE2D || bytes.getInt(140) > 1)
+                throw new IOException("Only 2D DDS textures are supported");
+
+            format = CompressedFormat.fromDxgiFormat(dxgiFormat);
+
+            if (format == null) throw new IOException("Unsupported DDS format " + dxgiFormat);
+
+            offset += 20;
+        } else {
+            format = CompressedFormat.fromFourCC(fourCC);
+
+            if (format == null) throw new IOException("Unsupported DDS format " + fourCC);
+        }
+
+        checkSize(width, height, levelCount);
+
+        List<ByteBuffer> levels = new ArrayList<>(levelCount);
+
+        for (int level = 0; level < levelCount; level++) {
+            int length = format.levelBytes(Math.max(1, width >> level), Math.max(1, height >> level));
+
+            levels.add(level(data, format, width, height, level, offset, length));
+            offset += length;
+        }
+
+        return new Image(format, width, height, levels, data, true);
+    }
+
+    private static ByteBuffer level(ByteBuffer data, CompressedFormat format, int width, int height, int level,
+                                    long offset, long length) throws IOException {
+        int expected = format.levelBytes(Math.max(1, width >> level), Math.max(1, height >> level));
+
+        if (length != expected)
+            throw new IOException("Level " + level + " has " + length + " bytes, " + expected + " were expected");
+        if (offset < 0L || offset + length > data.capacity())
+            throw new IOException("Level " + level + " lies outside the container");
+
+        return data.slice((int) offset, (int) length);
+    }
+
+    // Finds the value of a key in KTX2 key/value data, without its NUL terminator
+    private static String keyValue(ByteBuffer bytes, int offset, int length, String key) throws IOException {
+        require(bytes, offset, length);
+
+        byte[] wanted = (key + '\0').getBytes(StandardCharsets.UTF_8);
+        int position = offset, end = offset + length;
+
+        while (position + 4 <= end) {
+            int entryLength = bytes.getInt(position);
+            int start = position + 4;
+
+            if (entryLength < 0 || start + entryLength > end) throw new IOException("Malformed KTX2 key/value data");
+
+            if (entryLength >= wanted.length && bytes.slice(start, wanted.length).equals(ByteBuffer.wrap(wanted))) {
+                byte[] value = new byte[entryLength - wanted.length];
+
+                bytes.get(start + wanted.length, value);
+
+                int valueLength = value.length;
+
+                while (valueLength > 0 && value[valueLength - 1] == 0) valueLength--;
+
+                return new String(value, 0, valueLength, StandardCharsets.UTF_8);
+            }
+
+            // Entries are padded to 4 bytes
+            position = start + ((entryLength + 3) & ~3);
+        }
+
+        return null;
+    }
+
+    private static void checkSize(int width, int height, int levelCount) throws IOException {
+        if (width <= 0 || height <= 0) throw new IOException("Texture dimensions must be positive");
+        if (levelCount > mipLevels(width, height))
+            throw new IOException(levelCount + " levels exceed the mipmap chain of a " + width + "x" + height + " texture");
+    }
+
+    private static void require(ByteBuffer bytes, int offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || (long) offset + length > bytes.capacity())
+            throw new IOException("Container is truncated");
+    }
+
+    /**
+     * A compressed image read from a container.
+     *
+     * @param format   The compressed format.
+     * @param width    The width of the base level in texels.
+     * @param height   The height of the base level in texels.
+     * @param levels   The mipmap levels, base level first, as slices of the container.
+     * @param data     The container, to be freed once the levels are uploaded.
+     * @param bottomUp True if the first row of each level is its bottom row, false if it is the top row.
+     */
+    record Image(CompressedFormat format, int width, int height, List<ByteBuffer> levels, ByteBuffer data,
+                 boolean bottomUp) {}
+}
@@ -0,0 +1,147 @@
+package net.sparkzz.entropy.render;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL30.*;
+
+/**
+ * An offscreen render target with a single RGBA8 color attachment, used to render without a visible window.
+ * Frames rendered into it can be read back with {@link #readPixels(ByteBuffer)}, e.g. for golden-image tests.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class Framebuffer {
+
+    /**
+     * Number of bytes per pixel read back by {@link #readPixels(ByteBuffer)}.
+     */
+    public static final int BYTES_PER_PIXEL = 4;
+
+    private final int width, height;
+    private final int id;
+    private final int colorBuffer;
+
+    /**
+     * Constructs a Framebuffer of the specified size. Requires a current OpenGL context.
+     *
+     * @param width  The width in pixels.
+     * @param height The height in pixels.
+     */
+    public Framebuffer(int width, int height) {
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("Framebuffer size must be positive");
+
+        this.width = width;
+        this.height = height;
+
+        colorBuffer = glGenRenderbuffers();
+        glBindRenderbuffer(GL_RENDERBUFFER, colorBuffer);
+        glRenderbufferStorage(GL_RENDERBUFFER, GL_RGBA8, width, height);
+        glBindRenderbuffer(GL_RENDERBUFFER, 0);
+
+        id = glGenFramebuffers();
+        glBindFramebuffer(GL_FRAMEBUFFER, id);
+        glFramebufferRenderbuffer(GL_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_RENDERBUFFER, colorBuffer);
+
+        int status = glCheckFramebufferStatus(GL_FRAMEBUFFER);
+
+        glBindFramebuffer(GL_FRAMEBUFFER, 0);
+
+        if (status != GL_FRAMEBUFFER_COMPLETE) {
+            cleanup();
+            throw new RuntimeException("Framebuffer is incomplete: 0x" + Integer.toHexString(status));
+        }
+    }
+
+    /**
+     * Binds the framebuffer as the render target and sets the viewport to cover it.
+     */
+    public void bind() {
+        glBindFramebuffer(GL_FRAMEBUFFER, id);
+        GLStateCache.get().setViewport(0, 0, width, height);
+    }
+
+    /**
+     * Binds the default framebuffer as the render target again.
+     */
+    public void unbind() {
+        glBindFramebuffer(GL_FRAMEBUFFER, 0);
+    }
+
+    /**
+     * Reads the rendered pixels back as tightly packed RGBA8, top row first.
+     * Waits for all rendering into the framebuffer to finish.
+     *
+     * @param destination The buffer to read into, from its position, with at least {@link #getFrameBytes()} remaining.
+     */
+    public void readPixels(ByteBuffer destination) {
+        int bytes = getFrameBytes();
+
+        if (destination.remaining() < bytes)
+            throw new IllegalArgumentException("Destination has " + destination.remaining() + " bytes remaining, "
+                    + bytes + " are needed");
+
+        glBindFramebuffer(GL_READ_FRAMEBUFFER, id);
+        glPixelStorei(GL_PACK_ALIGNMENT, 1);
+        glReadPixels(0, 0, width, height, GL_RGBA, GL_UNSIGNED_BYTE, destination);
+        glBindFramebuffer(GL_READ_FRAMEBUFFER, 0);
+
+        // GL reads bottom-up, images are stored top-down
+        flipRows(destination.slice(destination.position(), bytes), width * BYTES_PER_PIXEL, height);
+    }
+
+    /**
+     * Gets the width of the framebuffer.
+     *
+     * @return The width in pixels.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the framebuffer.
+     *
+     * @return The height in pixels.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the size of a frame read back by {@link #readPixels(ByteBuffer)}.
+     *
+     * @return The frame size in bytes.
+     */
+    public int getFrameBytes() {
+        return width * height * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * Cleans up the framebuffer and its color attachment.
+     */
+    public void cleanup() {
+        glDeleteFramebuffers(id);
+        glDeleteRenderbuffers(colorBuffer);
+    }
+
+    /**
+     * Reverses the order of the rows of an image in place.
+     *
+     * @param pixels   The image, from position zero.
+     * @param rowBytes The size of a row in bytes.
+     * @param rows     The number of rows.
+     */
+    static void flipRows(ByteBuffer pixels, int rowBytes, int rows) {
+        byte[] top = new byte[rowBytes], bottom = new byte[rowBytes];
+
+        for (int row = 0; row < rows / 2; row++) {
+            int topOffset = row * rowBytes, bottomOffset = (rows - 1 - row) * rowBytes;
+
+            pixels.get(topOffset, top).get(bottomOffset, bottom);
+            pixels.put(topOffset, bottom).put(bottomOffset, top);
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package net.sparkzz.entropy.render;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.util.Arrays;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL13.GL_TEXTURE0;
+import static org.lwjgl.opengl.GL13.glActiveTexture;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL20.glDeleteProgram;
+import static org.lwjgl.opengl.GL20.glUseProgram;
+import static org.lwjgl.opengl.GL21.GL_PIXEL_UNPACK_BUFFER;
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL31.GL_UNIFORM_BUFFER;
+
+/**
+ * Shadows the OpenGL binding state of the current thread's context and skips calls that wouldn't change it.
+ * <p>
+ * All engine code binds programs, vertex arrays, buffers and textures, and changes blend state and
+ * the viewport, through this cache. It is thread-confined like the GL context itself: use
+ * {@link #get()} on the thread owning the context, and call {@link #invalidate()} after making a
+ * different context current or after third-party code touched the GL state.
+ * <p>
+ * On GL 4.5 (or {@code ARB_direct_state_access}) contexts, {@link #isDirectStateAccessSupported()}
+ * lets resource creation use DSA functions, which don't bind anything and so can't disturb the
+ * bindings a draw depends on.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class GLStateCache {
+
+    private static final ThreadLocal<GLStateCache> CURRENT = ThreadLocal.withInitial(GLStateCache::new);
+
+    // Sentinel for state that hasn't been observed yet, the next call always reaches GL
+    private static final int UNKNOWN = -1;
+    private static final int CACHED_TEXTURE_UNITS = 32;
+    private static final int[] CACHED_TEXTURE_TARGETS = {GL_TEXTURE_2D, GL_TEXTURE_2D_ARRAY};
+    private static final int[] CACHED_BUFFER_TARGETS = {GL_ARRAY_BUFFER, GL_PIXEL_UNPACK_BUFFER, GL_UNIFORM_BUFFER};
+
+    private final int[][] textures = new int[CACHED_TEXTURE_UNITS][CACHED_TEXTURE_TARGETS.length];
+    private final int[] buffers = new int[CACHED_BUFFER_TARGETS.length];
+    private final int[] viewport = new int[4];
+
+    private int program;
+    private int vertexArray;
+    private int activeTextureUnit;
+    private int blendEnabled;
+    private int blendSource;
+    private int blendDestination;
+    private Boolean directStateAccess;
+
+    private long skippedCalls;
+    private long programSwitches;
+    private long textureBinds;
+    private long vertexArrayBinds;
+    private long bufferBinds;
+
+    private GLStateCache() {
+        invalidate();
+    }
+
+    /**
+     * Gets the state cache of the calling thread.
+     *
+     * @return The thread's state cache.
+     */
+    public static GLStateCache get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Forgets all shadowed state, so the next call of every kind reaches GL.
+     * Call this after making another context current or after GL was used behind the cache's back.
+     */
+    public void invalidate() {
+        for (int[] unit : textures) Arrays.fill(unit, UNKNOWN);
+        Arrays.fill(buffers, UNKNOWN);
+        Arrays.fill(viewport, UNKNOWN);
+
+        program = UNKNOWN;
+        vertexArray = UNKNOWN;
+        activeTextureUnit = UNKNOWN;
+        blendEnabled = UNKNOWN;
+        blendSource = UNKNOWN;
+        blendDestination = UNKNOWN;
+        directStateAccess = null;
+    }
+
+    /**
+     * Makes a shader program current.
+     *
+     * @param programId The program ID, or 0 to unbind.
+     */
+    public void useProgram(int programId) {
+        if (program == programId) {
+            skippedCalls++;
+            return;
+        }
+
+        glUseProgram(programId);
+        program = programId;
+        programSwitches++;
+    }
+
+    /**
+     * Binds a vertex array object.
+     *
+     * @param vertexArrayId The VAO ID, or 0 to unbind.
+     */
+    public void bindVertexArray(int vertexArrayId) {
+        if (vertexArray == vertexArrayId) {
+            skippedCalls++;
+            return;
+        }
+
+        glBindVertexArray(vertexArrayId);
+        vertexArray = vertexArrayId;
+        vertexArrayBinds++;
+    }
+
+    /**
+     * Binds a buffer object. Array, pixel unpack and uniform buffer bindings are cached,
+     * other targets (e.g. the element array, which belongs to the VAO) always reach GL.
+     *
+     * @param target   The buffer binding target.
+     * @param bufferId The buffer ID, or 0 to unbind.
+     */
+    public void bindBuffer(int target, int bufferId) {
+        int index = indexOf(CACHED_BUFFER_TARGETS, target);
+
+        if (index >= 0 && buffers[index] == bufferId) {
+            skippedCalls++;
+            return;
+        }
+
+        glBindBuffer(target, bufferId);
+        if (index >= 0) buffers[index] = bufferId;
+        bufferBinds++;
+    }
+
+    /**
+     * Binds a buffer to an indexed binding point, e.g. a uniform block binding.
+     * Always reaches GL, since indexed bindings aren't shadowed, but keeps the cached generic binding
+     * in step because {@code glBindBufferBase} also binds the buffer to the generic target.
+     *
+     * @param target   The indexed buffer target (e.g. {@code GL_UNIFORM_BUFFER}).
+     * @param index    The binding point index.
+     * @param bufferId The buffer ID.
+     */
+    public void bindBufferBase(int target, int index, int bufferId) {
+        int cachedIndex = indexOf(CACHED_BUFFER_TARGETS, target);
+
+        glBindBufferBase(target, index, bufferId);
+        if (cachedIndex >= 0) buffers[cachedIndex] = bufferId;
+        bufferBinds++;
+    }
+
+    /**
+     * Selects the active texture unit.
+     *
+     * @param unit The texture unit index (0 for {@code GL_TEXTURE0}).
+     */
+    public void activeTexture(int unit) {
+        if (activeTextureUnit == unit) {
+            skippedCalls++;
+            return;
+        }
+
+        glActiveTexture(GL_TEXTURE0 + unit);
+        activeTextureUnit = unit;
+    }
+
+    /**
+     * Binds a texture to the active texture unit.
+     *
+     * @param target    The texture target (e.g. {@code GL_TEXTURE_2D}).
+     * @param textureId The texture ID, or 0 to unbind.
+     */
+    public void bindTexture(int target, int textureId) {
+        if (activeTextureUnit == UNKNOWN) activeTexture(0);
+
+        bindTexture(activeTextureUnit, target, textureId);
+    }
+
+    /**
+     * Binds a texture to a texture unit, switching the active unit only if the binding changes.
+     *
+     * @param unit      The texture unit index (0 for {@code GL_TEXTURE0}).
+     * @param target    The texture target (e.g. {@code GL_TEXTURE_2D}).
+     * @param textureId The texture ID, or 0 to unbind.
+     */
+    public void bindTexture(int unit, int target, int textureId) {
+        int targetIndex = indexOf(CACHED_TEXTURE_TARGETS, target);
+        boolean cached = unit < CACHED_TEXTURE_UNITS && targetIndex >= 0;
+
+        if (cached && textures[unit][targetIndex] == textureId) {
+            skippedCalls++;
+            return;
+        }
+
+        activeTexture(unit);
+        glBindTexture(target, textureId);
+        if (cached) textures[unit][targetIndex] = textureId;
+        textureBinds++;
+    }
+
+    /**
+     * Enables or disables blending and sets the blend function.
+     *
+     * @param enabled     True to enable blending, false to disable it.
+     * @param source      The source factor (e.g. {@code GL_SRC_ALPHA}).
+     * @param destination The destination factor (e.g. {@code GL_ONE_MINUS_SRC_ALPHA}).
+     */
+    public void setBlend(boolean enabled, int source, int destination) {
+        int enabledState = enabled ? GL_TRUE : GL_FALSE;
+
+        if (blendEnabled == enabledState && (!enabled || (blendSource == source && blendDestination == destination))) {
+            skippedCalls++;
+            return;
+        }
+
+        if (blendEnabled != enabledState) {
+            if (enabled) glEnable(GL_BLEND);
+            else glDisable(GL_BLEND);
+
+            blendEnabled = enabledState;
+        }
+
+        if (enabled && (blendSource != source || blendDestination != destination)) {
+            glBlendFunc(source, destination);
+            blendSource = source;
+            blendDestination = destination;
+        }
+    }
+
+    /**
+     * Sets the viewport.
+     *
+     * @param x      The left edge in pixels.
+     * @param y      The bottom edge in pixels.
+     * @param width  The width in pixels.
+     * @param height The height in pixels.
+     */
+    public void setViewport(int x, int y, int width, int height) {
+        if (viewport[0] == x && viewport[1] == y && viewport[2] == width && viewport[3] == height) {
+            skippedCalls++;
+            return;
+        }
+
+        glViewport(x, y, width, height);
+        viewport[0] = x;
+        viewport[1] = y;
+        viewport[2] = width;
+        viewport[3] = height;
+    }
+
+    /**
+     * Deletes a texture and forgets any binding of it, since GL may hand out its name again.
+     *
+     * @param textureId The texture ID.
+     */
+    public void deleteTexture(int textureId) {
+        glDeleteTextures(textureId);
+
+        for (int[] unit : textures)
+            for (int i = 0; i < unit.length; i++)
+                if (unit[i] == textureId) unit[i] = 0;
+    }
+
+    /**
+     * Deletes a buffer and forgets any binding of it.
+     *
+     * @param bufferId The buffer ID.
+     */
+    public void deleteBuffer(int bufferId) {
+        glDeleteBuffers(bufferId);
+
+        for (int i = 0; i < buffers.length; i++)
+            if (buffers[i] == bufferId) buffers[i] = 0;
+    }
+
+    /**
+     * Deletes a vertex array and forgets its binding.
+     *
+     * @param vertexArrayId The VAO ID.
+     */
+    public void deleteVertexArray(int vertexArrayId) {
+        glDeleteVertexArrays(vertexArrayId);
+
+        if (vertexArray == vertexArrayId) vertexArray = 0;
+    }
+
+    /**
+     * Deletes a shader program and forgets its binding.
+     *
+     * @param programId The program ID.
+     */
+    public void deleteProgram(int programId) {
+        glDeleteProgram(programId);
+
+        // A current program is only flagged for deletion, it stays in use until replaced
+        if (program == programId) program = UNKNOWN;
+    }
+
+    /**
+     * Checks whether the current context supports Direct State Access (GL 4.5 or {@code ARB_direct_state_access}).
+     *
+     * @return True if DSA functions can be used, false otherwise.
+     */
+    public boolean isDirectStateAccessSupported() {
+        if (directStateAccess == null) {
+            GLCapabilities capabilities = GL.getCapabilities();
+
+            directStateAccess = capabilities.OpenGL45 || capabilities.GL_ARB_direct_state_access;
+        }
+
+        return directStateAccess;
+    }
+
+    /**
+     * Gets the number of calls skipped because the state was already set.
+     *
+     * @return The skipped call count since the last reset.
+     */
+    public long getSkippedCalls() {
+        return skippedCalls;
+    }
+
+    /**
+     * Gets the number of program switches that reached GL.
+     *
+     * @return The program switch count since the last reset.
+     */
+    public long getProgramSwitches() {
+        return programSwitches;
+    }
+
+    /**
+     * Gets the number of texture binds that reached GL.
+     *
+     * @return The texture bind count since the last reset.
+     */
+    public long getTextureBinds() {
+        return textureBinds;
+    }
+
+    /**
+     * Gets the number of vertex array binds that reached GL.
+     *
+     * @return The vertex array bind count since the last reset.
+     */
+    public long getVertexArrayBinds() {
+        return vertexArrayBinds;
+    }
+
+    /**
+     * Gets the number of buffer binds that reached GL.
+     *
+     * @return The buffer bind count since the last reset.
+     */
+    public long getBufferBinds() {
+        return bufferBinds;
+    }
+
+    /**
+     * Resets all call counters to zero.
+     */
+    public void resetCounters() {
+        skippedCalls = 0;
+        programSwitches = 0;
+        textureBinds = 0;
+        vertexArrayBinds = 0;
+        bufferBinds = 0;
+    }
+
+    private static int indexOf(int[] values, int value) {
+        for (int i = 0; i < values.length; i++)
+            if (values[i] == value) return i;
+
+        return -1;
+    }
+}
@@ -0,0 +1,446 @@
+package net.sparkzz.entropy.render;
+
+import net.sparkzz.entropy.render.orthographic.batch.BatchType;
+
+import java.util.Arrays;
+
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL33.GL_TIME_ELAPSED;
+import static org.lwjgl.opengl.GL33.glGetQueryObjecti64;
+
+/**
+ * Per-frame render statistics: draw calls, instances, texture binds, program switches and buffer bytes
+ * uploaded, both for the whole frame and for each {@link BatchType}, plus CPU timings for the phases of
+ * the frame and GPU timings for each batch type.
+ * <p>
+ * GPU timings come from {@code GL_TIME_ELAPSED} queries, triple-buffered across frames: a frame reads the
+ * queries issued three frames earlier, and only once the GPU reports them available, so reading never stalls.
+ * Queries still pending by then are replaced rather than reused, and that frame's timing is skipped.
+ * They therefore lag a few frames behind the other values.
+ * Counters are plain field increments and timings one {@link System#nanoTime()} per phase, cheap enough
+ * to leave on. Like {@link GLStateCache} the statistics are thread-confined: use {@link #get()} on the
+ * thread owning the context. Values read between frames describe the last completed frame.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class RenderStats {
+
+    /**
+     * The CPU-side phases of a frame that are timed.
+     */
+    public enum Phase {
+        /**
+         * Updating the game state.
+         */
+        UPDATE,
+
+        /**
+         * Rendering the frame, including submitting and flushing every batch.
+         */
+        RENDER,
+
+        /**
+         * Submitting items to batches, including culling.
+         */
+        SUBMIT,
+
+        /**
+         * Flushing batches, i.e. sorting, filling buffers and issuing draw calls.
+         */
+        FLUSH,
+
+        /**
+         * Swapping the window buffers, which includes waiting for v-sync.
+         */
+        SWAP
+    }
+
+    private static final ThreadLocal<RenderStats> CURRENT = ThreadLocal.withInitial(RenderStats::new);
+
+    private static final int QUERY_FRAMES = 3;
+    private static final int TYPES = BatchType.values().length;
+    private static final int PHASES = Phase.values().length;
+
+    private final Counters frame = new Counters();
+    private final Counters lastFrame = new Counters();
+    private final Counters[] batches = new Counters[TYPES];
+    private final Counters[] lastBatches = new Counters[TYPES];
+
+    private final long[] cpuTimes = new long[PHASES];
+    private final long[] lastCpuTimes = new long[PHASES];
+    private final long[] phaseStarts = new long[PHASES];
+    private final long[] gpuTimes = new long[TYPES];
+
+    // Query pools per frame slot and batch type, with the number used in that slot's frame
+    private final int[][][] queries = new int[QUERY_FRAMES][TYPES][0];
+    private final int[][] queryCounts = new int[QUERY_FRAMES][TYPES];
+
+    private boolean enabled = true;
+    private boolean gpuTiming = true;
+    private boolean inFrame;
+    private int slot;
+    private long frameCount;
+
+    private BatchType passType;
+    private boolean passQuery;
+    private long passTextureBinds, passProgramSwitches;
+    private long frameTextureBinds, frameProgramSwitches;
+
+    private RenderStats() {
+        for (int i = 0; i < TYPES; i++) {
+            batches[i] = new Counters();
+            lastBatches[i] = new Counters();
+        }
+    }
+
+    /**
+     * Gets the render statistics of the calling thread.
+     *
+     * @return The thread's render statistics.
+     */
+    public static RenderStats get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Starts a new frame, collecting the GPU timings that became available since.
+     */
+    public void beginFrame() {
+        if (!enabled) return;
+
+        collectGpuTimes(slot);
+
+        frame.reset();
+        for (Counters counters : batches) counters.reset();
+        Arrays.fill(cpuTimes, 0L);
+
+        GLStateCache state = GLStateCache.get();
+        frameTextureBinds = state.getTextureBinds();
+        frameProgramSwitches = state.getProgramSwitches();
+        inFrame = true;
+    }
+
+    /**
+     * Ends the current frame, publishing its values to the getters.
+     */
+    public void endFrame() {
+        if (!enabled) return;
+
+        GLStateCache state = GLStateCache.get();
+        frame.textureBinds += state.getTextureBinds() - frameTextureBinds;
+        frame.programSwitches += state.getProgramSwitches() - frameProgramSwitches;
+
+        lastFrame.set(frame);
+        for (int i = 0; i < TYPES; i++) lastBatches[i].set(batches[i]);
+        System.arraycopy(cpuTimes, 0, lastCpuTimes, 0, PHASES);
+
+        slot = (slot + 1) % QUERY_FRAMES;
+        frameCount++;
+        inFrame = false;
+    }
+
+    /**
+     * Starts timing a phase of the frame.
+     *
+     * @param phase The phase to time.
+     */
+    public void beginPhase(Phase phase) {
+        if (enabled) phaseStarts[phase.ordinal()] = System.nanoTime();
+    }
+
+    /**
+     * Stops timing a phase of the frame, adding the elapsed time to it.
+     *
+     * @param phase The phase being timed.
+     */
+    public void endPhase(Phase phase) {
+        if (enabled) cpuTimes[phase.ordinal()] += System.nanoTime() - phaseStarts[phase.ordinal()];
+    }
+
+    /**
+     * Starts a render pass for a batch type. Draws and uploads until {@link #endPass()} are attributed
+     * to the type, and the GPU time of the pass is measured if GPU timing is enabled.
+     * Passes can't be nested. Passes outside a frame are counted but not timed on the GPU.
+     *
+     * @param type The batch type being rendered.
+     */
+    public void beginPass(BatchType type) {
+        if (!enabled) return;
+        if (passType != null) throw new IllegalStateException("A render pass for " + passType + " is already active");
+
+        GLStateCache state = GLStateCache.get();
+
+        passType = type;
+        passTextureBinds = state.getTextureBinds();
+        passProgramSwitches = state.getProgramSwitches();
+        passQuery = gpuTiming && inFrame;
+
+        if (passQuery) glBeginQuery(GL_TIME_ELAPSED, nextQuery(type.ordinal()));
+    }
+
+    /**
+     * Ends the current render pass.
+     */
+    public void endPass() {
+        if (!enabled || passType == null) return;
+
+        GLStateCache state = GLStateCache.get();
+        Counters counters = batches[passType.ordinal()];
+
+        counters.textureBinds += state.getTextureBinds() - passTextureBinds;
+        counters.programSwitches += state.getProgramSwitches() - passProgramSwitches;
+
+        if (passQuery) glEndQuery(GL_TIME_ELAPSED);
+
+        passType = null;
+    }
+
+    /**
+     * Records a draw call.
+     *
+     * @param instances The number of instances (quads) drawn by the call.
+     */
+    public void recordDraw(int instances) {
+        if (!enabled) return;
+
+        frame.drawCalls++;
+        frame.instances += instances;
+
+        if (passType != null) {
+            Counters counters = batches[passType.ordinal()];
+
+            counters.drawCalls++;
+            counters.instances += instances;
+        }
+    }
+
+    /**
+     * Records bytes uploaded to a GPU buffer, or written to persistently mapped buffer memory.
+     *
+     * @param bytes The number of bytes uploaded.
+     */
+    public void recordUpload(long bytes) {
+        if (!enabled) return;
+
+        frame.bufferBytes += bytes;
+
+        if (passType != null) batches[passType.ordinal()].bufferBytes += bytes;
+    }
+
+    /**
+     * Gets the counters of the last completed frame.
+     *
+     * @return The frame counters, overwritten at the end of every frame.
+     */
+    public Counters getFrameCounters() {
+        return lastFrame;
+    }
+
+    /**
+     * Gets the counters of a batch type in the last completed frame.
+     *
+     * @param type The batch type.
+     * @return The batch type's counters, overwritten at the end of every frame.
+     */
+    public Counters getBatchCounters(BatchType type) {
+        return lastBatches[type.ordinal()];
+    }
+
+    /**
+     * Gets the CPU time spent in a phase during the last completed frame.
+     *
+     * @param phase The phase.
+     * @return The time in nanoseconds.
+     */
+    public long getCpuTimeNanos(Phase phase) {
+        return lastCpuTimes[phase.ordinal()];
+    }
+
+    /**
+     * Gets the most recently available GPU time of a batch type, summed over its passes in one frame.
+     *
+     * @param type The batch type.
+     * @return The time in nanoseconds, or zero if none is available yet.
+     */
+    public long getGpuTimeNanos(BatchType type) {
+        return gpuTimes[type.ordinal()];
+    }
+
+    /**
+     * Gets the number of frames completed.
+     *
+     * @return The frame count.
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Sets whether statistics are collected at all.
+     *
+     * @param enabled True to collect statistics, false to make every call a no-op.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checks if statistics are collected.
+     *
+     * @return True if statistics are collected, false otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether render passes are timed on the GPU with timer queries.
+     *
+     * @param gpuTiming True to issue timer queries, false otherwise.
+     */
+    public void setGpuTimingEnabled(boolean gpuTiming) {
+        this.gpuTiming = gpuTiming;
+    }
+
+    /**
+     * Checks if render passes are timed on the GPU.
+     *
+     * @return True if timer queries are issued, false otherwise.
+     */
+    public boolean isGpuTimingEnabled() {
+        return gpuTiming;
+    }
+
+    /**
+     * Deletes the timer queries. They are recreated if GPU timing is used again.
+     */
+    public void cleanup() {
+        for (int frameSlot = 0; frameSlot < QUERY_FRAMES; frameSlot++) {
+            for (int type = 0; type < TYPES; type++) {
+                if (queries[frameSlot][type].length > 0) glDeleteQueries(queries[frameSlot][type]);
+
+                queries[frameSlot][type] = new int[0];
+                queryCounts[frameSlot][type] = 0;
+            }
+        }
+    }
+
+    private int nextQuery(int type) {
+        int[] pool = queries[slot][type];
+        int used = queryCounts[slot][type];
+
+        if (used == pool.length) {
+            pool = Arrays.copyOf(pool, used + 1);
+            pool[used] = glGenQueries();
+            queries[slot][type] = pool;
+        }
+
+        queryCounts[slot][type] = used + 1;
+        return pool[used];
+    }
+
+    // Reads the queries of a slot if the GPU finished them, replacing them otherwise so none is reused while pending
+    private void collectGpuTimes(int frameSlot) {
+        for (int type = 0; type < TYPES; type++) {
+            int used = queryCounts[frameSlot][type];
+
+            if (used == 0) continue;
+
+            queryCounts[frameSlot][type] = 0;
+
+            int[] pool = queries[frameSlot][type];
+
+            // Queries complete in order, so the last one being available means they all are
+            if (glGetQueryObjecti(pool[used - 1], GL_QUERY_RESULT_AVAILABLE) == GL_FALSE) {
+                // Beginning a pending query again could wait for it, fresh ones are generated on demand
+                glDeleteQueries(pool);
+                queries[frameSlot][type] = new int[0];
+                continue;
+            }
+
+            long nanos = 0L;
+            for (int i = 0; i < used; i++) nanos += glGetQueryObjecti64(pool[i], GL_QUERY_RESULT);
+
+            gpuTimes[type] = nanos;
+        }
+    }
+
+    /**
+     * A set of render counters for a frame or a batch type within it.
+     */
+    public static final class Counters {
+
+        private long drawCalls;
+        private long instances;
+        private long textureBinds;
+        private long programSwitches;
+        private long bufferBytes;
+
+        private Counters() {}
+
+        /**
+         * Gets the number of draw calls.
+         *
+         * @return The draw call count.
+         */
+        public long getDrawCalls() {
+            return drawCalls;
+        }
+
+        /**
+         * Gets the number of instances (quads) drawn.
+         *
+         * @return The instance count.
+         */
+        public long getInstances() {
+            return instances;
+        }
+
+        /**
+         * Gets the number of texture binds that reached the driver.
+         *
+         * @return The texture bind count.
+         */
+        public long getTextureBinds() {
+            return textureBinds;
+        }
+
+        /**
+         * Gets the number of shader program switches that reached the driver.
+         *
+         * @return The program switch count.
+         */
+        public long getProgramSwitches() {
+            return programSwitches;
+        }
+
+        /**
+         * Gets the number of bytes uploaded to GPU buffers.
+         *
+         * @return The uploaded byte count.
+         */
+        public long getBufferBytes() {
+            return bufferBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "Counters{drawCalls=" + drawCalls + ", instances=" + instances + ", textureBinds=" + textureBinds
+                    + ", programSwitches=" + programSwitches + ", bufferBytes=" + bufferBytes + "}";
+        }
+
+        private void reset() {
+            drawCalls = instances = textureBinds = programSwitches = bufferBytes = 0L;
+        }
+
+        private void set(Counters other) {
+            drawCalls = other.drawCalls;
+            instances = other.instances;
+            textureBinds = other.textureBinds;
+            programSwitches = other.programSwitches;
+            bufferBytes = other.bufferBytes;
+        }
+    }
+}
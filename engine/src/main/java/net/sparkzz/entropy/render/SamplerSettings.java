@@ -0,0 +1,41 @@
+package net.sparkzz.entropy.render;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL12.GL_CLAMP_TO_EDGE;
+
+/**
+ * How a texture is sampled: its minification and magnification filters and its wrap modes.
+ * Textures loaded with different settings are distinct GL textures, so settings are part of the
+ * key {@link TextureManager} interns textures by.
+ *
+ * @param minFilter The minification filter (e.g. {@code GL_LINEAR_MIPMAP_LINEAR}).
+ * @param magFilter The magnification filter, {@code GL_LINEAR} or {@code GL_NEAREST}.
+ * @param wrapS     The wrap mode along the horizontal axis (e.g. {@code GL_CLAMP_TO_EDGE}).
+ * @param wrapT     The wrap mode along the vertical axis.
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public record SamplerSettings(int minFilter, int magFilter, int wrapS, int wrapT) {
+
+    /**
+     * Smooth, mipmapped sampling clamped to the edges, the default for textures.
+     */
+    public static final SamplerSettings DEFAULT = new SamplerSettings(
+            GL_LINEAR_MIPMAP_LINEAR, GL_LINEAR, GL_CLAMP_TO_EDGE, GL_CLAMP_TO_EDGE);
+
+    /**
+     * Nearest-neighbour sampling without mipmaps, keeping pixel art crisp.
+     */
+    public static final SamplerSettings PIXELATED = new SamplerSettings(
+            GL_NEAREST, GL_NEAREST, GL_CLAMP_TO_EDGE, GL_CLAMP_TO_EDGE);
+
+    /**
+     * Checks if the minification filter samples mipmaps, so the texture needs a mipmap chain.
+     *
+     * @return True if mipmaps are used, false otherwise.
+     */
+    public boolean usesMipmaps() {
+        return minFilter != GL_NEAREST && minFilter != GL_LINEAR;
+    }
+}
@@ -0,0 +1,271 @@
+package net.sparkzz.entropy.render;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.system.MemoryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL32.*;
+import static org.lwjgl.opengl.GL44.*;
+import static org.lwjgl.opengl.GL45.*;
+
+/**
+ * A ring buffer for streaming per-frame vertex data to the GPU.
+ * <p>
+ * On contexts with buffer storage (GL 4.4 or {@code ARB_buffer_storage}) the buffer is split into
+ * {@value #SEGMENT_COUNT} segments inside one persistently and coherently mapped buffer. Callers write
+ * straight into mapped memory, and a fence per segment keeps the CPU from overwriting data the GPU is
+ * still reading, so there is no per-frame reallocation and no implicit sync stall.
+ * <p>
+ * On older contexts it falls back to orphaning: the buffer is re-specified with {@code glBufferData(null)}
+ * whenever it fills up, and written ranges are uploaded from a CPU-side staging buffer.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class StreamingBuffer {
+
+    /**
+     * Number of segments in the ring (triple buffering).
+     */
+    public static final int SEGMENT_COUNT = 3;
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingBuffer.class);
+    private static final long FENCE_TIMEOUT_NANOS = 1_000_000L;
+
+    private final int target;
+    private final int id;
+    private final int segmentSize;
+    private final boolean persistent;
+    private final long[] fences = new long[SEGMENT_COUNT];
+    private final RenderStats stats = RenderStats.get();
+
+    // persistently mapped buffer, or CPU-side staging when orphaning
+    private ByteBuffer memory;
+    private int segment;
+    private int writeOffset;
+    private int mappedOffset;
+    private int mappedBytes;
+
+    /**
+     * Constructs a streaming buffer. Requires a current OpenGL context.
+     *
+     * @param target      The buffer binding target (e.g. {@code GL_ARRAY_BUFFER}).
+     * @param segmentSize The size of a single segment in bytes, i.e. the most that can be mapped at once.
+     */
+    public StreamingBuffer(int target, int segmentSize) {
+        if (segmentSize <= 0) throw new IllegalArgumentException("Segment size must be positive");
+
+        this.target = target;
+        this.segmentSize = segmentSize;
+        this.persistent = isBufferStorageSupported();
+        GLStateCache state = GLStateCache.get();
+
+        // DSA creates the storage without disturbing whatever is bound to the target
+        if (state.isDirectStateAccessSupported()) {
+            this.id = glCreateBuffers();
+
+            if (persistent) {
+                int flags = GL_MAP_WRITE_BIT | GL_MAP_PERSISTENT_BIT | GL_MAP_COHERENT_BIT;
+                long totalSize = (long) segmentSize * SEGMENT_COUNT;
+
+                glNamedBufferStorage(id, totalSize, flags);
+                memory = glMapNamedBufferRange(id, 0, totalSize, flags);
+            } else {
+                glNamedBufferData(id, segmentSize, GL_STREAM_DRAW);
+                memory = MemoryUtil.memAlloc(segmentSize);
+            }
+        } else {
+            this.id = glGenBuffers();
+
+            state.bindBuffer(target, id);
+
+            if (persistent) {
+                int flags = GL_MAP_WRITE_BIT | GL_MAP_PERSISTENT_BIT | GL_MAP_COHERENT_BIT;
+                long totalSize = (long) segmentSize * SEGMENT_COUNT;
+
+                glBufferStorage(target, totalSize, flags);
+                memory = glMapBufferRange(target, 0, totalSize, flags);
+            } else {
+                glBufferData(target, segmentSize, GL_STREAM_DRAW);
+                memory = MemoryUtil.memAlloc(segmentSize);
+            }
+
+            state.bindBuffer(target, 0);
+        }
+
+        if (memory == null) throw new RuntimeException("Could not map streaming buffer " + id);
+        if (!persistent) log.debug("Buffer storage unavailable, streaming buffer {} falls back to orphaning", id);
+    }
+
+    /**
+     * Checks whether the current context supports persistent buffer storage.
+     *
+     * @return True if {@code glBufferStorage} is available, false otherwise.
+     */
+    public static boolean isBufferStorageSupported() {
+        return GL.getCapabilities().glBufferStorage != MemoryUtil.NULL;
+    }
+
+    /**
+     * Reserves a range of the buffer for writing and returns it.
+     * Moves on to the next segment when the current one cannot fit the request,
+     * waiting on its fence if the GPU may still be reading it.
+     * The range is valid until {@link #commit()}.
+     *
+     * @param bytes The number of bytes to reserve.
+     * @return A native-order view of the reserved range, positioned at zero.
+     */
+    public ByteBuffer map(int bytes) {
+        if (bytes <= 0 || bytes > segmentSize)
+            throw new IllegalArgumentException("Cannot map " + bytes + " bytes from a " + segmentSize + " byte segment");
+
+        if (writeOffset + bytes > segmentSize) advance();
+
+        mappedOffset = writeOffset;
+        mappedBytes = bytes;
+        writeOffset += bytes;
+
+        int base = persistent ? segment * segmentSize : 0;
+
+        return memory.slice(base + mappedOffset, bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Reserves a range of the buffer for writing like {@link #map(int)}, but without ever waiting:
+     * if the request needs the next segment and the GPU may still be reading it, nothing is reserved.
+     *
+     * @param bytes The number of bytes to reserve.
+     * @return A native-order view of the reserved range, positioned at zero, or null if it would have to wait.
+     */
+    public ByteBuffer tryMap(int bytes) {
+        if (bytes <= 0 || bytes > segmentSize)
+            throw new IllegalArgumentException("Cannot map " + bytes + " bytes from a " + segmentSize + " byte segment");
+
+        if (persistent && writeOffset + bytes > segmentSize) {
+            long fence = fences[(segment + 1) % SEGMENT_COUNT];
+
+            // A zero timeout only polls the fence, flushing so it gets signalled eventually
+            if (fence != MemoryUtil.NULL
+                    && glClientWaitSync(fence, GL_SYNC_FLUSH_COMMANDS_BIT, 0L) == GL_TIMEOUT_EXPIRED) return null;
+        }
+
+        return map(bytes);
+    }
+
+    /**
+     * Publishes the range returned by the last {@link #map(int)} call to the GPU.
+     * A no-op for coherent persistent mappings, an upload from staging otherwise.
+     */
+    public void commit() {
+        if (mappedBytes == 0) return;
+
+        stats.recordUpload(mappedBytes);
+
+        if (!persistent) {
+            GLStateCache state = GLStateCache.get();
+
+            state.bindBuffer(target, id);
+            nglBufferSubData(target, mappedOffset, mappedBytes, MemoryUtil.memAddress(memory) + mappedOffset);
+            state.bindBuffer(target, 0);
+        }
+
+        mappedBytes = 0;
+    }
+
+    /**
+     * Gets the offset of the last mapped range from the start of the GL buffer,
+     * for use as a vertex attribute or draw offset.
+     *
+     * @return The buffer offset in bytes.
+     */
+    public long getMappedOffset() {
+        return (persistent ? (long) segment * segmentSize : 0L) + mappedOffset;
+    }
+
+    /**
+     * Gets the size of a single segment.
+     *
+     * @return The segment size in bytes.
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Checks if the buffer is persistently mapped rather than orphaned.
+     *
+     * @return True if persistent mapping is used, false otherwise.
+     */
+    public boolean isPersistent() {
+        return persistent;
+    }
+
+    /**
+     * Binds the buffer to its target. Does nothing if it is already bound.
+     */
+    public void bind() {
+        GLStateCache.get().bindBuffer(target, id);
+    }
+
+    /**
+     * Unbinds the buffer from its target.
+     */
+    public void unbind() {
+        GLStateCache.get().bindBuffer(target, 0);
+    }
+
+    /**
+     * Cleans up the buffer, its fences and any staging memory.
+     * Call this when the buffer is no longer needed.
+     */
+    public void cleanup() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            if (fences[i] != MemoryUtil.NULL) glDeleteSync(fences[i]);
+            fences[i] = MemoryUtil.NULL;
+        }
+
+        // Deleting a buffer also unmaps it
+        if (!persistent && memory != null) MemoryUtil.memFree(memory);
+
+        memory = null;
+        GLStateCache.get().deleteBuffer(id);
+    }
+
+    private void advance() {
+        writeOffset = 0;
+
+        if (!persistent) {
+            // Orphan the storage, the driver hands back a fresh block while the GPU finishes with the old one
+            GLStateCache state = GLStateCache.get();
+
+            state.bindBuffer(target, id);
+            glBufferData(target, segmentSize, GL_STREAM_DRAW);
+            state.bindBuffer(target, 0);
+            return;
+        }
+
+        // Fence the segment we're leaving, every draw sourcing it has already been issued
+        fences[segment] = glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        segment = (segment + 1) % SEGMENT_COUNT;
+
+        long fence = fences[segment];
+        if (fence == MemoryUtil.NULL) return;
+
+        int status;
+        do {
+            status = glClientWaitSync(fence, GL_SYNC_FLUSH_COMMANDS_BIT, FENCE_TIMEOUT_NANOS);
+        } while (status == GL_TIMEOUT_EXPIRED);
+
+        if (status == GL_WAIT_FAILED) log.warn("Waiting on streaming buffer {} segment {} failed", id, segment);
+
+        glDeleteSync(fence);
+        fences[segment] = MemoryUtil.NULL;
+    }
+}
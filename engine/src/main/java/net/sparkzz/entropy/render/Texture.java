@@ -9,8 +9,8 @@ import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 
 import static org.lwjgl.opengl.GL11.*;
-import static org.lwjgl.opengl.GL12.GL_CLAMP_TO_EDGE;
 import static org.lwjgl.opengl.GL30.glGenerateMipmap;
+import static org.lwjgl.opengl.GL45.*;
 
 /**
  * Represents a texture loaded from an image file.
@@ -27,6 +27,10 @@ public class Texture {
     private final int id;
     private final int width;
     private final int height;
+    private final SamplerSettings sampler;
+
+    private TextureRegion region;
+    private boolean bound;
 
     /**
      * Loads a texture from the specified file path.
@@ -34,6 +38,20 @@ public class Texture {
      * @param path The file path to the image.
      */
     public Texture(String path) {
+        this(path, SamplerSettings.DEFAULT);
+    }
+
+    /**
+     * Loads a texture from the specified file path, sampled with the specified settings.
+     *
+     * @param path    The file path to the image.
+     * @param sampler The sampler settings.
+     */
+    public Texture(String path, SamplerSettings sampler) {
+        if (sampler == null) throw new IllegalArgumentException("Sampler settings cannot be null");
+
+        this.sampler = sampler;
+
         logger.info("Loading texture from path: {}", path);
 
         try (MemoryStack stack = MemoryStack.stackPush()) {
@@ -52,40 +70,227 @@ public class Texture {
 
             this.width = width.get(0);
             this.height = height.get(0);
-            this.id = glGenTextures();
-
-            bind();
-            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, this.width, this.height, 0, GL_RGBA, GL_UNSIGNED_BYTE, data);
-            glGenerateMipmap(GL_TEXTURE_2D);
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR_MIPMAP_LINEAR);
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+            this.id = upload(this.width, this.height, data, sampler);
 
             STBImage.stbi_image_free(data);
-            unbind();
         }
     }
 
     /**
-     * Binds the texture for rendering.
+     * Creates a texture from raw pixel data.
+     *
+     * @param width  The width of the image in pixels.
+     * @param height The height of the image in pixels.
+     * @param pixels The RGBA pixel data, 4 bytes per pixel, bottom row first.
+     */
+    public Texture(int width, int height, ByteBuffer pixels) {
+        this(width, height, pixels, SamplerSettings.DEFAULT);
+    }
+
+    /**
+     * Creates a texture from raw pixel data, sampled with the specified settings.
+     *
+     * @param width   The width of the image in pixels.
+     * @param height  The height of the image in pixels.
+     * @param pixels  The RGBA pixel data, 4 bytes per pixel, bottom row first.
+     * @param sampler The sampler settings.
+     */
+    public Texture(int width, int height, ByteBuffer pixels, SamplerSettings sampler) {
+        if (sampler == null) throw new IllegalArgumentException("Sampler settings cannot be null");
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("Texture dimensions must be positive");
+        if (pixels == null || pixels.remaining() < width * height * 4)
+            throw new IllegalArgumentException("Pixel data does not cover a " + width + "x" + height + " RGBA image");
+
+        this.width = width;
+        this.height = height;
+        this.sampler = sampler;
+        this.id = upload(width, height, pixels, sampler);
+    }
+
+    /**
+     * Wraps an existing OpenGL texture, for subclasses that allocate their own storage.
+     *
+     * @param id     The OpenGL texture ID.
+     * @param width  The width of the texture in pixels.
+     * @param height The height of the texture in pixels.
+     */
+    protected Texture(int id, int width, int height) {
+        this(id, width, height, SamplerSettings.DEFAULT);
+    }
+
+    /**
+     * Wraps an existing OpenGL texture sampled with the specified settings, for subclasses that allocate
+     * their own storage and apply the settings themselves.
+     *
+     * @param id      The OpenGL texture ID.
+     * @param width   The width of the texture in pixels.
+     * @param height  The height of the texture in pixels.
+     * @param sampler The sampler settings.
+     */
+    protected Texture(int id, int width, int height, SamplerSettings sampler) {
+        if (sampler == null) throw new IllegalArgumentException("Sampler settings cannot be null");
+
+        this.id = id;
+        this.width = width;
+        this.height = height;
+        this.sampler = sampler;
+    }
+
+    private int upload(int width, int height, ByteBuffer pixels, SamplerSettings sampler) {
+        GLStateCache state = GLStateCache.get();
+        boolean mipmaps = sampler.usesMipmaps();
+
+        // DSA creates and fills the texture without touching the bindings of the current draw state
+        if (state.isDirectStateAccessSupported()) {
+            int textureId = glCreateTextures(GL_TEXTURE_2D);
+
+            glTextureStorage2D(textureId, mipmaps ? mipLevels(width, height) : 1, GL_RGBA8, width, height);
+            glTextureSubImage2D(textureId, 0, 0, 0, width, height, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+            if (mipmaps) glGenerateTextureMipmap(textureId);
+            glTextureParameteri(textureId, GL_TEXTURE_MIN_FILTER, sampler.minFilter());
+            glTextureParameteri(textureId, GL_TEXTURE_MAG_FILTER, sampler.magFilter());
+            glTextureParameteri(textureId, GL_TEXTURE_WRAP_S, sampler.wrapS());
+            glTextureParameteri(textureId, GL_TEXTURE_WRAP_T, sampler.wrapT());
+
+            return textureId;
+        }
+
+        int textureId = glGenTextures();
+
+        state.bindTexture(GL_TEXTURE_2D, textureId);
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, width, height, 0, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+        if (mipmaps) glGenerateMipmap(GL_TEXTURE_2D);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, sampler.minFilter());
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, sampler.magFilter());
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, sampler.wrapS());
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, sampler.wrapT());
+        state.bindTexture(GL_TEXTURE_2D, 0);
+
+        return textureId;
+    }
+
+    /**
+     * Gets the number of mipmap levels of a full chain for the given size.
+     *
+     * @param width  The width of the base level in pixels.
+     * @param height The height of the base level in pixels.
+     * @return The mipmap level count.
+     */
+    static int mipLevels(int width, int height) {
+        return 32 - Integer.numberOfLeadingZeros(Math.max(width, height));
+    }
+
+    /**
+     * Estimates the video memory used by RGBA8 storage of the given size.
+     *
+     * @param width   The width of the base level in pixels.
+     * @param height  The height of the base level in pixels.
+     * @param mipmaps True to include a full mipmap chain, false for the base level only.
+     * @return The estimated size in bytes.
+     */
+    static long estimateBytes(int width, int height, boolean mipmaps) {
+        long bytes = 0L;
+        int levels = mipmaps ? mipLevels(width, height) : 1;
+
+        for (int level = 0; level < levels; level++)
+            bytes += (long) Math.max(1, width >> level) * Math.max(1, height >> level) * 4L;
+
+        return bytes;
+    }
+
+    /**
+     * Binds the texture to the active texture unit for rendering.
+     * Does nothing if it is already bound there.
      */
     public void bind() {
-        glBindTexture(GL_TEXTURE_2D, id);
+        GLStateCache.get().bindTexture(getTarget(), id);
+        bound = true;
+    }
+
+    /**
+     * Binds the texture to the specified texture unit.
+     * Does nothing if it is already bound there.
+     *
+     * @param unit The texture unit index (0 for {@code GL_TEXTURE0}).
+     */
+    public void bind(int unit) {
+        GLStateCache.get().bindTexture(unit, getTarget(), id);
+        bound = true;
     }
 
     /**
      * Unbinds the texture.
      */
     public void unbind() {
-        glBindTexture(GL_TEXTURE_2D, 0);
+        GLStateCache.get().bindTexture(getTarget(), 0);
     }
 
     /**
      * Cleans up the texture resources.
      */
     public void cleanup() {
-        glDeleteTextures(id);
+        GLStateCache.get().deleteTexture(id);
+    }
+
+    /**
+     * Gets a region covering the whole texture.
+     *
+     * @return The full texture region.
+     */
+    public TextureRegion asRegion() {
+        if (region == null) region = new TextureRegion(this, 0f, 0f, 1f, 1f);
+
+        return region;
+    }
+
+    /**
+     * Gets the sampler settings of the texture.
+     *
+     * @return The sampler settings.
+     */
+    public SamplerSettings getSampler() {
+        return sampler;
+    }
+
+    /**
+     * Estimates the video memory used by the texture, including its mipmaps.
+     *
+     * @return The estimated size in bytes.
+     */
+    public long getEstimatedBytes() {
+        return estimateBytes(getWidth(), getHeight(), sampler.usesMipmaps());
+    }
+
+    /**
+     * Estimates the video memory the texture currently occupies, which is less than
+     * {@link #getEstimatedBytes()} while a streamed texture is evicted.
+     *
+     * @return The estimated resident size in bytes.
+     */
+    public long getResidentBytes() {
+        return getEstimatedBytes();
+    }
+
+    /**
+     * Checks if the texture was bound since the last call, and clears the flag.
+     * Lets the {@link TextureManager} track usage without bookkeeping in the batches.
+     *
+     * @return True if the texture was bound for rendering, false otherwise.
+     */
+    boolean consumeBound() {
+        boolean wasBound = bound;
+
+        bound = false;
+        return wasBound;
+    }
+
+    /**
+     * Gets the OpenGL binding target of the texture.
+     *
+     * @return The texture target, {@code GL_TEXTURE_2D} unless overridden.
+     */
+    public int getTarget() {
+        return GL_TEXTURE_2D;
     }
 
     /**
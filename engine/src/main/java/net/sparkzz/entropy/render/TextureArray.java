@@ -0,0 +1,224 @@
+package net.sparkzz.entropy.render;
+
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.system.MemoryStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL12.GL_CLAMP_TO_EDGE;
+import static org.lwjgl.opengl.GL12.glTexImage3D;
+import static org.lwjgl.opengl.GL12.glTexSubImage3D;
+import static org.lwjgl.opengl.GL30.GL_TEXTURE_2D_ARRAY;
+import static org.lwjgl.opengl.GL30.glGenerateMipmap;
+import static org.lwjgl.opengl.GL45.*;
+
+/**
+ * A {@code GL_TEXTURE_2D_ARRAY} holding same-sized images as layers.
+ * Suited to content that outgrows an atlas page, such as large tilesets or
+ * characters with many animation frames. All layers share a single bind.
+ * <p>
+ * Adding a layer only uploads its base level. The mip chain is regenerated once for the whole
+ * array by {@link #generateMipmaps()}, which binding calls automatically if layers were added since.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class TextureArray extends Texture {
+
+    private static final Logger logger = LoggerFactory.getLogger(TextureArray.class);
+
+    private final int capacity;
+    private int layerCount;
+    private boolean mipmapsDirty;
+
+    /**
+     * Creates an empty texture array.
+     *
+     * @param width    The width of every layer in pixels.
+     * @param height   The height of every layer in pixels.
+     * @param capacity The maximum number of layers.
+     */
+    public TextureArray(int width, int height, int capacity) {
+        super(allocate(width, height, capacity), width, height);
+
+        this.capacity = capacity;
+    }
+
+    private static int allocate(int width, int height, int capacity) {
+        if (width <= 0 || height <= 0 || capacity <= 0)
+            throw new IllegalArgumentException("Texture array dimensions and capacity must be positive");
+
+        GLStateCache state = GLStateCache.get();
+
+        if (state.isDirectStateAccessSupported()) {
+            int id = glCreateTextures(GL_TEXTURE_2D_ARRAY);
+
+            glTextureStorage3D(id, mipLevels(width, height), GL_RGBA8, width, height, capacity);
+            glTextureParameteri(id, GL_TEXTURE_MIN_FILTER, GL_LINEAR_MIPMAP_LINEAR);
+            glTextureParameteri(id, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+            glTextureParameteri(id, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+            glTextureParameteri(id, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+
+            return id;
+        }
+
+        int id = glGenTextures();
+
+        state.bindTexture(GL_TEXTURE_2D_ARRAY, id);
+        glTexImage3D(GL_TEXTURE_2D_ARRAY, 0, GL_RGBA8, width, height, capacity, 0, GL_RGBA, GL_UNSIGNED_BYTE, (ByteBuffer) null);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MIN_FILTER, GL_LINEAR_MIPMAP_LINEAR);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+        state.bindTexture(GL_TEXTURE_2D_ARRAY, 0);
+
+        return id;
+    }
+
+    /**
+     * Loads an image file into the next free layer.
+     *
+     * @param path The file path to the image, which must match the layer size.
+     * @return A region covering the new layer.
+     */
+    public TextureRegion addLayer(String path) {
+        logger.info("Loading texture array layer from path: {}", path);
+
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer width = stack.mallocInt(1);
+            IntBuffer height = stack.mallocInt(1);
+            IntBuffer components = stack.mallocInt(1);
+
+            // Flip Y axis to match OpenGL's coordinate system
+            STBImage.stbi_set_flip_vertically_on_load(true);
+
+            ByteBuffer data = STBImage.stbi_load(path, width, height, components, 4);
+
+            if (data == null)
+                throw new RuntimeException("Failed to load texture file: " + path
+                        + System.lineSeparator() + "Reason: " + STBImage.stbi_failure_reason());
+
+            try {
+                return addLayer(width.get(0), height.get(0), data);
+            } finally {
+                STBImage.stbi_image_free(data);
+            }
+        }
+    }
+
+    /**
+     * Uploads raw pixel data into the next free layer.
+     *
+     * @param width  The width of the image in pixels, which must match the layer width.
+     * @param height The height of the image in pixels, which must match the layer height.
+     * @param pixels The RGBA pixel data, 4 bytes per pixel, bottom row first.
+     * @return A region covering the new layer.
+     */
+    public TextureRegion addLayer(int width, int height, ByteBuffer pixels) {
+        if (width != getWidth() || height != getHeight())
+            throw new IllegalArgumentException("Layer is " + width + "x" + height
+                    + " but the texture array holds " + getWidth() + "x" + getHeight() + " images");
+        if (layerCount >= capacity) throw new IllegalStateException("Texture array is full (" + capacity + " layers)");
+
+        int layer = layerCount++;
+
+        GLStateCache state = GLStateCache.get();
+
+        if (state.isDirectStateAccessSupported()) {
+            glTextureSubImage3D(getId(), 0, 0, 0, layer, width, height, 1, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+        } else {
+            state.bindTexture(GL_TEXTURE_2D_ARRAY, getId());
+            glTexSubImage3D(GL_TEXTURE_2D_ARRAY, 0, 0, 0, layer, width, height, 1, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+            state.bindTexture(GL_TEXTURE_2D_ARRAY, 0);
+        }
+
+        mipmapsDirty = true;
+
+        return new TextureRegion(this, 0f, 0f, 1f, 1f, layer);
+    }
+
+    /**
+     * Regenerates the mip chain of every layer if layers were added since the last call.
+     * Call it after a loading burst to keep the cost out of the first frame that draws the array.
+     */
+    public void generateMipmaps() {
+        if (!mipmapsDirty) return;
+
+        GLStateCache state = GLStateCache.get();
+
+        if (state.isDirectStateAccessSupported()) {
+            glGenerateTextureMipmap(getId());
+        } else {
+            state.bindTexture(GL_TEXTURE_2D_ARRAY, getId());
+            glGenerateMipmap(GL_TEXTURE_2D_ARRAY);
+            state.bindTexture(GL_TEXTURE_2D_ARRAY, 0);
+        }
+
+        mipmapsDirty = false;
+    }
+
+    /**
+     * Binds the texture array to the active texture unit,
+     * generating its mipmaps first if layers were added since they were last generated.
+     */
+    @Override
+    public void bind() {
+        generateMipmaps();
+        super.bind();
+    }
+
+    /**
+     * Binds the texture array to the specified texture unit,
+     * generating its mipmaps first if layers were added since they were last generated.
+     *
+     * @param unit The texture unit index (0 for {@code GL_TEXTURE0}).
+     */
+    @Override
+    public void bind(int unit) {
+        generateMipmaps();
+        super.bind(unit);
+    }
+
+    /**
+     * Gets the OpenGL binding target of the texture.
+     *
+     * @return {@code GL_TEXTURE_2D_ARRAY}.
+     */
+    @Override
+    public int getTarget() {
+        return GL_TEXTURE_2D_ARRAY;
+    }
+
+    /**
+     * Gets the number of layers filled so far.
+     *
+     * @return The layer count.
+     */
+    public int getLayerCount() {
+        return layerCount;
+    }
+
+    /**
+     * Gets the maximum number of layers.
+     *
+     * @return The layer capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Estimates the video memory used by the texture array, storage for every layer included.
+     *
+     * @return The estimated size in bytes.
+     */
+    @Override
+    public long getEstimatedBytes() {
+        return super.getEstimatedBytes() * capacity;
+    }
+}
@@ -0,0 +1,28 @@
+package net.sparkzz.entropy.render;
+
+/**
+ * Enum representing how an instanced batch binds textures, and therefore
+ * when it has to split a batch into another draw call.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public enum TextureBindingMode {
+    /**
+     * One texture per draw call, the batch splits whenever the texture changes.
+     */
+    SINGLE,
+
+    /**
+     * Textures are layers of a {@link TextureArray}, each instance carries its layer index.
+     * The batch only splits when the array changes.
+     */
+    ARRAY,
+
+    /**
+     * Up to one texture per texture image unit is bound at once, each instance carries its sampler slot.
+     * The batch only splits when it runs out of slots.
+     */
+    MULTI_UNIT
+}
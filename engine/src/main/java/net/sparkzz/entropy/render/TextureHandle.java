@@ -0,0 +1,61 @@
+package net.sparkzz.entropy.render;
+
+/**
+ * One reference to a texture interned by the {@link TextureManager}.
+ * Releasing the handle drops its reference, and the texture is deleted once no handle references it.
+ * Each handle is released at most once, releasing it again does nothing.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class TextureHandle implements AutoCloseable {
+
+    private final TextureManager manager;
+    private final TextureManager.Entry entry;
+
+    private boolean released;
+
+    TextureHandle(TextureManager manager, TextureManager.Entry entry) {
+        this.manager = manager;
+        this.entry = entry;
+    }
+
+    /**
+     * Gets the referenced texture.
+     *
+     * @return The texture.
+     */
+    public Texture getTexture() {
+        if (released) throw new IllegalStateException("Texture handle was already released");
+
+        return entry.texture();
+    }
+
+    /**
+     * Checks if the handle was released.
+     *
+     * @return True if the handle no longer references its texture, false otherwise.
+     */
+    public boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Releases the handle's reference to the texture.
+     */
+    public void release() {
+        if (released) return;
+
+        released = true;
+        manager.release(entry);
+    }
+
+    /**
+     * Releases the handle, so it can be used in try-with-resources.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+}
@@ -0,0 +1,617 @@
+package net.sparkzz.entropy.render;
+
+import net.sparkzz.entropy.io.pack.AssetPack;
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL12.GL_CLAMP_TO_EDGE;
+import static org.lwjgl.opengl.GL12.GL_TEXTURE_MAX_LEVEL;
+import static org.lwjgl.opengl.GL21.GL_PIXEL_UNPACK_BUFFER;
+import static org.lwjgl.opengl.GL30.*;
+
+/**
+ * Loads textures without stalling the render thread.
+ * <p>
+ * {@link #load(String)} returns an {@link AsyncTexture} showing a placeholder right away. The file, or the
+ * image in an {@link AssetPack}, is read and decoded on a virtual thread, and the pixels are then uploaded
+ * by {@link #update()} through a {@link StreamingBuffer} of pixel unpack buffers, a few rows at a time. Each update spends at most the
+ * {@link #setUploadBudgetNanos(long) upload budget} on uploads, and stops early rather than wait for the GPU
+ * to release a pixel buffer, so a level's worth of art is spread over several frames instead of freezing one.
+ * The rows go into a staging texture that is copied into the texture on the GPU once complete, so the texture
+ * keeps showing what it held before, the placeholder or an evicted image, until the whole image is in.
+ * The engine updates the loader once per frame.
+ * Loaded textures can be {@link #shrink(AsyncTexture, int) shrunk} or {@link #unload(AsyncTexture) unloaded}
+ * to free video memory, and {@link #reload(AsyncTexture) reloaded} the same way they were loaded.
+ * Like {@link GLStateCache} the loader is thread-confined: use {@link #get()} on the thread owning the context.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class TextureLoader {
+
+    /**
+     * Default size of a pixel unpack buffer segment, the most uploaded by a single copy.
+     */
+    public static final int DEFAULT_SEGMENT_BYTES = 4 << 20;
+
+    /**
+     * Default time an update may spend uploading.
+     */
+    public static final long DEFAULT_UPLOAD_BUDGET_NANOS = 2_000_000L;
+
+    /**
+     * Color of the placeholder shown until a texture is uploaded, as RGBA.
+     */
+    public static final int PLACEHOLDER_COLOR = 0xFF00FFFF;
+
+    private static final Logger log = LoggerFactory.getLogger(TextureLoader.class);
+
+    private static final ThreadLocal<TextureLoader> CURRENT = ThreadLocal.withInitial(TextureLoader::new);
+
+    private final Queue<Decoded> decoded = new ConcurrentLinkedQueue<>();
+
+    private ExecutorService decoders;
+    private StreamingBuffer pixelBuffer;
+    // reads the finished staging texture when copying it into the texture
+    private int copyFramebuffer;
+    private Upload upload;
+    private long uploadBudgetNanos = DEFAULT_UPLOAD_BUDGET_NANOS;
+    private int pending;
+
+    private TextureLoader() {}
+
+    /**
+     * Gets the texture loader of the calling thread.
+     *
+     * @return The thread's texture loader.
+     */
+    public static TextureLoader get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Starts loading a texture from an image file.
+     *
+     * @param path The file path to the image.
+     * @return The texture, showing a placeholder until the image is uploaded.
+     */
+    public AsyncTexture load(String path) {
+        return load(path, SamplerSettings.DEFAULT);
+    }
+
+    /**
+     * Starts loading a texture from an image file, sampled with the specified settings once it's uploaded.
+     *
+     * @param path    The file path to the image.
+     * @param sampler The sampler settings.
+     * @return The texture, showing a placeholder until the image is uploaded.
+     */
+    public AsyncTexture load(String path, SamplerSettings sampler) {
+        if (path == null) throw new IllegalArgumentException("Texture path cannot be null");
+        if (sampler == null) throw new IllegalArgumentException("Sampler settings cannot be null");
+
+        AsyncTexture texture = new AsyncTexture(createPlaceholder(), null, path, sampler);
+
+        stream(texture);
+        return texture;
+    }
+
+    /**
+     * Starts loading a texture from an image in an asset pack, sampled with the specified settings once it's
+     * uploaded. Stored images are decoded straight from the pack's mapping.
+     *
+     * @param pack    The asset pack holding the image.
+     * @param path    The path of the image within the pack.
+     * @param sampler The sampler settings.
+     * @return The texture, showing a placeholder until the image is uploaded.
+     */
+    public AsyncTexture load(AssetPack pack, String path, SamplerSettings sampler) {
+        if (pack == null) throw new IllegalArgumentException("Asset pack cannot be null");
+        if (path == null) throw new IllegalArgumentException("Texture path cannot be null");
+        if (sampler == null) throw new IllegalArgumentException("Sampler settings cannot be null");
+
+        AsyncTexture texture = new AsyncTexture(createPlaceholder(), pack, path, sampler);
+
+        stream(texture);
+        return texture;
+    }
+
+    /**
+     * Streams the image of an evicted texture back in, replacing what it currently holds once uploaded.
+     * Does nothing if the texture is still loading.
+     *
+     * @param texture The texture to reload.
+     */
+    public void reload(AsyncTexture texture) {
+        if (texture.isLoading() || texture.isDeleted()) return;
+
+        stream(texture);
+    }
+
+    /**
+     * Uploads decoded images until they are all uploaded, the upload budget is spent or the pixel buffers
+     * are all still in use by the GPU, and completes the futures of the textures that finished.
+     * Unless the GPU holds every pixel buffer, at least one chunk is uploaded per call, so large images
+     * always make progress.
+     */
+    public void update() {
+        if (pending == 0) return;
+
+        long start = System.nanoTime();
+        boolean uploaded = false;
+
+        try {
+            while (true) {
+                if (upload != null && upload.texture.isDeleted()) {
+                    upload.free();
+                    upload = null;
+                    pending--;
+                }
+
+                if (upload == null && !beginNext()) break;
+                if (uploaded && System.nanoTime() - start >= uploadBudgetNanos) break;
+
+                if (!uploadChunk(upload)) break;
+
+                uploaded = true;
+
+                if (upload.nextRow == upload.image.height()) finish();
+            }
+        } finally {
+            if (pixelBuffer != null) pixelBuffer.unbind();
+        }
+    }
+
+    /**
+     * Shrinks a loaded texture to the largest of its mipmaps that fits within a size, freeing the levels above.
+     * The mipmap is read back from the GPU, so this waits for pending rendering into the texture.
+     * Textures sampled without mipmaps are left alone.
+     *
+     * @param texture The texture to shrink.
+     * @param maxSize The largest width and height to keep, in pixels.
+     * @return The estimated number of bytes freed.
+     */
+    public long shrink(AsyncTexture texture, int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("Low resolution size must be positive");
+        if (texture.isLoading() || texture.isDeleted() || !texture.getSampler().usesMipmaps()) return 0L;
+
+        int residentWidth = texture.getResidentWidth(), residentHeight = texture.getResidentHeight();
+        int level = lowResLevel(residentWidth, residentHeight, maxSize);
+
+        if (level == 0) return 0L;
+
+        int width = Math.max(1, residentWidth >> level), height = Math.max(1, residentHeight >> level);
+        long before = texture.getResidentBytes();
+        ByteBuffer pixels = MemoryUtil.memAlloc(width * height * 4);
+
+        try {
+            // The level is re-specified from client memory, not from whatever unpack buffer is bound
+            if (pixelBuffer != null) pixelBuffer.unbind();
+
+            GLStateCache.get().bindTexture(GL_TEXTURE_2D, texture.getId());
+            glGetTexImage(GL_TEXTURE_2D, level, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, width, height, 0, GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+            glGenerateMipmap(GL_TEXTURE_2D);
+            releaseLevels(Texture.mipLevels(width, height), Texture.mipLevels(residentWidth, residentHeight));
+        } finally {
+            MemoryUtil.memFree(pixels);
+        }
+
+        texture.setResident(width, height);
+        return before - texture.getResidentBytes();
+    }
+
+    /**
+     * Replaces the image of a loaded texture with the placeholder, freeing all of its levels.
+     *
+     * @param texture The texture to unload.
+     * @return The estimated number of bytes freed.
+     */
+    public long unload(AsyncTexture texture) {
+        if (texture.isLoading() || texture.isDeleted()) return 0L;
+
+        int residentWidth = texture.getResidentWidth(), residentHeight = texture.getResidentHeight();
+
+        if (residentWidth == 1 && residentHeight == 1) return 0L;
+
+        long before = texture.getResidentBytes();
+
+        if (pixelBuffer != null) pixelBuffer.unbind();
+
+        GLStateCache.get().bindTexture(GL_TEXTURE_2D, texture.getId());
+
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            ByteBuffer pixel = stack.malloc(4).putInt(0, Integer.reverseBytes(PLACEHOLDER_COLOR));
+
+            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, 1, 1, 0, GL_RGBA, GL_UNSIGNED_BYTE, pixel);
+        }
+
+        releaseLevels(1, Texture.mipLevels(residentWidth, residentHeight));
+
+        texture.setResident(1, 1);
+        return before - texture.getResidentBytes();
+    }
+
+    /**
+     * Gets the number of textures that are still loading.
+     *
+     * @return The pending texture count.
+     */
+    public int getPendingCount() {
+        return pending;
+    }
+
+    /**
+     * Sets the time an update may spend uploading.
+     *
+     * @param uploadBudgetNanos The upload budget in nanoseconds.
+     */
+    public void setUploadBudgetNanos(long uploadBudgetNanos) {
+        if (uploadBudgetNanos <= 0L) throw new IllegalArgumentException("Upload budget must be positive");
+
+        this.uploadBudgetNanos = uploadBudgetNanos;
+    }
+
+    /**
+     * Gets the time an update may spend uploading.
+     *
+     * @return The upload budget in nanoseconds.
+     */
+    public long getUploadBudgetNanos() {
+        return uploadBudgetNanos;
+    }
+
+    /**
+     * Stops the decoders and frees the images and buffers of textures that are still loading.
+     * Their textures keep showing the placeholder.
+     */
+    public void cleanup() {
+        if (decoders != null) {
+            decoders.shutdownNow();
+            decoders.close();
+            decoders = null;
+        }
+
+        if (upload != null) {
+            upload.free();
+            upload = null;
+        }
+
+        if (copyFramebuffer != 0) {
+            glDeleteFramebuffers(copyFramebuffer);
+            copyFramebuffer = 0;
+        }
+
+        for (Decoded next; (next = decoded.poll()) != null; ) {
+            if (next.image() != null) next.image().free();
+        }
+
+        if (pixelBuffer != null) {
+            pixelBuffer.cleanup();
+            pixelBuffer = null;
+        }
+
+        pending = 0;
+    }
+
+    private void stream(AsyncTexture texture) {
+        if (decoders == null) decoders = Executors.newVirtualThreadPerTaskExecutor();
+
+        texture.setLoading(true);
+        pending++;
+        decoders.execute(() -> {
+            try {
+                Image image = texture.getPack() != null ? read(texture.getPack(), texture.getPath())
+                        : read(Path.of(texture.getPath()));
+
+                decoded.add(new Decoded(texture, image, null));
+            } catch (Throwable throwable) {
+                decoded.add(new Decoded(texture, null, throwable));
+            }
+        });
+    }
+
+    // Frees mipmap levels of mutable storage left over from a larger image
+    private static void releaseLevels(int from, int to) {
+        for (int level = from; level < to; level++)
+            glTexImage2D(GL_TEXTURE_2D, level, GL_RGBA8, 0, 0, 0, GL_RGBA, GL_UNSIGNED_BYTE, (ByteBuffer) null);
+    }
+
+    private static int createPlaceholder() {
+        GLStateCache state = GLStateCache.get();
+        int textureId = glGenTextures();
+
+        // Mutable storage, so the image can replace the placeholder under the same ID
+        state.bindTexture(GL_TEXTURE_2D, textureId);
+
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            ByteBuffer pixel = stack.malloc(4).putInt(0, Integer.reverseBytes(PLACEHOLDER_COLOR));
+
+            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, 1, 1, 0, GL_RGBA, GL_UNSIGNED_BYTE, pixel);
+        }
+
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+        state.bindTexture(GL_TEXTURE_2D, 0);
+
+        return textureId;
+    }
+
+    // Takes the next decoded image and allocates its staging texture, returning false if none is ready
+    private boolean beginNext() {
+        for (Decoded next; (next = decoded.poll()) != null; ) {
+            if (next.texture().isDeleted()) {
+                if (next.image() != null) next.image().free();
+                pending--;
+                continue;
+            }
+
+            if (next.failure() != null) {
+                pending--;
+                next.texture().setLoading(false);
+                log.error("Failed to load texture {}", next.texture().getPath(), next.failure());
+                next.texture().getFuture().completeExceptionally(next.failure());
+                continue;
+            }
+
+            Image image = next.image();
+            GLStateCache state = GLStateCache.get();
+
+            // The storage is allocated from client memory, not from whatever unpack buffer is bound
+            if (pixelBuffer != null) pixelBuffer.unbind();
+
+            // The texture keeps its current image until the staging texture is copied into it
+            int stagingId = glGenTextures();
+
+            state.bindTexture(GL_TEXTURE_2D, stagingId);
+            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, image.width(), image.height(), 0, GL_RGBA, GL_UNSIGNED_BYTE,
+                    (ByteBuffer) null);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_NEAREST);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAX_LEVEL, 0);
+
+            upload = new Upload(next.texture(), image, stagingId);
+            return true;
+        }
+
+        return false;
+    }
+
+    // Uploads the next rows into the staging texture, returning false if the pixel buffer is still busy
+    private boolean uploadChunk(Upload upload) {
+        Image image = upload.image;
+        int rowBytes = image.width() * 4;
+        int rows = rowsPerChunk(rowBytes, DEFAULT_SEGMENT_BYTES, image.height() - upload.nextRow);
+
+        if (rows == 0) {
+            // Rows wider than a segment can't be staged, upload the whole image from client memory
+            if (pixelBuffer != null) pixelBuffer.unbind();
+
+            GLStateCache.get().bindTexture(GL_TEXTURE_2D, upload.stagingId);
+
+            ByteBuffer flipped = MemoryUtil.memAlloc(rowBytes * image.height());
+
+            copyRows(image, 0, image.height(), flipped);
+            glTexSubImage2D(GL_TEXTURE_2D, 0, 0, 0, image.width(), image.height(), GL_RGBA, GL_UNSIGNED_BYTE, flipped);
+            MemoryUtil.memFree(flipped);
+
+            upload.nextRow = image.height();
+            return true;
+        }
+
+        if (pixelBuffer == null) pixelBuffer = new StreamingBuffer(GL_PIXEL_UNPACK_BUFFER, DEFAULT_SEGMENT_BYTES);
+
+        // Waiting for the GPU to release a segment could take longer than the whole budget
+        ByteBuffer staging = pixelBuffer.tryMap(rows * rowBytes);
+
+        if (staging == null) return false;
+
+        copyRows(image, upload.nextRow, rows, staging);
+        pixelBuffer.commit();
+        pixelBuffer.bind();
+
+        GLStateCache.get().bindTexture(GL_TEXTURE_2D, upload.stagingId);
+
+        glTexSubImage2D(GL_TEXTURE_2D, 0, 0, upload.nextRow, image.width(), rows, GL_RGBA, GL_UNSIGNED_BYTE,
+                pixelBuffer.getMappedOffset());
+
+        upload.nextRow += rows;
+        return true;
+    }
+
+    private void finish() {
+        AsyncTexture texture = upload.texture;
+        SamplerSettings sampler = texture.getSampler();
+        int width = upload.image.width(), height = upload.image.height();
+        int levels = sampler.usesMipmaps() ? Texture.mipLevels(width, height) : 1;
+
+        if (copyFramebuffer == 0) copyFramebuffer = glGenFramebuffers();
+
+        // Replaces the texture's image in one GPU-side copy, the rows are all in the staging texture by now
+        glBindFramebuffer(GL_READ_FRAMEBUFFER, copyFramebuffer);
+        glFramebufferTexture2D(GL_READ_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_TEXTURE_2D, upload.stagingId, 0);
+        GLStateCache.get().bindTexture(GL_TEXTURE_2D, texture.getId());
+        glCopyTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, 0, 0, width, height, 0);
+        glFramebufferTexture2D(GL_READ_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_TEXTURE_2D, 0, 0);
+        glBindFramebuffer(GL_READ_FRAMEBUFFER, 0);
+
+        if (sampler.usesMipmaps()) glGenerateMipmap(GL_TEXTURE_2D);
+
+        // Levels of a larger image from before a reload
+        releaseLevels(levels, Texture.mipLevels(texture.getWidth(), texture.getHeight()));
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, sampler.minFilter());
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, sampler.magFilter());
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, sampler.wrapS());
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, sampler.wrapT());
+
+        texture.resize(width, height);
+        texture.setLoading(false);
+        upload.free();
+        upload = null;
+        pending--;
+
+        // Already complete when an evicted texture was reloaded
+        texture.getFuture().complete(texture);
+    }
+
+    /**
+     * Copies rows of a top-down image into a buffer bottom row first, as GL expects them.
+     *
+     * @param image       The decoded image.
+     * @param firstGLRow  The first GL row to copy, counted from the bottom.
+     * @param rows        The number of rows to copy.
+     * @param destination The buffer to copy into, from position zero.
+     */
+    static void copyRows(Image image, int firstGLRow, int rows, ByteBuffer destination) {
+        int rowBytes = image.width() * 4;
+        long source = MemoryUtil.memAddress(image.pixels()), target = MemoryUtil.memAddress(destination);
+
+        for (int row = 0; row < rows; row++) {
+            int imageRow = image.height() - 1 - (firstGLRow + row);
+
+            MemoryUtil.memCopy(source + (long) imageRow * rowBytes, target + (long) row * rowBytes, rowBytes);
+        }
+    }
+
+    /**
+     * Gets the number of rows uploaded in one chunk.
+     *
+     * @param rowBytes     The size of a row in bytes.
+     * @param segmentBytes The size of a pixel buffer segment in bytes.
+     * @param remaining    The number of rows left to upload.
+     * @return The row count, or 0 if a single row doesn't fit a segment.
+     */
+    static int rowsPerChunk(int rowBytes, int segmentBytes, int remaining) {
+        return Math.min(segmentBytes / rowBytes, remaining);
+    }
+
+    /**
+     * Gets the first mipmap level of an image that fits within a size.
+     *
+     * @param width   The width of the base level in pixels.
+     * @param height  The height of the base level in pixels.
+     * @param maxSize The largest width and height allowed, in pixels.
+     * @return The mipmap level, 0 if the base level fits already.
+     */
+    static int lowResLevel(int width, int height, int maxSize) {
+        int level = 0;
+
+        while (Math.max(width >> level, height >> level) > maxSize) level++;
+
+        return level;
+    }
+
+    /**
+     * Reads and decodes an image file into RGBA pixels.
+     *
+     * @param path The file path to the image.
+     * @return The decoded image.
+     * @throws IOException If the file cannot be read or decoded.
+     */
+    static Image read(Path path) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer encoded = MemoryUtil.memAlloc(bytes.length).put(bytes).flip();
+
+        try {
+            return decode(encoded);
+        } catch (IOException exception) {
+            throw new IOException("Failed to decode texture file: " + path + " (" + exception.getMessage() + ")");
+        } finally {
+            MemoryUtil.memFree(encoded);
+        }
+    }
+
+    /**
+     * Decodes an image from an asset pack into RGBA pixels, without copying it out of the pack.
+     *
+     * @param pack The asset pack.
+     * @param path The path of the image within the pack.
+     * @return The decoded image.
+     * @throws IOException If the image isn't in the pack or cannot be decoded.
+     */
+    static Image read(AssetPack pack, String path) throws IOException {
+        try {
+            return decode(pack.get(path));
+        } catch (IOException exception) {
+            throw new IOException("Failed to decode texture " + path + " from " + pack.getFile()
+                    + " (" + exception.getMessage() + ")");
+        }
+    }
+
+    /**
+     * Decodes an encoded image (e.g. a PNG) into RGBA pixels, top row first.
+     * Unlike {@code new Texture(path)} it doesn't flip on load, rows are flipped while they are copied
+     * for upload instead. The flip is turned off for the decoding thread only, leaving the global setting alone.
+     *
+     * @param encoded The encoded image.
+     * @return The decoded image, to be {@link Image#free() freed}.
+     * @throws IOException If the image cannot be decoded.
+     */
+    static Image decode(ByteBuffer encoded) throws IOException {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer width = stack.mallocInt(1), height = stack.mallocInt(1), components = stack.mallocInt(1);
+            STBImage.stbi_set_flip_vertically_on_load_thread(0);
+
+            ByteBuffer pixels = STBImage.stbi_load_from_memory(encoded, width, height, components, 4);
+
+            if (pixels == null) throw new IOException(STBImage.stbi_failure_reason());
+
+            return new Image(width.get(0), height.get(0), pixels);
+        }
+    }
+
+    /**
+     * A decoded image.
+     *
+     * @param width  The width in pixels.
+     * @param height The height in pixels.
+     * @param pixels The RGBA pixels, top row first, allocated by stb.
+     */
+    record Image(int width, int height, ByteBuffer pixels) {
+
+        /**
+         * Frees the pixels.
+         */
+        void free() {
+            STBImage.stbi_image_free(pixels);
+        }
+    }
+
+    private record Decoded(AsyncTexture texture, Image image, Throwable failure) {}
+
+    // The image being uploaded, the texture staging it and the next GL row, counted from the bottom
+    private static final class Upload {
+
+        private final AsyncTexture texture;
+        private final Image image;
+        private final int stagingId;
+        private int nextRow;
+
+        private Upload(AsyncTexture texture, Image image, int stagingId) {
+            this.texture = texture;
+            this.image = image;
+            this.stagingId = stagingId;
+        }
+
+        private void free() {
+            image.free();
+            GLStateCache.get().deleteTexture(stagingId);
+        }
+    }
+}
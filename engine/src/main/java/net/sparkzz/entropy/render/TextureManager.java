@@ -0,0 +1,350 @@
+package net.sparkzz.entropy.render;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Interns textures loaded from files, so each image is decoded and uploaded once however many
+ * sprites use it.
+ * <p>
+ * Textures are keyed by the canonical path of the file and their {@link SamplerSettings}.
+ * {@link #acquire(String)} hands out a new {@link TextureHandle} for every call, each holding one
+ * reference, and the GL texture is deleted when the last handle is released. Textures obtained
+ * through the manager must be released through their handles, never cleaned up directly.
+ * <p>
+ * Images are loaded in the background by the {@link TextureLoader}, while KTX2 and DDS containers are loaded
+ * as {@link CompressedTexture compressed textures} right away. Images can be kept within a
+ * {@link #setBudgetBytes(long) video memory budget}. The manager notes the frame each texture was last bound
+ * in, and when the textures exceed the budget it evicts the least recently used ones: first down to a
+ * {@link #setLowResSize(int) low-resolution mipmap}, then, if that isn't enough, down to the placeholder.
+ * Textures bound in the current frame are never evicted. An evicted texture keeps its ID and size and is
+ * streamed back in once it's bound again, which counts as a miss; binding a resident texture counts as a hit.
+ * The engine {@link #update() updates} the manager at the end of every frame.
+ * Like {@link GLStateCache} the manager is thread-confined: use {@link #get()} on the thread owning the context.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class TextureManager {
+
+    /**
+     * Default largest width and height kept by textures evicted to a low-resolution mipmap.
+     */
+    public static final int DEFAULT_LOW_RES_SIZE = 64;
+
+    private static final Logger log = LoggerFactory.getLogger(TextureManager.class);
+
+    private static final ThreadLocal<TextureManager> CURRENT = ThreadLocal.withInitial(
+            () -> new TextureManager(TextureManager::load, TextureLoader.get()));
+
+    private final BiFunction<String, SamplerSettings, Texture> loader;
+    private final TextureLoader streamer;
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private final List<Entry> candidates = new ArrayList<>();
+
+    private long budgetBytes = Long.MAX_VALUE;
+    private int lowResSize = DEFAULT_LOW_RES_SIZE;
+    private long frame, hits, misses, evictions;
+
+    /**
+     * Constructs a texture manager loading textures with the specified function.
+     *
+     * @param loader   Loads a texture from a canonical path with sampler settings.
+     * @param streamer Evicts and reloads the {@link AsyncTexture async textures} returned by the loader.
+     */
+    TextureManager(BiFunction<String, SamplerSettings, Texture> loader, TextureLoader streamer) {
+        this.loader = loader;
+        this.streamer = streamer;
+    }
+
+    /**
+     * Gets the texture manager of the calling thread.
+     *
+     * @return The thread's texture manager.
+     */
+    public static TextureManager get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Acquires a reference to the texture of an image file with the default sampler settings,
+     * loading it if it isn't loaded yet.
+     *
+     * @param path The file path to the image.
+     * @return A handle holding one reference to the texture.
+     */
+    public TextureHandle acquire(String path) {
+        return acquire(path, SamplerSettings.DEFAULT);
+    }
+
+    /**
+     * Acquires a reference to the texture of an image file with the specified sampler settings,
+     * loading it if it isn't loaded yet.
+     *
+     * @param path    The file path to the image.
+     * @param sampler The sampler settings.
+     * @return A handle holding one reference to the texture.
+     */
+    public TextureHandle acquire(String path, SamplerSettings sampler) {
+        if (path == null) throw new IllegalArgumentException("Texture path cannot be null");
+        if (sampler == null) throw new IllegalArgumentException("Sampler settings cannot be null");
+
+        Key key = new Key(canonicalize(path), sampler);
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            Texture texture = loader.apply(key.path(), sampler);
+
+            entry = new Entry(key, texture);
+            entry.lastUsedFrame = frame;
+            entries.put(key, entry);
+        }
+
+        entry.references++;
+        return new TextureHandle(this, entry);
+    }
+
+    /**
+     * Gets the number of textures currently loaded through the manager.
+     *
+     * @return The live texture count.
+     */
+    public int getLiveCount() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the estimated video memory used by the textures loaded through the manager when fully resident.
+     *
+     * @return The estimated size in bytes.
+     */
+    public long getEstimatedBytes() {
+        long bytes = 0L;
+
+        for (Entry entry : entries.values()) bytes += entry.texture.getEstimatedBytes();
+
+        return bytes;
+    }
+
+    /**
+     * Gets the estimated video memory currently occupied by the textures loaded through the manager,
+     * which the budget applies to.
+     *
+     * @return The estimated resident size in bytes.
+     */
+    public long getResidentBytes() {
+        long bytes = 0L;
+
+        for (Entry entry : entries.values()) bytes += entry.texture.getResidentBytes();
+
+        return bytes;
+    }
+
+    /**
+     * Sets the video memory the textures may occupy before the least recently used ones are evicted.
+     *
+     * @param budgetBytes The budget in bytes, {@link Long#MAX_VALUE} for no budget.
+     */
+    public void setBudgetBytes(long budgetBytes) {
+        if (budgetBytes <= 0L) throw new IllegalArgumentException("Texture budget must be positive");
+
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Gets the video memory the textures may occupy before the least recently used ones are evicted.
+     *
+     * @return The budget in bytes, {@link Long#MAX_VALUE} if there is none.
+     */
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Sets the largest width and height kept by textures evicted to a low-resolution mipmap.
+     *
+     * @param lowResSize The size in pixels.
+     */
+    public void setLowResSize(int lowResSize) {
+        if (lowResSize <= 0) throw new IllegalArgumentException("Low resolution size must be positive");
+
+        this.lowResSize = lowResSize;
+    }
+
+    /**
+     * Gets the largest width and height kept by textures evicted to a low-resolution mipmap.
+     *
+     * @return The size in pixels.
+     */
+    public int getLowResSize() {
+        return lowResSize;
+    }
+
+    /**
+     * Gets the number of times a texture was bound in a frame while fully resident.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of times a texture was bound in a frame while loading or evicted.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of times a texture was shrunk or unloaded to stay within the budget.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Records which textures were bound since the last update, streams the evicted ones among them back in,
+     * and evicts least recently used textures while the resident textures exceed the budget.
+     */
+    public void update() {
+        frame++;
+
+        long residentBytes = 0L;
+
+        for (Entry entry : entries.values()) {
+            Texture texture = entry.texture;
+
+            if (texture.consumeBound()) {
+                entry.lastUsedFrame = frame;
+
+                if (!(texture instanceof AsyncTexture async) || async.isResident()) {
+                    hits++;
+                } else {
+                    misses++;
+                    streamer.reload(async);
+                }
+            }
+
+            residentBytes += texture.getResidentBytes();
+        }
+
+        if (residentBytes > budgetBytes) evict(residentBytes);
+    }
+
+    /**
+     * Deletes every texture regardless of outstanding references, e.g. when the context is destroyed.
+     * Handles still held afterwards are invalid.
+     */
+    public void cleanup() {
+        int leaked = 0;
+
+        for (Entry entry : entries.values()) {
+            leaked += entry.references;
+            entry.references = 0;
+            entry.texture.cleanup();
+        }
+
+        if (leaked > 0) log.warn("{} texture references were never released", leaked);
+
+        entries.clear();
+        candidates.clear();
+    }
+
+    /**
+     * Drops one reference to an entry, deleting its texture when none are left.
+     *
+     * @param entry The entry to release.
+     */
+    void release(Entry entry) {
+        // An entry dropped by cleanup() has no references left to release
+        if (entry.references == 0) return;
+        if (--entry.references > 0) return;
+
+        entries.remove(entry.key);
+        entry.texture.cleanup();
+    }
+
+    // Shrinks, then unloads, the least recently used textures until the resident ones fit the budget
+    private void evict(long residentBytes) {
+        for (Entry entry : entries.values()) {
+            if (entry.lastUsedFrame < frame && entry.texture instanceof AsyncTexture async && async.isLoaded())
+                candidates.add(entry);
+        }
+
+        candidates.sort(Comparator.comparingLong(entry -> entry.lastUsedFrame));
+
+        try {
+            for (int pass = 0; pass < 2; pass++) {
+                for (Entry entry : candidates) {
+                    AsyncTexture texture = (AsyncTexture) entry.texture;
+                    long freed = pass == 0 ? streamer.shrink(texture, lowResSize) : streamer.unload(texture);
+
+                    if (freed > 0L) {
+                        residentBytes -= freed;
+                        evictions++;
+                    }
+
+                    if (residentBytes <= budgetBytes) return;
+                }
+            }
+
+            // Only reached while still over, the textures bound this frame can't be evicted
+            log.debug("Textures bound this frame exceed the budget of {} bytes by {} bytes",
+                    budgetBytes, residentBytes - budgetBytes);
+        } finally {
+            candidates.clear();
+        }
+    }
+
+    // Baked containers are uploaded at once, images are streamed in by the loader
+    private static Texture load(String path, SamplerSettings sampler) {
+        if (CompressedTexture.isContainer(path)) return new CompressedTexture(path, sampler);
+
+        return TextureLoader.get().load(path, sampler);
+    }
+
+    private static String canonicalize(String path) {
+        try {
+            return Path.of(path).toRealPath().toString();
+        } catch (IOException exception) {
+            throw new RuntimeException("Failed to load texture file: " + path, exception);
+        }
+    }
+
+    private record Key(String path, SamplerSettings sampler) {}
+
+    /**
+     * A loaded texture and its reference count.
+     */
+    static final class Entry {
+
+        private final Key key;
+        private final Texture texture;
+        private int references;
+        private long lastUsedFrame;
+
+        private Entry(Key key, Texture texture) {
+            this.key = key;
+            this.texture = texture;
+        }
+
+        Texture texture() {
+            return texture;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package net.sparkzz.entropy.render;
+
+import java.util.Objects;
+
+/**
+ * A rectangular area of a texture, addressed with normalized texture coordinates.
+ * Regions let many renderables share one texture, such as an atlas page,
+ * so they can be drawn without rebinding.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class TextureRegion {
+
+    private final Texture texture;
+    private final float u0, v0, u1, v1;
+    private final int layer;
+
+    /**
+     * Constructs a TextureRegion from normalized texture coordinates.
+     *
+     * @param texture The texture containing the region.
+     * @param u0      The left texture coordinate.
+     * @param v0      The bottom texture coordinate.
+     * @param u1      The right texture coordinate.
+     * @param v1      The top texture coordinate.
+     */
+    public TextureRegion(Texture texture, float u0, float v0, float u1, float v1) {
+        this(texture, u0, v0, u1, v1, 0);
+    }
+
+    /**
+     * Constructs a TextureRegion within a layer of an array texture.
+     *
+     * @param texture The texture containing the region.
+     * @param u0      The left texture coordinate.
+     * @param v0      The bottom texture coordinate.
+     * @param u1      The right texture coordinate.
+     * @param v1      The top texture coordinate.
+     * @param layer   The layer of the texture, 0 for non-array textures.
+     */
+    public TextureRegion(Texture texture, float u0, float v0, float u1, float v1, int layer) {
+        if (layer < 0) throw new IllegalArgumentException("Layer cannot be negative");
+
+        this.texture = Objects.requireNonNull(texture, "Texture cannot be null");
+        this.u0 = u0;
+        this.v0 = v0;
+        this.u1 = u1;
+        this.v1 = v1;
+        this.layer = layer;
+    }
+
+    /**
+     * Gets the texture containing the region.
+     *
+     * @return The texture (e.g. the atlas page).
+     */
+    public Texture getTexture() {
+        return texture;
+    }
+
+    /**
+     * Gets the left texture coordinate.
+     *
+     * @return The normalized U of the left edge.
+     */
+    public float getU0() {
+        return u0;
+    }
+
+    /**
+     * Gets the bottom texture coordinate.
+     *
+     * @return The normalized V of the bottom edge.
+     */
+    public float getV0() {
+        return v0;
+    }
+
+    /**
+     * Gets the right texture coordinate.
+     *
+     * @return The normalized U of the right edge.
+     */
+    public float getU1() {
+        return u1;
+    }
+
+    /**
+     * Gets the top texture coordinate.
+     *
+     * @return The normalized V of the top edge.
+     */
+    public float getV1() {
+        return v1;
+    }
+
+    /**
+     * Gets the layer of the texture containing the region.
+     *
+     * @return The array layer, 0 for non-array textures.
+     */
+    public int getLayer() {
+        return layer;
+    }
+}
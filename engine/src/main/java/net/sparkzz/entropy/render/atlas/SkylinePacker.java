@@ -0,0 +1,150 @@
+package net.sparkzz.entropy.render.atlas;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs rectangles into a fixed-size bin using the skyline bottom-left heuristic.
+ * The skyline tracks the top edge of the packed area as a list of horizontal segments,
+ * and each rectangle is placed where its top edge ends up lowest.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class SkylinePacker {
+
+    /**
+     * Position of a packed rectangle within the bin.
+     *
+     * @param x The x-coordinate of the bottom-left corner.
+     * @param y The y-coordinate of the bottom-left corner.
+     */
+    public record Placement(int x, int y) {}
+
+    private final int width;
+    private final int height;
+    // segments ordered by x, always spanning the full bin width
+    private final List<int[]> skyline = new ArrayList<>();
+
+    /**
+     * Constructs an empty SkylinePacker for a bin of the given size.
+     *
+     * @param width  The bin width.
+     * @param height The bin height.
+     */
+    public SkylinePacker(int width, int height) {
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("Bin dimensions must be positive");
+
+        this.width = width;
+        this.height = height;
+        skyline.add(new int[] {0, 0, width});
+    }
+
+    /**
+     * Attempts to pack a rectangle into the bin.
+     *
+     * @param rectWidth  The rectangle width.
+     * @param rectHeight The rectangle height.
+     * @return The placement of the rectangle, or null if it does not fit.
+     */
+    public Placement insert(int rectWidth, int rectHeight) {
+        if (rectWidth <= 0 || rectHeight <= 0) throw new IllegalArgumentException("Rectangle dimensions must be positive");
+
+        int bestIndex = -1, bestX = 0, bestY = 0;
+        int bestTop = Integer.MAX_VALUE, bestSegmentWidth = Integer.MAX_VALUE;
+
+        for (int i = 0; i < skyline.size(); i++) {
+            int y = fit(i, rectWidth, rectHeight);
+            if (y < 0) continue;
+
+            int top = y + rectHeight;
+            int segmentWidth = skyline.get(i)[2];
+
+            if (top < bestTop || (top == bestTop && segmentWidth < bestSegmentWidth)) {
+                bestIndex = i;
+                bestX = skyline.get(i)[0];
+                bestY = y;
+                bestTop = top;
+                bestSegmentWidth = segmentWidth;
+            }
+        }
+
+        if (bestIndex < 0) return null;
+
+        addLevel(bestIndex, bestX, bestY, rectWidth, rectHeight);
+
+        return new Placement(bestX, bestY);
+    }
+
+    /**
+     * Gets the bin width.
+     *
+     * @return The width of the bin.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the bin height.
+     *
+     * @return The height of the bin.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    // Returns the y-coordinate a rectangle would rest at when its left edge starts at segment i, or -1
+    private int fit(int index, int rectWidth, int rectHeight) {
+        int x = skyline.get(index)[0];
+        if (x + rectWidth > width) return -1;
+
+        int y = 0;
+        int widthLeft = rectWidth;
+
+        for (int i = index; widthLeft > 0; i++) {
+            int[] segment = skyline.get(i);
+
+            y = Math.max(y, segment[1]);
+            if (y + rectHeight > height) return -1;
+
+            widthLeft -= segment[2];
+        }
+
+        return y;
+    }
+
+    private void addLevel(int index, int x, int y, int rectWidth, int rectHeight) {
+        skyline.add(index, new int[] {x, y + rectHeight, rectWidth});
+
+        // Trim or drop the segments now covered by the new one
+        for (int i = index + 1; i < skyline.size(); i++) {
+            int[] previous = skyline.get(i - 1);
+            int[] segment = skyline.get(i);
+            int overlap = previous[0] + previous[2] - segment[0];
+
+            if (overlap <= 0) break;
+
+            segment[0] += overlap;
+            segment[2] -= overlap;
+
+            if (segment[2] > 0) break;
+
+            skyline.remove(i);
+            i--;
+        }
+
+        // Merge neighbours of equal height
+        for (int i = 0; i < skyline.size() - 1; i++) {
+            int[] segment = skyline.get(i);
+            int[] next = skyline.get(i + 1);
+
+            if (segment[1] == next[1]) {
+                segment[2] += next[2];
+                skyline.remove(i + 1);
+                i--;
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package net.sparkzz.entropy.render.atlas;
+
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureRegion;
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packs many images into one or more atlas pages so renderables can share a single texture bind.
+ * <p>
+ * Images are queued with {@code add} and laid out by a {@link SkylinePacker} when {@link #pack()} is called.
+ * Each image is surrounded by copies of its edge pixels ({@code extrusion}) and separated from its
+ * neighbours by empty {@code padding}, so linear filtering and mipmapping don't bleed between regions.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class TextureAtlas {
+
+    private static final Logger logger = LoggerFactory.getLogger(TextureAtlas.class);
+
+    private final int pageWidth;
+    private final int pageHeight;
+    private final int padding;
+    private final int extrusion;
+
+    private final Map<String, PendingImage> pending = new LinkedHashMap<>();
+    private final Map<String, TextureRegion> regions = new HashMap<>();
+    private final List<Texture> pages = new ArrayList<>();
+
+    /**
+     * Constructs a TextureAtlas with square pages, 2 pixels of padding and 1 pixel of edge extrusion.
+     *
+     * @param pageSize The width and height of each atlas page in pixels.
+     */
+    public TextureAtlas(int pageSize) {
+        this(pageSize, pageSize, 2, 1);
+    }
+
+    /**
+     * Constructs a TextureAtlas with the specified page size, padding and edge extrusion.
+     *
+     * @param pageWidth  The width of each atlas page in pixels.
+     * @param pageHeight The height of each atlas page in pixels.
+     * @param padding    The empty space left between packed images in pixels.
+     * @param extrusion  The number of times each image's edge pixels are repeated around it.
+     */
+    public TextureAtlas(int pageWidth, int pageHeight, int padding, int extrusion) {
+        if (pageWidth <= 0 || pageHeight <= 0) throw new IllegalArgumentException("Page dimensions must be positive");
+        if (padding < 0 || extrusion < 0) throw new IllegalArgumentException("Padding and extrusion cannot be negative");
+
+        this.pageWidth = pageWidth;
+        this.pageHeight = pageHeight;
+        this.padding = padding;
+        this.extrusion = extrusion;
+    }
+
+    /**
+     * Queues an image file to be packed into the atlas.
+     *
+     * @param name The name the region will be registered under.
+     * @param path The file path to the image.
+     */
+    public void add(String name, String path) {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer width = stack.mallocInt(1);
+            IntBuffer height = stack.mallocInt(1);
+            IntBuffer components = stack.mallocInt(1);
+
+            // Flip Y axis to match OpenGL's coordinate system, same as Texture
+            STBImage.stbi_set_flip_vertically_on_load(true);
+
+            ByteBuffer data = STBImage.stbi_load(path, width, height, components, 4);
+
+            if (data == null)
+                throw new RuntimeException("Failed to load atlas image: " + path
+                        + System.lineSeparator() + "Reason: " + STBImage.stbi_failure_reason());
+
+            try {
+                add(name, width.get(0), height.get(0), data);
+            } finally {
+                STBImage.stbi_image_free(data);
+            }
+        }
+    }
+
+    /**
+     * Queues raw pixel data to be packed into the atlas. The pixels are copied.
+     *
+     * @param name   The name the region will be registered under.
+     * @param width  The width of the image in pixels.
+     * @param height The height of the image in pixels.
+     * @param pixels The RGBA pixel data, 4 bytes per pixel, bottom row first.
+     */
+    public void add(String name, int width, int height, ByteBuffer pixels) {
+        if (name == null) throw new IllegalArgumentException("Region name cannot be null");
+        if (regions.containsKey(name) || pending.containsKey(name))
+            throw new IllegalArgumentException("Region already exists: " + name);
+        if (width + 2 * extrusion + padding > pageWidth || height + 2 * extrusion + padding > pageHeight)
+            throw new IllegalArgumentException("Image '" + name + "' does not fit in a " + pageWidth + "x" + pageHeight + " atlas page");
+
+        int bytes = width * height * 4;
+        if (pixels.remaining() < bytes)
+            throw new IllegalArgumentException("Pixel data does not cover a " + width + "x" + height + " RGBA image");
+
+        ByteBuffer copy = MemoryUtil.memAlloc(bytes);
+        MemoryUtil.memCopy(pixels.slice(pixels.position(), bytes), copy);
+
+        pending.put(name, new PendingImage(name, width, height, copy));
+    }
+
+    /**
+     * Packs all queued images into new atlas pages and uploads them.
+     * Pages created by earlier calls are left untouched.
+     */
+    public void pack() {
+        if (pending.isEmpty()) return;
+
+        List<PendingImage> images = new ArrayList<>(pending.values());
+        images.sort(Comparator.comparingInt(PendingImage::height).thenComparingInt(PendingImage::width).reversed());
+
+        List<SkylinePacker> packers = new ArrayList<>();
+        List<List<Placed>> placedByPage = new ArrayList<>();
+
+        for (PendingImage image : images) {
+            int paddedWidth = image.width() + 2 * extrusion + padding;
+            int paddedHeight = image.height() + 2 * extrusion + padding;
+
+            SkylinePacker.Placement placement = null;
+            int page = 0;
+
+            for (; page < packers.size() && placement == null; page++)
+                placement = packers.get(page).insert(paddedWidth, paddedHeight);
+
+            if (placement == null) {
+                SkylinePacker packer = new SkylinePacker(pageWidth, pageHeight);
+
+                packers.add(packer);
+                placedByPage.add(new ArrayList<>());
+                placement = packer.insert(paddedWidth, paddedHeight);
+                page = packers.size();
+            }
+
+            placedByPage.get(page - 1).add(new Placed(image, placement.x(), placement.y()));
+        }
+
+        for (List<Placed> placed : placedByPage) uploadPage(placed);
+
+        pending.values().forEach(image -> MemoryUtil.memFree(image.pixels()));
+        pending.clear();
+
+        logger.info("Packed {} images into {} atlas page(s)", images.size(), placedByPage.size());
+    }
+
+    /**
+     * Gets the region of a packed image.
+     *
+     * @param name The name the image was added under.
+     * @return The region, or null if no packed image has that name.
+     */
+    public TextureRegion getRegion(String name) {
+        return regions.get(name);
+    }
+
+    /**
+     * Gets the atlas pages created so far.
+     *
+     * @return An unmodifiable view of the page textures.
+     */
+    public List<Texture> getPages() {
+        return Collections.unmodifiableList(pages);
+    }
+
+    /**
+     * Cleans up the atlas pages and any images still waiting to be packed.
+     */
+    public void cleanup() {
+        pages.forEach(Texture::cleanup);
+        pages.clear();
+        regions.clear();
+
+        pending.values().forEach(image -> MemoryUtil.memFree(image.pixels()));
+        pending.clear();
+    }
+
+    private void uploadPage(List<Placed> placed) {
+        ByteBuffer pixels = MemoryUtil.memCalloc(pageWidth * pageHeight * 4);
+
+        try {
+            for (Placed entry : placed)
+                blit(pixels, pageWidth, entry.x(), entry.y(), entry.image().pixels(),
+                        entry.image().width(), entry.image().height(), extrusion);
+
+            Texture page = new Texture(pageWidth, pageHeight, pixels);
+            pages.add(page);
+
+            for (Placed entry : placed) {
+                int x = entry.x() + extrusion;
+                int y = entry.y() + extrusion;
+
+                regions.put(entry.image().name(), new TextureRegion(page,
+                        (float) x / pageWidth,
+                        (float) y / pageHeight,
+                        (float) (x + entry.image().width()) / pageWidth,
+                        (float) (y + entry.image().height()) / pageHeight));
+            }
+        } finally {
+            MemoryUtil.memFree(pixels);
+        }
+    }
+
+    /**
+     * Copies an image into a page at the given position, repeating its edge pixels
+     * {@code extrusion} times on every side. The image itself starts at
+     * {@code (x + extrusion, y + extrusion)}.
+     *
+     * @param page      The page pixels, RGBA.
+     * @param pageWidth The page width in pixels.
+     * @param x         The x-coordinate of the extruded area.
+     * @param y         The y-coordinate of the extruded area.
+     * @param image     The image pixels, RGBA.
+     * @param width     The image width in pixels.
+     * @param height    The image height in pixels.
+     * @param extrusion The number of edge pixels to repeat.
+     */
+    static void blit(ByteBuffer page, int pageWidth, int x, int y, ByteBuffer image, int width, int height, int extrusion) {
+        for (int row = -extrusion; row < height + extrusion; row++) {
+            int sourceRow = Math.clamp(row, 0, height - 1);
+            int targetRow = y + extrusion + row;
+
+            for (int column = -extrusion; column < width + extrusion; column++) {
+                int sourceColumn = Math.clamp(column, 0, width - 1);
+                int targetColumn = x + extrusion + column;
+
+                page.putInt((targetRow * pageWidth + targetColumn) * 4, image.getInt((sourceRow * width + sourceColumn) * 4));
+            }
+        }
+    }
+
+    private record PendingImage(String name, int width, int height, ByteBuffer pixels) {}
+
+    private record Placed(PendingImage image, int x, int y) {}
+}
@@ -1,10 +1,17 @@
 package net.sparkzz.entropy.render.orthographic;
 
+import net.sparkzz.entropy.render.RenderStats;
 import net.sparkzz.entropy.render.orthographic.batch.BatchType;
 import net.sparkzz.entropy.render.orthographic.batch.IRenderBatch2D;
+import net.sparkzz.entropy.render.orthographic.batch.ISpriteStoreBatch;
+import net.sparkzz.entropy.render.orthographic.batch.InstancedSpriteRenderBatch;
 import net.sparkzz.entropy.render.orthographic.batch.SpriteRenderBatch;
 import net.sparkzz.entropy.render.orthographic.batch.UIRenderBatch;
 import net.sparkzz.entropy.render.orthographic.camera.Camera2D;
+import net.sparkzz.entropy.render.orthographic.culling.SpatialHashGrid;
+import net.sparkzz.entropy.render.orthographic.model.Sprite;
+import net.sparkzz.entropy.render.orthographic.model.SpriteStore;
+import net.sparkzz.entropy.render.orthographic.shader.InstancedShader2D;
 import net.sparkzz.entropy.render.orthographic.shader.Shader2D;
 
 import java.util.Collection;
@@ -12,12 +19,15 @@ import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 
+import static net.sparkzz.entropy.render.RenderStats.Phase.FLUSH;
+import static net.sparkzz.entropy.render.RenderStats.Phase.SUBMIT;
 import static net.sparkzz.entropy.render.orthographic.batch.BatchType.SPRITE;
 import static net.sparkzz.entropy.render.orthographic.batch.BatchType.UI_ELEMENT;
 
 /**
  * A 2D renderer that manages different render batches for various types of renderable objects.
  * It uses a camera for view transformations and supports rendering UI elements and sprites.
+ * Every render call is recorded as a pass of its batch type in the thread's {@link RenderStats}.
  *
  * @author Brendon Butler
  * @version 0.1.0-PREALPHA
@@ -28,6 +38,8 @@ public class Render2D {
     private final Camera2D camera;
     private final Map<BatchType, IRenderBatch2D<?>> batches = Collections.synchronizedMap(new EnumMap<>(BatchType.class));
 
+    private long culledCount;
+
     /**
      * Constructs a Render2D instance with the specified camera and shaders for UI and sprites.
      * Initializes render batches for UI elements and sprites.
@@ -43,6 +55,21 @@ public class Render2D {
         batches.put(SPRITE, new SpriteRenderBatch(spriteShader));
     }
 
+    /**
+     * Constructs a Render2D instance that draws sprites with hardware instancing.
+     * Initializes render batches for UI elements and instanced sprites.
+     *
+     * @param camera       The Camera2D instance to be used for rendering.
+     * @param uiShader     The Shader2D instance for rendering UI elements.
+     * @param spriteShader The InstancedShader2D instance for rendering sprites.
+     */
+    public Render2D(Camera2D camera, Shader2D uiShader, InstancedShader2D spriteShader) {
+        this.camera = camera;
+
+        batches.put(UI_ELEMENT, new UIRenderBatch(uiShader));
+        batches.put(SPRITE, new InstancedSpriteRenderBatch(spriteShader));
+    }
+
     /**
      * Renders a collection of renderable objects of the specified type.
      *
@@ -55,16 +82,134 @@ public class Render2D {
             throw new IllegalArgumentException("BatchType and items cannot be null");
         }
 
+        IRenderBatch2D<T> batch = getBatch(type);
+        RenderStats stats = RenderStats.get();
+
+        stats.beginPass(type);
+
+        try {
+            stats.beginPhase(SUBMIT);
+
+            try {
+                batch.begin(camera);
+                items.forEach(batch::submit);
+            } finally {
+                stats.endPhase(SUBMIT);
+            }
+
+            flush(stats, batch);
+        } finally {
+            stats.endPass();
+        }
+    }
+
+    /**
+     * Renders the items of a spatial hash grid that are visible through the camera.
+     * Items outside the camera's view bounds never reach the batch and are added to the culled count.
+     *
+     * @param type The class type of the renderable objects to be rendered.
+     * @param grid The grid holding the renderable objects.
+     * @param <T>  The type of renderable object, extending Renderable2D.
+     */
+    public synchronized <T extends Renderable2D> void render(BatchType type, SpatialHashGrid<T> grid) {
+        if (type == null || grid == null) {
+            throw new IllegalArgumentException("BatchType and grid cannot be null");
+        }
+
+        IRenderBatch2D<T> batch = getBatch(type);
+        RenderStats stats = RenderStats.get();
+
+        stats.beginPass(type);
+
+        try {
+            int visible;
+
+            stats.beginPhase(SUBMIT);
+
+            try {
+                batch.begin(camera);
+                visible = grid.query(camera.getViewBounds(), batch::submit);
+            } finally {
+                stats.endPhase(SUBMIT);
+            }
+
+            flush(stats, batch);
+
+            culledCount += grid.size() - visible;
+        } finally {
+            stats.endPass();
+        }
+    }
+
+    /**
+     * Renders every sprite in a sprite store with the sprite batch. The store is drawn in its own pass,
+     * so it is layered by call order against other renders rather than by z-index, and the sprites
+     * submitted to the batch, such as the retained sprites of a persistent batch, aren't drawn with it.
+     *
+     * @param store The sprite store to be rendered.
+     */
+    public synchronized void render(SpriteStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("Sprite store cannot be null");
+        }
+
+        IRenderBatch2D<Sprite> batch = getBatch(SPRITE);
+
+        if (!(batch instanceof ISpriteStoreBatch storeBatch)) {
+            throw new IllegalStateException("The sprite batch cannot draw sprite stores");
+        }
+
+        RenderStats stats = RenderStats.get();
+
+        stats.beginPass(SPRITE);
+
+        try {
+            // Nothing is submitted, drawing the store counts as flushing
+            stats.beginPhase(FLUSH);
+
+            try {
+                storeBatch.draw(camera, store);
+            } finally {
+                stats.endPhase(FLUSH);
+            }
+        } finally {
+            stats.endPass();
+        }
+    }
+
+    /**
+     * Gets the number of items culled by grid renders since the last reset.
+     *
+     * @return The culled item count.
+     */
+    public long getCulledCount() {
+        return culledCount;
+    }
+
+    /**
+     * Resets the culled item count, e.g. at the start of a frame.
+     */
+    public void resetCulledCount() {
+        culledCount = 0;
+    }
+
+    private static void flush(RenderStats stats, IRenderBatch2D<?> batch) {
+        stats.beginPhase(FLUSH);
+
+        try {
+            batch.end();
+        } finally {
+            stats.endPhase(FLUSH);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Renderable2D> IRenderBatch2D<T> getBatch(BatchType type) {
         IRenderBatch2D<?> rawBatch = batches.get(type);
         if (rawBatch == null) {
             throw new IllegalArgumentException("No batch found for type: " + type);
         }
 
-        @SuppressWarnings("unchecked")
-        IRenderBatch2D<T> batch = (IRenderBatch2D<T>) rawBatch;
-
-        batch.begin(camera);
-        items.forEach(batch::submit);
-        batch.end();
+        return (IRenderBatch2D<T>) rawBatch;
     }
 }
@@ -1,6 +1,7 @@
 package net.sparkzz.entropy.render.orthographic;
 
 import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureRegion;
 import org.joml.Vector2f;
 import org.joml.Vector4f;
 
@@ -16,7 +17,9 @@ import org.joml.Vector4f;
 public abstract class Renderable2D {
 
     private boolean persistent = false;
+    private boolean opaque = false;
     private int zIndex;
+    private int version;
 
     /**
      * Retrieves the texture associated with this renderable object.
@@ -25,6 +28,18 @@ public abstract class Renderable2D {
      */
     public abstract Texture getTexture();
 
+    /**
+     * Retrieves the texture region drawn by this renderable object.
+     * Defaults to the whole texture, override this to draw a sub-region (e.g. from an atlas).
+     *
+     * @return The texture region of the renderable object, or null if it has no texture.
+     */
+    public TextureRegion getRegion() {
+        Texture texture = getTexture();
+
+        return texture != null ? texture.asRegion() : null;
+    }
+
     /**
      * Retrieves the position of the renderable object in 2D space.
      *
@@ -46,6 +61,86 @@ public abstract class Renderable2D {
      */
     public abstract Vector4f getColor();
 
+    /**
+     * Retrieves the x coordinate of the position without allocating.
+     * Defaults to {@link #getPosition()}, subclasses holding their own state override it.
+     *
+     * @return The x coordinate.
+     */
+    public float getX() {
+        return getPosition().x;
+    }
+
+    /**
+     * Retrieves the y coordinate of the position without allocating.
+     * Defaults to {@link #getPosition()}, subclasses holding their own state override it.
+     *
+     * @return The y coordinate.
+     */
+    public float getY() {
+        return getPosition().y;
+    }
+
+    /**
+     * Retrieves the width without allocating.
+     * Defaults to {@link #getSize()}, subclasses holding their own state override it.
+     *
+     * @return The width.
+     */
+    public float getWidth() {
+        return getSize().x;
+    }
+
+    /**
+     * Retrieves the height without allocating.
+     * Defaults to {@link #getSize()}, subclasses holding their own state override it.
+     *
+     * @return The height.
+     */
+    public float getHeight() {
+        return getSize().y;
+    }
+
+    /**
+     * Retrieves the red component of the color without allocating.
+     * Defaults to {@link #getColor()}, subclasses holding their own state override it.
+     *
+     * @return The red component.
+     */
+    public float getRed() {
+        return getColor().x;
+    }
+
+    /**
+     * Retrieves the green component of the color without allocating.
+     * Defaults to {@link #getColor()}, subclasses holding their own state override it.
+     *
+     * @return The green component.
+     */
+    public float getGreen() {
+        return getColor().y;
+    }
+
+    /**
+     * Retrieves the blue component of the color without allocating.
+     * Defaults to {@link #getColor()}, subclasses holding their own state override it.
+     *
+     * @return The blue component.
+     */
+    public float getBlue() {
+        return getColor().z;
+    }
+
+    /**
+     * Retrieves the alpha component of the color without allocating.
+     * Defaults to {@link #getColor()}, subclasses holding their own state override it.
+     *
+     * @return The alpha component.
+     */
+    public float getAlpha() {
+        return getColor().w;
+    }
+
     /**
      * Retrieves the rotation of the renderable object in degrees.
      *
@@ -71,6 +166,30 @@ public abstract class Renderable2D {
         this.persistent = persistent;
     }
 
+    /**
+     * Checks if the renderable object is declared fully opaque.
+     *
+     * @return True if the object is opaque, false otherwise.
+     */
+    public boolean isOpaque() {
+        return opaque;
+    }
+
+    /**
+     * Declares the renderable object fully opaque: its texture has no transparent texels, so it covers
+     * whatever it overlaps. While its tint is opaque as well, batches may reorder it among the items sharing
+     * its layer and z-index to group them by shader and texture. Items that aren't declared opaque are drawn
+     * in submission order within their layer and z-index, which overlapping items with transparent texels
+     * depend on.
+     *
+     * @param opaque True to declare the object opaque, false otherwise.
+     */
+    public void setOpaque(boolean opaque) {
+        if (this.opaque != opaque) version++;
+
+        this.opaque = opaque;
+    }
+
     /**
      * Gets the z-index of the renderable object for layering purposes.
      *
@@ -86,6 +205,26 @@ public abstract class Renderable2D {
      * @param zIndex The z-index value to set.
      */
     public void setZIndex(int zIndex) {
+        if (this.zIndex != zIndex) version++;
+
         this.zIndex = zIndex;
     }
+
+    /**
+     * Marks the renderable as changed, so batches that retain it on the GPU refresh its data.
+     * Call this after changing anything that affects how a persistent renderable is drawn.
+     */
+    public void markDirty() {
+        version++;
+    }
+
+    /**
+     * Gets the change version of the renderable, incremented by {@link #markDirty()}.
+     * Batches compare it against the version they last uploaded.
+     *
+     * @return The change version.
+     */
+    public int getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,26 @@
+package net.sparkzz.entropy.render.orthographic.batch;
+
+import net.sparkzz.entropy.render.orthographic.camera.Camera2D;
+import net.sparkzz.entropy.render.orthographic.model.SpriteStore;
+
+/**
+ * An interface for batches that can draw the sprites of a {@link SpriteStore} directly,
+ * without a Renderable2D object per sprite.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public interface ISpriteStoreBatch {
+
+    /**
+     * Draws every sprite in a store in a pass of its own, sorting it into draw order first if needed.
+     * Called instead of {@code begin} and {@code end}: the renderables submitted to the batch are neither
+     * cleared nor flushed, so the retained sprites of a persistent batch aren't drawn again. The store is
+     * layered against the batch's own passes by call order, whatever the z-indices.
+     *
+     * @param camera The Camera2D to be used for rendering.
+     * @param store  The sprite store to draw.
+     */
+    void draw(Camera2D camera, SpriteStore store);
+}
@@ -0,0 +1,538 @@
+package net.sparkzz.entropy.render.orthographic.batch;
+
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureArray;
+import net.sparkzz.entropy.render.TextureBindingMode;
+import net.sparkzz.entropy.render.TextureRegion;
+import net.sparkzz.entropy.render.orthographic.Renderable2D;
+import net.sparkzz.entropy.render.orthographic.camera.Camera2D;
+import net.sparkzz.entropy.render.orthographic.model.Sprite;
+import net.sparkzz.entropy.render.orthographic.model.SpriteStore;
+import net.sparkzz.entropy.render.orthographic.shader.InstancedShader2D;
+import net.sparkzz.entropy.render.orthographic.util.InstancedQuadMesh;
+import net.sparkzz.entropy.render.orthographic.util.StaticInstancedQuadMesh;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static net.sparkzz.entropy.render.orthographic.shader.InstancedShader2D.MAX_TEXTURE_SLOTS;
+import static net.sparkzz.entropy.render.orthographic.util.InstancedQuadMesh.INSTANCE_FLOATS;
+import static org.lwjgl.opengl.GL11.glGetInteger;
+import static org.lwjgl.opengl.GL20.GL_MAX_TEXTURE_IMAGE_UNITS;
+
+/**
+ * A render batch that draws sprites with hardware instancing.
+ * Per-sprite data is streamed into a mapped instance buffer and each run of consecutive
+ * sprites that can share texture bindings is drawn with a single instanced draw call.
+ * Sprites drawing regions of the same atlas page always share a run, and the
+ * {@link TextureBindingMode} decides whether different textures can share one too.
+ * <p>
+ * When the batch is persistent, its persistent sprites are retained on the GPU instead: they are
+ * baked once into a static instance buffer and only rebuilt when one is added or removed, or
+ * partially re-uploaded when one is {@link Renderable2D#markDirty() marked dirty}. Retained sprites
+ * are merged with the sprites streamed that frame in draw order, so they can sit on any layer, from
+ * backgrounds to HUD frames. A retained sprite is drawn before a streamed one with the same sort key.
+ * <p>
+ * Runs are recorded on the rendering thread, but from the {@link #getParallelThreshold() parallel threshold}
+ * on the instance data itself is written in parallel, each worker filling a disjoint slice of the buffer.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class InstancedSpriteRenderBatch extends RenderBatch2D<Sprite> implements ISpriteStoreBatch {
+
+    /**
+     * Default number of instances that can be streamed per draw chunk.
+     */
+    public static final int DEFAULT_CAPACITY = 16384;
+
+    private static final Predicate<Sprite> RETAINED = Renderable2D::isPersistent;
+    private static final Predicate<Sprite> STREAMED = sprite -> !sprite.isPersistent();
+
+    private final int capacity;
+    private final TextureBindingMode bindingMode;
+    private final RunList streamedRuns = new RunList();
+    private final RunList retainedRuns = new RunList();
+    private final List<Sprite> retainedItems = new ArrayList<>();
+    private final ParallelFill.RangeWriter instanceWriter = this::writeInstances;
+
+    private InstancedQuadMesh mesh;
+    private StaticInstancedQuadMesh retainedMesh;
+    private FloatBuffer retainedData;
+    private Texture[] retainedTextures = new Texture[0];
+    private long[] retainedKeys = new long[0];
+    private int[] retainedVersions = new int[0];
+    private int[] retainedTextureIndices = new int[0];
+    private int retainedStructure = -1;
+    private int retainedUploads;
+    private int textureSlots;
+
+    // What instanceWriter fills: the sprites from fillOffset in fillQueue or fillStore, into fillTarget
+    private int[] streamedTextureIndices;
+    private RenderQueue<Sprite> fillQueue;
+    private SpriteStore fillStore;
+    private FloatBuffer fillTarget;
+    private int[] fillTextureIndices;
+    private int fillOffset;
+
+    /**
+     * Constructs an InstancedSpriteRenderBatch with the specified shader and the default capacity.
+     *
+     * @param shader The InstancedShader2D instance to be used for rendering sprites.
+     */
+    public InstancedSpriteRenderBatch(InstancedShader2D shader) {
+        this(shader, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an InstancedSpriteRenderBatch with the specified shader and capacity.
+     * Batches larger than the capacity are streamed and drawn in several chunks.
+     * The texture binding mode is taken from the shader.
+     *
+     * @param shader   The InstancedShader2D instance to be used for rendering sprites.
+     * @param capacity The number of instances that can be streamed per draw chunk.
+     */
+    public InstancedSpriteRenderBatch(InstancedShader2D shader, int capacity) {
+        super(shader);
+
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+
+        this.capacity = capacity;
+        this.bindingMode = shader.getBindingMode();
+        this.textureSlots = bindingMode == TextureBindingMode.MULTI_UNIT ? MAX_TEXTURE_SLOTS : 1;
+    }
+
+    /**
+     * Flushes the batch by rendering all submitted sprites in z-index order.
+     * Retained sprites are refreshed if needed and drawn from their static buffer, interleaved with the
+     * streamed sprites wherever their sort keys fall between them.
+     * The remaining sprites are written straight into the mapped instance buffer, in parallel for
+     * large batches, in chunks of at most the buffer capacity, with one instanced draw call per run.
+     * A run only ends when the next sprite's texture can't join it: a different texture in {@code SINGLE}
+     * mode, a different array in {@code ARRAY} mode, or no free sampler slot in {@code MULTI_UNIT} mode.
+     * Non-persistent sprites are removed after rendering.
+     */
+    @Override
+    protected void flush() {
+        if (batchItems.isEmpty()) return;
+
+        createMesh();
+
+        if (!isPersistent()) {
+            RenderQueue<Sprite> queue = sortItems();
+
+            stream(queue, null, 0, queue.size());
+        } else {
+            prepareRetained();
+            drawMerged(sortItems(STREAMED));
+        }
+
+        removeStreamedItems();
+    }
+
+    /**
+     * Draws every sprite in a store, streaming its dense arrays through the mapped instance buffer in
+     * contiguous ranges. The store is sorted into draw order first if needed, so ranges map one to one
+     * onto instances and runs form just like for submitted sprites.
+     *
+     * @param camera The Camera2D to be used for rendering.
+     * @param store  The sprite store to draw.
+     */
+    @Override
+    public void draw(Camera2D camera, SpriteStore store) {
+        bindShader(camera);
+        store.sort();
+
+        if (store.size() == 0) return;
+
+        createMesh();
+        stream(null, store, 0, store.size());
+    }
+
+    /**
+     * Cleans up the GL resources of this batch.
+     * Call this when the batch is no longer needed.
+     */
+    public void cleanup() {
+        if (mesh != null) mesh.cleanup();
+        if (retainedMesh != null) retainedMesh.cleanup();
+        if (retainedData != null) MemoryUtil.memFree(retainedData);
+
+        mesh = null;
+        streamedTextureIndices = null;
+        retainedMesh = null;
+        retainedData = null;
+        retainedKeys = new long[0];
+        retainedStructure = -1;
+    }
+
+    /**
+     * Gets the texture binding mode of this batch.
+     *
+     * @return The texture binding mode.
+     */
+    public TextureBindingMode getBindingMode() {
+        return bindingMode;
+    }
+
+    /**
+     * Gets the number of times retained sprites were uploaded, fully or partially.
+     * Stays the same across frames in which no retained sprite changed.
+     *
+     * @return The retained upload count.
+     */
+    public int getRetainedUploadCount() {
+        return retainedUploads;
+    }
+
+    /**
+     * Writes the instance attributes of a sprite at the current position of the buffer.
+     * The layout matches {@link InstancedQuadMesh}.
+     *
+     * @param buffer       The buffer to write to.
+     * @param sprite       The sprite to write.
+     * @param textureIndex The array layer or sampler slot of the sprite's texture.
+     */
+    static void putInstance(FloatBuffer buffer, Sprite sprite, int textureIndex) {
+        TextureRegion region = sprite.getRegion();
+
+        buffer.put(sprite.getX()).put(sprite.getY())
+                .put(sprite.getWidth()).put(sprite.getHeight())
+                .put(sprite.getRotation())
+                .put(sprite.getRed()).put(sprite.getGreen()).put(sprite.getBlue()).put(sprite.getAlpha())
+                .put(region.getU0()).put(region.getV0()).put(region.getU1()).put(region.getV1())
+                .put(textureIndex);
+    }
+
+    /**
+     * Adds a sprite to the current streamed run, starting a new run if its texture can't join it.
+     *
+     * @param sprite   The sprite being written.
+     * @param instance The index of the sprite within the current chunk.
+     * @return The texture index to write for the sprite (array layer or sampler slot).
+     */
+    int assignTextureIndex(Sprite sprite, int instance) {
+        return assignTextureIndex(sprite.getRegion(), instance, streamedRuns);
+    }
+
+    /**
+     * Gets the number of runs (draw calls) recorded for the last streamed chunk.
+     *
+     * @return The run count.
+     */
+    int getRunCount() {
+        return streamedRuns.count;
+    }
+
+    /**
+     * Writes the instance attributes of a stored sprite at the current position of the buffer,
+     * like {@link #putInstance(FloatBuffer, Sprite, int)}.
+     *
+     * @param buffer       The buffer to write to.
+     * @param store        The store holding the sprite.
+     * @param index        The position of the sprite in the store's dense arrays.
+     * @param textureIndex The array layer or sampler slot of the sprite's texture.
+     */
+    static void putInstance(FloatBuffer buffer, SpriteStore store, int index, int textureIndex) {
+        TextureRegion region = store.getRegionAt(index);
+        int color = store.getColorAt(index);
+
+        buffer.put(store.getXAt(index)).put(store.getYAt(index))
+                .put(store.getWidthAt(index)).put(store.getHeightAt(index))
+                .put(store.getRotationAt(index))
+                .put(SpriteStore.unpackColor(color, 24)).put(SpriteStore.unpackColor(color, 16))
+                .put(SpriteStore.unpackColor(color, 8)).put(SpriteStore.unpackColor(color, 0))
+                .put(region.getU0()).put(region.getV0()).put(region.getU1()).put(region.getV1())
+                .put(textureIndex);
+    }
+
+    // GL resources are created lazily so the batch can be constructed without a context
+    private void createMesh() {
+        if (mesh != null) return;
+
+        mesh = new InstancedQuadMesh(capacity);
+        streamedTextureIndices = new int[capacity];
+
+        if (bindingMode == TextureBindingMode.MULTI_UNIT)
+            textureSlots = Math.min(MAX_TEXTURE_SLOTS, glGetInteger(GL_MAX_TEXTURE_IMAGE_UNITS));
+    }
+
+    // Streams the sprites [start, end) from either the queue or the store, in chunks of at most the capacity
+    private void stream(RenderQueue<Sprite> queue, SpriteStore store, int start, int end) {
+        if (start < end) mesh.bind();
+
+        for (int chunkStart = start; chunkStart < end; chunkStart += capacity) {
+            int chunkEnd = Math.min(end, chunkStart + capacity);
+            FloatBuffer instances = mesh.map(chunkEnd - chunkStart);
+
+            streamedRuns.clear();
+
+            for (int i = chunkStart; i < chunkEnd; i++) {
+                TextureRegion region = queue != null ? queue.get(i).getRegion() : store.getRegionAt(i);
+
+                streamedTextureIndices[i - chunkStart] = assignTextureIndex(region, i - chunkStart, streamedRuns);
+            }
+
+            fillInstances(queue, store, chunkStart, chunkEnd - chunkStart, instances, streamedTextureIndices);
+            mesh.commit();
+
+            for (int i = 0; i < streamedRuns.count; i++) {
+                Run run = streamedRuns.get(i);
+
+                bindTextures(run);
+                mesh.draw(run.start, run.count);
+            }
+        }
+    }
+
+    private int assignTextureIndex(TextureRegion region, int instance, RunList runs) {
+        Texture texture = region.getTexture();
+
+        if (bindingMode == TextureBindingMode.ARRAY && !(texture instanceof TextureArray))
+            throw new IllegalStateException("ARRAY binding mode requires sprites to use TextureArray regions");
+
+        Run run = runs.count > 0 ? runs.get(runs.count - 1) : null;
+        int slot = run != null ? run.slotOf(texture, textureSlots) : -1;
+
+        if (slot < 0) {
+            run = runs.next(instance);
+            slot = run.slotOf(texture, textureSlots);
+        }
+
+        run.count++;
+
+        return bindingMode == TextureBindingMode.ARRAY ? region.getLayer() : slot;
+    }
+
+    // Writes the instances of count queued or stored sprites from offset to the start of target, in parallel if there are enough
+    private void fillInstances(RenderQueue<Sprite> queue, SpriteStore store, int offset, int count, FloatBuffer target,
+                               int[] textureIndices) {
+        fillQueue = queue;
+        fillStore = store;
+        fillOffset = offset;
+        fillTarget = target;
+        fillTextureIndices = textureIndices;
+
+        try {
+            ParallelFill.run(count, getParallelThreshold(), instanceWriter);
+        } finally {
+            fillQueue = null;
+            fillStore = null;
+            fillTarget = null;
+            fillTextureIndices = null;
+        }
+    }
+
+    // Fills the instances [start, end) of the current fill through a slice of their own, so workers never share a position
+    private void writeInstances(int start, int end) {
+        FloatBuffer slice = fillTarget.slice(start * INSTANCE_FLOATS, (end - start) * INSTANCE_FLOATS);
+
+        if (fillStore != null) {
+            for (int i = start; i < end; i++) putInstance(slice, fillStore, fillOffset + i, fillTextureIndices[i]);
+        } else {
+            for (int i = start; i < end; i++) putInstance(slice, fillQueue.get(fillOffset + i), fillTextureIndices[i]);
+        }
+    }
+
+    // Draws the retained and streamed sprites in one sorted order, alternating between their ranges
+    private void drawMerged(RenderQueue<Sprite> queue) {
+        int retainedCount = retainedItems.size(), streamedCount = queue.size();
+        int retained = 0, streamed = 0;
+
+        while (retained < retainedCount || streamed < streamedCount) {
+            int retainedEnd = retained;
+
+            // Ties go to the retained sprite
+            while (retainedEnd < retainedCount
+                    && (streamed == streamedCount || retainedKeys[retainedEnd] <= queue.getKey(streamed))) retainedEnd++;
+
+            drawRetained(retained, retainedEnd);
+            retained = retainedEnd;
+
+            int streamedEnd = streamed;
+
+            while (streamedEnd < streamedCount
+                    && (retained == retainedCount || queue.getKey(streamedEnd) < retainedKeys[retained])) streamedEnd++;
+
+            stream(queue, null, streamed, streamedEnd);
+            streamed = streamedEnd;
+        }
+    }
+
+    // Draws the retained instances [start, end), splitting the runs they overlap
+    private void drawRetained(int start, int end) {
+        if (start == end) return;
+
+        retainedMesh.bind();
+
+        for (int i = 0; i < retainedRuns.count; i++) {
+            Run run = retainedRuns.get(i);
+            int runStart = Math.max(start, run.start), runEnd = Math.min(end, run.start + run.count);
+
+            if (runStart >= runEnd) continue;
+
+            bindTextures(run);
+            retainedMesh.draw(runStart, runEnd - runStart);
+        }
+    }
+
+    private void prepareRetained() {
+        int persistentCount = 0;
+
+        for (int i = 0, size = batchItems.size(); i < size; i++)
+            if (batchItems.get(i).isPersistent()) persistentCount++;
+
+        // Sprites made persistent after they were submitted don't change the structure version
+        if (retainedStructure != getStructureVersion() || persistentCount != retainedItems.size()) rebuildRetained();
+        else refreshRetained();
+    }
+
+    private void rebuildRetained() {
+        RenderQueue<Sprite> queue = sortItems(RETAINED);
+        int count = queue.size();
+
+        retainedStructure = getStructureVersion();
+        retainedItems.clear();
+        retainedRuns.clear();
+
+        if (count == 0) return;
+
+        if (retainedMesh == null) retainedMesh = new StaticInstancedQuadMesh();
+
+        if (retainedKeys.length < count) {
+            int length = Math.max(count, retainedKeys.length * 2);
+
+            retainedTextures = new Texture[length];
+            retainedKeys = new long[length];
+            retainedVersions = new int[length];
+            retainedTextureIndices = new int[length];
+            retainedData = MemoryUtil.memRealloc(retainedData, length * INSTANCE_FLOATS);
+        }
+
+        Arrays.fill(retainedTextures, count, retainedTextures.length, null);
+        retainedData.clear();
+
+        for (int i = 0; i < count; i++) {
+            Sprite sprite = queue.get(i);
+
+            retainedItems.add(sprite);
+            retainedTextures[i] = sprite.getTexture();
+            retainedKeys[i] = sortKey(sprite);
+            retainedVersions[i] = sprite.getVersion();
+            retainedTextureIndices[i] = assignTextureIndex(sprite.getRegion(), i, retainedRuns);
+        }
+
+        fillInstances(queue, null, 0, count, retainedData, retainedTextureIndices);
+        retainedMesh.upload(retainedData, count);
+        retainedUploads++;
+    }
+
+    private void refreshRetained() {
+        int dirtyStart = -1;
+
+        for (int i = 0; i < retainedItems.size(); i++) {
+            Sprite sprite = retainedItems.get(i);
+
+            // A sprite that stopped being persistent is streamed from now on
+            if (!sprite.isPersistent()) {
+                rebuildRetained();
+                return;
+            }
+
+            if (sprite.getVersion() == retainedVersions[i]) {
+                if (dirtyStart >= 0) uploadRetained(dirtyStart, i);
+
+                dirtyStart = -1;
+                continue;
+            }
+
+            // A sprite that moved in draw order or changed texture invalidates the runs, rebuild everything
+            if (sprite.getTexture() != retainedTextures[i] || sortKey(sprite) != retainedKeys[i]) {
+                rebuildRetained();
+                return;
+            }
+
+            int textureIndex = bindingMode == TextureBindingMode.ARRAY
+                    ? sprite.getRegion().getLayer()
+                    : retainedTextureIndices[i];
+
+            retainedVersions[i] = sprite.getVersion();
+            retainedData.limit(retainedData.capacity()).position(i * INSTANCE_FLOATS);
+            putInstance(retainedData, sprite, textureIndex);
+
+            if (dirtyStart < 0) dirtyStart = i;
+        }
+
+        if (dirtyStart >= 0) uploadRetained(dirtyStart, retainedItems.size());
+    }
+
+    // Uploads the contiguous range [start, end) of retained instances
+    private void uploadRetained(int start, int end) {
+        retainedMesh.update(start, retainedData.slice(start * INSTANCE_FLOATS, (end - start) * INSTANCE_FLOATS));
+        retainedUploads++;
+    }
+
+    private void bindTextures(Run run) {
+        // Textures stay bound between runs, so slots that keep their texture skip the bind
+        for (int slot = 0; slot < run.textureCount; slot++) run.textures[slot].bind(slot);
+    }
+
+    /**
+     * A contiguous range of instances drawn with one call, and the textures bound for it.
+     */
+    private static final class Run {
+
+        private final Texture[] textures = new Texture[MAX_TEXTURE_SLOTS];
+        private int textureCount;
+        private int start;
+        private int count;
+
+        private void reset(int start) {
+            Arrays.fill(textures, 0, textureCount, null);
+            this.textureCount = 0;
+            this.start = start;
+            this.count = 0;
+        }
+
+        // Returns the slot holding the texture, claiming a free one if needed, or -1 if the run is full
+        private int slotOf(Texture texture, int maxSlots) {
+            for (int slot = 0; slot < textureCount; slot++)
+                if (textures[slot] == texture) return slot;
+
+            if (textureCount == maxSlots) return -1;
+
+            textures[textureCount] = texture;
+            return textureCount++;
+        }
+    }
+
+    /**
+     * The runs of a set of instances, pooled so recording them doesn't allocate.
+     */
+    private static final class RunList {
+
+        private final List<Run> runs = new ArrayList<>();
+        private int count;
+
+        private Run get(int index) {
+            return runs.get(index);
+        }
+
+        private Run next(int start) {
+            if (count == runs.size()) runs.add(new Run());
+
+            Run run = runs.get(count++);
+            run.reset(start);
+            return run;
+        }
+
+        private void clear() {
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package net.sparkzz.entropy.render.orthographic.batch;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits the filling of per-item vertex or instance data across the common {@link ForkJoinPool}.
+ * <p>
+ * Each worker writes a disjoint range of items, so writers only need to touch the slice of the
+ * target buffer belonging to their range. Everything written is visible to the calling thread
+ * once {@link #run(int, int, RangeWriter)} returns. Item data must only be read while filling.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+final class ParallelFill {
+
+    // Ranges are split until they are at most this many items, or a few per worker for small counts
+    private static final int MIN_GRAIN = 512;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private ParallelFill() {}
+
+    /**
+     * Writes the data for a range of items.
+     */
+    @FunctionalInterface
+    interface RangeWriter {
+
+        /**
+         * Writes the data for the items in {@code [start, end)}.
+         *
+         * @param start The first item index, inclusive.
+         * @param end   The last item index, exclusive.
+         */
+        void write(int start, int end);
+    }
+
+    /**
+     * Writes the data for {@code count} items, in parallel if there are at least {@code threshold}.
+     *
+     * @param count     The number of items.
+     * @param threshold The item count from which the work is split across the pool.
+     * @param writer    The writer filling a range of items.
+     */
+    static void run(int count, int threshold, RangeWriter writer) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int parallelism = pool.getParallelism();
+
+        if (count < threshold || parallelism < 2) {
+            writer.write(0, count);
+            return;
+        }
+
+        int grain = Math.max(MIN_GRAIN, count / (parallelism * CHUNKS_PER_WORKER));
+
+        pool.invoke(new FillTask(writer, 0, count, grain));
+    }
+
+    private static final class FillTask extends RecursiveAction {
+
+        private final RangeWriter writer;
+        private final int start, end, grain;
+
+        private FillTask(RangeWriter writer, int start, int end, int grain) {
+            this.writer = writer;
+            this.start = start;
+            this.end = end;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= grain) {
+                writer.write(start, end);
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+
+            invokeAll(new FillTask(writer, start, middle, grain), new FillTask(writer, middle, end, grain));
+        }
+    }
+}
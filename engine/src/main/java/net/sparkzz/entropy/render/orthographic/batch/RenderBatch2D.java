@@ -1,11 +1,14 @@
 package net.sparkzz.entropy.render.orthographic.batch;
 
+import net.sparkzz.entropy.render.Texture;
 import net.sparkzz.entropy.render.orthographic.Renderable2D;
 import net.sparkzz.entropy.render.orthographic.camera.Camera2D;
-import net.sparkzz.entropy.render.orthographic.shader.Shader2D;
+import net.sparkzz.entropy.render.orthographic.shader.AbstractShader2D;
+import org.joml.Matrix4f;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Base class for rendering batches of 2D renderable objects.
@@ -14,39 +17,60 @@ import java.util.List;
  */
 public abstract class RenderBatch2D<T extends Renderable2D> implements IRenderBatch2D<T> {
 
+    /**
+     * Default number of items from which batches fill their vertex or instance data in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
     private boolean persistent = false;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private int structureVersion;
 
     /**
      * Shader used for rendering the batch
      */
-    protected Shader2D shader;
+    protected AbstractShader2D shader;
     /**
      * List of items to be rendered in the batch
      */
     protected List<T> batchItems = new ArrayList<>();
+    /**
+     * Queue of batch items in draw order, rebuilt by {@link #sortItems()}
+     */
+    protected final RenderQueue<T> renderQueue = new RenderQueue<>();
 
     /**
      * Constructor for AbstractRenderBatch2D.
      *
-     * @param shader The Shader2D to be used for rendering
+     * @param shader The 2D shader to be used for rendering
      */
-    public RenderBatch2D(Shader2D shader) {
+    public RenderBatch2D(AbstractShader2D shader) {
         this.shader = shader;
     }
 
     /**
      * Begins the batch rendering process by binding the shader,
      * setting the projection matrix, and clearing the batch if not persistent.
+     * The projection is skipped while the camera's version is unchanged.
      *
      * @param camera The Camera2D to be used for rendering
      */
     @Override
     public void begin(Camera2D camera) {
-        shader.bind();
-        shader.setProjectionMatrix(camera.getProjectionMatrix());
+        bindShader(camera);
         if (!persistent) batchItems.clear();
     }
 
+    /**
+     * Binds the shader and sets its projection for a camera, leaving the batch items alone.
+     *
+     * @param camera The Camera2D to be used for rendering
+     */
+    protected void bindShader(Camera2D camera) {
+        shader.bind();
+        shader.setProjectionMatrix(getProjection(camera), camera.getVersion());
+    }
+
     /**
      * Submits a renderable entity to the batch.
      *
@@ -55,15 +79,30 @@ public abstract class RenderBatch2D<T extends Renderable2D> implements IRenderBa
     @Override
     public void submit(T entity) {
         batchItems.add(entity);
+
+        if (persistent && entity.isPersistent()) structureVersion++;
+    }
+
+    /**
+     * Removes a renderable entity from the batch, e.g. a persistent item that is no longer needed.
+     *
+     * @param entity The Renderable2D entity to be removed
+     * @return True if the entity was in the batch, false otherwise
+     */
+    public boolean remove(T entity) {
+        boolean removed = batchItems.remove(entity);
+
+        if (removed) structureVersion++;
+        return removed;
     }
 
     /**
      * Ends the batch rendering process, flushing any remaining entities.
+     * The shader is left bound so a following batch using the same program doesn't switch programs.
      */
     @Override
     public void end() {
         flush();
-        shader.unbind();
     }
 
     /**
@@ -72,6 +111,7 @@ public abstract class RenderBatch2D<T extends Renderable2D> implements IRenderBa
      */
     public void clear() {
         batchItems.clear();
+        structureVersion++;
     }
 
     /**
@@ -80,6 +120,8 @@ public abstract class RenderBatch2D<T extends Renderable2D> implements IRenderBa
      * @param persistent True if the batch should persist, false otherwise
      */
     public void setPersistent(boolean persistent) {
+        if (this.persistent != persistent) structureVersion++;
+
         this.persistent = persistent;
     }
 
@@ -92,6 +134,28 @@ public abstract class RenderBatch2D<T extends Renderable2D> implements IRenderBa
         return persistent;
     }
 
+    /**
+     * Sets the number of items from which the per-item data is computed in parallel on the
+     * common ForkJoin pool. Smaller batches are filled on the rendering thread, where splitting
+     * the work would cost more than it saves.
+     *
+     * @param parallelThreshold The item count to go parallel at, or {@link Integer#MAX_VALUE} to never do so
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold <= 0) throw new IllegalArgumentException("Parallel threshold must be positive");
+
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Gets the number of items from which the per-item data is computed in parallel.
+     *
+     * @return The parallel threshold
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
     /**
      * Gets the current size of the batch.
      *
@@ -101,6 +165,111 @@ public abstract class RenderBatch2D<T extends Renderable2D> implements IRenderBa
         return batchItems.size();
     }
 
+    /**
+     * Gets the structure version of the batch, incremented whenever the set of retained items
+     * may have changed: a persistent item was submitted to a persistent batch, or an item was
+     * removed, or the batch was cleared or changed persistence. Batches that retain their
+     * persistent items on the GPU rebuild them when it differs from the version they baked.
+     *
+     * @return The structure version.
+     */
+    protected int getStructureVersion() {
+        return structureVersion;
+    }
+
+    /**
+     * Sorts the batch items into draw order by layer, then z-index, grouping items
+     * {@link Renderable2D#setOpaque(boolean) declared opaque} that share a shader and texture to minimize
+     * state changes. All other items keep their submission order within their layer and z-index.
+     *
+     * @return The render queue holding the items in draw order.
+     */
+    protected RenderQueue<T> sortItems() {
+        return sortItems(null);
+    }
+
+    /**
+     * Sorts the batch items accepted by a filter into draw order, like {@link #sortItems()}.
+     *
+     * @param filter The items to include, or null to include all of them.
+     * @return The render queue holding the accepted items in draw order.
+     */
+    protected RenderQueue<T> sortItems(Predicate<? super T> filter) {
+        int shaderId = shader.getProgramId();
+
+        renderQueue.clear();
+
+        for (int i = 0, size = batchItems.size(); i < size; i++) {
+            T item = batchItems.get(i);
+
+            if (filter != null && !filter.test(item)) continue;
+
+            Texture texture = item.getTexture();
+
+            renderQueue.add(item, getLayer(item), item.getZIndex(), isTranslucent(item),
+                    shaderId, texture != null ? texture.getId() : 0);
+        }
+
+        renderQueue.sort();
+        return renderQueue;
+    }
+
+    /**
+     * Gets the sort key an item would be queued with, ignoring its submission order.
+     * Two keys differ if the item would be drawn in a different place relative to the others.
+     *
+     * @param item The batch item.
+     * @return The sort key of the item.
+     */
+    protected long sortKey(T item) {
+        Texture texture = item.getTexture();
+
+        return RenderQueue.key(getLayer(item), item.getZIndex(), isTranslucent(item),
+                shader.getProgramId(), texture != null ? texture.getId() : 0, 0);
+    }
+
+    // Texture alpha can't be seen from here, so an opaque tint alone doesn't let an item be reordered
+    private static boolean isTranslucent(Renderable2D item) {
+        return !item.isOpaque() || item.getAlpha() < 1f;
+    }
+
+    /**
+     * Removes the non-persistent items after they were drawn, compacting the list in place so it doesn't allocate.
+     */
+    protected void removeStreamedItems() {
+        int kept = 0;
+
+        for (int i = 0, size = batchItems.size(); i < size; i++) {
+            T item = batchItems.get(i);
+
+            if (item.isPersistent()) batchItems.set(kept++, item);
+        }
+
+        for (int i = batchItems.size() - 1; i >= kept; i--) batchItems.remove(i);
+    }
+
+    /**
+     * Gets the layer of an item, drawn before its z-index is considered.
+     * Batches whose items have layers override this.
+     *
+     * @param item The batch item.
+     * @return The layer of the item, 0 by default.
+     */
+    protected int getLayer(T item) {
+        return 0;
+    }
+
+    /**
+     * Gets the matrix the batch is projected with.
+     * Defaults to the camera's view-projection, batches drawing in screen space override this.
+     *
+     * @param camera The camera the batch is drawn with.
+     * @return The projection matrix.
+     */
+    protected Matrix4f getProjection(Camera2D camera) {
+        return camera.getViewProjectionMatrix();
+    }
+
     /**
      * Flushes the batch, rendering all submitted entities.
      * This method must be implemented by subclasses to define specific rendering behavior.
@@ -0,0 +1,238 @@
+package net.sparkzz.entropy.render.orthographic.batch;
+
+import java.util.Arrays;
+
+/**
+ * A queue of submitted items ordered by a packed 64-bit sort key.
+ * <p>
+ * Each item gets one {@code long} key holding, from most to least significant bits:
+ * <pre>
+ *   layer (8, signed) | zIndex (16) | translucent (1) | shader (7) | texture (12) | submission index (20)
+ * </pre>
+ * Sorting the keys gives the correct draw order first, then groups opaque items by shader and
+ * texture to minimize state changes. Translucent items leave the shader and texture bits empty
+ * so they keep their submission order, which blending depends on. The submission index makes
+ * every key unique and maps it back to its item, so the keys are sorted as a primitive array
+ * with an LSD radix sort, or {@link Arrays#parallelSort(long[], int, int)} for very large queues.
+ * Queues holding more than {@link #MAX_ITEMS} items outgrow the submission index, and fall back to
+ * a slower stable sort of the items themselves.
+ *
+ * @param <T> The type of item in the queue.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class RenderQueue<T> {
+
+    /**
+     * Maximum number of items sorted by their keys alone, limited by the submission index bits.
+     */
+    public static final int MAX_ITEMS = 1 << 20;
+    /**
+     * Queue size from which sorting switches to {@link Arrays#parallelSort(long[], int, int)}.
+     */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 17;
+
+    private static final int INDEX_BITS = 20;
+    private static final int TEXTURE_BITS = 12;
+    private static final int SHADER_BITS = 7;
+    private static final int Z_INDEX_BITS = 16;
+
+    private static final int TEXTURE_SHIFT = INDEX_BITS;
+    private static final int SHADER_SHIFT = TEXTURE_SHIFT + TEXTURE_BITS;
+    private static final int TRANSLUCENT_SHIFT = SHADER_SHIFT + SHADER_BITS;
+    private static final int Z_INDEX_SHIFT = TRANSLUCENT_SHIFT + 1;
+    private static final int LAYER_SHIFT = Z_INDEX_SHIFT + Z_INDEX_BITS;
+
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    private final int[][] digitCounts = new int[Long.BYTES][256];
+
+    private long[] keys = new long[256];
+    private long[] scratch = new long[0];
+    private Object[] items = new Object[256];
+    private int size;
+    // Set once the items themselves were sorted, rather than mapped from the keys
+    private boolean itemsSorted;
+
+    /**
+     * Adds an item to the queue.
+     *
+     * @param item        The item to add.
+     * @param layer       The layer of the item, clamped to a signed byte.
+     * @param zIndex      The z-index of the item within its layer, clamped to a signed short.
+     * @param translucent True if the item blends with what is behind it, false otherwise.
+     * @param shaderId    The ID of the shader drawing the item, only its low bits are used for grouping.
+     * @param textureId   The ID of the item's texture, only its low bits are used for grouping.
+     */
+    public void add(T item, int layer, int zIndex, boolean translucent, int shaderId, int textureId) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            items = Arrays.copyOf(items, size * 2);
+        }
+
+        // Past MAX_ITEMS the index bits wrap, they're only used while the keys are unique
+        keys[size] = key(layer, zIndex, translucent, shaderId, textureId, size);
+        items[size] = item;
+        size++;
+    }
+
+    /**
+     * Sorts the queued items into draw order.
+     */
+    public void sort() {
+        if (size > MAX_ITEMS) {
+            sortItems();
+        } else if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(keys, 0, size);
+        } else {
+            if (scratch.length < size) scratch = new long[keys.length];
+
+            radixSort(keys, scratch, digitCounts, size);
+        }
+    }
+
+    /**
+     * Gets an item by its position in the queue, in draw order once {@link #sort()} was called.
+     *
+     * @param index The position in the queue.
+     * @return The item at that position.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+
+        return (T) items[itemsSorted ? index : (int) (keys[index] & INDEX_MASK)];
+    }
+
+    /**
+     * Gets the sort key of an item by its position in the queue, without its submission index,
+     * so it compares with keys packed for the same item by {@link #key(int, int, boolean, int, int, int)} at index 0.
+     *
+     * @param index The position in the queue.
+     * @return The sort key of the item at that position.
+     */
+    long getKey(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+
+        return keys[index] & ~INDEX_MASK;
+    }
+
+    /**
+     * Gets the number of queued items.
+     *
+     * @return The queue size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all items from the queue, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+        itemsSorted = false;
+    }
+
+    // Sorts the keys and items together, a stable sort keeping submission order without the index bits
+    private void sortItems() {
+        Integer[] order = new Integer[size];
+
+        for (int i = 0; i < size; i++) order[i] = i;
+
+        Arrays.parallelSort(order, (a, b) -> Long.compare(keys[a] & ~INDEX_MASK, keys[b] & ~INDEX_MASK));
+
+        long[] sortedKeys = new long[keys.length];
+        Object[] sortedItems = new Object[items.length];
+
+        for (int i = 0; i < size; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedItems[i] = items[order[i]];
+        }
+
+        keys = sortedKeys;
+        items = sortedItems;
+        itemsSorted = true;
+    }
+
+    /**
+     * Packs the sort key of an item.
+     *
+     * @param layer       The layer, clamped to a signed byte.
+     * @param zIndex      The z-index, clamped to a signed short.
+     * @param translucent True if the item is translucent.
+     * @param shaderId    The shader ID.
+     * @param textureId   The texture ID.
+     * @param index       The submission index.
+     * @return The sort key.
+     */
+    static long key(int layer, int zIndex, boolean translucent, int shaderId, int textureId, int index) {
+        // The layer keeps its sign in the top bits, so signed comparison orders negative layers first
+        long key = (long) Math.clamp(layer, Byte.MIN_VALUE, Byte.MAX_VALUE) << LAYER_SHIFT;
+        key |= (long) (Math.clamp(zIndex, Short.MIN_VALUE, Short.MAX_VALUE) - Short.MIN_VALUE) << Z_INDEX_SHIFT;
+
+        if (translucent) {
+            key |= 1L << TRANSLUCENT_SHIFT;
+        } else {
+            key |= (long) (shaderId & ((1 << SHADER_BITS) - 1)) << SHADER_SHIFT;
+            key |= (long) (textureId & ((1 << TEXTURE_BITS) - 1)) << TEXTURE_SHIFT;
+        }
+
+        return key | (index & INDEX_MASK);
+    }
+
+    /**
+     * Sorts signed 64-bit keys in ascending order with a least significant digit radix sort,
+     * 8 bits per pass. Passes where every key has the same digit are skipped.
+     *
+     * @param keys    The keys to sort.
+     * @param scratch A buffer at least {@code size} long.
+     * @param counts  A {@code [8][256]} buffer for the digit counts, overwritten.
+     * @param size    The number of keys to sort, from index zero.
+     */
+    static void radixSort(long[] keys, long[] scratch, int[][] counts, int size) {
+        for (int[] count : counts) Arrays.fill(count, 0);
+
+        for (int i = 0; i < size; i++) {
+            long key = keys[i];
+
+            for (int pass = 0; pass < Long.BYTES; pass++) counts[pass][digit(key, pass)]++;
+        }
+
+        long[] source = keys, target = scratch;
+
+        for (int pass = 0; pass < Long.BYTES; pass++) {
+            int[] count = counts[pass];
+
+            if (count[digit(source[0], pass)] == size) continue;
+
+            // Turn the counts into starting offsets
+            for (int bucket = 0, offset = 0; bucket < 256; bucket++) {
+                int bucketSize = count[bucket];
+                count[bucket] = offset;
+                offset += bucketSize;
+            }
+
+            for (int i = 0; i < size; i++) {
+                long key = source[i];
+                target[count[digit(key, pass)]++] = key;
+            }
+
+            long[] swap = source;
+            source = target;
+            target = swap;
+        }
+
+        if (source != keys) System.arraycopy(source, 0, keys, 0, size);
+    }
+
+    private static int digit(long key, int pass) {
+        int digit = (int) (key >>> (pass * 8)) & 0xFF;
+
+        // Flip the sign bit on the last pass so negative keys sort first
+        return pass == Long.BYTES - 1 ? digit ^ 0x80 : digit;
+    }
+}
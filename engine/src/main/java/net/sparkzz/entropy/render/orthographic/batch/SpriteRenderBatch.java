@@ -1,21 +1,41 @@
 package net.sparkzz.entropy.render.orthographic.batch;
 
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureRegion;
+import net.sparkzz.entropy.render.orthographic.camera.Camera2D;
 import net.sparkzz.entropy.render.orthographic.model.Sprite;
+import net.sparkzz.entropy.render.orthographic.model.SpriteStore;
 import net.sparkzz.entropy.render.orthographic.shader.Shader2D;
 import net.sparkzz.entropy.render.orthographic.util.QuadMesh;
 import org.joml.Matrix4f;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.FloatBuffer;
 
 /**
  * A render batch specifically for rendering sprites.
  * It handles the rendering of 2D sprite objects using a specified shader.
+ * <p>
+ * The model matrices of all sprites are computed into an off-heap buffer before drawing,
+ * in parallel once the batch reaches the {@link #getParallelThreshold() parallel threshold},
+ * so the rendering thread only uploads them and issues the draw calls.
  *
  * @author Brendon Butler
  * @version 0.1.0-PREALPHA
  * @since 2025-07-17
  */
-public class SpriteRenderBatch extends RenderBatch2D<Sprite> {
+public class SpriteRenderBatch extends RenderBatch2D<Sprite> implements ISpriteStoreBatch {
+
+    private static final int MATRIX_FLOATS = 16;
 
+    // The batch shader, typed for its per-item uniforms
+    private final Shader2D itemShader;
     private final Matrix4f modelMatrix = new Matrix4f();
+    private final ParallelFill.RangeWriter modelWriter = this::writeModels;
+
+    private FloatBuffer models;
+    private RenderQueue<Sprite> fillQueue;
+    private SpriteStore fillStore;
 
     /**
      * Constructs a SpriteRenderBatch with the specified shader.
@@ -24,34 +44,157 @@ public class SpriteRenderBatch extends RenderBatch2D<Sprite> {
      */
     public SpriteRenderBatch(Shader2D shader) {
         super(shader);
+
+        this.itemShader = shader;
     }
 
     /**
      * Flushes the batch by rendering all submitted sprites.
-     * Binds the quad mesh, sets the shader color and texture for each sprite,
+     * Sorts the sprites by z-index, computes their model matrices, binds the quad mesh,
+     * sets the shader model, color, UV rectangle and texture for each sprite,
      * and draws the quad mesh. Non-persistent sprites are removed after rendering.
      */
     @Override
     protected void flush() {
+        RenderQueue<Sprite> queue = sortItems();
+
+        computeModels(queue, null, queue.size());
         QuadMesh.bind();
 
-        for (Sprite sprite : batchItems) {
-            modelMatrix.identity()
-                    .translate(sprite.getPosition().x, sprite.getPosition().y, 0)
-                    .scale(sprite.getSize().x, sprite.getSize().y, 1)
-                    .rotateZ((float) Math.toRadians(sprite.getRotation()));
-            shader.setModel(modelMatrix);
+        Texture boundTexture = null;
+
+        for (int i = 0; i < queue.size(); i++) {
+            Sprite sprite = queue.get(i);
+
+            modelMatrix.set(i * MATRIX_FLOATS, models);
+            itemShader.setModel(modelMatrix);
 
-            shader.setColor(sprite.getColor());
-            sprite.getTexture().bind();
+            itemShader.setColor(sprite.getRed(), sprite.getGreen(), sprite.getBlue(), sprite.getAlpha());
+            itemShader.setUVRect(sprite.getRegion());
+
+            // Items sharing a texture (e.g. an atlas page) only bind it once
+            Texture texture = sprite.getTexture();
+            if (texture != boundTexture) {
+                texture.bind();
+                boundTexture = texture;
+            }
 
             QuadMesh.draw();
+        }
+
+        // The mesh and texture stay bound, the GL state cache skips rebinding them next frame
+        removeStreamedItems();
+    }
 
-            sprite.getTexture().unbind();
+    /**
+     * Draws every sprite in a store, reading its dense arrays directly.
+     * The store is sorted into draw order first if needed.
+     *
+     * @param camera The Camera2D to be used for rendering.
+     * @param store  The sprite store to draw.
+     */
+    @Override
+    public void draw(Camera2D camera, SpriteStore store) {
+        bindShader(camera);
+        store.sort();
+
+        computeModels(null, store, store.size());
+        QuadMesh.bind();
+
+        Texture boundTexture = null;
+
+        for (int i = 0; i < store.size(); i++) {
+            TextureRegion region = store.getRegionAt(i);
+            int color = store.getColorAt(i);
+
+            modelMatrix.set(i * MATRIX_FLOATS, models);
+            itemShader.setModel(modelMatrix);
+
+            itemShader.setColor(SpriteStore.unpackColor(color, 24), SpriteStore.unpackColor(color, 16),
+                    SpriteStore.unpackColor(color, 8), SpriteStore.unpackColor(color, 0));
+            itemShader.setUVRect(region);
+
+            Texture texture = region.getTexture();
+            if (texture != boundTexture) {
+                texture.bind();
+                boundTexture = texture;
+            }
+
+            QuadMesh.draw();
         }
+    }
 
-        QuadMesh.unbind();
+    /**
+     * Frees the off-heap model matrix buffer of this batch.
+     * Call this when the batch is no longer needed.
+     */
+    public void cleanup() {
+        if (models != null) MemoryUtil.memFree(models);
+
+        models = null;
+    }
+
+    /**
+     * Writes the model matrix of a sprite at the current position of the buffer, in column-major order.
+     * Equal to translating by the position, scaling by the size and rotating about z by the rotation.
+     *
+     * @param buffer The buffer to write to.
+     * @param sprite The sprite to write.
+     */
+    static void putModel(FloatBuffer buffer, Sprite sprite) {
+        putModel(buffer, sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight(), sprite.getRotation());
+    }
+
+    /**
+     * Writes a model matrix at the current position of the buffer, in column-major order.
+     *
+     * @param buffer   The buffer to write to.
+     * @param x        The x coordinate to translate by.
+     * @param y        The y coordinate to translate by.
+     * @param width    The width to scale by.
+     * @param height   The height to scale by.
+     * @param rotation The rotation about z in degrees.
+     */
+    static void putModel(FloatBuffer buffer, float x, float y, float width, float height, float rotation) {
+        double radians = Math.toRadians(rotation);
+        float sin = (float) Math.sin(radians), cos = (float) Math.cos(radians);
+
+        buffer.put(width * cos).put(height * sin).put(0f).put(0f)
+                .put(-width * sin).put(height * cos).put(0f).put(0f)
+                .put(0f).put(0f).put(1f).put(0f)
+                .put(x).put(y).put(0f).put(1f);
+    }
+
+    // Computes the models of count sprites from either the queue or the store
+    private void computeModels(RenderQueue<Sprite> queue, SpriteStore store, int count) {
+        int floats = count * MATRIX_FLOATS;
+
+        if (floats == 0) return;
+
+        if (models == null || models.capacity() < floats)
+            models = MemoryUtil.memRealloc(models, Math.max(floats, models != null ? models.capacity() * 2 : floats));
 
-        batchItems.removeIf(sprite -> !sprite.isPersistent());
+        fillQueue = queue;
+        fillStore = store;
+
+        try {
+            ParallelFill.run(count, getParallelThreshold(), modelWriter);
+        } finally {
+            fillQueue = null;
+            fillStore = null;
+        }
+    }
+
+    // Fills the matrices [start, end) through a slice of their own, so workers never share a position
+    private void writeModels(int start, int end) {
+        FloatBuffer slice = models.slice(start * MATRIX_FLOATS, (end - start) * MATRIX_FLOATS);
+
+        if (fillStore != null) {
+            for (int i = start; i < end; i++)
+                putModel(slice, fillStore.getXAt(i), fillStore.getYAt(i), fillStore.getWidthAt(i), fillStore.getHeightAt(i),
+                        fillStore.getRotationAt(i));
+        } else {
+            for (int i = start; i < end; i++) putModel(slice, fillQueue.get(i));
+        }
     }
 }
@@ -1,18 +1,20 @@
 package net.sparkzz.entropy.render.orthographic.batch;
 
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.orthographic.camera.Camera2D;
 import net.sparkzz.entropy.render.orthographic.model.UIElement;
 import net.sparkzz.entropy.render.orthographic.shader.Shader2D;
 import net.sparkzz.entropy.render.orthographic.util.QuadMesh;
 import org.joml.Matrix4f;
 
-import java.util.Comparator;
-
 /**
  * A render batch specifically for rendering UI elements.
  * It sorts the elements by their layer before rendering to ensure correct draw order.
  */
 public class UIRenderBatch extends RenderBatch2D<UIElement> {
 
+    // The batch shader, typed for its per-item uniforms
+    private final Shader2D itemShader;
     private final Matrix4f modelMatrix = new Matrix4f();
 
     /**
@@ -22,37 +24,69 @@ public class UIRenderBatch extends RenderBatch2D<UIElement> {
      */
     public UIRenderBatch(Shader2D shader) {
         super(shader);
+
+        this.itemShader = shader;
+    }
+
+    /**
+     * Gets the layer of a UI element for draw ordering.
+     *
+     * @param element The UI element.
+     * @return The layer of the element.
+     */
+    @Override
+    protected int getLayer(UIElement element) {
+        return element.getLayer();
+    }
+
+    /**
+     * Gets the camera's plain projection, so UI elements stay in screen space while the camera moves.
+     *
+     * @param camera The camera the batch is drawn with.
+     * @return The projection matrix without the view transform.
+     */
+    @Override
+    protected Matrix4f getProjection(Camera2D camera) {
+        return camera.getProjectionMatrix();
     }
 
     /**
      * Flushes the batch by rendering all submitted UI elements.
-     * Sorts the elements by their layer, binds the quad mesh,
-     * sets the shader color and texture for each element,
+     * Sorts the elements by their layer and z-index, binds the quad mesh,
+     * sets the shader color, UV rectangle and texture for each element,
      * and draws the quad mesh. Non-persistent elements are removed after rendering.
      */
     @Override
     protected void flush() {
-        batchItems.sort(Comparator.comparingInt(UIElement::getLayer));
+        RenderQueue<UIElement> queue = sortItems();
 
         QuadMesh.bind();
 
-        for (UIElement element : batchItems) {
+        Texture boundTexture = null;
+
+        for (int i = 0; i < queue.size(); i++) {
+            UIElement element = queue.get(i);
+
             modelMatrix.identity()
-                    .translate(element.getPosition().x, element.getPosition().y, 0)
-                    .scale(element.getSize().x, element.getSize().y, 1)
+                    .translate(element.getX(), element.getY(), 0)
+                    .scale(element.getWidth(), element.getHeight(), 1)
                     .rotateZ((float) Math.toRadians(element.getRotation()));
-            shader.setModel(modelMatrix);
+            itemShader.setModel(modelMatrix);
 
-            shader.setColor(element.getColor());
-            element.getTexture().bind();
+            itemShader.setColor(element.getRed(), element.getGreen(), element.getBlue(), element.getAlpha());
+            itemShader.setUVRect(element.getRegion());
 
-            QuadMesh.draw();
+            // Items sharing a texture (e.g. an atlas page) only bind it once
+            Texture texture = element.getTexture();
+            if (texture != boundTexture) {
+                texture.bind();
+                boundTexture = texture;
+            }
 
-            element.getTexture().unbind();
+            QuadMesh.draw();
         }
 
-        QuadMesh.unbind();
-
-        batchItems.removeIf(element -> !element.isPersistent());
+        // The mesh and texture stay bound, the GL state cache skips rebinding them next frame
+        removeStreamedItems();
     }
 }
@@ -1,9 +1,18 @@
 package net.sparkzz.entropy.render.orthographic.camera;
 
+import net.sparkzz.entropy.render.orthographic.culling.Bounds2D;
 import org.joml.Matrix4f;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
 
 /**
- * A simple 2D camera that provides an orthographic projection matrix.
+ * A 2D camera with an orthographic projection and a view transform for panning, zooming and rotating.
+ * <p>
+ * The position is the world offset scrolled to, so a camera at the origin with no zoom or rotation
+ * maps world units to pixels exactly like the plain projection. Zoom and rotation pivot around the
+ * center of the viewport. The view-projection matrix, its inverse and the view bounds are only
+ * recomputed after something changed, and every change increments the {@link #getVersion() version}
+ * so shaders can skip re-uploading a projection they already have.
  *
  * @author Brendon Butler
  * @version 0.1.0-PREALPHA
@@ -12,23 +21,247 @@ import org.joml.Matrix4f;
 public class Camera2D {
 
     private final Matrix4f projectionMatrix = new Matrix4f();
+    private final Matrix4f viewMatrix = new Matrix4f();
+    private final Matrix4f inverseViewMatrix = new Matrix4f();
+    private final Matrix4f viewProjectionMatrix = new Matrix4f();
+    private final Matrix4f inverseMatrix = new Matrix4f();
+    private final Vector3f corner = new Vector3f();
+    private final Bounds2D viewBounds = new Bounds2D();
+
+    private float width, height;
+    private float x, y;
+    private float zoom = 1f;
+    private float rotation;
+
+    private boolean dirty = true;
+    private int version;
 
     /**
-     * Constructs a Camera2D instance with an initial projection matrix.
+     * Sets up the orthographic projection for a viewport size, in pixels with the origin at the top left.
      *
      * @param width  The width of the viewport.
      * @param height The height of the viewport.
      */
     public void resize(int width, int height) {
         projectionMatrix.identity().ortho2D(0, width, height, 0);
+
+        this.width = width;
+        this.height = height;
+        changed();
+    }
+
+    /**
+     * Sets the position of the camera, the world offset shown at the top left of an unzoomed, unrotated view.
+     *
+     * @param x The x coordinate in world units.
+     * @param y The y coordinate in world units.
+     */
+    public void setPosition(float x, float y) {
+        if (this.x == x && this.y == y) return;
+
+        this.x = x;
+        this.y = y;
+        changed();
+    }
+
+    /**
+     * Moves the camera by an offset.
+     *
+     * @param dx The offset along x in world units.
+     * @param dy The offset along y in world units.
+     */
+    public void translate(float dx, float dy) {
+        setPosition(x + dx, y + dy);
+    }
+
+    /**
+     * Moves the camera so a world point is at the center of the viewport.
+     *
+     * @param x The x coordinate in world units.
+     * @param y The y coordinate in world units.
+     */
+    public void centerOn(float x, float y) {
+        setPosition(x - width / 2f, y - height / 2f);
+    }
+
+    /**
+     * Sets the zoom of the camera, pivoting around the center of the viewport.
+     *
+     * @param zoom The zoom factor, greater than 1 to magnify and less than 1 to show more of the world.
+     */
+    public void setZoom(float zoom) {
+        if (!(zoom > 0f) || Float.isInfinite(zoom)) throw new IllegalArgumentException("Zoom must be positive and finite");
+        if (this.zoom == zoom) return;
+
+        this.zoom = zoom;
+        changed();
+    }
+
+    /**
+     * Sets the rotation of the camera, pivoting around the center of the viewport.
+     * The world appears rotated the opposite way.
+     *
+     * @param rotation The rotation angle in degrees.
+     */
+    public void setRotation(float rotation) {
+        if (this.rotation == rotation) return;
+
+        this.rotation = rotation;
+        changed();
+    }
+
+    /**
+     * Gets the x coordinate of the camera position.
+     *
+     * @return The x coordinate in world units.
+     */
+    public float getX() {
+        return x;
     }
 
     /**
-     * Retrieves the current projection matrix of the camera.
+     * Gets the y coordinate of the camera position.
+     *
+     * @return The y coordinate in world units.
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Gets the zoom of the camera.
+     *
+     * @return The zoom factor.
+     */
+    public float getZoom() {
+        return zoom;
+    }
+
+    /**
+     * Gets the rotation of the camera.
+     *
+     * @return The rotation angle in degrees.
+     */
+    public float getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the version of the camera, incremented whenever the projection or view changes.
+     * A matrix obtained from the camera only needs to be uploaded again once the version differs.
+     *
+     * @return The camera version.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Retrieves the current projection matrix of the camera, without the view transform.
+     * Used for screen-space content like UI.
      *
      * @return The orthographic projection matrix.
      */
     public Matrix4f getProjectionMatrix() {
         return projectionMatrix;
     }
+
+    /**
+     * Retrieves the view matrix of the camera, transforming world coordinates to pixels.
+     *
+     * @return The view matrix, updated in place when the camera changes.
+     */
+    public Matrix4f getViewMatrix() {
+        update();
+        return viewMatrix;
+    }
+
+    /**
+     * Retrieves the combined view-projection matrix, used for world-space content.
+     * Equal to the projection matrix while the camera is at the origin without zoom or rotation.
+     *
+     * @return The view-projection matrix, updated in place when the camera changes.
+     */
+    public Matrix4f getViewProjectionMatrix() {
+        update();
+        return viewProjectionMatrix;
+    }
+
+    /**
+     * Converts a point on the screen, in pixels from the top left, to world coordinates, e.g. for mouse picking.
+     *
+     * @param screenX The x coordinate on the screen.
+     * @param screenY The y coordinate on the screen.
+     * @param dest    The vector to store the result in.
+     * @return The destination vector holding the world coordinates.
+     */
+    public Vector2f screenToWorld(float screenX, float screenY, Vector2f dest) {
+        update();
+        inverseViewMatrix.transformPosition(screenX, screenY, 0f, corner);
+
+        return dest.set(corner.x, corner.y);
+    }
+
+    /**
+     * Converts a point in world coordinates to a point on the screen, in pixels from the top left.
+     *
+     * @param worldX The x coordinate in the world.
+     * @param worldY The y coordinate in the world.
+     * @param dest   The vector to store the result in.
+     * @return The destination vector holding the screen coordinates.
+     */
+    public Vector2f worldToScreen(float worldX, float worldY, Vector2f dest) {
+        update();
+        viewMatrix.transformPosition(worldX, worldY, 0f, corner);
+
+        return dest.set(corner.x, corner.y);
+    }
+
+    /**
+     * Retrieves the world-space rectangle visible through the camera, for culling.
+     * Computed by unprojecting the corners of the viewport through the view-projection matrix,
+     * so it encloses the visible area even when the camera is rotated.
+     *
+     * @return The view bounds, only recomputed when the camera changes.
+     */
+    public Bounds2D getViewBounds() {
+        update();
+        return viewBounds;
+    }
+
+    private void changed() {
+        dirty = true;
+        version++;
+    }
+
+    private void update() {
+        if (!dirty) return;
+
+        dirty = false;
+
+        float centerX = width / 2f, centerY = height / 2f;
+
+        viewMatrix.translation(centerX, centerY, 0f)
+                .rotateZ((float) Math.toRadians(-rotation))
+                .scale(zoom, zoom, 1f)
+                .translate(-centerX - x, -centerY - y, 0f);
+        viewMatrix.invertAffine(inverseViewMatrix);
+
+        projectionMatrix.mul(viewMatrix, viewProjectionMatrix);
+        viewProjectionMatrix.invert(inverseMatrix);
+
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < 4; i++) {
+            inverseMatrix.transformPosition(corner.set((i & 1) == 0 ? -1f : 1f, (i & 2) == 0 ? -1f : 1f, 0f));
+
+            minX = Math.min(minX, corner.x);
+            minY = Math.min(minY, corner.y);
+            maxX = Math.max(maxX, corner.x);
+            maxY = Math.max(maxY, corner.y);
+        }
+
+        viewBounds.set(minX, minY, maxX, maxY);
+    }
 }
@@ -0,0 +1,138 @@
+package net.sparkzz.entropy.render.orthographic.culling;
+
+import net.sparkzz.entropy.render.orthographic.Renderable2D;
+
+/**
+ * A mutable axis-aligned bounding box in world space.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class Bounds2D {
+
+    private float minX, minY, maxX, maxY;
+
+    /**
+     * Constructs empty bounds at the origin.
+     */
+    public Bounds2D() {}
+
+    /**
+     * Constructs bounds from the specified edges.
+     *
+     * @param minX The left edge.
+     * @param minY The top edge.
+     * @param maxX The right edge.
+     * @param maxY The bottom edge.
+     */
+    public Bounds2D(float minX, float minY, float maxX, float maxY) {
+        set(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Sets the edges of the bounds.
+     *
+     * @param minX The left edge.
+     * @param minY The top edge.
+     * @param maxX The right edge.
+     * @param maxY The bottom edge.
+     * @return This bounds.
+     */
+    public Bounds2D set(float minX, float minY, float maxX, float maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        return this;
+    }
+
+    /**
+     * Sets the bounds to enclose a renderable as it is drawn, including its rotation.
+     * The quad is transformed like the batches do: {@code translate(position) * scale(size) * rotateZ(rotation)}
+     * applied to the unit square, so the box encloses all four transformed corners.
+     *
+     * @param item The renderable to enclose.
+     * @return This bounds.
+     */
+    public Bounds2D set(Renderable2D item) {
+        float x = item.getX(), y = item.getY();
+        float width = item.getWidth(), height = item.getHeight();
+        float rotation = item.getRotation();
+
+        if (rotation == 0f)
+            return set(Math.min(x, x + width), Math.min(y, y + height), Math.max(x, x + width), Math.max(y, y + height));
+
+        double angle = Math.toRadians(rotation);
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+
+        // Corner (0, 0) stays at the position, the others are rotated then scaled
+        minX = maxX = x;
+        minY = maxY = y;
+
+        include(x + width * cos, y + height * sin);
+        include(x - width * sin, y + height * cos);
+        include(x + width * (cos - sin), y + height * (sin + cos));
+
+        return this;
+    }
+
+    /**
+     * Checks if these bounds overlap another, touching edges included.
+     *
+     * @param other The other bounds.
+     * @return True if the bounds overlap, false otherwise.
+     */
+    public boolean intersects(Bounds2D other) {
+        return minX <= other.maxX && maxX >= other.minX && minY <= other.maxY && maxY >= other.minY;
+    }
+
+    /**
+     * Gets the left edge.
+     *
+     * @return The minimum x-coordinate.
+     */
+    public float getMinX() {
+        return minX;
+    }
+
+    /**
+     * Gets the top edge.
+     *
+     * @return The minimum y-coordinate.
+     */
+    public float getMinY() {
+        return minY;
+    }
+
+    /**
+     * Gets the right edge.
+     *
+     * @return The maximum x-coordinate.
+     */
+    public float getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Gets the bottom edge.
+     *
+     * @return The maximum y-coordinate.
+     */
+    public float getMaxY() {
+        return maxY;
+    }
+
+    private void include(float x, float y) {
+        minX = Math.min(minX, x);
+        minY = Math.min(minY, y);
+        maxX = Math.max(maxX, x);
+        maxY = Math.max(maxY, y);
+    }
+
+    @Override
+    public String toString() {
+        return "Bounds2D[" + minX + ", " + minY + " -> " + maxX + ", " + maxY + "]";
+    }
+}
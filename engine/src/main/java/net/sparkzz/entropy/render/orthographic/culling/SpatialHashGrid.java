@@ -0,0 +1,253 @@
+package net.sparkzz.entropy.render.orthographic.culling;
+
+import net.sparkzz.entropy.render.orthographic.Renderable2D;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A uniform spatial hash grid over the world-space bounds of renderables, used to cull
+ * everything outside the camera's view before it reaches a render batch.
+ * <p>
+ * Each item is stored in every cell its rotation-aware bounding box overlaps. Only occupied
+ * cells are kept, so the world is unbounded. Items that move or change size must be passed to
+ * {@link #update(Renderable2D)}, which only touches the cell lists if the item crossed a cell border.
+ * <p>
+ * Queries visit items in insertion order, regardless of which cells they occupy, so translucent
+ * items that share a z keep their draw order while moving across cell borders.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> The type of renderable in the grid.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class SpatialHashGrid<T extends Renderable2D> {
+
+    private static final Comparator<Entry<?>> SEQUENCE_ORDER = Comparator.comparingLong(entry -> entry.sequence);
+
+    private final float cellSize;
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+    private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+    private final List<Entry<T>> hits = new ArrayList<>();
+
+    private long nextSequence;
+    private int queryStamp;
+
+    /**
+     * Constructs a SpatialHashGrid with the specified cell size.
+     * Cells a few times larger than a typical item keep both the cell count per item and the cells per query low.
+     *
+     * @param cellSize The width and height of a cell in world units.
+     */
+    public SpatialHashGrid(float cellSize) {
+        if (!(cellSize > 0f) || Float.isInfinite(cellSize)) throw new IllegalArgumentException("Cell size must be positive and finite");
+
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Adds an item to the grid.
+     *
+     * @param item The item to add.
+     */
+    public void insert(T item) {
+        if (item == null) throw new IllegalArgumentException("Item cannot be null");
+        if (entries.containsKey(item)) throw new IllegalArgumentException("Item is already in the grid");
+
+        Entry<T> entry = new Entry<>(item, nextSequence++);
+        entry.bounds.set(item);
+        entry.setCells(cell(entry.bounds.getMinX()), cell(entry.bounds.getMinY()),
+                cell(entry.bounds.getMaxX()), cell(entry.bounds.getMaxY()));
+
+        entries.put(item, entry);
+        addToCells(entry);
+    }
+
+    /**
+     * Recomputes the bounds of an item after it moved, resized or rotated,
+     * moving it between cells only if its cell range changed.
+     *
+     * @param item The item to update.
+     */
+    public void update(T item) {
+        Entry<T> entry = entries.get(item);
+
+        if (entry == null) throw new IllegalArgumentException("Item is not in the grid");
+
+        entry.bounds.set(item);
+
+        int minCellX = cell(entry.bounds.getMinX()), minCellY = cell(entry.bounds.getMinY());
+        int maxCellX = cell(entry.bounds.getMaxX()), maxCellY = cell(entry.bounds.getMaxY());
+
+        if (minCellX == entry.minCellX && minCellY == entry.minCellY && maxCellX == entry.maxCellX && maxCellY == entry.maxCellY)
+            return;
+
+        removeFromCells(entry);
+        entry.setCells(minCellX, minCellY, maxCellX, maxCellY);
+        addToCells(entry);
+    }
+
+    /**
+     * Removes an item from the grid.
+     *
+     * @param item The item to remove.
+     * @return True if the item was in the grid, false otherwise.
+     */
+    public boolean remove(T item) {
+        Entry<T> entry = entries.remove(item);
+
+        if (entry == null) return false;
+
+        removeFromCells(entry);
+        return true;
+    }
+
+    /**
+     * Checks if an item is in the grid.
+     *
+     * @param item The item to check.
+     * @return True if the item is in the grid, false otherwise.
+     */
+    public boolean contains(T item) {
+        return entries.containsKey(item);
+    }
+
+    /**
+     * Visits every item whose bounds overlap an area, each exactly once, in insertion order.
+     * The visitor must not modify or query the grid.
+     *
+     * @param area    The area to query, e.g. the camera's view bounds.
+     * @param visitor Called for every overlapping item.
+     * @return The number of items visited.
+     */
+    public int query(Bounds2D area, Consumer<? super T> visitor) {
+        int stamp = ++queryStamp;
+
+        int minCellX = cell(area.getMinX()), minCellY = cell(area.getMinY());
+        int maxCellX = cell(area.getMaxX()), maxCellY = cell(area.getMaxY());
+
+        for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                List<Entry<T>> cell = cells.get(key(cellX, cellY));
+                if (cell == null) continue;
+
+                for (int i = 0, size = cell.size(); i < size; i++) {
+                    Entry<T> entry = cell.get(i);
+
+                    // Items spanning several cells are only visited from the first one
+                    if (entry.stamp == stamp) continue;
+                    entry.stamp = stamp;
+
+                    if (entry.bounds.intersects(area)) hits.add(entry);
+                }
+            }
+        }
+
+        // Cell order changes as items move, the insertion order doesn't
+        hits.sort(SEQUENCE_ORDER);
+
+        int visited = hits.size();
+
+        for (int i = 0; i < visited; i++)
+            visitor.accept(hits.get(i).item);
+
+        hits.clear();
+        return visited;
+    }
+
+    /**
+     * Gets the number of items in the grid.
+     *
+     * @return The item count.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of occupied cells.
+     *
+     * @return The occupied cell count.
+     */
+    public int getCellCount() {
+        return cells.size();
+    }
+
+    /**
+     * Gets the cell size of the grid.
+     *
+     * @return The width and height of a cell in world units.
+     */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Removes all items from the grid.
+     */
+    public void clear() {
+        cells.clear();
+        entries.clear();
+    }
+
+    private void addToCells(Entry<T> entry) {
+        for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++)
+            for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++)
+                cells.computeIfAbsent(key(cellX, cellY), key -> new ArrayList<>()).add(entry);
+    }
+
+    private void removeFromCells(Entry<T> entry) {
+        for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+            for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+                long key = key(cellX, cellY);
+                List<Entry<T>> cell = cells.get(key);
+
+                // Swap-remove, the order within a cell doesn't matter
+                int index = cell.indexOf(entry);
+                int last = cell.size() - 1;
+                cell.set(index, cell.get(last));
+                cell.remove(last);
+
+                if (cell.isEmpty()) cells.remove(key);
+            }
+        }
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    private static final class Entry<T> {
+
+        private final T item;
+        private final long sequence;
+        private final Bounds2D bounds = new Bounds2D();
+
+        private int minCellX, minCellY, maxCellX, maxCellY;
+        private int stamp;
+
+        private Entry(T item, long sequence) {
+            this.item = item;
+            this.sequence = sequence;
+        }
+
+        private void setCells(int minCellX, int minCellY, int maxCellX, int maxCellY) {
+            this.minCellX = minCellX;
+            this.minCellY = minCellY;
+            this.maxCellX = maxCellX;
+            this.maxCellY = maxCellY;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package net.sparkzz.entropy.render.orthographic.model;
+
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureRegion;
+import org.joml.Vector2f;
+import org.joml.Vector4f;
+
+import java.util.Objects;
+
+/**
+ * A sprite whose properties can be changed in place, so moving or recoloring it doesn't allocate a new sprite.
+ * <p>
+ * Every setter that changes a value {@link #markDirty() marks the sprite dirty}, which bumps its version so
+ * batches retaining it refresh its data, and raises a dirty flag the owner can use to e.g. update the sprite
+ * in a spatial grid once per frame. The flag stays raised until {@link #clearDirty()} is called.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class MutableSprite extends Sprite {
+
+    private boolean dirty;
+
+    /**
+     * Constructs a MutableSprite with the specified properties.
+     *
+     * @param texture  The texture to be applied to the sprite.
+     * @param position The initial position of the sprite in 2D space.
+     * @param size     The initial size (width and height) of the sprite.
+     * @param color    The initial color tint of the sprite (RGBA).
+     * @param rotation The initial rotation angle of the sprite in degrees.
+     */
+    public MutableSprite(Texture texture, Vector2f position, Vector2f size, Vector4f color, float rotation) {
+        super(texture, position, size, color, rotation);
+    }
+
+    /**
+     * Constructs a MutableSprite that draws a region of a texture, such as an atlas entry.
+     *
+     * @param region   The texture region to be applied to the sprite.
+     * @param position The initial position of the sprite in 2D space.
+     * @param size     The initial size (width and height) of the sprite.
+     * @param color    The initial color tint of the sprite (RGBA).
+     * @param rotation The initial rotation angle of the sprite in degrees.
+     */
+    public MutableSprite(TextureRegion region, Vector2f position, Vector2f size, Vector4f color, float rotation) {
+        super(region, position, size, color, rotation);
+    }
+
+    /**
+     * Constructs a MutableSprite with default color (white) and no rotation.
+     *
+     * @param texture  The texture to be applied to the sprite.
+     * @param position The initial position of the sprite in 2D space.
+     * @param size     The initial size (width and height) of the sprite.
+     */
+    public MutableSprite(Texture texture, Vector2f position, Vector2f size) {
+        super(texture, position, size);
+    }
+
+    /**
+     * Sets the texture region drawn by the sprite.
+     *
+     * @param region The texture region to draw.
+     */
+    public void setRegion(TextureRegion region) {
+        Objects.requireNonNull(region, "Texture region cannot be null");
+
+        if (this.region == region) return;
+
+        this.region = region;
+        markDirty();
+    }
+
+    /**
+     * Sets the position of the sprite.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     */
+    public void setPosition(float x, float y) {
+        if (position.x == x && position.y == y) return;
+
+        position.set(x, y);
+        markDirty();
+    }
+
+    /**
+     * Moves the sprite by an offset.
+     *
+     * @param dx The offset along x.
+     * @param dy The offset along y.
+     */
+    public void translate(float dx, float dy) {
+        setPosition(position.x + dx, position.y + dy);
+    }
+
+    /**
+     * Sets the size of the sprite.
+     *
+     * @param width  The width.
+     * @param height The height.
+     */
+    public void setSize(float width, float height) {
+        if (size.x == width && size.y == height) return;
+
+        size.set(width, height);
+        markDirty();
+    }
+
+    /**
+     * Sets the color tint of the sprite.
+     *
+     * @param red   The red component.
+     * @param green The green component.
+     * @param blue  The blue component.
+     * @param alpha The alpha component.
+     */
+    public void setColor(float red, float green, float blue, float alpha) {
+        if (color.x == red && color.y == green && color.z == blue && color.w == alpha) return;
+
+        color.set(red, green, blue, alpha);
+        markDirty();
+    }
+
+    /**
+     * Sets the rotation of the sprite.
+     *
+     * @param rotation The rotation angle in degrees.
+     */
+    public void setRotation(float rotation) {
+        if (this.rotation == rotation) return;
+
+        this.rotation = rotation;
+        markDirty();
+    }
+
+    /**
+     * Marks the sprite as changed, bumping its version and raising its dirty flag.
+     */
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        dirty = true;
+    }
+
+    /**
+     * Checks if the sprite changed since the dirty flag was last cleared.
+     *
+     * @return True if the sprite is dirty, false otherwise.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Clears the dirty flag, e.g. after the owner has handled the change.
+     * The version is unaffected, so batches still see the change.
+     */
+    public void clearDirty() {
+        dirty = false;
+    }
+}
@@ -1,17 +1,17 @@
 package net.sparkzz.entropy.render.orthographic.model;
 
 import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureRegion;
 import net.sparkzz.entropy.render.orthographic.Renderable2D;
 import org.joml.Vector2f;
-import org.joml.Vector2fc;
 import org.joml.Vector4f;
-import org.joml.Vector4fc;
 
 import java.util.Objects;
 
 /**
  * A simple sprite class that extends Renderable2D.
  * This class represents a 2D sprite with position, size, color, rotation, and texture.
+ * Sprites are immutable, see {@link MutableSprite} for sprites that move or change over time.
  *
  * @author Brendon Butler
  * @version 0.1.0-PREALPHA
@@ -19,11 +19,26 @@ import java.util.Objects;
  */
 public class Sprite extends Renderable2D {
 
-    private final Texture texture;
-    private final Vector2fc position;
-    private final Vector2fc size;
-    private final Vector4fc color;
-    private final float rotation;
+    /**
+     * Texture region drawn by the sprite
+     */
+    protected TextureRegion region;
+    /**
+     * Position of the sprite, only changed by mutable subclasses
+     */
+    protected final Vector2f position;
+    /**
+     * Size of the sprite, only changed by mutable subclasses
+     */
+    protected final Vector2f size;
+    /**
+     * Color tint of the sprite, only changed by mutable subclasses
+     */
+    protected final Vector4f color;
+    /**
+     * Rotation of the sprite in degrees, only changed by mutable subclasses
+     */
+    protected float rotation;
 
     /**
      * Constructs a Sprite with the specified properties.
@@ -35,7 +50,20 @@ public class Sprite extends Renderable2D {
      * @param rotation The rotation angle of the sprite in degrees.
      */
     public Sprite(Texture texture, Vector2f position, Vector2f size, Vector4f color, float rotation) {
-        this.texture = Objects.requireNonNull(texture, "Texture cannot be null");
+        this(Objects.requireNonNull(texture, "Texture cannot be null").asRegion(), position, size, color, rotation);
+    }
+
+    /**
+     * Constructs a Sprite that draws a region of a texture, such as an atlas entry.
+     *
+     * @param region   The texture region to be applied to the sprite.
+     * @param position The position of the sprite in 2D space.
+     * @param size     The size (width and height) of the sprite.
+     * @param color    The color tint of the sprite (RGBA).
+     * @param rotation The rotation angle of the sprite in degrees.
+     */
+    public Sprite(TextureRegion region, Vector2f position, Vector2f size, Vector4f color, float rotation) {
+        this.region = Objects.requireNonNull(region, "Texture region cannot be null");
         this.position = new Vector2f(Objects.requireNonNull(position, "Position cannot be null"));
         this.size = new Vector2f(Objects.requireNonNull(size, "Size cannot be null"));
         this.color = new Vector4f(Objects.requireNonNull(color, "Color cannot be null"));
@@ -60,7 +88,17 @@ public class Sprite extends Renderable2D {
      */
     @Override
     public Texture getTexture() {
-        return texture;
+        return region.getTexture();
+    }
+
+    /**
+     * Gets the texture region of the sprite.
+     *
+     * @return The texture region applied to the sprite.
+     */
+    @Override
+    public TextureRegion getRegion() {
+        return region;
     }
 
     /**
@@ -93,6 +131,86 @@ public class Sprite extends Renderable2D {
         return color.get(new Vector4f());
     }
 
+    /**
+     * Gets the x coordinate of the position of the sprite.
+     *
+     * @return The x coordinate.
+     */
+    @Override
+    public float getX() {
+        return position.x();
+    }
+
+    /**
+     * Gets the y coordinate of the position of the sprite.
+     *
+     * @return The y coordinate.
+     */
+    @Override
+    public float getY() {
+        return position.y();
+    }
+
+    /**
+     * Gets the width of the sprite.
+     *
+     * @return The width.
+     */
+    @Override
+    public float getWidth() {
+        return size.x();
+    }
+
+    /**
+     * Gets the height of the sprite.
+     *
+     * @return The height.
+     */
+    @Override
+    public float getHeight() {
+        return size.y();
+    }
+
+    /**
+     * Gets the red component of the color of the sprite.
+     *
+     * @return The red component.
+     */
+    @Override
+    public float getRed() {
+        return color.x();
+    }
+
+    /**
+     * Gets the green component of the color of the sprite.
+     *
+     * @return The green component.
+     */
+    @Override
+    public float getGreen() {
+        return color.y();
+    }
+
+    /**
+     * Gets the blue component of the color of the sprite.
+     *
+     * @return The blue component.
+     */
+    @Override
+    public float getBlue() {
+        return color.z();
+    }
+
+    /**
+     * Gets the alpha component of the color of the sprite.
+     *
+     * @return The alpha component.
+     */
+    @Override
+    public float getAlpha() {
+        return color.w();
+    }
+
     /**
      * Gets the rotation angle of the sprite.
      *
@@ -0,0 +1,591 @@
+package net.sparkzz.entropy.render.orthographic.model;
+
+import net.sparkzz.entropy.render.TextureRegion;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A structure-of-arrays store for very large numbers of sprites, without one object per sprite.
+ * <p>
+ * Each property lives in its own primitive array, with the color packed into a single RGBA8 {@code int}.
+ * Sprites are addressed by stable int handles returned by {@link #add(TextureRegion, float, float, float, float)},
+ * while the arrays themselves stay dense: removing a sprite moves the last one into its place, unless the last
+ * one is translucent and has to keep its order, and freed handles are reused. Batches read the dense arrays
+ * by position through the {@code ...At} accessors after {@link #sort()}, which keeps the positions in draw
+ * order so they can be streamed as contiguous ranges.
+ * <p>
+ * This class is not thread-safe, but batches may read it from several threads while nothing modifies it.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class SpriteStore {
+
+    /**
+     * Packed color of an untinted, opaque sprite.
+     */
+    public static final int WHITE = 0xFFFFFFFF;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int NO_INDEX = -1;
+
+    private float[] x, y, width, height, rotation;
+    private int[] color, zIndex;
+    private TextureRegion[] regions;
+    private int[] indexToHandle;
+    private int[] handleToIndex;
+    private int[] freeHandles;
+
+    private int size;
+    private int handleCount;
+    private int freeCount;
+    private boolean orderDirty;
+
+    // Reused while sorting so reordering doesn't allocate
+    private long[] sortKeys = new long[0];
+    private float[] floatScratch = new float[0];
+    private int[] intScratch = new int[0];
+    private TextureRegion[] regionScratch = new TextureRegion[0];
+
+    /**
+     * Constructs an empty SpriteStore with the default capacity.
+     */
+    public SpriteStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty SpriteStore with room for the specified number of sprites before growing.
+     *
+     * @param capacity The initial capacity.
+     */
+    public SpriteStore(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+
+        x = new float[capacity];
+        y = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        rotation = new float[capacity];
+        color = new int[capacity];
+        zIndex = new int[capacity];
+        regions = new TextureRegion[capacity];
+        indexToHandle = new int[capacity];
+        handleToIndex = new int[capacity];
+        freeHandles = new int[capacity];
+    }
+
+    /**
+     * Adds an untinted, unrotated sprite at z-index zero.
+     *
+     * @param region The texture region drawn by the sprite.
+     * @param x      The x coordinate of the sprite.
+     * @param y      The y coordinate of the sprite.
+     * @param width  The width of the sprite.
+     * @param height The height of the sprite.
+     * @return The handle of the new sprite.
+     */
+    public int add(TextureRegion region, float x, float y, float width, float height) {
+        Objects.requireNonNull(region, "Texture region cannot be null");
+
+        if (size == this.x.length) grow(size * 2);
+
+        int handle = freeCount > 0 ? freeHandles[--freeCount] : newHandle();
+        int index = size++;
+
+        this.x[index] = x;
+        this.y[index] = y;
+        this.width[index] = width;
+        this.height[index] = height;
+        this.rotation[index] = 0f;
+        this.color[index] = WHITE;
+        this.zIndex[index] = 0;
+        this.regions[index] = region;
+        this.indexToHandle[index] = handle;
+        this.handleToIndex[handle] = index;
+
+        orderDirty = true;
+        return handle;
+    }
+
+    /**
+     * Removes a sprite, moving the last sprite into its place. If the last sprite is translucent, the sprites
+     * after the removed one shift down instead, so translucent sprites keep their relative order.
+     * The handle may be reused by later additions.
+     *
+     * @param handle The handle of the sprite.
+     * @return True if the sprite was in the store, false otherwise.
+     */
+    public boolean remove(int handle) {
+        if (!contains(handle)) return false;
+
+        int index = handleToIndex[handle];
+        int last = --size;
+
+        if (index != last && isTranslucent(color[last])) {
+            // Removing from the middle keeps the arrays in whatever order they were
+            shiftDown(index + 1, last);
+        } else if (index != last) {
+            move(last, index);
+            orderDirty = true;
+        }
+
+        regions[last] = null;
+        handleToIndex[handle] = NO_INDEX;
+        freeHandles[freeCount++] = handle;
+        return true;
+    }
+
+    /**
+     * Checks if a handle refers to a sprite in the store.
+     *
+     * @param handle The handle to check.
+     * @return True if the sprite is in the store, false otherwise.
+     */
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < handleCount && handleToIndex[handle] != NO_INDEX;
+    }
+
+    /**
+     * Sets the position of a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @param x      The x coordinate.
+     * @param y      The y coordinate.
+     */
+    public void setPosition(int handle, float x, float y) {
+        int index = indexOf(handle);
+
+        this.x[index] = x;
+        this.y[index] = y;
+    }
+
+    /**
+     * Moves a sprite by an offset.
+     *
+     * @param handle The handle of the sprite.
+     * @param dx     The offset along x.
+     * @param dy     The offset along y.
+     */
+    public void translate(int handle, float dx, float dy) {
+        int index = indexOf(handle);
+
+        x[index] += dx;
+        y[index] += dy;
+    }
+
+    /**
+     * Sets the size of a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @param width  The width.
+     * @param height The height.
+     */
+    public void setSize(int handle, float width, float height) {
+        int index = indexOf(handle);
+
+        this.width[index] = width;
+        this.height[index] = height;
+    }
+
+    /**
+     * Sets the rotation of a sprite.
+     *
+     * @param handle   The handle of the sprite.
+     * @param rotation The rotation angle in degrees.
+     */
+    public void setRotation(int handle, float rotation) {
+        this.rotation[indexOf(handle)] = rotation;
+    }
+
+    /**
+     * Sets the color tint of a sprite from its components.
+     *
+     * @param handle The handle of the sprite.
+     * @param red    The red component.
+     * @param green  The green component.
+     * @param blue   The blue component.
+     * @param alpha  The alpha component.
+     */
+    public void setColor(int handle, float red, float green, float blue, float alpha) {
+        setColor(handle, packColor(red, green, blue, alpha));
+    }
+
+    /**
+     * Sets the packed color tint of a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @param rgba   The color packed as {@code 0xRRGGBBAA}.
+     */
+    public void setColor(int handle, int rgba) {
+        int index = indexOf(handle);
+
+        // Translucent sprites are ordered differently, see sort()
+        if (isTranslucent(color[index]) != isTranslucent(rgba)) orderDirty = true;
+
+        color[index] = rgba;
+    }
+
+    /**
+     * Sets the texture region drawn by a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @param region The texture region to draw.
+     */
+    public void setRegion(int handle, TextureRegion region) {
+        Objects.requireNonNull(region, "Texture region cannot be null");
+
+        int index = indexOf(handle);
+
+        if (regions[index].getTexture() != region.getTexture()) orderDirty = true;
+
+        regions[index] = region;
+    }
+
+    /**
+     * Sets the z-index of a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @param zIndex The z-index value to set.
+     */
+    public void setZIndex(int handle, int zIndex) {
+        int index = indexOf(handle);
+
+        if (this.zIndex[index] != zIndex) orderDirty = true;
+
+        this.zIndex[index] = zIndex;
+    }
+
+    /**
+     * Gets the x coordinate of a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @return The x coordinate.
+     */
+    public float getX(int handle) {
+        return x[indexOf(handle)];
+    }
+
+    /**
+     * Gets the y coordinate of a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @return The y coordinate.
+     */
+    public float getY(int handle) {
+        return y[indexOf(handle)];
+    }
+
+    /**
+     * Gets the width of a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @return The width.
+     */
+    public float getWidth(int handle) {
+        return width[indexOf(handle)];
+    }
+
+    /**
+     * Gets the height of a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @return The height.
+     */
+    public float getHeight(int handle) {
+        return height[indexOf(handle)];
+    }
+
+    /**
+     * Gets the rotation of a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @return The rotation angle in degrees.
+     */
+    public float getRotation(int handle) {
+        return rotation[indexOf(handle)];
+    }
+
+    /**
+     * Gets the packed color tint of a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @return The color packed as {@code 0xRRGGBBAA}.
+     */
+    public int getColor(int handle) {
+        return color[indexOf(handle)];
+    }
+
+    /**
+     * Gets the texture region drawn by a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @return The texture region.
+     */
+    public TextureRegion getRegion(int handle) {
+        return regions[indexOf(handle)];
+    }
+
+    /**
+     * Gets the z-index of a sprite.
+     *
+     * @param handle The handle of the sprite.
+     * @return The z-index value.
+     */
+    public int getZIndex(int handle) {
+        return zIndex[indexOf(handle)];
+    }
+
+    /**
+     * Gets the x coordinate of the sprite at a position in the dense arrays.
+     *
+     * @param index The position, from zero to {@link #size()}.
+     * @return The x coordinate.
+     */
+    public float getXAt(int index) {
+        return x[index];
+    }
+
+    /**
+     * Gets the y coordinate of the sprite at a position in the dense arrays.
+     *
+     * @param index The position, from zero to {@link #size()}.
+     * @return The y coordinate.
+     */
+    public float getYAt(int index) {
+        return y[index];
+    }
+
+    /**
+     * Gets the width of the sprite at a position in the dense arrays.
+     *
+     * @param index The position, from zero to {@link #size()}.
+     * @return The width.
+     */
+    public float getWidthAt(int index) {
+        return width[index];
+    }
+
+    /**
+     * Gets the height of the sprite at a position in the dense arrays.
+     *
+     * @param index The position, from zero to {@link #size()}.
+     * @return The height.
+     */
+    public float getHeightAt(int index) {
+        return height[index];
+    }
+
+    /**
+     * Gets the rotation of the sprite at a position in the dense arrays.
+     *
+     * @param index The position, from zero to {@link #size()}.
+     * @return The rotation angle in degrees.
+     */
+    public float getRotationAt(int index) {
+        return rotation[index];
+    }
+
+    /**
+     * Gets the packed color tint of the sprite at a position in the dense arrays.
+     *
+     * @param index The position, from zero to {@link #size()}.
+     * @return The color packed as {@code 0xRRGGBBAA}.
+     */
+    public int getColorAt(int index) {
+        return color[index];
+    }
+
+    /**
+     * Gets the texture region of the sprite at a position in the dense arrays.
+     *
+     * @param index The position, from zero to {@link #size()}.
+     * @return The texture region.
+     */
+    public TextureRegion getRegionAt(int index) {
+        return regions[index];
+    }
+
+    /**
+     * Gets the handle of the sprite at a position in the dense arrays.
+     *
+     * @param index The position, from zero to {@link #size()}.
+     * @return The handle of the sprite.
+     */
+    public int getHandleAt(int index) {
+        return indexToHandle[index];
+    }
+
+    /**
+     * Reorders the dense arrays into draw order if anything affecting the order changed since the last sort.
+     * Sprites are ordered by z-index, then opaque sprites are grouped by texture, while translucent ones
+     * keep their relative order. Handles stay valid, only their positions change.
+     */
+    public void sort() {
+        if (!orderDirty) return;
+
+        orderDirty = false;
+
+        if (sortKeys.length < size) {
+            int capacity = x.length;
+
+            sortKeys = new long[capacity];
+            floatScratch = new float[capacity];
+            intScratch = new int[capacity];
+            regionScratch = new TextureRegion[capacity];
+        }
+
+        // z-index (16) | translucent (1) | texture (15) | current position (32), so the sort is stable
+        for (int i = 0; i < size; i++) {
+            boolean translucent = isTranslucent(color[i]);
+            long z = Math.clamp(zIndex[i], Short.MIN_VALUE, Short.MAX_VALUE) - Short.MIN_VALUE;
+            long texture = translucent ? 0 : regions[i].getTexture().getId() & 0x7FFF;
+
+            sortKeys[i] = z << 48 | (translucent ? 1L : 0L) << 47 | texture << 32 | i;
+        }
+
+        Arrays.sort(sortKeys, 0, size);
+
+        permute(x);
+        permute(y);
+        permute(width);
+        permute(height);
+        permute(rotation);
+        permute(color);
+        permute(zIndex);
+        permute(indexToHandle);
+
+        for (int i = 0; i < size; i++) regionScratch[i] = regions[(int) sortKeys[i]];
+        System.arraycopy(regionScratch, 0, regions, 0, size);
+        Arrays.fill(regionScratch, 0, size, null);
+
+        for (int i = 0; i < size; i++) handleToIndex[indexToHandle[i]] = i;
+    }
+
+    /**
+     * Gets the number of sprites in the store.
+     *
+     * @return The sprite count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all sprites from the store, invalidating every handle.
+     */
+    public void clear() {
+        Arrays.fill(regions, 0, size, null);
+        Arrays.fill(handleToIndex, 0, handleCount, NO_INDEX);
+
+        // Hand out the lowest handles first again
+        for (int i = 0; i < handleCount; i++) freeHandles[i] = handleCount - 1 - i;
+
+        freeCount = handleCount;
+        size = 0;
+        orderDirty = false;
+    }
+
+    /**
+     * Packs color components in the range zero to one into an RGBA8 {@code int}.
+     *
+     * @param red   The red component.
+     * @param green The green component.
+     * @param blue  The blue component.
+     * @param alpha The alpha component.
+     * @return The color packed as {@code 0xRRGGBBAA}.
+     */
+    public static int packColor(float red, float green, float blue, float alpha) {
+        return toByte(red) << 24 | toByte(green) << 16 | toByte(blue) << 8 | toByte(alpha);
+    }
+
+    /**
+     * Unpacks one component of a packed color.
+     *
+     * @param rgba  The color packed as {@code 0xRRGGBBAA}.
+     * @param shift The bit shift of the component: 24 for red, 16 for green, 8 for blue and 0 for alpha.
+     * @return The component in the range zero to one.
+     */
+    public static float unpackColor(int rgba, int shift) {
+        return ((rgba >>> shift) & 0xFF) / 255f;
+    }
+
+    private int indexOf(int handle) {
+        if (!contains(handle)) throw new IllegalArgumentException("Invalid sprite handle: " + handle);
+
+        return handleToIndex[handle];
+    }
+
+    private int newHandle() {
+        if (handleCount == handleToIndex.length) {
+            handleToIndex = Arrays.copyOf(handleToIndex, handleCount * 2);
+            freeHandles = Arrays.copyOf(freeHandles, handleCount * 2);
+        }
+
+        return handleCount++;
+    }
+
+    private void move(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        width[to] = width[from];
+        height[to] = height[from];
+        rotation[to] = rotation[from];
+        color[to] = color[from];
+        zIndex[to] = zIndex[from];
+        regions[to] = regions[from];
+        indexToHandle[to] = indexToHandle[from];
+        handleToIndex[indexToHandle[to]] = to;
+    }
+
+    // Moves the sprites [from, to] one position down, over the sprite before them
+    private void shiftDown(int from, int to) {
+        int count = to - from + 1;
+
+        System.arraycopy(x, from, x, from - 1, count);
+        System.arraycopy(y, from, y, from - 1, count);
+        System.arraycopy(width, from, width, from - 1, count);
+        System.arraycopy(height, from, height, from - 1, count);
+        System.arraycopy(rotation, from, rotation, from - 1, count);
+        System.arraycopy(color, from, color, from - 1, count);
+        System.arraycopy(zIndex, from, zIndex, from - 1, count);
+        System.arraycopy(regions, from, regions, from - 1, count);
+        System.arraycopy(indexToHandle, from, indexToHandle, from - 1, count);
+
+        for (int i = from - 1; i < to; i++) handleToIndex[indexToHandle[i]] = i;
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        color = Arrays.copyOf(color, capacity);
+        zIndex = Arrays.copyOf(zIndex, capacity);
+        regions = Arrays.copyOf(regions, capacity);
+        indexToHandle = Arrays.copyOf(indexToHandle, capacity);
+    }
+
+    private void permute(float[] values) {
+        for (int i = 0; i < size; i++) floatScratch[i] = values[(int) sortKeys[i]];
+
+        System.arraycopy(floatScratch, 0, values, 0, size);
+    }
+
+    private void permute(int[] values) {
+        for (int i = 0; i < size; i++) intScratch[i] = values[(int) sortKeys[i]];
+
+        System.arraycopy(intScratch, 0, values, 0, size);
+    }
+
+    private static boolean isTranslucent(int rgba) {
+        return (rgba & 0xFF) != 0xFF;
+    }
+
+    private static int toByte(float component) {
+        return Math.round(Math.clamp(component, 0f, 1f) * 255f);
+    }
+}
@@ -1,6 +1,7 @@
 package net.sparkzz.entropy.render.orthographic.model;
 
 import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureRegion;
 import net.sparkzz.entropy.render.orthographic.Renderable2D;
 import org.joml.Vector2f;
 import org.joml.Vector2fc;
@@ -19,7 +20,7 @@ import java.util.Objects;
  */
 public class UIElement extends Renderable2D {
 
-    private final Texture texture;
+    private final TextureRegion region;
     private final Vector2fc position;
     private final Vector2fc size;
     private final Vector4fc color;
@@ -37,7 +38,21 @@ public class UIElement extends Renderable2D {
      * @param layer    The layer index for rendering order (lower values render first).
      */
     public UIElement(Texture texture, Vector2f position, Vector2f size, Vector4f color, float rotation, int layer) {
-        this.texture = Objects.requireNonNull(texture, "Texture cannot be null");
+        this(Objects.requireNonNull(texture, "Texture cannot be null").asRegion(), position, size, color, rotation, layer);
+    }
+
+    /**
+     * Constructs a UIElement that draws a region of a texture, such as an atlas entry.
+     *
+     * @param region   The texture region to be applied to the UI element.
+     * @param position The position of the UI element in 2D space.
+     * @param size     The size (width and height) of the UI element.
+     * @param color    The color tint of the UI element (RGBA).
+     * @param rotation The rotation angle of the UI element in degrees.
+     * @param layer    The layer index for rendering order (lower values render first).
+     */
+    public UIElement(TextureRegion region, Vector2f position, Vector2f size, Vector4f color, float rotation, int layer) {
+        this.region = Objects.requireNonNull(region, "Texture region cannot be null");
         this.position = new Vector2f(Objects.requireNonNull(position, "Position cannot be null"));
         this.size = new Vector2f(Objects.requireNonNull(size, "Size cannot be null"));
         this.color = new Vector4f(Objects.requireNonNull(color, "Color cannot be null"));
@@ -52,7 +67,17 @@ public class UIElement extends Renderable2D {
      */
     @Override
     public Texture getTexture() {
-        return texture;
+        return region.getTexture();
+    }
+
+    /**
+     * Gets the texture region of the UI element.
+     *
+     * @return The texture region applied to the UI element.
+     */
+    @Override
+    public TextureRegion getRegion() {
+        return region;
     }
 
     /**
@@ -85,6 +110,86 @@ public class UIElement extends Renderable2D {
         return color.get(new Vector4f());
     }
 
+    /**
+     * Gets the x coordinate of the position of the UI element.
+     *
+     * @return The x coordinate.
+     */
+    @Override
+    public float getX() {
+        return position.x();
+    }
+
+    /**
+     * Gets the y coordinate of the position of the UI element.
+     *
+     * @return The y coordinate.
+     */
+    @Override
+    public float getY() {
+        return position.y();
+    }
+
+    /**
+     * Gets the width of the UI element.
+     *
+     * @return The width.
+     */
+    @Override
+    public float getWidth() {
+        return size.x();
+    }
+
+    /**
+     * Gets the height of the UI element.
+     *
+     * @return The height.
+     */
+    @Override
+    public float getHeight() {
+        return size.y();
+    }
+
+    /**
+     * Gets the red component of the color of the UI element.
+     *
+     * @return The red component.
+     */
+    @Override
+    public float getRed() {
+        return color.x();
+    }
+
+    /**
+     * Gets the green component of the color of the UI element.
+     *
+     * @return The green component.
+     */
+    @Override
+    public float getGreen() {
+        return color.y();
+    }
+
+    /**
+     * Gets the blue component of the color of the UI element.
+     *
+     * @return The blue component.
+     */
+    @Override
+    public float getBlue() {
+        return color.z();
+    }
+
+    /**
+     * Gets the alpha component of the color of the UI element.
+     *
+     * @return The alpha component.
+     */
+    @Override
+    public float getAlpha() {
+        return color.w();
+    }
+
     /**
      * Gets the rotation angle of the UI element.
      *
@@ -0,0 +1,108 @@
+package net.sparkzz.entropy.render.orthographic.shader;
+
+import net.sparkzz.entropy.render.TextureRegion;
+import org.joml.Matrix4f;
+
+/**
+ * Base class of the 2D shader programs, managing what every 2D shader shares: the projection and the
+ * optional UV rectangle. How per-item data such as the model transform and color reaches the GPU is left
+ * to the subclasses, {@link Shader2D} uses uniforms and {@link InstancedShader2D} instance attributes.
+ * <p>
+ * Shaders may declare an optional {@code vec4 uUVRect} (u0, v0, u1, v1) to draw texture regions,
+ * and may read the projection from the {@link GlobalUniforms} block instead of a {@code uProjection} uniform.
+ * The uniforms are resolved on first use, so the per-item setters, like the uniforms they upload,
+ * need the shader to be bound.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public abstract class AbstractShader2D extends ShaderProgram {
+
+    private boolean globalsBlock;
+    private UniformMatrix4f projection;
+    private Uniform4f uvRect;
+
+    private Matrix4f projectionSource;
+    private int projectionVersion;
+
+    /**
+     * Constructs a 2D shader program with specified vertex and fragment shader source code.
+     *
+     * @param vertexSource   The source code of the vertex shader.
+     * @param fragmentSource The source code of the fragment shader.
+     */
+    protected AbstractShader2D(String vertexSource, String fragmentSource) {
+        super(vertexSource, fragmentSource);
+    }
+
+    /**
+     * Resolves the projection and UV rectangle uniforms.
+     */
+    @Override
+    protected void resolveUniforms() {
+        super.resolveUniforms();
+
+        // Shaders reading the shared Globals block get the projection from the uniform buffer
+        globalsBlock = bindUniformBlock(GlobalUniforms.BLOCK_NAME, GlobalUniforms.BINDING);
+        projection = globalsBlock ? null : createUniform("uProjection", UniformMatrix4f::new);
+        uvRect = createOptionalUniform("uUVRect", Uniform4f::new);
+    }
+
+    /**
+     * Sets the projection matrix. Shaders declaring the {@code Globals} block share it through
+     * {@link GlobalUniforms}, others through their own {@code uProjection} uniform.
+     * Either way it is only uploaded when it changes.
+     *
+     * @param projection The projection matrix to set.
+     */
+    public void setProjectionMatrix(Matrix4f projection) {
+        ensureResolved();
+        projectionSource = null;
+
+        if (globalsBlock) GlobalUniforms.get().setProjection(projection);
+        else this.projection.set(projection);
+    }
+
+    /**
+     * Sets the projection matrix from a versioned source such as a camera, skipping even the comparison
+     * with the uploaded value while the same matrix is passed with the same version.
+     *
+     * @param projection The projection matrix to set, which must not change without its version changing.
+     * @param version    The version of the matrix, e.g. the version of the camera it came from.
+     */
+    public void setProjectionMatrix(Matrix4f projection, int version) {
+        ensureResolved();
+
+        if (globalsBlock) {
+            GlobalUniforms.get().setProjection(projection, version);
+            return;
+        }
+
+        if (projection == projectionSource && version == projectionVersion) return;
+
+        projectionSource = projection;
+        projectionVersion = version;
+        this.projection.set(projection);
+    }
+
+    /**
+     * Sets the UV rectangle uniform to the bounds of a texture region.
+     * Ignored by shaders that don't declare {@code uUVRect}, which always sample the whole texture.
+     *
+     * @param region The texture region to draw.
+     */
+    public void setUVRect(TextureRegion region) {
+        uvRect.set(region.getU0(), region.getV0(), region.getU1(), region.getV1());
+    }
+
+    /**
+     * Checks if the shader reads the projection from the shared {@code Globals} uniform block.
+     *
+     * @return True if the shader declares the {@code Globals} block, false if it uses {@code uProjection}.
+     */
+    public boolean usesGlobalsBlock() {
+        ensureResolved();
+        return globalsBlock;
+    }
+}
@@ -0,0 +1,170 @@
+package net.sparkzz.entropy.render.orthographic.shader;
+
+import net.sparkzz.entropy.render.GLStateCache;
+import net.sparkzz.entropy.render.RenderStats;
+import org.joml.Matrix4f;
+import org.lwjgl.BufferUtils;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL31.GL_UNIFORM_BUFFER;
+import static org.lwjgl.opengl.GL45.glCreateBuffers;
+import static org.lwjgl.opengl.GL45.glNamedBufferData;
+import static org.lwjgl.opengl.GL45.glNamedBufferSubData;
+
+/**
+ * Per-frame values shared by every shader through a std140 uniform buffer.
+ * <p>
+ * Shaders opt in by declaring the block below, which {@link AbstractShader2D} binds to {@link #BINDING}:
+ * <pre>
+ * layout(std140) uniform Globals {
+ *     mat4 uProjection;
+ *     float uTime;
+ * };
+ * </pre>
+ * Each value is uploaded once when it changes rather than once per shader and batch.
+ * Like {@link GLStateCache} the buffer is thread-confined: use {@link #get()} on the thread owning the context.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class GlobalUniforms {
+
+    /**
+     * Name of the uniform block shaders declare to read the globals.
+     */
+    public static final String BLOCK_NAME = "Globals";
+    /**
+     * Uniform buffer binding point the block is bound to.
+     */
+    public static final int BINDING = 0;
+
+    private static final ThreadLocal<GlobalUniforms> CURRENT = ThreadLocal.withInitial(GlobalUniforms::new);
+
+    // std140 layout: mat4 at 0, float at 64, block size rounded up to a vec4
+    private static final int PROJECTION_OFFSET = 0;
+    private static final int TIME_OFFSET = 16 * Float.BYTES;
+    private static final int BLOCK_SIZE = TIME_OFFSET + 4 * Float.BYTES;
+
+    private final ByteBuffer staging = BufferUtils.createByteBuffer(BLOCK_SIZE);
+    private final Matrix4f projection = new Matrix4f();
+    private final RenderStats stats = RenderStats.get();
+
+    private int bufferId;
+    private boolean projectionUploaded;
+    private Matrix4f projectionSource;
+    private int projectionVersion;
+    private float time = Float.NaN;
+    private long uploads;
+
+    private GlobalUniforms() {}
+
+    /**
+     * Gets the global uniforms of the calling thread.
+     *
+     * @return The thread's global uniforms.
+     */
+    public static GlobalUniforms get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Sets the projection matrix, uploading it only if it changed.
+     *
+     * @param matrix The projection matrix.
+     */
+    public void setProjection(Matrix4f matrix) {
+        projectionSource = null;
+
+        if (projectionUploaded && projection.equals(matrix)) return;
+
+        projection.set(matrix);
+        projectionUploaded = true;
+
+        matrix.get(PROJECTION_OFFSET, staging);
+        upload(PROJECTION_OFFSET, 16 * Float.BYTES);
+    }
+
+    /**
+     * Sets the projection matrix from a versioned source such as a camera, skipping even the comparison
+     * with the uploaded value while the same matrix is passed with the same version.
+     *
+     * @param matrix  The projection matrix, which must not change without its version changing.
+     * @param version The version of the matrix.
+     */
+    public void setProjection(Matrix4f matrix, int version) {
+        if (projectionUploaded && matrix == projectionSource && version == projectionVersion) return;
+
+        setProjection(matrix);
+
+        projectionSource = matrix;
+        projectionVersion = version;
+    }
+
+    /**
+     * Sets the time in seconds, uploading it only if it changed.
+     *
+     * @param seconds The time in seconds, e.g. since the game started.
+     */
+    public void setTime(float seconds) {
+        if (time == seconds) return;
+
+        time = seconds;
+
+        staging.putFloat(TIME_OFFSET, seconds);
+        upload(TIME_OFFSET, Float.BYTES);
+    }
+
+    /**
+     * Gets the number of uploads made to the uniform buffer, to check that unchanged values are skipped.
+     *
+     * @return The upload count.
+     */
+    public long getUploadCount() {
+        return uploads;
+    }
+
+    /**
+     * Deletes the uniform buffer. It is recreated, with every value re-uploaded, the next time a value is set.
+     */
+    public void cleanup() {
+        if (bufferId != 0) GLStateCache.get().deleteBuffer(bufferId);
+
+        bufferId = 0;
+        projectionUploaded = false;
+        projectionSource = null;
+        time = Float.NaN;
+    }
+
+    private void upload(int offset, int size) {
+        GLStateCache state = GLStateCache.get();
+        ByteBuffer range = staging.slice(offset, size);
+
+        if (bufferId == 0) create(state);
+
+        if (state.isDirectStateAccessSupported()) {
+            glNamedBufferSubData(bufferId, offset, range);
+        } else {
+            state.bindBuffer(GL_UNIFORM_BUFFER, bufferId);
+            glBufferSubData(GL_UNIFORM_BUFFER, offset, range);
+        }
+
+        uploads++;
+        stats.recordUpload(size);
+    }
+
+    private void create(GLStateCache state) {
+        if (state.isDirectStateAccessSupported()) {
+            bufferId = glCreateBuffers();
+            glNamedBufferData(bufferId, BLOCK_SIZE, GL_DYNAMIC_DRAW);
+        } else {
+            bufferId = glGenBuffers();
+            state.bindBuffer(GL_UNIFORM_BUFFER, bufferId);
+            glBufferData(GL_UNIFORM_BUFFER, BLOCK_SIZE, GL_DYNAMIC_DRAW);
+        }
+
+        state.bindBufferBase(GL_UNIFORM_BUFFER, BINDING, bufferId);
+    }
+}
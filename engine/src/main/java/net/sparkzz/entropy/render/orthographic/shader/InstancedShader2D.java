@@ -0,0 +1,136 @@
+package net.sparkzz.entropy.render.orthographic.shader;
+
+import net.sparkzz.entropy.render.TextureBindingMode;
+
+import java.io.IOException;
+
+import static net.sparkzz.entropy.io.util.ResourceLoader.loadResourceAsString;
+
+/**
+ * Shader program for instanced 2D rendering.
+ * The model transform and color are built on the GPU from per-instance vertex attributes,
+ * so only the projection uniform and the texture samplers are managed by this shader.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class InstancedShader2D extends AbstractShader2D {
+
+    /**
+     * Classpath location of the default instanced sprite vertex shader.
+     */
+    public static final String DEFAULT_VERTEX_SHADER = "/shaders/instanced_sprite_vertex_shader.glsl";
+    /**
+     * Classpath location of the default instanced sprite fragment shader.
+     */
+    public static final String DEFAULT_FRAGMENT_SHADER = "/shaders/instanced_sprite_fragment_shader.glsl";
+    /**
+     * Classpath location of the fragment shader sampling a texture array by instance layer.
+     */
+    public static final String ARRAY_FRAGMENT_SHADER = "/shaders/instanced_sprite_array_fragment_shader.glsl";
+    /**
+     * Classpath location of the fragment shader sampling one of several texture units by instance slot.
+     */
+    public static final String MULTI_UNIT_FRAGMENT_SHADER = "/shaders/instanced_sprite_multi_fragment_shader.glsl";
+    /**
+     * Number of sampler slots declared by the multi-unit fragment shader.
+     */
+    public static final int MAX_TEXTURE_SLOTS = 16;
+
+    private static final int[] TEXTURE_UNITS = new int[MAX_TEXTURE_SLOTS];
+
+    static {
+        for (int i = 0; i < TEXTURE_UNITS.length; i++) TEXTURE_UNITS[i] = i;
+    }
+
+    private final TextureBindingMode bindingMode;
+
+    private Uniform1iv textures;
+
+    /**
+     * Constructs an InstancedShader2D instance that samples a single texture.
+     *
+     * @param vertexSource   The source code of the vertex shader.
+     * @param fragmentSource The source code of the fragment shader.
+     */
+    public InstancedShader2D(String vertexSource, String fragmentSource) {
+        this(vertexSource, fragmentSource, TextureBindingMode.SINGLE);
+    }
+
+    /**
+     * Constructs an InstancedShader2D instance for the specified texture binding mode.
+     * In {@link TextureBindingMode#MULTI_UNIT} mode the fragment shader must declare
+     * {@code uniform sampler2D uTextures[MAX_TEXTURE_SLOTS]}, which is mapped to units 0 to 15.
+     *
+     * @param vertexSource   The source code of the vertex shader.
+     * @param fragmentSource The source code of the fragment shader.
+     * @param bindingMode    The texture binding mode the fragment shader was written for.
+     */
+    public InstancedShader2D(String vertexSource, String fragmentSource, TextureBindingMode bindingMode) {
+        super(vertexSource, fragmentSource);
+
+        this.bindingMode = bindingMode;
+    }
+
+    /**
+     * Resolves the sampler array in {@link TextureBindingMode#MULTI_UNIT} mode, along with the shared uniforms.
+     */
+    @Override
+    protected void resolveUniforms() {
+        super.resolveUniforms();
+
+        if (bindingMode == TextureBindingMode.MULTI_UNIT) textures = createUniform("uTextures", Uniform1iv::new);
+    }
+
+    /**
+     * Binds the shader program, mapping the samplers to their units the first time in
+     * {@link TextureBindingMode#MULTI_UNIT} mode.
+     */
+    @Override
+    public void bind() {
+        super.bind();
+
+        // Only uploaded once, the handle skips unchanged values
+        if (textures != null) textures.set(TEXTURE_UNITS);
+    }
+
+    /**
+     * Creates an InstancedShader2D from the default instanced sprite shaders bundled with the engine.
+     *
+     * @return The default instanced sprite shader.
+     * @throws IOException If the bundled shader sources cannot be read.
+     */
+    public static InstancedShader2D createDefault() throws IOException {
+        return createDefault(TextureBindingMode.SINGLE);
+    }
+
+    /**
+     * Creates an InstancedShader2D for the specified texture binding mode from the shaders bundled with the engine.
+     *
+     * @param bindingMode The texture binding mode.
+     * @return The default instanced sprite shader for the mode.
+     * @throws IOException If the bundled shader sources cannot be read.
+     */
+    public static InstancedShader2D createDefault(TextureBindingMode bindingMode) throws IOException {
+        String fragmentShader = switch (bindingMode) {
+            case SINGLE -> DEFAULT_FRAGMENT_SHADER;
+            case ARRAY -> ARRAY_FRAGMENT_SHADER;
+            case MULTI_UNIT -> MULTI_UNIT_FRAGMENT_SHADER;
+        };
+
+        return new InstancedShader2D(
+                loadResourceAsString(DEFAULT_VERTEX_SHADER),
+                loadResourceAsString(fragmentShader),
+                bindingMode);
+    }
+
+    /**
+     * Gets the texture binding mode the shader was written for.
+     *
+     * @return The texture binding mode.
+     */
+    public TextureBindingMode getBindingMode() {
+        return bindingMode;
+    }
+}
@@ -5,35 +5,38 @@ import org.joml.Vector4f;
 
 /**
  * Shader program for 2D rendering.
- * Manages uniforms for projection, model transformation, and color.
+ * Manages uniforms for projection, model transformation, and color, set once per drawn item.
+ * The projection and UV rectangle are handled as described in {@link AbstractShader2D}.
  *
  * @author Brendon Butler
  * @version 0.1.0-PREALPHA
  * @since 2025-07-17
  */
-public class Shader2D extends ShaderProgram {
+public class Shader2D extends AbstractShader2D {
+
+    private UniformMatrix4f model;
+    private Uniform4f color;
 
     /**
      * Constructs a Shader2D instance with specified vertex and fragment shader source code.
-     * Initializes the necessary uniforms for 2D rendering.
+     * The uniforms for 2D rendering are resolved when the shader is first bound.
      *
      * @param vertexSource   The source code of the vertex shader.
      * @param fragmentSource The source code of the fragment shader.
      */
     public Shader2D(String vertexSource, String fragmentSource) {
         super(vertexSource, fragmentSource);
-        createUniform("uProjection");
-        createUniform("uModel");
-        createUniform("uColor");
     }
 
     /**
-     * Sets the projection matrix uniform.
-     *
-     * @param projection The projection matrix to set.
+     * Resolves the model and color uniforms, along with the shared ones.
      */
-    public void setProjectionMatrix(Matrix4f projection) {
-        setUniformMatrix4f("uProjection", projection);
+    @Override
+    protected void resolveUniforms() {
+        super.resolveUniforms();
+
+        model = createUniform("uModel", UniformMatrix4f::new);
+        color = createUniform("uColor", Uniform4f::new);
     }
 
     /**
@@ -42,7 +45,7 @@ public class Shader2D extends ShaderProgram {
      * @param model The model transformation matrix to set.
      */
     public void setModel(Matrix4f model) {
-        setUniformMatrix4f("uModel", model);
+        this.model.set(model);
     }
 
     /**
@@ -51,6 +54,18 @@ public class Shader2D extends ShaderProgram {
      * @param color The color vector (RGBA) to set.
      */
     public void setColor(Vector4f color) {
-        setUniform4f("uColor", color);
+        this.color.set(color);
+    }
+
+    /**
+     * Sets the color uniform from its components, without needing a vector.
+     *
+     * @param red   The red component.
+     * @param green The green component.
+     * @param blue  The blue component.
+     * @param alpha The alpha component.
+     */
+    public void setColor(float red, float green, float blue, float alpha) {
+        color.set(red, green, blue, alpha);
     }
 }
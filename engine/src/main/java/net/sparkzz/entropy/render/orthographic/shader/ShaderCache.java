@@ -0,0 +1,352 @@
+package net.sparkzz.entropy.render.orthographic.shader;
+
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+import static org.lwjgl.opengl.ARBParallelShaderCompile.glMaxShaderCompilerThreadsARB;
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL20.*;
+import static org.lwjgl.opengl.GL41.*;
+import static org.lwjgl.opengl.KHRParallelShaderCompile.glMaxShaderCompilerThreadsKHR;
+
+/**
+ * Speeds up creating {@link ShaderProgram shader programs}, by keeping linked program binaries on disk
+ * and by compiling in the background where the driver supports it.
+ * <p>
+ * Binaries are stored under a key hashed from the shader sources and the driver's vendor, renderer and
+ * version, so a driver update invalidates them. A binary the driver rejects is deleted and the program
+ * compiled from source again. The disk cache is off until {@link #setDirectory(Path) a directory} is set.
+ * <p>
+ * With {@code GL_KHR_parallel_shader_compile} the driver compiles and links on its own threads, and a
+ * program only waits for its link status when it's first used. To overlap the compiles of several programs,
+ * construct them all before binding any, or {@link #precompile(String, String) precompile} them ahead of
+ * time: a program constructed from the same sources then adopts the precompiled one.
+ * Like the other GL state, the cache is thread-confined: use {@link #get()} on the thread owning the context.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public final class ShaderCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ShaderCache.class);
+
+    private static final ThreadLocal<ShaderCache> CURRENT = ThreadLocal.withInitial(ShaderCache::new);
+
+    private static final String EXTENSION = ".bin";
+    // "ESPB", followed by the binary format and length
+    private static final int MAGIC = 0x45535042;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+
+    private final Map<String, ShaderProgram.Link> precompiled = new HashMap<>();
+
+    private Path directory;
+    private long hits, misses;
+
+    private ShaderCache() {}
+
+    /**
+     * Gets the shader cache of the calling thread.
+     *
+     * @return The thread's shader cache.
+     */
+    public static ShaderCache get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Sets the directory program binaries are stored in, created if needed.
+     *
+     * @param directory The cache directory, or null to disable the disk cache.
+     */
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the directory program binaries are stored in.
+     *
+     * @return The cache directory, or null if the disk cache is disabled.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Starts compiling and linking a program ahead of time, without waiting for it.
+     * The next {@link ShaderProgram} constructed from the same sources on this thread uses it.
+     *
+     * @param vertexSource   The source code of the vertex shader.
+     * @param fragmentSource The source code of the fragment shader.
+     */
+    public void precompile(String vertexSource, String fragmentSource) {
+        String key = key(vertexSource, fragmentSource);
+
+        if (!precompiled.containsKey(key)) precompiled.put(key, loadOrLink(key, vertexSource, fragmentSource));
+    }
+
+    /**
+     * Gets the number of programs loaded from a cached binary.
+     *
+     * @return The cache hit count.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of programs compiled from source while the disk cache was enabled.
+     *
+     * @return The cache miss count.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Deletes the precompiled programs that were never used.
+     */
+    public void cleanup() {
+        for (ShaderProgram.Link link : precompiled.values()) {
+            link.release();
+            glDeleteProgram(link.programId());
+        }
+
+        precompiled.clear();
+    }
+
+    /**
+     * Checks if the current context compiles and links shaders in the background.
+     *
+     * @return True if {@code GL_KHR_parallel_shader_compile} or its ARB variant is supported, false otherwise.
+     */
+    public static boolean isParallelCompileSupported() {
+        GLCapabilities capabilities = GL.getCapabilities();
+
+        return capabilities.GL_KHR_parallel_shader_compile || capabilities.GL_ARB_parallel_shader_compile;
+    }
+
+    /**
+     * Computes the cache key of a program for the current driver.
+     *
+     * @param vertexSource   The source code of the vertex shader.
+     * @param fragmentSource The source code of the fragment shader.
+     * @return The cache key.
+     */
+    String key(String vertexSource, String fragmentSource) {
+        String driver = glGetString(GL_VENDOR) + "\n" + glGetString(GL_RENDERER) + "\n" + glGetString(GL_VERSION);
+
+        return hash(driver, vertexSource, fragmentSource);
+    }
+
+    /**
+     * Opens a program: the precompiled one for the key, else one loaded from its cached binary,
+     * else one that started compiling from source.
+     *
+     * @param key            The cache key of the program.
+     * @param vertexSource   The source code of the vertex shader.
+     * @param fragmentSource The source code of the fragment shader.
+     * @return The program, linked already unless it has shaders to check.
+     */
+    ShaderProgram.Link open(String key, String vertexSource, String fragmentSource) {
+        ShaderProgram.Link link = precompiled.remove(key);
+
+        return link != null ? link : loadOrLink(key, vertexSource, fragmentSource);
+    }
+
+    /**
+     * Stores the binary of a program linked from source, if the disk cache is enabled.
+     *
+     * @param key       The cache key of the program.
+     * @param programId The linked program.
+     */
+    void store(String key, int programId) {
+        if (directory == null || !isBinarySupported()) return;
+
+        int length = glGetProgrami(programId, GL_PROGRAM_BINARY_LENGTH);
+
+        if (length <= 0) return;
+
+        ByteBuffer binary = MemoryUtil.memAlloc(length);
+
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer format = stack.mallocInt(1);
+
+            glGetProgramBinary(programId, null, format, binary);
+            writeEntry(directory.resolve(key + EXTENSION), format.get(0), binary);
+        } catch (IOException exception) {
+            log.warn("Could not store shader program binary {}", key, exception);
+        } finally {
+            MemoryUtil.memFree(binary);
+        }
+    }
+
+    private static boolean isBinarySupported() {
+        GLCapabilities capabilities = GL.getCapabilities();
+
+        return (capabilities.OpenGL41 || capabilities.GL_ARB_get_program_binary)
+                && glGetInteger(GL_NUM_PROGRAM_BINARY_FORMATS) > 0;
+    }
+
+    private ShaderProgram.Link loadOrLink(String key, String vertexSource, String fragmentSource) {
+        boolean binaries = directory != null && isBinarySupported();
+
+        if (binaries) {
+            int programId = load(key);
+
+            if (programId != 0) {
+                hits++;
+                return new ShaderProgram.Link(programId, 0, 0);
+            }
+
+            misses++;
+        }
+
+        if (GL.getCapabilities().GL_KHR_parallel_shader_compile) glMaxShaderCompilerThreadsKHR(-1);
+        else if (GL.getCapabilities().GL_ARB_parallel_shader_compile) glMaxShaderCompilerThreadsARB(-1);
+
+        return ShaderProgram.startLink(vertexSource, fragmentSource, binaries);
+    }
+
+    // Returns the program loaded from the key's binary, or 0 if there is none or the driver rejected it
+    private int load(String key) {
+        Path file = directory.resolve(key + EXTENSION);
+
+        if (!Files.isRegularFile(file)) return 0;
+
+        Entry entry;
+
+        try {
+            entry = readEntry(file);
+        } catch (IOException exception) {
+            log.warn("Could not read shader program binary {}", key, exception);
+            delete(file);
+            return 0;
+        }
+
+        int programId = glCreateProgram();
+        ByteBuffer binary = MemoryUtil.memAlloc(entry.binary().length).put(entry.binary()).flip();
+
+        try {
+            glProgramBinary(programId, entry.format(), binary);
+        } finally {
+            MemoryUtil.memFree(binary);
+        }
+
+        if (glGetProgrami(programId, GL_LINK_STATUS) == GL_TRUE) return programId;
+
+        // Binaries can be rejected by the same driver, e.g. after its own cache was cleared
+        log.info("Shader program binary {} was rejected, compiling from source", key);
+        glDeleteProgram(programId);
+        delete(file);
+        return 0;
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            log.warn("Could not delete shader program binary {}", file, exception);
+        }
+    }
+
+    /**
+     * Hashes a driver description and shader sources into a cache key.
+     *
+     * @param driver         The driver's vendor, renderer and version.
+     * @param vertexSource   The source code of the vertex shader.
+     * @param fragmentSource The source code of the fragment shader.
+     * @return The SHA-256 hash as hex.
+     */
+    static String hash(String driver, String vertexSource, String fragmentSource) {
+        MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+
+        // Separators keep moving text between the parts from producing the same key
+        for (String part : new String[]{driver, vertexSource, fragmentSource}) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Writes a cache entry, replacing the file atomically so concurrent readers never see a partial entry.
+     *
+     * @param file   The entry file.
+     * @param format The binary format reported by the driver.
+     * @param binary The program binary, from its position to its limit.
+     * @throws IOException If the entry cannot be written.
+     */
+    static void writeEntry(Path file, int format, ByteBuffer binary) throws IOException {
+        int length = binary.remaining();
+        ByteBuffer bytes = ByteBuffer.allocate(HEADER_BYTES + length)
+                .putInt(MAGIC).putInt(format).putInt(length)
+                .put(binary.duplicate());
+
+        Files.createDirectories(file.getParent());
+
+        Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+        try {
+            Files.write(temporary, bytes.array());
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Reads a cache entry.
+     *
+     * @param file The entry file.
+     * @return The entry.
+     * @throws IOException If the entry cannot be read or is corrupt.
+     */
+    static Entry readEntry(Path file) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+
+        if (bytes.remaining() < HEADER_BYTES || bytes.getInt() != MAGIC)
+            throw new IOException("Not a shader program binary: " + file);
+
+        int format = bytes.getInt(), length = bytes.getInt();
+
+        if (length != bytes.remaining()) throw new IOException("Truncated shader program binary: " + file);
+
+        byte[] binary = new byte[length];
+        bytes.get(binary);
+
+        return new Entry(format, binary);
+    }
+
+    /**
+     * A program binary read from the cache.
+     *
+     * @param format The binary format reported by the driver.
+     * @param binary The program binary.
+     */
+    record Entry(int format, byte[] binary) {}
+}
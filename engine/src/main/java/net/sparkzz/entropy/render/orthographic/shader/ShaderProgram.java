@@ -1,18 +1,24 @@
 package net.sparkzz.entropy.render.orthographic.shader;
 
-import org.joml.Matrix4f;
-import org.joml.Vector4f;
+import net.sparkzz.entropy.render.GLStateCache;
 
-import java.nio.FloatBuffer;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.function.IntFunction;
 
 import static org.lwjgl.opengl.GL20.*;
-import static org.lwjgl.system.MemoryStack.stackPush;
+import static org.lwjgl.opengl.GL31.*;
+import static org.lwjgl.opengl.GL41.GL_PROGRAM_BINARY_RETRIEVABLE_HINT;
+import static org.lwjgl.opengl.GL41.glProgramParameteri;
+import static org.lwjgl.opengl.KHRParallelShaderCompile.GL_COMPLETION_STATUS_KHR;
 
 /**
  * Abstract class representing a shader program.
  * Handles shader compilation, linking, and uniform management.
+ * Uniforms are accessed through typed {@link Uniform} handles, resolved once by {@link #resolveUniforms()}
+ * when the program is first used.
+ * <p>
+ * Programs are created through the {@link ShaderCache}, which may load them from a cached binary.
+ * Otherwise the link status is only checked when the program is first used, so drivers that compile
+ * in the background aren't waited on in the constructor.
  *
  * @author Brendon Butler
  * @version 0.1.0-PREALPHA
@@ -21,7 +27,11 @@ import static org.lwjgl.system.MemoryStack.stackPush;
 public abstract class ShaderProgram {
 
     private final int programId;
-    private final Map<String, Integer> uniforms = new HashMap<>();
+    private final String cacheKey;
+
+    // The link started from source until its status was checked
+    private Link pendingLink;
+    private boolean resolved;
 
     /**
      * Constructs a ShaderProgram with given vertex and fragment shader source code.
@@ -30,7 +40,24 @@ public abstract class ShaderProgram {
      * @param fragmentCode The source code for the fragment shader.
      */
     protected ShaderProgram(String vertexCode, String fragmentCode) {
-        programId = glCreateProgram();
+        ShaderCache cache = ShaderCache.get();
+        Link link = cache.open(cacheKey = cache.key(vertexCode, fragmentCode), vertexCode, fragmentCode);
+
+        programId = link.programId();
+        pendingLink = link.fromSource() ? link : null;
+    }
+
+    /**
+     * Starts compiling and linking a program from source without checking the results,
+     * which may still be pending if the driver compiles in the background.
+     *
+     * @param vertexCode   The source code for the vertex shader.
+     * @param fragmentCode The source code for the fragment shader.
+     * @param retrievable  True to keep the binary retrievable for the cache, false otherwise.
+     * @return The link, to be checked with the shaders it holds.
+     */
+    static Link startLink(String vertexCode, String fragmentCode, boolean retrievable) {
+        int programId = glCreateProgram();
 
         if (programId == 0) throw new RuntimeException("Could not create shader program");
 
@@ -40,82 +67,150 @@ public abstract class ShaderProgram {
         glAttachShader(programId, vertexShaderId);
         glAttachShader(programId, fragmentShaderId);
 
-        glLinkProgram(programId);
+        if (retrievable) glProgramParameteri(programId, GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL_TRUE);
 
-        if (glGetProgrami(programId, GL_LINK_STATUS) == GL_FALSE)
-            throw new RuntimeException("Could not link shader program: " + glGetProgramInfoLog(programId));
+        glLinkProgram(programId);
 
-        glDetachShader(programId, vertexShaderId);
-        glDetachShader(programId, fragmentShaderId);
-        glDeleteShader(vertexShaderId);
-        glDeleteShader(fragmentShaderId);
+        return new Link(programId, vertexShaderId, fragmentShaderId);
     }
 
-    private int compile(String code, int type) {
+    private static int compile(String code, int type) {
         int id = glCreateShader(type);
         if (id == 0) throw new RuntimeException("Could not create shader of type " + type);
 
         glShaderSource(id, code);
         glCompileShader(id);
 
-        if (glGetShaderi(id, GL_COMPILE_STATUS) == GL_FALSE)
-            throw new RuntimeException("Could not compile shader: " + glGetShaderInfoLog(id));
-
         return id;
     }
 
     /**
-     * Creates and caches the location of a uniform variable in the shader program.
+     * Checks if the program can be used without waiting for the driver to finish compiling it.
+     *
+     * @return True if the program is linked or its link finished, false if it's still compiling in the background.
+     */
+    public boolean isReady() {
+        if (pendingLink == null) return true;
+
+        return !ShaderCache.isParallelCompileSupported()
+                || glGetProgrami(programId, GL_COMPLETION_STATUS_KHR) == GL_TRUE;
+    }
+
+    // Waits for the link started from source and checks it, storing the binary if it succeeded
+    private void ensureLinked() {
+        Link link = pendingLink;
+
+        if (link == null) return;
+
+        pendingLink = null;
+
+        try {
+            link.check();
+        } finally {
+            link.release();
+        }
+
+        ShaderCache.get().store(cacheKey, programId);
+    }
+
+    /**
+     * Resolves the uniforms and uniform blocks of the program. Called once, after the link was checked,
+     * when the program is first bound or a subclass first needs its uniforms.
+     * <p>
+     * Subclasses overriding this must call the super method first. The program isn't necessarily bound.
+     */
+    protected void resolveUniforms() {}
+
+    /**
+     * Resolves the uniforms if they weren't yet, waiting for the program to finish linking if it hasn't.
+     * Subclasses call this before reading the results of {@link #resolveUniforms()} outside of a bind.
+     */
+    protected final void ensureResolved() {
+        if (resolved) return;
+
+        ensureLinked();
+        resolved = true;
+        resolveUniforms();
+    }
+
+    /**
+     * Resolves a uniform variable of the shader program and returns a handle to it.
      * <p>
-     * Call once per uniform name to cache its location.
+     * Call once per uniform and keep the handle, setting values through it needs no lookups.
      *
-     * @param name The name of the uniform variable in the shader.
+     * @param name    The name of the uniform variable in the shader.
+     * @param factory The handle type's constructor, taking the uniform location (e.g. {@code UniformMatrix4f::new}).
+     * @param <U>     The type of uniform handle.
+     * @return The uniform handle.
      */
-    protected void createUniform(String name) {
+    protected <U extends Uniform> U createUniform(String name, IntFunction<U> factory) {
+        ensureLinked();
+
         int location = glGetUniformLocation(programId, name);
 
         if (location < 0) throw new RuntimeException("Could not find uniform '" + name + "' in shader program " + programId);
 
-        uniforms.put(name, location);
+        return factory.apply(location);
     }
 
     /**
-     * Sets a 4x4 matrix uniform in the shader program.
+     * Resolves a uniform variable if the shader program declares it.
+     * <p>
+     * Used for uniforms that only some shader variants provide. If the uniform is missing
+     * the returned handle ignores the values set through it.
      *
-     * @param name   The name of the uniform variable in the shader.
-     * @param matrix The Matrix4f to set.
+     * @param name    The name of the uniform variable in the shader.
+     * @param factory The handle type's constructor, taking the uniform location (e.g. {@code Uniform4f::new}).
+     * @param <U>     The type of uniform handle.
+     * @return The uniform handle, which {@link Uniform#isPresent() is present} only if the program declares it.
      */
-    protected void setUniformMatrix4f(String name, Matrix4f matrix) {
-        try (var stack = stackPush()) {
-            FloatBuffer floatBuffer = stack.mallocFloat(16);
+    protected <U extends Uniform> U createOptionalUniform(String name, IntFunction<U> factory) {
+        ensureLinked();
 
-            matrix.get(floatBuffer);
-            glUniformMatrix4fv(uniforms.get(name), false, floatBuffer);
-        }
+        return factory.apply(glGetUniformLocation(programId, name));
+    }
+
+    /**
+     * Binds a uniform block of the shader program to a uniform buffer binding point, if the program declares it.
+     *
+     * @param name    The name of the uniform block in the shader.
+     * @param binding The binding point index.
+     * @return True if the block exists and was bound, false otherwise.
+     */
+    protected boolean bindUniformBlock(String name, int binding) {
+        ensureLinked();
+
+        int blockIndex = glGetUniformBlockIndex(programId, name);
+
+        if (blockIndex == GL_INVALID_INDEX) return false;
+
+        glUniformBlockBinding(programId, blockIndex, binding);
+        return true;
     }
 
     /**
-     * Sets a Vector4f uniform in the shader program.
+     * Gets the OpenGL program ID.
      *
-     * @param name   The name of the uniform variable in the shader.
-     * @param vector The Vector4f to set.
+     * @return The program ID.
      */
-    protected void setUniform4f(String name, Vector4f vector) {
-        glUniform4f(uniforms.get(name), vector.x, vector.y, vector.z, vector.w);
+    public int getProgramId() {
+        return programId;
     }
 
     /**
-     * Binds the shader program.
+     * Binds the shader program. Does nothing if it is already current.
+     * The first bind waits for the program to finish linking if it hasn't yet, and resolves its uniforms.
      */
     public void bind() {
-        glUseProgram(programId);
+        ensureResolved();
+        GLStateCache.get().useProgram(programId);
     }
 
     /**
      * Unbinds the shader program.
      */
     public void unbind() {
-        glUseProgram(0);
+        GLStateCache.get().useProgram(0);
     }
 
     /**
@@ -123,7 +218,57 @@ public abstract class ShaderProgram {
      * Call this when the shader program is no longer needed.
      */
     public void cleanup() {
+        if (pendingLink != null) {
+            pendingLink.release();
+            pendingLink = null;
+        }
+
         unbind();
-        glDeleteProgram(programId);
+        GLStateCache.get().deleteProgram(programId);
+    }
+
+    /**
+     * A program and the shaders it was linked from, kept until the link was checked.
+     * Programs loaded from a binary have no shaders.
+     *
+     * @param programId        The program.
+     * @param vertexShaderId   The vertex shader, or 0.
+     * @param fragmentShaderId The fragment shader, or 0.
+     */
+    record Link(int programId, int vertexShaderId, int fragmentShaderId) {
+
+        /**
+         * Checks if the program was linked from source, rather than loaded from a binary.
+         *
+         * @return True if the link still has to be checked, false otherwise.
+         */
+        boolean fromSource() {
+            return vertexShaderId != 0;
+        }
+
+        /**
+         * Waits for the shaders and the program, throwing if either failed.
+         */
+        void check() {
+            for (int shaderId : new int[]{vertexShaderId, fragmentShaderId}) {
+                if (glGetShaderi(shaderId, GL_COMPILE_STATUS) == GL_FALSE)
+                    throw new RuntimeException("Could not compile shader: " + glGetShaderInfoLog(shaderId));
+            }
+
+            if (glGetProgrami(programId, GL_LINK_STATUS) == GL_FALSE)
+                throw new RuntimeException("Could not link shader program: " + glGetProgramInfoLog(programId));
+        }
+
+        /**
+         * Detaches and deletes the shaders, which the linked program no longer needs.
+         */
+        void release() {
+            if (!fromSource()) return;
+
+            glDetachShader(programId, vertexShaderId);
+            glDetachShader(programId, fragmentShaderId);
+            glDeleteShader(vertexShaderId);
+            glDeleteShader(fragmentShaderId);
+        }
     }
 }
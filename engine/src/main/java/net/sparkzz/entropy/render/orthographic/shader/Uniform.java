@@ -0,0 +1,46 @@
+package net.sparkzz.entropy.render.orthographic.shader;
+
+/**
+ * Handle to a uniform variable of a shader program, resolved once when the program is created.
+ * <p>
+ * Subclasses keep a shadow copy of the last value they uploaded and skip uploads that wouldn't change it.
+ * Uniform values belong to their program, so the shadow stays valid across program switches.
+ * A handle created for a uniform the program doesn't declare has a location of {@code -1}
+ * and only updates its shadow, which lets optional uniforms be set unconditionally.
+ * Values must be set while the owning program is bound.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public abstract class Uniform {
+
+    private final int location;
+
+    /**
+     * Constructs a uniform handle.
+     *
+     * @param location The uniform location, or -1 if the program doesn't declare it.
+     */
+    protected Uniform(int location) {
+        this.location = location;
+    }
+
+    /**
+     * Gets the location of the uniform in its program.
+     *
+     * @return The uniform location, or -1 if the program doesn't declare it.
+     */
+    public int getLocation() {
+        return location;
+    }
+
+    /**
+     * Checks if the program declares this uniform.
+     *
+     * @return True if values are uploaded, false if they are only shadowed.
+     */
+    public boolean isPresent() {
+        return location >= 0;
+    }
+}
@@ -0,0 +1,42 @@
+package net.sparkzz.entropy.render.orthographic.shader;
+
+import java.util.Arrays;
+
+import static org.lwjgl.opengl.GL20.glUniform1iv;
+
+/**
+ * Handle to an {@code int} or sampler array uniform.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class Uniform1iv extends Uniform {
+
+    private int[] values;
+
+    /**
+     * Constructs an int array uniform handle.
+     *
+     * @param location The uniform location, or -1 if the program doesn't declare it.
+     */
+    public Uniform1iv(int location) {
+        super(location);
+    }
+
+    /**
+     * Sets the uniform, starting at its first element, uploading it only if it differs from the last values set.
+     *
+     * @param values The values to set.
+     * @return True if the values changed, false if the upload was skipped.
+     */
+    public boolean set(int[] values) {
+        if (Arrays.equals(this.values, values)) return false;
+
+        this.values = values.clone();
+
+        if (isPresent()) glUniform1iv(getLocation(), values);
+
+        return true;
+    }
+}
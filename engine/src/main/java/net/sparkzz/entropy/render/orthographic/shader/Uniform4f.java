@@ -0,0 +1,60 @@
+package net.sparkzz.entropy.render.orthographic.shader;
+
+import org.joml.Vector4f;
+
+import static org.lwjgl.opengl.GL20.glUniform4f;
+
+/**
+ * Handle to a {@code vec4} uniform.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class Uniform4f extends Uniform {
+
+    private float x, y, z, w;
+    private boolean uploaded;
+
+    /**
+     * Constructs a vec4 uniform handle.
+     *
+     * @param location The uniform location, or -1 if the program doesn't declare it.
+     */
+    public Uniform4f(int location) {
+        super(location);
+    }
+
+    /**
+     * Sets the uniform, uploading it only if it differs from the last value set.
+     *
+     * @param vector The vector to set.
+     * @return True if the value changed, false if the upload was skipped.
+     */
+    public boolean set(Vector4f vector) {
+        return set(vector.x, vector.y, vector.z, vector.w);
+    }
+
+    /**
+     * Sets the uniform from individual components, uploading it only if it differs from the last value set.
+     *
+     * @param x The first component.
+     * @param y The second component.
+     * @param z The third component.
+     * @param w The fourth component.
+     * @return True if the value changed, false if the upload was skipped.
+     */
+    public boolean set(float x, float y, float z, float w) {
+        if (uploaded && this.x == x && this.y == y && this.z == z && this.w == w) return false;
+
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        uploaded = true;
+
+        if (isPresent()) glUniform4f(getLocation(), x, y, z, w);
+
+        return true;
+    }
+}
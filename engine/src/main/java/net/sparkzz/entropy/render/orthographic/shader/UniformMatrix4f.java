@@ -0,0 +1,52 @@
+package net.sparkzz.entropy.render.orthographic.shader;
+
+import org.joml.Matrix4f;
+import org.lwjgl.BufferUtils;
+
+import java.nio.FloatBuffer;
+
+import static org.lwjgl.opengl.GL20.glUniformMatrix4fv;
+
+/**
+ * Handle to a {@code mat4} uniform.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class UniformMatrix4f extends Uniform {
+
+    private final Matrix4f value = new Matrix4f();
+    private final FloatBuffer buffer = BufferUtils.createFloatBuffer(16);
+
+    private boolean uploaded;
+
+    /**
+     * Constructs a mat4 uniform handle.
+     *
+     * @param location The uniform location, or -1 if the program doesn't declare it.
+     */
+    public UniformMatrix4f(int location) {
+        super(location);
+    }
+
+    /**
+     * Sets the uniform, uploading it only if it differs from the last value set.
+     *
+     * @param matrix The matrix to set.
+     * @return True if the value changed, false if the upload was skipped.
+     */
+    public boolean set(Matrix4f matrix) {
+        if (uploaded && value.equals(matrix)) return false;
+
+        value.set(matrix);
+        uploaded = true;
+
+        if (isPresent()) {
+            matrix.get(buffer);
+            glUniformMatrix4fv(getLocation(), false, buffer);
+        }
+
+        return true;
+    }
+}
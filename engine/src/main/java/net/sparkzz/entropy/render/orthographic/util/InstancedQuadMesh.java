@@ -0,0 +1,194 @@
+package net.sparkzz.entropy.render.orthographic.util;
+
+import net.sparkzz.entropy.render.GLStateCache;
+import net.sparkzz.entropy.render.RenderStats;
+import net.sparkzz.entropy.render.StreamingBuffer;
+
+import java.nio.FloatBuffer;
+
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLE_STRIP;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL20.glEnableVertexAttribArray;
+import static org.lwjgl.opengl.GL20.glVertexAttribPointer;
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL31.glDrawArraysInstanced;
+import static org.lwjgl.opengl.GL33.glVertexAttribDivisor;
+
+/**
+ * A quad mesh paired with a per-instance vertex buffer for instanced rendering.
+ * <p>
+ * The per-vertex data (position and texture coordinates) is sourced from the shared
+ * {@link QuadMesh} VBO, while each instance supplies its own position, size, rotation,
+ * color, UV rectangle and texture index. A single {@link #draw(int, int)} call renders many quads.
+ * <p>
+ * Instance data is streamed through a {@link StreamingBuffer}, so callers write it straight
+ * into mapped memory with {@link #map(int)} instead of uploading a fresh buffer every frame.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class InstancedQuadMesh {
+
+    /**
+     * Number of floats per instance: position (2), size (2), rotation (1), color (4), UV rect (4),
+     * texture index (1). The texture index is an array layer or sampler slot, depending on the batch mode.
+     */
+    public static final int INSTANCE_FLOATS = 14;
+    /**
+     * Size of a single instance in bytes.
+     */
+    public static final int INSTANCE_STRIDE = INSTANCE_FLOATS * Float.BYTES;
+
+    private static final int POSITION_LOCATION = 2;
+    private static final int SIZE_LOCATION = 3;
+    private static final int ROTATION_LOCATION = 4;
+    private static final int COLOR_LOCATION = 5;
+    private static final int UV_RECT_LOCATION = 6;
+    private static final int TEXTURE_INDEX_LOCATION = 7;
+
+    // encapsulates the quad attributes and the instance attributes
+    private final int vao;
+    // streams the per-instance data
+    private final StreamingBuffer instanceBuffer;
+    private final int capacity;
+    private final RenderStats stats = RenderStats.get();
+
+    /**
+     * Constructs an instanced quad mesh, creating its VAO and instance buffer.
+     * Requires a current OpenGL context.
+     *
+     * @param capacity The maximum number of instances that can be mapped at once.
+     */
+    public InstancedQuadMesh(int capacity) {
+        GLStateCache state = GLStateCache.get();
+
+        vao = createVertexArray(state);
+
+        // Per-instance attributes source the streaming buffer
+        this.capacity = capacity;
+        instanceBuffer = new StreamingBuffer(GL_ARRAY_BUFFER, capacity * INSTANCE_STRIDE);
+        instanceBuffer.bind();
+        pointInstanceAttributes(0L);
+
+        // Unbind to clean up
+        state.bindBuffer(GL_ARRAY_BUFFER, 0);
+        state.bindVertexArray(0);
+    }
+
+    /**
+     * Creates a VAO sourcing the shared quad VBO per vertex, with the instance attributes enabled
+     * and advancing once per instance. The VAO is left bound, the caller binds its instance buffer
+     * and points the instance attributes at it.
+     *
+     * @param state The GL state cache of the current thread.
+     * @return The VAO ID.
+     */
+    static int createVertexArray(GLStateCache state) {
+        // Resolve the shared quad geometry first, its static initializer binds its own VAO
+        int quadVbo = QuadMesh.getVertexBuffer();
+
+        int vao = glGenVertexArrays();
+        state.bindVertexArray(vao);
+
+        // 1) Per-vertex attributes from the shared quad VBO (same layout as QuadMesh)
+        state.bindBuffer(GL_ARRAY_BUFFER, quadVbo);
+        int stride = 4 * Float.BYTES;
+
+        glEnableVertexAttribArray(0);
+        glVertexAttribPointer(0, 2, GL_FLOAT, false, stride, 0);
+        glEnableVertexAttribArray(1);
+        glVertexAttribPointer(1, 2, GL_FLOAT, false, stride, 2 * Float.BYTES);
+
+        // 2) Per-instance attributes, advanced once per instance instead of once per vertex
+        for (int location = POSITION_LOCATION; location <= TEXTURE_INDEX_LOCATION; location++) {
+            glEnableVertexAttribArray(location);
+            glVertexAttribDivisor(location, 1);
+        }
+
+        return vao;
+    }
+
+    /**
+     * Points the instance attributes of the bound VAO at the buffer bound to {@code GL_ARRAY_BUFFER}.
+     *
+     * @param offset The byte offset of the first instance to draw.
+     */
+    static void pointInstanceAttributes(long offset) {
+        glVertexAttribPointer(POSITION_LOCATION, 2, GL_FLOAT, false, INSTANCE_STRIDE, offset);
+        glVertexAttribPointer(SIZE_LOCATION, 2, GL_FLOAT, false, INSTANCE_STRIDE, offset + 2 * Float.BYTES);
+        glVertexAttribPointer(ROTATION_LOCATION, 1, GL_FLOAT, false, INSTANCE_STRIDE, offset + 4 * Float.BYTES);
+        glVertexAttribPointer(COLOR_LOCATION, 4, GL_FLOAT, false, INSTANCE_STRIDE, offset + 5 * Float.BYTES);
+        glVertexAttribPointer(UV_RECT_LOCATION, 4, GL_FLOAT, false, INSTANCE_STRIDE, offset + 9 * Float.BYTES);
+        glVertexAttribPointer(TEXTURE_INDEX_LOCATION, 1, GL_FLOAT, false, INSTANCE_STRIDE, offset + 13 * Float.BYTES);
+    }
+
+    /**
+     * Maps space for instance data in the streaming buffer.
+     * Instances written to the returned buffer are drawn by index relative to its start,
+     * and must be published with {@link #commit()} before drawing.
+     *
+     * @param instances The number of instances to map, at most {@link #getCapacity()}.
+     * @return A float view of the mapped range.
+     */
+    public FloatBuffer map(int instances) {
+        return instanceBuffer.map(instances * INSTANCE_STRIDE).asFloatBuffer();
+    }
+
+    /**
+     * Publishes the instances written since the last {@link #map(int)} call.
+     */
+    public void commit() {
+        instanceBuffer.commit();
+    }
+
+    /**
+     * Gets the maximum number of instances that can be mapped at once.
+     *
+     * @return The instance capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Binds the instanced mesh VAO for rendering. Does nothing if it is already bound.
+     */
+    public void bind() {
+        GLStateCache.get().bindVertexArray(vao);
+    }
+
+    /**
+     * Unbinds the instanced mesh VAO.
+     */
+    public void unbind() {
+        GLStateCache.get().bindVertexArray(0);
+    }
+
+    /**
+     * Draws a contiguous range of the last mapped instances with a single draw call.
+     * The mesh must be bound.
+     *
+     * @param firstInstance The index of the first instance to draw, relative to the last mapped range.
+     * @param instanceCount The number of instances to draw.
+     */
+    public void draw(int firstInstance, int instanceCount) {
+        // GL 3.3 has no base instance, so the instance attributes are re-pointed at the range instead
+        // The buffer stays bound afterwards, so consecutive runs skip the rebind
+        instanceBuffer.bind();
+        pointInstanceAttributes(instanceBuffer.getMappedOffset() + (long) firstInstance * INSTANCE_STRIDE);
+
+        glDrawArraysInstanced(GL_TRIANGLE_STRIP, 0, 4, instanceCount);
+        stats.recordDraw(instanceCount);
+    }
+
+    /**
+     * Cleans up the VAO and instance buffer resources.
+     * The shared quad VBO is owned by {@link QuadMesh} and is left untouched.
+     */
+    public void cleanup() {
+        instanceBuffer.cleanup();
+        GLStateCache.get().deleteVertexArray(vao);
+    }
+}
@@ -1,5 +1,7 @@
 package net.sparkzz.entropy.render.orthographic.util;
 
+import net.sparkzz.entropy.render.GLStateCache;
+import net.sparkzz.entropy.render.RenderStats;
 import org.lwjgl.BufferUtils;
 
 import java.nio.FloatBuffer;
@@ -27,6 +29,8 @@ public class QuadMesh {
     private static final int VAO;
     // stores the vertex data
     private static final int VBO;
+    // the mesh is created on the thread owning the context, so its statistics are the ones to record into
+    private static final RenderStats STATS = RenderStats.get();
 
     static {
         FloatBuffer vertices = BufferUtils.createFloatBuffer(16);
@@ -38,13 +42,15 @@ public class QuadMesh {
                 1f, 1f, 1f, 1f
         }).flip();
 
+        GLStateCache state = GLStateCache.get();
+
         // 1) Generate and bind VAO
         VAO = glGenVertexArrays();
-        glBindVertexArray(VAO);
+        state.bindVertexArray(VAO);
 
         // 2) Generate, bind and fill VBO
         VBO = glGenBuffers();
-        glBindBuffer(GL_ARRAY_BUFFER, VBO);
+        state.bindBuffer(GL_ARRAY_BUFFER, VBO);
         glBufferData(GL_ARRAY_BUFFER, vertices, GL_STATIC_DRAW);
 
         // 3) Define vertex attributes
@@ -59,22 +65,32 @@ public class QuadMesh {
         glVertexAttribPointer(1, 2, GL_FLOAT, false, stride, 2 * Float.BYTES);
 
         // 4) Unbind to clean up
-        glBindBuffer(GL_ARRAY_BUFFER, 0);
-        glBindVertexArray(0);
+        state.bindBuffer(GL_ARRAY_BUFFER, 0);
+        state.bindVertexArray(0);
+    }
+
+    /**
+     * Gets the VBO holding the shared quad vertices, so other vertex arrays
+     * (e.g. {@link InstancedQuadMesh}) can source the same geometry.
+     *
+     * @return The quad vertex buffer ID.
+     */
+    static int getVertexBuffer() {
+        return VBO;
     }
 
     /**
-     * Binds the quad mesh VAO for rendering.
+     * Binds the quad mesh VAO for rendering. Does nothing if it is already bound.
      */
     public static void bind() {
-        glBindVertexArray(VAO);
+        GLStateCache.get().bindVertexArray(VAO);
     }
 
     /**
      * Unbinds the quad mesh VAO.
      */
     public static void unbind() {
-        glBindVertexArray(0);
+        GLStateCache.get().bindVertexArray(0);
     }
 
     /**
@@ -82,6 +98,7 @@ public class QuadMesh {
      */
     public static void draw() {
         glDrawArrays(GL_TRIANGLE_STRIP, 0, 4);
+        STATS.recordDraw(1);
     }
 
     /**
@@ -89,7 +106,7 @@ public class QuadMesh {
      * Should be called upon application shutdown.
      */
     public static void cleanup() {
-        glDeleteBuffers(VBO);
-        glDeleteVertexArrays(VAO);
+        GLStateCache.get().deleteBuffer(VBO);
+        GLStateCache.get().deleteVertexArray(VAO);
     }
 }
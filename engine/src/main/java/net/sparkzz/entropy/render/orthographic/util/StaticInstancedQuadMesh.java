@@ -0,0 +1,134 @@
+package net.sparkzz.entropy.render.orthographic.util;
+
+import net.sparkzz.entropy.render.GLStateCache;
+import net.sparkzz.entropy.render.RenderStats;
+
+import java.nio.FloatBuffer;
+
+import static net.sparkzz.entropy.render.orthographic.util.InstancedQuadMesh.INSTANCE_FLOATS;
+import static net.sparkzz.entropy.render.orthographic.util.InstancedQuadMesh.INSTANCE_STRIDE;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLE_STRIP;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL31.glDrawArraysInstanced;
+
+/**
+ * A quad mesh with a GPU-resident instance buffer for content that rarely changes.
+ * <p>
+ * Uses the same instance layout as {@link InstancedQuadMesh}, but the instances live in a
+ * {@code GL_STATIC_DRAW} buffer that is only written when the content changes:
+ * {@link #upload(FloatBuffer, int)} replaces everything and {@link #update(int, FloatBuffer)}
+ * overwrites a range in place, so unchanged content costs nothing but its draw calls.
+ *
+ * @author Brendon Butler
+ * @version 0.1.0-PREALPHA
+ * @since 2026-10-18
+ */
+public class StaticInstancedQuadMesh {
+
+    private final int vao;
+    private final int instanceBuffer;
+    private final RenderStats stats = RenderStats.get();
+
+    private int capacity;
+    private int instanceCount;
+
+    /**
+     * Constructs an empty static instanced mesh. Requires a current OpenGL context.
+     */
+    public StaticInstancedQuadMesh() {
+        GLStateCache state = GLStateCache.get();
+
+        vao = InstancedQuadMesh.createVertexArray(state);
+        instanceBuffer = glGenBuffers();
+
+        state.bindBuffer(GL_ARRAY_BUFFER, instanceBuffer);
+        InstancedQuadMesh.pointInstanceAttributes(0L);
+
+        state.bindBuffer(GL_ARRAY_BUFFER, 0);
+        state.bindVertexArray(0);
+    }
+
+    /**
+     * Replaces all instances, growing the buffer if needed.
+     *
+     * @param instances The instance data, {@link InstancedQuadMesh#INSTANCE_FLOATS} floats per instance from position zero.
+     * @param count     The number of instances.
+     */
+    public void upload(FloatBuffer instances, int count) {
+        GLStateCache state = GLStateCache.get();
+        FloatBuffer data = instances.slice(0, count * INSTANCE_FLOATS);
+
+        state.bindBuffer(GL_ARRAY_BUFFER, instanceBuffer);
+
+        if (count > capacity) {
+            // Leave room to grow so adding a few items doesn't reallocate every time
+            capacity = Math.max(count, capacity * 2);
+            glBufferData(GL_ARRAY_BUFFER, (long) capacity * INSTANCE_STRIDE, GL_STATIC_DRAW);
+        }
+
+        glBufferSubData(GL_ARRAY_BUFFER, 0L, data);
+        stats.recordUpload((long) count * INSTANCE_STRIDE);
+        instanceCount = count;
+    }
+
+    /**
+     * Overwrites a range of instances in place.
+     *
+     * @param firstInstance The index of the first instance to overwrite.
+     * @param instances     The new instance data, a whole number of instances between position and limit.
+     */
+    public void update(int firstInstance, FloatBuffer instances) {
+        int count = instances.remaining() / INSTANCE_FLOATS;
+
+        if (firstInstance < 0 || firstInstance + count > instanceCount)
+            throw new IndexOutOfBoundsException("Instances " + firstInstance + " to " + (firstInstance + count)
+                    + " are out of bounds for " + instanceCount + " uploaded instances");
+
+        GLStateCache.get().bindBuffer(GL_ARRAY_BUFFER, instanceBuffer);
+        glBufferSubData(GL_ARRAY_BUFFER, (long) firstInstance * INSTANCE_STRIDE, instances);
+        stats.recordUpload((long) count * INSTANCE_STRIDE);
+    }
+
+    /**
+     * Binds the mesh VAO for rendering.
+     */
+    public void bind() {
+        GLStateCache.get().bindVertexArray(vao);
+    }
+
+    /**
+     * Draws a contiguous range of the uploaded instances with a single draw call.
+     * The mesh must be bound.
+     *
+     * @param firstInstance The index of the first instance to draw.
+     * @param count         The number of instances to draw.
+     */
+    public void draw(int firstInstance, int count) {
+        // GL 3.3 has no base instance, so the instance attributes are re-pointed at the range instead
+        GLStateCache.get().bindBuffer(GL_ARRAY_BUFFER, instanceBuffer);
+        InstancedQuadMesh.pointInstanceAttributes((long) firstInstance * INSTANCE_STRIDE);
+
+        glDrawArraysInstanced(GL_TRIANGLE_STRIP, 0, 4, count);
+        stats.recordDraw(count);
+    }
+
+    /**
+     * Gets the number of instances uploaded.
+     *
+     * @return The instance count.
+     */
+    public int getInstanceCount() {
+        return instanceCount;
+    }
+
+    /**
+     * Cleans up the VAO and instance buffer.
+     * The shared quad VBO is owned by {@link QuadMesh} and is left untouched.
+     */
+    public void cleanup() {
+        GLStateCache state = GLStateCache.get();
+
+        state.deleteBuffer(instanceBuffer);
+        state.deleteVertexArray(vao);
+    }
+}
@@ -0,0 +1,13 @@
+#version 330 core
+
+in vec2 vTexCoord;
+in vec4 vColor;
+flat in int vTexIndex;
+
+out vec4 color;
+
+uniform sampler2DArray uTextures;
+
+void main() {
+    color = texture(uTextures, vec3(vTexCoord, vTexIndex)) * vColor;
+}
@@ -0,0 +1,12 @@
+#version 330 core
+
+in vec2 vTexCoord;
+in vec4 vColor;
+
+out vec4 color;
+
+uniform sampler2D uTexture;
+
+void main() {
+    color = texture(uTexture, vTexCoord) * vColor;
+}
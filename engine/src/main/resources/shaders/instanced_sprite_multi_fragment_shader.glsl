@@ -0,0 +1,39 @@
+#version 330 core
+
+// Must match InstancedShader2D.MAX_TEXTURE_SLOTS
+#define TEXTURE_SLOTS 16
+
+in vec2 vTexCoord;
+in vec4 vColor;
+flat in int vTexIndex;
+
+out vec4 color;
+
+uniform sampler2D uTextures[TEXTURE_SLOTS];
+
+vec4 sampleSlot(int slot, vec2 uv) {
+    // GLSL 3.30 only allows constant indices into sampler arrays
+    switch (slot) {
+        case 0: return texture(uTextures[0], uv);
+        case 1: return texture(uTextures[1], uv);
+        case 2: return texture(uTextures[2], uv);
+        case 3: return texture(uTextures[3], uv);
+        case 4: return texture(uTextures[4], uv);
+        case 5: return texture(uTextures[5], uv);
+        case 6: return texture(uTextures[6], uv);
+        case 7: return texture(uTextures[7], uv);
+        case 8: return texture(uTextures[8], uv);
+        case 9: return texture(uTextures[9], uv);
+        case 10: return texture(uTextures[10], uv);
+        case 11: return texture(uTextures[11], uv);
+        case 12: return texture(uTextures[12], uv);
+        case 13: return texture(uTextures[13], uv);
+        case 14: return texture(uTextures[14], uv);
+        case 15: return texture(uTextures[15], uv);
+        default: return vec4(1.0, 0.0, 1.0, 1.0);
+    }
+}
+
+void main() {
+    color = sampleSlot(vTexIndex, vTexCoord) * vColor;
+}
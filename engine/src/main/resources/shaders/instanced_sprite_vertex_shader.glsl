@@ -0,0 +1,37 @@
+#version 330 core
+
+// Per-vertex quad data (QuadMesh)
+layout(location = 0) in vec2 aPosition;
+layout(location = 1) in vec2 aTexCoord;
+
+// Per-instance data (InstancedQuadMesh)
+layout(location = 2) in vec2 iPosition;
+layout(location = 3) in vec2 iSize;
+layout(location = 4) in float iRotation;
+layout(location = 5) in vec4 iColor;
+layout(location = 6) in vec4 iUVRect;
+layout(location = 7) in float iTexIndex;
+
+// Shared per-frame values (GlobalUniforms)
+layout(std140) uniform Globals {
+    mat4 uProjection;
+    float uTime;
+};
+
+out vec2 vTexCoord;
+out vec4 vColor;
+// Array layer or sampler slot, depending on the batch mode
+flat out int vTexIndex;
+
+void main() {
+    // Same transform as the CPU path: translate(position) * scale(size) * rotateZ(rotation)
+    float angle = radians(iRotation);
+    float c = cos(angle);
+    float s = sin(angle);
+    vec2 rotated = vec2(c * aPosition.x - s * aPosition.y, s * aPosition.x + c * aPosition.y);
+
+    gl_Position = uProjection * vec4(iPosition + rotated * iSize, 0.0, 1.0);
+    vTexCoord = mix(iUVRect.xy, iUVRect.zw, aTexCoord);
+    vColor = iColor;
+    vTexIndex = int(iTexIndex + 0.5);
+}
@@ -0,0 +1,58 @@
+package net.sparkzz.entropy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedTimestepTest {
+
+    private static final long STEP = 1_000_000_000L / 60;
+
+    @Test
+    void testSimulationRateIndependentOfFrameRate() {
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+        int steps = 0;
+
+        // One second at 144 Hz
+        for (int frame = 0; frame < 144; frame++) steps += timestep.advance(1_000_000_000L / 144);
+
+        assertEquals(60, steps, 1);
+    }
+
+    @Test
+    void testAlphaIsRemainder() {
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+
+        assertEquals(0, timestep.advance(STEP / 2));
+        assertEquals(0.5f, timestep.getAlpha(), 0.001f);
+
+        assertEquals(1, timestep.advance(STEP * 3 / 4));
+        assertEquals(0.25f, timestep.getAlpha(), 0.001f);
+    }
+
+    @Test
+    void testSlowFrameDropsStepsBeyondLimit() {
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+
+        assertEquals(5, timestep.advance(STEP * 20 + STEP / 2));
+        assertEquals(15, timestep.getDroppedSteps());
+        assertEquals(0.5f, timestep.getAlpha(), 0.001f);
+
+        // Caught up, the next frame runs normally
+        assertEquals(1, timestep.advance(STEP));
+    }
+
+    @Test
+    void testUpdateRate() {
+        FixedTimestep timestep = new FixedTimestep();
+
+        timestep.advance(STEP / 2);
+        timestep.setUpdateRate(120);
+
+        assertEquals(120, timestep.getUpdateRate());
+        assertEquals(1f / 120, timestep.getStepSeconds(), 1e-6f);
+        assertTrue(timestep.getAlpha() < 1f);
+        assertThrows(IllegalArgumentException.class, () -> timestep.setUpdateRate(0));
+        assertThrows(IllegalArgumentException.class, () -> timestep.advance(-1L));
+    }
+}
@@ -0,0 +1,69 @@
+package net.sparkzz.entropy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotBufferTest {
+
+    @Test
+    void testAcquireTakesLatestAndKeepsPrevious() {
+        SnapshotBuffer<int[]> buffer = new SnapshotBuffer<>(() -> new int[1]);
+
+        assertFalse(buffer.acquire());
+
+        publish(buffer, 1);
+        assertTrue(buffer.acquire());
+        assertEquals(1, buffer.getCurrent()[0]);
+
+        // The reader skips snapshots it was too slow for
+        publish(buffer, 2);
+        publish(buffer, 3);
+        assertTrue(buffer.acquire());
+        assertEquals(3, buffer.getCurrent()[0]);
+        assertEquals(1, buffer.getPrevious()[0]);
+        assertFalse(buffer.acquire());
+        assertTrue(buffer.getCurrentNanos() > 0L);
+    }
+
+    @Test
+    void testReaderNeverSeesPartialSnapshot() throws InterruptedException {
+        SnapshotBuffer<int[]> buffer = new SnapshotBuffer<>(() -> new int[64]);
+        AtomicBoolean torn = new AtomicBoolean();
+        int snapshots = 100_000;
+
+        Thread writer = Thread.ofPlatform().start(() -> {
+            for (int value = 1; value <= snapshots; value++) publish(buffer, value);
+        });
+
+        int last = 0;
+
+        while (last < snapshots) {
+            if (!buffer.acquire()) continue;
+
+            int[] current = buffer.getCurrent(), previous = buffer.getPrevious();
+
+            for (int i = 1; i < current.length; i++) {
+                if (current[i] != current[0] || previous[i] != previous[0]) torn.set(true);
+            }
+
+            if (current[0] <= last) torn.set(true);
+
+            last = current[0];
+        }
+
+        writer.join();
+
+        assertFalse(torn.get());
+    }
+
+    private static void publish(SnapshotBuffer<int[]> buffer, int value) {
+        int[] snapshot = buffer.write();
+
+        for (int i = 0; i < snapshot.length; i++) snapshot[i] = value;
+
+        buffer.publish();
+    }
+}
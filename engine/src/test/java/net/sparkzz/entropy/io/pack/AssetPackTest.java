@@ -0,0 +1,95 @@
+package net.sparkzz.entropy.io.pack;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetPackTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testStoredAssetIsSliceOfMapping() throws IOException {
+        byte[] image = {1, 2, 3, 4, 5};
+        Path file = pack(false, "textures/player.png", image);
+
+        try (AssetPack pack = AssetPack.open(file)) {
+            ByteBuffer asset = pack.get("textures/player.png");
+
+            assertTrue(asset.isDirect());
+            assertTrue(asset.isReadOnly());
+            assertEquals(0, asset.position());
+            assertEquals(ByteBuffer.wrap(image), asset);
+        }
+    }
+
+    @Test
+    void testCompressibleAssetIsInflated() throws IOException {
+        String source = "void main() {}\n".repeat(100);
+        Path file = pack(true, "shaders/sprite.glsl", source.getBytes(StandardCharsets.UTF_8));
+
+        // The repeated source deflates to a fraction of its size
+        assertTrue(Files.size(file) < source.length() / 2);
+
+        try (AssetPack pack = AssetPack.open(file)) {
+            assertEquals(source, pack.getString("shaders/sprite.glsl"));
+            assertTrue(pack.get("shaders/sprite.glsl").isDirect());
+        }
+    }
+
+    @Test
+    void testLookupNormalizesPaths() throws IOException {
+        Path file = pack(true, "shaders/a.glsl", new byte[]{1}, "shaders/b.glsl", new byte[]{2});
+
+        try (AssetPack pack = AssetPack.open(file)) {
+            assertEquals(2, pack.size());
+            assertTrue(pack.contains("/shaders/a.glsl"));
+            assertTrue(pack.contains("shaders\\b.glsl"));
+            assertFalse(pack.contains("shaders/c.glsl"));
+            assertEquals(2, pack.get("/shaders/b.glsl").get(0));
+            assertThrows(NoSuchFileException.class, () -> pack.get("shaders/c.glsl"));
+        }
+    }
+
+    @Test
+    void testDuplicatePathThrows() throws IOException {
+        try (AssetPackWriter writer = new AssetPackWriter(directory.resolve("assets.pack"))) {
+            writer.add("a.txt", new byte[]{1});
+
+            assertThrows(IllegalArgumentException.class, () -> writer.add("/a.txt", new byte[]{2}));
+        }
+    }
+
+    @Test
+    void testOpenRejectsOtherFiles() throws IOException {
+        Path file = Files.write(directory.resolve("assets.pack"), new byte[64]);
+
+        assertThrows(IOException.class, () -> AssetPack.open(file));
+    }
+
+    @Test
+    void testHashIsFnv1a() {
+        // Reference values of 64-bit FNV-1a
+        assertEquals(0xCBF29CE484222325L, AssetPack.hash(""));
+        assertEquals(0xAF63DC4C8601EC8CL, AssetPack.hash("a"));
+    }
+
+    private Path pack(boolean compress, Object... assets) throws IOException {
+        Path file = directory.resolve("assets.pack");
+
+        try (AssetPackWriter writer = new AssetPackWriter(file, compress)) {
+            for (int i = 0; i < assets.length; i += 2) writer.add((String) assets[i], (byte[]) assets[i + 1]);
+        }
+
+        return file;
+    }
+}
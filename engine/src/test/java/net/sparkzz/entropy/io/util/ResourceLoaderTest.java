@@ -0,0 +1,137 @@
+package net.sparkzz.entropy.io.util;
+
+import net.sparkzz.entropy.io.pack.AssetPack;
+import net.sparkzz.entropy.io.pack.AssetPackWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceLoaderTest {
+
+    private static final String VERTEX_SHADER = "/shaders/test_vertex_shader.glsl";
+
+    @TempDir
+    Path directory;
+
+    private AssetPack pack;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        ResourceLoader.setPack(null);
+        ResourceLoader.setCacheBytes(ResourceLoader.DEFAULT_CACHE_BYTES);
+
+        if (pack != null) pack.close();
+    }
+
+    @Test
+    void testLoadCachesResource() {
+        ResourceLoader.clearCache();
+
+        String source = ResourceLoader.loadAsString(VERTEX_SHADER).join();
+
+        assertTrue(source.startsWith("#version"));
+        assertTrue(ResourceLoader.isCached(VERTEX_SHADER));
+        assertEquals(source.length(), ResourceLoader.getCachedBytes());
+
+        // Served from the cache without a read
+        CompletableFuture<ByteBuffer> cached = ResourceLoader.load(VERTEX_SHADER);
+
+        assertTrue(cached.isDone());
+        assertEquals(source, StandardCharsets.UTF_8.decode(cached.join()).toString());
+    }
+
+    @Test
+    void testLoadsShareRead() {
+        ResourceLoader.clearCache();
+
+        ByteBuffer first = ResourceLoader.load(VERTEX_SHADER).join();
+        ByteBuffer second = ResourceLoader.load(VERTEX_SHADER).join();
+
+        // Separate views of the same contents
+        first.get();
+
+        assertEquals(1, first.position());
+        assertEquals(0, second.position());
+        assertTrue(second.isReadOnly());
+    }
+
+    @Test
+    void testCacheEvictsLeastRecentlyUsed() throws IOException {
+        ResourceLoader.setPack(pack("a.bin", "b.bin", "c.bin"));
+        ResourceLoader.setCacheBytes(250);
+
+        ResourceLoader.load("a.bin").join();
+        ResourceLoader.load("b.bin").join();
+        ResourceLoader.load("a.bin").join();
+        ResourceLoader.load("c.bin").join();
+
+        assertTrue(ResourceLoader.isCached("a.bin"));
+        assertFalse(ResourceLoader.isCached("b.bin"));
+        assertTrue(ResourceLoader.isCached("c.bin"));
+        assertEquals(200, ResourceLoader.getCachedBytes());
+
+        ResourceLoader.setCacheBytes(100);
+
+        assertFalse(ResourceLoader.isCached("a.bin"));
+        assertEquals(100, ResourceLoader.getCachedBytes());
+    }
+
+    @Test
+    void testPackTakesPrecedence() throws IOException {
+        Path file = directory.resolve("assets.pack");
+
+        try (AssetPackWriter writer = new AssetPackWriter(file)) {
+            writer.add("shaders/test_vertex_shader.glsl", "packed".getBytes(StandardCharsets.UTF_8));
+        }
+
+        pack = AssetPack.open(file);
+        ResourceLoader.setPack(pack);
+
+        assertEquals("packed", ResourceLoader.loadResourceAsString(VERTEX_SHADER));
+        assertTrue(ResourceLoader.loadResourceAsString("/shaders/test_fragment_shader.glsl").startsWith("#version"));
+    }
+
+    @Test
+    void testPreloadReportsProgress() throws IOException {
+        ResourceLoader.setPack(pack("a.bin", "b.bin"));
+
+        ResourceLoader.Preload preload = ResourceLoader.preload(List.of("a.bin", "b.bin", "missing.bin"));
+
+        assertEquals(3, preload.getTotal());
+        assertThrows(CompletionException.class, () -> preload.future().join());
+        assertTrue(preload.isDone());
+        assertEquals(3, preload.getLoaded());
+        assertEquals(1f, preload.getProgress());
+        assertTrue(ResourceLoader.isCached("a.bin"));
+        assertTrue(ResourceLoader.isCached("b.bin"));
+    }
+
+    @Test
+    void testMissingResourceThrows() {
+        assertThrows(NoSuchFileException.class, () -> ResourceLoader.loadResource("/missing.glsl"));
+        assertFalse(ResourceLoader.isCached("/missing.glsl"));
+    }
+
+    // A pack of 100-byte assets
+    private AssetPack pack(String... paths) throws IOException {
+        Path file = directory.resolve("assets.pack");
+
+        try (AssetPackWriter writer = new AssetPackWriter(file, false)) {
+            for (String path : paths) writer.add(path, new byte[100]);
+        }
+
+        pack = AssetPack.open(file);
+        return pack;
+    }
+}
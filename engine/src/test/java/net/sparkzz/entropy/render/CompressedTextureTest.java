@@ -0,0 +1,146 @@
+package net.sparkzz.entropy.render;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedTextureTest {
+
+    private static final byte[] KTX2_IDENTIFIER = {
+            (byte) 0xAB, 'K', 'T', 'X', ' ', '2', '0', (byte) 0xBB, '\r', '\n', 0x1A, '\n'
+    };
+
+    @Test
+    void testReadKtx2Levels() throws IOException {
+        // 8x8 BC3: 4 blocks, then 1 block for each of 4x4, 2x2 and 1x1
+        ByteBuffer data = ktx2(CompressedFormat.BC3.getVkFormat(), 8, 8, new int[]{64, 16, 16, 16}, "ru");
+
+        CompressedTexture.Image image = CompressedTexture.read(data);
+
+        assertEquals(CompressedFormat.BC3, image.format());
+        assertEquals(8, image.width());
+        assertEquals(8, image.height());
+        assertEquals(4, image.levels().size());
+        assertEquals(64, image.levels().get(0).remaining());
+        assertEquals(1, image.levels().get(0).get(0));
+        assertEquals(4, image.levels().get(3).get(0));
+        assertTrue(image.bottomUp());
+    }
+
+    @Test
+    void testReadKtx2WithoutOrientationIsTopDown() throws IOException {
+        ByteBuffer data = ktx2(CompressedFormat.BC1.getVkFormat(), 4, 4, new int[]{8}, null);
+
+        assertFalse(CompressedTexture.read(data).bottomUp());
+    }
+
+    @Test
+    void testReadKtx2RejectsWrongLevelSize() {
+        ByteBuffer data = ktx2(CompressedFormat.BC7.getVkFormat(), 8, 8, new int[]{32}, "ru");
+
+        assertThrows(IOException.class, () -> CompressedTexture.read(data));
+    }
+
+    @Test
+    void testReadKtx2RejectsUnknownFormat() {
+        // VK_FORMAT_R8G8B8A8_UNORM
+        ByteBuffer data = ktx2(37, 4, 4, new int[]{8}, "ru");
+
+        assertThrows(IOException.class, () -> CompressedTexture.read(data));
+    }
+
+    @Test
+    void testReadLegacyDds() throws IOException {
+        // 8x4 DXT1: 2 blocks, then 1 block for each of 4x2 and 2x1
+        ByteBuffer data = dds("DXT1", 0, 8, 4, 3, 16 + 8 + 8);
+
+        CompressedTexture.Image image = CompressedTexture.read(data);
+
+        assertEquals(CompressedFormat.BC1, image.format());
+        assertEquals(3, image.levels().size());
+        assertEquals(16, image.levels().get(0).remaining());
+        assertEquals(8, image.levels().get(2).remaining());
+        assertTrue(image.bottomUp());
+    }
+
+    @Test
+    void testReadDx10Dds() throws IOException {
+        ByteBuffer data = dds("DX10", CompressedFormat.BC7.getDxgiFormat(), 4, 4, 1, 16);
+
+        assertEquals(CompressedFormat.BC7, CompressedTexture.read(data).format());
+    }
+
+    @Test
+    void testReadTruncatedDdsThrows() {
+        ByteBuffer data = dds("DXT5", 0, 8, 8, 1, 32);
+
+        assertThrows(IOException.class, () -> CompressedTexture.read(data));
+    }
+
+    @Test
+    void testReadRejectsOtherFiles() {
+        ByteBuffer data = ByteBuffer.wrap("\u0089PNG\r\n\u001a\n".getBytes(StandardCharsets.ISO_8859_1));
+
+        assertThrows(IOException.class, () -> CompressedTexture.read(data));
+    }
+
+    @Test
+    void testLevelBytesRoundsUpToBlocks() {
+        assertEquals(8, CompressedFormat.BC1.levelBytes(1, 1));
+        assertEquals(16 * 4, CompressedFormat.BC3.levelBytes(5, 8));
+        assertTrue(CompressedTexture.isContainer("textures/Player.KTX2"));
+        assertFalse(CompressedTexture.isContainer("textures/player.png"));
+    }
+
+    // Levels are filled with their index plus one, smallest level first as KTX2 stores them
+    private static ByteBuffer ktx2(int vkFormat, int width, int height, int[] levelBytes, String orientation) {
+        byte[] keyValue = orientation == null ? new byte[0]
+                : ("KTXorientation\0" + orientation + "\0").getBytes(StandardCharsets.US_ASCII);
+        int keyValueLength = keyValue.length == 0 ? 0 : 4 + ((keyValue.length + 3) & ~3);
+        int keyValueOffset = 80 + levelBytes.length * 24;
+        int dataOffset = (keyValueOffset + keyValueLength + 15) & ~15;
+        int total = dataOffset;
+
+        for (int bytes : levelBytes) total += bytes;
+
+        ByteBuffer data = ByteBuffer.allocate(total).order(ByteOrder.LITTLE_ENDIAN);
+
+        data.put(KTX2_IDENTIFIER).putInt(vkFormat).putInt(1).putInt(width).putInt(height)
+                .putInt(0).putInt(0).putInt(1).putInt(levelBytes.length).putInt(0)
+                .putInt(0).putInt(0).putInt(keyValueOffset).putInt(keyValueLength).putLong(0L).putLong(0L);
+
+        long offset = total;
+
+        for (int level = 0; level < levelBytes.length; level++) {
+            offset -= levelBytes[level];
+            data.putLong(80 + level * 24, offset).putLong(88 + level * 24, levelBytes[level])
+                    .putLong(96 + level * 24, levelBytes[level]);
+
+            for (int i = 0; i < levelBytes[level]; i++) data.put((int) offset + i, (byte) (level + 1));
+        }
+
+        if (keyValueLength > 0) data.putInt(keyValueOffset, keyValue.length).put(keyValueOffset + 4, keyValue);
+
+        return data.clear();
+    }
+
+    private static ByteBuffer dds(String fourCC, int dxgiFormat, int width, int height, int levels, int dataBytes) {
+        boolean dx10 = fourCC.equals("DX10");
+        ByteBuffer data = ByteBuffer.allocate(128 + (dx10 ? 20 : 0) + dataBytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        data.put("DDS ".getBytes(StandardCharsets.US_ASCII))
+                .putInt(4, 124).putInt(8, 0x1 | 0x2 | 0x4 | 0x1000 | 0x20000 | 0x80000)
+                .putInt(12, height).putInt(16, width).putInt(28, levels)
+                .putInt(76, 32).putInt(80, 0x4).put(84, fourCC.getBytes(StandardCharsets.US_ASCII))
+                .putInt(108, 0x1000);
+
+        if (dx10) data.putInt(128, dxgiFormat).putInt(132, 3).putInt(140, 1);
+
+        return data.clear();
+    }
+}
@@ -0,0 +1,37 @@
+package net.sparkzz.entropy.render;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FramebufferTest {
+
+    @Test
+    void testFlipRowsReversesRowOrder() {
+        ByteBuffer pixels = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6});
+
+        Framebuffer.flipRows(pixels, 2, 3);
+
+        assertArrayEquals(new byte[]{5, 6, 3, 4, 1, 2}, pixels.array());
+    }
+
+    @Test
+    void testFlipRowsEvenRowCount() {
+        ByteBuffer pixels = ByteBuffer.wrap(new byte[]{1, 2, 3, 4});
+
+        Framebuffer.flipRows(pixels, 1, 4);
+
+        assertArrayEquals(new byte[]{4, 3, 2, 1}, pixels.array());
+    }
+
+    @Test
+    void testFlipRowsSingleRowUnchanged() {
+        ByteBuffer pixels = ByteBuffer.wrap(new byte[]{1, 2, 3, 4});
+
+        Framebuffer.flipRows(pixels, 4, 1);
+
+        assertArrayEquals(new byte[]{1, 2, 3, 4}, pixels.array());
+    }
+}
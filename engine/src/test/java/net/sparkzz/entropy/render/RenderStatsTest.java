@@ -0,0 +1,102 @@
+package net.sparkzz.entropy.render;
+
+import net.sparkzz.entropy.render.orthographic.batch.BatchType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderStatsTest {
+
+    private final RenderStats stats = RenderStats.get();
+
+    @BeforeEach
+    void setUp() {
+        // Timer queries need a context, the counters don't
+        stats.setGpuTimingEnabled(false);
+        stats.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stats.setGpuTimingEnabled(true);
+        stats.setEnabled(true);
+    }
+
+    @Test
+    void testCountersPerFrameAndBatch() {
+        stats.beginFrame();
+
+        stats.beginPass(BatchType.SPRITE);
+        stats.recordDraw(100);
+        stats.recordDraw(20);
+        stats.recordUpload(4096);
+        stats.endPass();
+
+        stats.beginPass(BatchType.UI_ELEMENT);
+        stats.recordDraw(1);
+        stats.endPass();
+
+        stats.endFrame();
+
+        assertEquals(3, stats.getFrameCounters().getDrawCalls());
+        assertEquals(121, stats.getFrameCounters().getInstances());
+        assertEquals(4096, stats.getFrameCounters().getBufferBytes());
+        assertEquals(2, stats.getBatchCounters(BatchType.SPRITE).getDrawCalls());
+        assertEquals(120, stats.getBatchCounters(BatchType.SPRITE).getInstances());
+        assertEquals(1, stats.getBatchCounters(BatchType.UI_ELEMENT).getInstances());
+        assertEquals(0, stats.getBatchCounters(BatchType.OTHER).getDrawCalls());
+    }
+
+    @Test
+    void testFrameResetsCounters() {
+        stats.beginFrame();
+        stats.recordDraw(5);
+        stats.endFrame();
+
+        long frames = stats.getFrameCount();
+
+        stats.beginFrame();
+        stats.endFrame();
+
+        assertEquals(frames + 1, stats.getFrameCount());
+        assertEquals(0, stats.getFrameCounters().getDrawCalls());
+    }
+
+    @Test
+    void testCpuPhaseTiming() throws InterruptedException {
+        stats.beginFrame();
+        stats.beginPhase(RenderStats.Phase.UPDATE);
+        Thread.sleep(2);
+        stats.endPhase(RenderStats.Phase.UPDATE);
+        stats.endFrame();
+
+        assertTrue(stats.getCpuTimeNanos(RenderStats.Phase.UPDATE) >= 2_000_000L);
+        assertEquals(0, stats.getCpuTimeNanos(RenderStats.Phase.SWAP));
+    }
+
+    @Test
+    void testNestedPassThrows() {
+        stats.beginPass(BatchType.SPRITE);
+
+        try {
+            assertThrows(IllegalStateException.class, () -> stats.beginPass(BatchType.UI_ELEMENT));
+        } finally {
+            stats.endPass();
+        }
+    }
+
+    @Test
+    void testDisabledRecordsNothing() {
+        stats.beginFrame();
+        stats.endFrame();
+        stats.setEnabled(false);
+
+        stats.beginFrame();
+        stats.recordDraw(10);
+        stats.endFrame();
+
+        assertEquals(0, stats.getFrameCounters().getDrawCalls());
+    }
+}
@@ -0,0 +1,110 @@
+package net.sparkzz.entropy.render;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.lwjgl.system.MemoryUtil;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextureLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReadDecodesTopRowFirst() throws IOException {
+        Path file = directory.resolve("image.png");
+        Files.write(file, png());
+
+        TextureLoader.Image image = TextureLoader.read(file);
+
+        try {
+            assertEquals(2, image.width());
+            assertEquals(2, image.height());
+            // Top left is red, bottom left is blue
+            assertPixel(image.pixels(), 0, 0xFF, 0x00, 0x00);
+            assertPixel(image.pixels(), 8, 0x00, 0x00, 0xFF);
+        } finally {
+            image.free();
+        }
+    }
+
+    @Test
+    void testReadInvalidImageThrows() throws IOException {
+        Path file = directory.resolve("broken.png");
+        Files.write(file, new byte[]{1, 2, 3, 4});
+
+        assertThrows(IOException.class, () -> TextureLoader.read(file));
+        assertThrows(IOException.class, () -> TextureLoader.read(directory.resolve("missing.png")));
+    }
+
+    @Test
+    void testCopyRowsFlipsToBottomRowFirst() throws IOException {
+        TextureLoader.Image image = TextureLoader.decode(direct(png()));
+        ByteBuffer destination = MemoryUtil.memAlloc(16);
+
+        try {
+            // GL row 0 is the bottom of the image
+            TextureLoader.copyRows(image, 0, 2, destination);
+
+            assertPixel(destination, 0, 0x00, 0x00, 0xFF);
+            assertPixel(destination, 8, 0xFF, 0x00, 0x00);
+
+            TextureLoader.copyRows(image, 1, 1, destination);
+
+            assertPixel(destination, 0, 0xFF, 0x00, 0x00);
+        } finally {
+            MemoryUtil.memFree(destination);
+            image.free();
+        }
+    }
+
+    @Test
+    void testRowsPerChunk() {
+        assertEquals(4, TextureLoader.rowsPerChunk(1024, 4096, 100));
+        assertEquals(3, TextureLoader.rowsPerChunk(1024, 4096, 3));
+        assertEquals(0, TextureLoader.rowsPerChunk(8192, 4096, 100));
+    }
+
+    @Test
+    void testLowResLevelFitsWithinSize() {
+        assertEquals(0, TextureLoader.lowResLevel(64, 32, 64));
+        assertEquals(4, TextureLoader.lowResLevel(1024, 512, 64));
+        // The longer side decides
+        assertEquals(3, TextureLoader.lowResLevel(100, 500, 64));
+    }
+
+    private static void assertPixel(ByteBuffer pixels, int offset, int red, int green, int blue) {
+        assertEquals(red, pixels.get(offset) & 0xFF);
+        assertEquals(green, pixels.get(offset + 1) & 0xFF);
+        assertEquals(blue, pixels.get(offset + 2) & 0xFF);
+        assertEquals(0xFF, pixels.get(offset + 3) & 0xFF);
+    }
+
+    private static ByteBuffer direct(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    // 2x2: red and green on top, blue and white below
+    private static byte[] png() throws IOException {
+        BufferedImage image = new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+
+        image.setRGB(0, 0, 0xFFFF0000);
+        image.setRGB(1, 0, 0xFF00FF00);
+        image.setRGB(0, 1, 0xFF0000FF);
+        image.setRGB(1, 1, 0xFFFFFFFF);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,220 @@
+package net.sparkzz.entropy.render;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TextureManagerTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<Texture> loaded = new ArrayList<>();
+    private final TextureLoader streamer = mock(TextureLoader.class);
+    private TextureManager manager;
+    private String path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        manager = new TextureManager((canonicalPath, sampler) -> {
+            Texture texture = mock(Texture.class);
+
+            when(texture.getEstimatedBytes()).thenReturn(1024L);
+            loaded.add(texture);
+            return texture;
+        }, streamer);
+
+        path = Files.createFile(directory.resolve("sprite.png")).toString();
+    }
+
+    @Test
+    void testAcquireDeduplicatesByCanonicalPath() {
+        TextureHandle first = manager.acquire(path);
+        TextureHandle second = manager.acquire(directory.resolve(".").resolve("sprite.png").toString());
+
+        assertSame(first.getTexture(), second.getTexture());
+        assertEquals(1, loaded.size());
+        assertEquals(1, manager.getLiveCount());
+        assertEquals(1024L, manager.getEstimatedBytes());
+    }
+
+    @Test
+    void testSamplerSettingsAreSeparateTextures() {
+        TextureHandle smooth = manager.acquire(path, SamplerSettings.DEFAULT);
+        TextureHandle pixelated = manager.acquire(path, SamplerSettings.PIXELATED);
+
+        assertNotSame(smooth.getTexture(), pixelated.getTexture());
+        assertEquals(2, manager.getLiveCount());
+        assertEquals(2048L, manager.getEstimatedBytes());
+    }
+
+    @Test
+    void testLastReleaseDeletesTexture() {
+        TextureHandle first = manager.acquire(path);
+        TextureHandle second = manager.acquire(path);
+        Texture texture = first.getTexture();
+
+        first.release();
+        verify(texture, never()).cleanup();
+        assertEquals(1, manager.getLiveCount());
+
+        second.close();
+        verify(texture).cleanup();
+        assertEquals(0, manager.getLiveCount());
+        assertEquals(0L, manager.getEstimatedBytes());
+    }
+
+    @Test
+    void testDoubleReleaseOnlyDropsOneReference() {
+        TextureHandle first = manager.acquire(path);
+        TextureHandle second = manager.acquire(path);
+
+        first.release();
+        first.release();
+
+        assertTrue(first.isReleased());
+        assertThrows(IllegalStateException.class, first::getTexture);
+        assertEquals(1, manager.getLiveCount());
+        assertFalse(second.isReleased());
+    }
+
+    @Test
+    void testAcquireAfterReleaseReloads() {
+        manager.acquire(path).release();
+        manager.acquire(path);
+
+        assertEquals(2, loaded.size());
+        verify(loaded.get(0)).cleanup();
+    }
+
+    @Test
+    void testCleanupDeletesEverything() {
+        TextureHandle handle = manager.acquire(path);
+
+        manager.cleanup();
+        handle.release();
+
+        verify(loaded.get(0), times(1)).cleanup();
+        assertEquals(0, manager.getLiveCount());
+        assertEquals(0L, manager.getEstimatedBytes());
+    }
+
+    @Test
+    void testAcquireMissingFileThrows() {
+        assertThrows(RuntimeException.class, () -> manager.acquire(directory.resolve("missing.png").toString()));
+        assertThrows(IllegalArgumentException.class, () -> manager.acquire(null));
+    }
+
+    @Test
+    void testBoundResidentTextureCountsAsHit() {
+        Texture texture = manager.acquire(path).getTexture();
+
+        when(texture.consumeBound()).thenReturn(true, false);
+        manager.update();
+        manager.update();
+
+        assertEquals(1L, manager.getHits());
+        assertEquals(0L, manager.getMisses());
+    }
+
+    @Test
+    void testBoundEvictedTextureIsReloaded() throws IOException {
+        AsyncTexture texture = streamed(1000L);
+        TextureManager streaming = new TextureManager((canonicalPath, sampler) -> texture, streamer);
+
+        streaming.acquire(path);
+        when(texture.isResident()).thenReturn(false);
+        when(texture.consumeBound()).thenReturn(true);
+        streaming.update();
+
+        assertEquals(1L, streaming.getMisses());
+        verify(streamer).reload(texture);
+    }
+
+    @Test
+    void testOverBudgetShrinksLeastRecentlyUsedFirst() throws IOException {
+        AsyncTexture idle = streamed(1000L), used = streamed(1000L);
+        TextureManager streaming = streamingManager(idle, used);
+
+        streaming.setBudgetBytes(1500L);
+        when(used.consumeBound()).thenReturn(true);
+        when(streamer.shrink(idle, TextureManager.DEFAULT_LOW_RES_SIZE)).thenReturn(600L);
+        streaming.update();
+
+        verify(streamer).shrink(idle, TextureManager.DEFAULT_LOW_RES_SIZE);
+        verify(streamer, never()).shrink(eq(used), anyInt());
+        verify(streamer, never()).unload(any());
+        assertEquals(1L, streaming.getEvictions());
+    }
+
+    @Test
+    void testOverBudgetUnloadsWhenShrinkingIsNotEnough() throws IOException {
+        AsyncTexture idle = streamed(1000L), used = streamed(1000L);
+        TextureManager streaming = streamingManager(idle, used);
+
+        streaming.setBudgetBytes(1500L);
+        when(used.consumeBound()).thenReturn(true);
+        when(streamer.unload(idle)).thenReturn(1000L);
+        streaming.update();
+
+        verify(streamer).unload(idle);
+        verify(streamer, never()).unload(used);
+        assertEquals(1L, streaming.getEvictions());
+    }
+
+    @Test
+    void testWithinBudgetEvictsNothing() throws IOException {
+        AsyncTexture first = streamed(1000L), second = streamed(1000L);
+        TextureManager streaming = streamingManager(first, second);
+
+        streaming.setBudgetBytes(2000L);
+        streaming.update();
+
+        verifyNoInteractions(streamer);
+        assertEquals(2000L, streaming.getResidentBytes());
+        assertThrows(IllegalArgumentException.class, () -> streaming.setBudgetBytes(0L));
+    }
+
+    @Test
+    void testEstimateBytes() {
+        assertEquals(16L, Texture.estimateBytes(2, 2, false));
+        // 4x4 + 2x2 + 1x1 levels
+        assertEquals((16L + 4L + 1L) * 4L, Texture.estimateBytes(4, 4, true));
+        // Non-square chains keep at least one pixel along the short side
+        assertEquals((8L + 4L + 2L + 1L) * 4L, Texture.estimateBytes(8, 1, true));
+    }
+
+    @Test
+    void testSamplerUsesMipmaps() {
+        assertTrue(SamplerSettings.DEFAULT.usesMipmaps());
+        assertFalse(SamplerSettings.PIXELATED.usesMipmaps());
+    }
+
+    private TextureManager streamingManager(AsyncTexture first, AsyncTexture second) throws IOException {
+        String secondPath = Files.createFile(directory.resolve("other.png")).toString();
+        TextureManager streaming = new TextureManager(
+                (canonicalPath, sampler) -> canonicalPath.endsWith("sprite.png") ? first : second, streamer);
+
+        streaming.acquire(path);
+        streaming.acquire(secondPath);
+        return streaming;
+    }
+
+    private static AsyncTexture streamed(long residentBytes) {
+        AsyncTexture texture = mock(AsyncTexture.class);
+
+        when(texture.isLoaded()).thenReturn(true);
+        when(texture.isResident()).thenReturn(true);
+        when(texture.getResidentBytes()).thenReturn(residentBytes);
+        return texture;
+    }
+}
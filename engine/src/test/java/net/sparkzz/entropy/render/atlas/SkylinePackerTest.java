@@ -0,0 +1,57 @@
+package net.sparkzz.entropy.render.atlas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkylinePackerTest {
+
+    @Test
+    void testInsertFillsBinWithoutOverlap() {
+        SkylinePacker packer = new SkylinePacker(64, 64);
+        List<int[]> rects = new ArrayList<>();
+
+        for (int i = 0; i < 16; i++) {
+            SkylinePacker.Placement placement = packer.insert(16, 16);
+
+            assertNotNull(placement);
+            rects.add(new int[] {placement.x(), placement.y(), 16, 16});
+        }
+
+        for (int i = 0; i < rects.size(); i++) {
+            int[] a = rects.get(i);
+
+            assertTrue(a[0] + a[2] <= 64 && a[1] + a[3] <= 64);
+
+            for (int j = i + 1; j < rects.size(); j++) {
+                int[] b = rects.get(j);
+                boolean overlaps = a[0] < b[0] + b[2] && b[0] < a[0] + a[2] && a[1] < b[1] + b[3] && b[1] < a[1] + a[3];
+
+                assertFalse(overlaps);
+            }
+        }
+
+        assertNull(packer.insert(1, 1));
+    }
+
+    @Test
+    void testInsertPrefersLowestPosition() {
+        SkylinePacker packer = new SkylinePacker(64, 64);
+
+        assertEquals(new SkylinePacker.Placement(0, 0), packer.insert(32, 48));
+        assertEquals(new SkylinePacker.Placement(32, 0), packer.insert(32, 16));
+        assertEquals(new SkylinePacker.Placement(32, 16), packer.insert(32, 16));
+    }
+
+    @Test
+    void testInsertRejectsOversizedRectangle() {
+        SkylinePacker packer = new SkylinePacker(32, 32);
+
+        assertNull(packer.insert(33, 1));
+        assertNull(packer.insert(1, 33));
+        assertThrows(IllegalArgumentException.class, () -> packer.insert(0, 1));
+    }
+}
@@ -0,0 +1,47 @@
+package net.sparkzz.entropy.render.atlas;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TextureAtlasTest {
+
+    @Test
+    void testBlitExtrudesEdges() {
+        // 2x2 image: 1 2 (bottom row), 3 4 (top row)
+        ByteBuffer image = ByteBuffer.allocate(2 * 2 * 4);
+        image.putInt(0, 1).putInt(4, 2).putInt(8, 3).putInt(12, 4);
+
+        ByteBuffer page = ByteBuffer.allocate(8 * 8 * 4);
+        TextureAtlas.blit(page, 8, 1, 1, image, 2, 2, 1);
+
+        // The image itself lands at (2, 2)
+        assertEquals(1, pixel(page, 2, 2));
+        assertEquals(2, pixel(page, 3, 2));
+        assertEquals(3, pixel(page, 2, 3));
+        assertEquals(4, pixel(page, 3, 3));
+
+        // Edges and corners are repeated around it
+        assertEquals(1, pixel(page, 1, 1));
+        assertEquals(2, pixel(page, 4, 2));
+        assertEquals(3, pixel(page, 1, 3));
+        assertEquals(4, pixel(page, 4, 4));
+
+        // Nothing is written outside the extruded area
+        assertEquals(0, pixel(page, 0, 0));
+        assertEquals(0, pixel(page, 5, 5));
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new TextureAtlas(0));
+        assertThrows(IllegalArgumentException.class, () -> new TextureAtlas(64, 64, -1, 0));
+    }
+
+    private static int pixel(ByteBuffer page, int x, int y) {
+        return page.getInt((y * 8 + x) * 4);
+    }
+}
@@ -5,6 +5,7 @@ import org.joml.Vector2f;
 import org.joml.Vector4f;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -45,4 +46,46 @@ class Renderable2DTest {
         renderable.setPersistent(false);
         assertFalse(renderable.isPersistent());
     }
+
+    @Test
+    void testMarkDirtyIncrementsVersion() {
+        Renderable2D renderable = new Renderable2D() {
+            @Override
+            public Texture getTexture() {
+                return null;
+            }
+
+            @Override
+            public Vector2f getPosition() {
+                return null;
+            }
+
+            @Override
+            public Vector2f getSize() {
+                return null;
+            }
+
+            @Override
+            public Vector4f getColor() {
+                return null;
+            }
+
+            @Override
+            public float getRotation() {
+                return 0;
+            }
+        };
+
+        int version = renderable.getVersion();
+
+        renderable.markDirty();
+        assertEquals(version + 1, renderable.getVersion());
+
+        // Changing the z-index changes the draw order, so it counts as a change
+        renderable.setZIndex(5);
+        assertEquals(version + 2, renderable.getVersion());
+
+        renderable.setZIndex(5);
+        assertEquals(version + 2, renderable.getVersion());
+    }
 }
@@ -0,0 +1,144 @@
+package net.sparkzz.entropy.render.orthographic.batch;
+
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureArray;
+import net.sparkzz.entropy.render.TextureBindingMode;
+import net.sparkzz.entropy.render.TextureRegion;
+import net.sparkzz.entropy.render.orthographic.camera.Camera2D;
+import net.sparkzz.entropy.render.orthographic.model.Sprite;
+import net.sparkzz.entropy.render.orthographic.model.SpriteStore;
+import net.sparkzz.entropy.render.orthographic.shader.InstancedShader2D;
+import org.joml.Vector2f;
+import org.joml.Vector4f;
+import org.junit.jupiter.api.Test;
+
+import java.nio.FloatBuffer;
+
+import static net.sparkzz.entropy.render.orthographic.shader.InstancedShader2D.MAX_TEXTURE_SLOTS;
+import static net.sparkzz.entropy.render.orthographic.util.InstancedQuadMesh.INSTANCE_FLOATS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InstancedSpriteRenderBatchTest {
+
+    @Test
+    void testPutInstanceLayout() {
+        TextureRegion region = new TextureRegion(mock(Texture.class), 0.25f, 0f, 0.5f, 0.125f);
+        Sprite sprite = new Sprite(region,
+                new Vector2f(10f, 20f), new Vector2f(32f, 64f), new Vector4f(0.5f, 0.25f, 1f, 0.75f), 45f);
+        FloatBuffer buffer = FloatBuffer.allocate(INSTANCE_FLOATS);
+
+        InstancedSpriteRenderBatch.putInstance(buffer, sprite, 3);
+
+        assertEquals(INSTANCE_FLOATS, buffer.position());
+        assertArrayEquals(new float[] {
+                10f, 20f,
+                32f, 64f,
+                45f,
+                0.5f, 0.25f, 1f, 0.75f,
+                0.25f, 0f, 0.5f, 0.125f,
+                3f
+        }, buffer.array());
+    }
+
+    @Test
+    void testPutStoreInstanceMatchesSprite() {
+        TextureRegion region = new TextureRegion(mock(Texture.class), 0.25f, 0f, 0.5f, 0.125f);
+        Sprite sprite = new Sprite(region,
+                new Vector2f(10f, 20f), new Vector2f(32f, 64f), new Vector4f(1f, 0f, 1f, 0f), 45f);
+        SpriteStore store = new SpriteStore();
+        int handle = store.add(region, 10f, 20f, 32f, 64f);
+        FloatBuffer expected = FloatBuffer.allocate(INSTANCE_FLOATS);
+        FloatBuffer actual = FloatBuffer.allocate(INSTANCE_FLOATS);
+
+        store.setRotation(handle, 45f);
+        store.setColor(handle, 0xFF00FF00);
+
+        InstancedSpriteRenderBatch.putInstance(expected, sprite, 3);
+        InstancedSpriteRenderBatch.putInstance(actual, store, 0, 3);
+
+        assertArrayEquals(expected.array(), actual.array());
+    }
+
+    @Test
+    void testSingleModeSplitsOnTextureChange() {
+        InstancedSpriteRenderBatch batch = batch(TextureBindingMode.SINGLE);
+        Texture first = mock(Texture.class), second = mock(Texture.class);
+
+        assertEquals(0, batch.assignTextureIndex(sprite(first), 0));
+        assertEquals(0, batch.assignTextureIndex(sprite(first), 1));
+        assertEquals(0, batch.assignTextureIndex(sprite(second), 2));
+        assertEquals(0, batch.assignTextureIndex(sprite(first), 3));
+
+        assertEquals(3, batch.getRunCount());
+    }
+
+    @Test
+    void testMultiUnitModeSplitsWhenOutOfSlots() {
+        InstancedSpriteRenderBatch batch = batch(TextureBindingMode.MULTI_UNIT);
+        Texture[] textures = new Texture[MAX_TEXTURE_SLOTS + 1];
+
+        for (int i = 0; i < textures.length; i++) textures[i] = mock(Texture.class);
+        for (int i = 0; i < MAX_TEXTURE_SLOTS; i++) assertEquals(i, batch.assignTextureIndex(sprite(textures[i]), i));
+
+        // Reusing a bound texture stays in the run
+        assertEquals(2, batch.assignTextureIndex(sprite(textures[2]), MAX_TEXTURE_SLOTS));
+        assertEquals(1, batch.getRunCount());
+
+        // One texture too many starts a new run at slot 0
+        assertEquals(0, batch.assignTextureIndex(sprite(textures[MAX_TEXTURE_SLOTS]), MAX_TEXTURE_SLOTS + 1));
+        assertEquals(2, batch.getRunCount());
+    }
+
+    @Test
+    void testArrayModeUsesLayerIndex() {
+        InstancedSpriteRenderBatch batch = batch(TextureBindingMode.ARRAY);
+        TextureArray array = mock(TextureArray.class);
+
+        assertEquals(4, batch.assignTextureIndex(sprite(new TextureRegion(array, 0f, 0f, 1f, 1f, 4)), 0));
+        assertEquals(7, batch.assignTextureIndex(sprite(new TextureRegion(array, 0f, 0f, 1f, 1f, 7)), 1));
+        assertEquals(1, batch.getRunCount());
+
+        assertThrows(IllegalStateException.class, () -> batch.assignTextureIndex(sprite(mock(Texture.class)), 2));
+    }
+
+    @Test
+    void testStoreDrawLeavesRetainedSpritesAlone() {
+        InstancedShader2D shader = mock(InstancedShader2D.class);
+        int[] flushes = new int[1];
+        InstancedSpriteRenderBatch batch = new InstancedSpriteRenderBatch(shader) {
+            @Override
+            protected void flush() {
+                flushes[0]++;
+            }
+        };
+        Sprite retained = sprite(mock(Texture.class));
+
+        retained.setPersistent(true);
+        batch.setPersistent(true);
+        batch.submit(retained);
+        batch.draw(mock(Camera2D.class), new SpriteStore());
+
+        // The retained sprite is drawn by the batch's own pass only
+        assertEquals(0, flushes[0]);
+        assertEquals(1, batch.getSize());
+        verify(shader).bind();
+    }
+
+    private static InstancedSpriteRenderBatch batch(TextureBindingMode mode) {
+        InstancedShader2D shader = mock(InstancedShader2D.class);
+        when(shader.getBindingMode()).thenReturn(mode);
+
+        return new InstancedSpriteRenderBatch(shader);
+    }
+
+    private static Sprite sprite(Texture texture) {
+        return sprite(new TextureRegion(texture, 0f, 0f, 1f, 1f));
+    }
+
+    private static Sprite sprite(TextureRegion region) {
+        return new Sprite(region, new Vector2f(), new Vector2f(1f, 1f), new Vector4f(1f), 0f);
+    }
+}
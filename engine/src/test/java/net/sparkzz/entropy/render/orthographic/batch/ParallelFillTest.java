@@ -0,0 +1,38 @@
+package net.sparkzz.entropy.render.orthographic.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelFillTest {
+
+    @Test
+    void testBelowThresholdWritesOnCallingThread() {
+        Thread caller = Thread.currentThread();
+        AtomicInteger calls = new AtomicInteger();
+
+        ParallelFill.run(100, 1000, (start, end) -> {
+            assertSame(caller, Thread.currentThread());
+            assertEquals(0, start);
+            assertEquals(100, end);
+            calls.incrementAndGet();
+        });
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testEveryItemWrittenExactlyOnce() {
+        int count = 100_000;
+        AtomicIntegerArray writes = new AtomicIntegerArray(count);
+
+        ParallelFill.run(count, 1, (start, end) -> {
+            for (int i = start; i < end; i++) writes.incrementAndGet(i);
+        });
+
+        for (int i = 0; i < count; i++) assertEquals(1, writes.get(i), "Item " + i);
+    }
+}
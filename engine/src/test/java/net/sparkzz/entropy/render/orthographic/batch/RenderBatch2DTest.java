@@ -1,5 +1,6 @@
 package net.sparkzz.entropy.render.orthographic.batch;
 
+import net.sparkzz.entropy.render.Texture;
 import net.sparkzz.entropy.render.orthographic.Renderable2D;
 import net.sparkzz.entropy.render.orthographic.camera.Camera2D;
 import net.sparkzz.entropy.render.orthographic.shader.Shader2D;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class RenderBatch2DTest {
@@ -85,4 +87,74 @@ class RenderBatch2DTest {
         renderBatch.clear();
         assertEquals(0, renderBatch.getSize());
     }
+
+    @Test
+    void testStructureVersionTracksRetainedItems() {
+        Renderable2D persistentItem = mock(Renderable2D.class);
+        Renderable2D transientItem = mock(Renderable2D.class);
+        when(persistentItem.isPersistent()).thenReturn(true);
+
+        renderBatch.setPersistent(true);
+        int initial = renderBatch.getStructureVersion();
+
+        // Transient items are streamed every frame and never invalidate retained content
+        renderBatch.submit(transientItem);
+        assertEquals(initial, renderBatch.getStructureVersion());
+
+        renderBatch.submit(persistentItem);
+        int added = renderBatch.getStructureVersion();
+        assertNotEquals(initial, added);
+
+        assertTrue(renderBatch.remove(persistentItem));
+        int removed = renderBatch.getStructureVersion();
+        assertNotEquals(added, removed);
+
+        assertFalse(renderBatch.remove(persistentItem));
+        assertEquals(removed, renderBatch.getStructureVersion());
+
+        renderBatch.clear();
+        assertNotEquals(removed, renderBatch.getStructureVersion());
+    }
+
+    @Test
+    void testSortKeepsSubmissionOrderUnlessOpaque() {
+        Renderable2D first = item(2, false), second = item(1, false), third = item(2, false);
+
+        renderBatch.submit(first);
+        renderBatch.submit(second);
+        renderBatch.submit(third);
+
+        // Textures may have transparent texels, so overlapping items keep their painter's order
+        RenderQueue<Renderable2D> queue = renderBatch.sortItems();
+
+        assertSame(first, queue.get(0));
+        assertSame(second, queue.get(1));
+        assertSame(third, queue.get(2));
+
+        renderBatch.clear();
+
+        Renderable2D opaqueFirst = item(2, true), opaqueSecond = item(1, true), opaqueThird = item(2, true);
+
+        renderBatch.submit(opaqueFirst);
+        renderBatch.submit(opaqueSecond);
+        renderBatch.submit(opaqueThird);
+
+        // Declared opaque, they are grouped by texture
+        queue = renderBatch.sortItems();
+
+        assertSame(opaqueSecond, queue.get(0));
+        assertSame(opaqueFirst, queue.get(1));
+        assertSame(opaqueThird, queue.get(2));
+    }
+
+    private static Renderable2D item(int textureId, boolean opaque) {
+        Renderable2D item = mock(Renderable2D.class);
+        Texture texture = mock(Texture.class);
+
+        when(texture.getId()).thenReturn(textureId);
+        when(item.getTexture()).thenReturn(texture);
+        when(item.getAlpha()).thenReturn(1f);
+        when(item.isOpaque()).thenReturn(opaque);
+        return item;
+    }
 }
@@ -0,0 +1,118 @@
+package net.sparkzz.entropy.render.orthographic.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RenderQueueTest {
+
+    @Test
+    void testSortOrdersByLayerThenZIndex() {
+        RenderQueue<String> queue = new RenderQueue<>();
+
+        queue.add("front", 1, 0, false, 1, 1);
+        queue.add("back", -1, 5, false, 1, 1);
+        queue.add("middle-high", 0, 3, false, 1, 1);
+        queue.add("middle-low", 0, -3, false, 1, 1);
+        queue.sort();
+
+        assertEquals("back", queue.get(0));
+        assertEquals("middle-low", queue.get(1));
+        assertEquals("middle-high", queue.get(2));
+        assertEquals("front", queue.get(3));
+    }
+
+    @Test
+    void testSortGroupsOpaqueItemsByTexture() {
+        RenderQueue<String> queue = new RenderQueue<>();
+
+        queue.add("a1", 0, 0, false, 1, 2);
+        queue.add("b1", 0, 0, false, 1, 1);
+        queue.add("a2", 0, 0, false, 1, 2);
+        queue.add("b2", 0, 0, false, 1, 1);
+        queue.sort();
+
+        assertEquals("b1", queue.get(0));
+        assertEquals("b2", queue.get(1));
+        assertEquals("a1", queue.get(2));
+        assertEquals("a2", queue.get(3));
+    }
+
+    @Test
+    void testSortKeepsTranslucentSubmissionOrder() {
+        RenderQueue<String> queue = new RenderQueue<>();
+
+        queue.add("first", 0, 0, true, 1, 2);
+        queue.add("second", 0, 0, true, 1, 1);
+        queue.add("opaque", 0, 0, false, 9, 9);
+        queue.sort();
+
+        assertEquals("opaque", queue.get(0));
+        assertEquals("first", queue.get(1));
+        assertEquals("second", queue.get(2));
+    }
+
+    @Test
+    void testGetKeyDropsSubmissionIndex() {
+        RenderQueue<String> queue = new RenderQueue<>();
+
+        queue.add("first", 2, 5, true, 1, 2);
+        queue.add("second", 2, 5, true, 3, 4);
+        queue.sort();
+
+        assertEquals(RenderQueue.key(2, 5, true, 1, 2, 0), queue.getKey(0));
+        assertEquals(queue.getKey(0), queue.getKey(1));
+    }
+
+    @Test
+    void testSortBeyondMaxItems() {
+        RenderQueue<Integer> queue = new RenderQueue<>();
+        int count = RenderQueue.MAX_ITEMS + 3;
+
+        // Every item but the last is translucent on z-index 1, so they keep their submission order
+        for (int i = 0; i < count - 1; i++) queue.add(i, 0, 1, true, 0, 0);
+
+        queue.add(-1, 0, 0, false, 0, 0);
+        queue.sort();
+
+        assertEquals(count, queue.size());
+        assertEquals(-1, queue.get(0));
+        assertEquals(0, queue.get(1));
+        assertEquals(RenderQueue.MAX_ITEMS, queue.get(RenderQueue.MAX_ITEMS + 1));
+        assertEquals(count - 2, queue.get(count - 1));
+
+        queue.clear();
+        queue.add(7, 0, 0, false, 0, 0);
+        queue.sort();
+        assertEquals(7, queue.get(0));
+    }
+
+    @Test
+    void testClearEmptiesQueue() {
+        RenderQueue<String> queue = new RenderQueue<>();
+
+        for (int i = 0; i < 1000; i++) queue.add("item" + i, 0, i, false, 0, 0);
+
+        queue.clear();
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testRadixSortMatchesArraysSort() {
+        Random random = new Random(42);
+        long[] keys = new long[10_000];
+
+        for (int i = 0; i < keys.length; i++) keys[i] = random.nextLong();
+
+        long[] expected = keys.clone();
+        Arrays.sort(expected);
+
+        RenderQueue.radixSort(keys, new long[keys.length], new int[Long.BYTES][256], keys.length);
+
+        assertArrayEquals(expected, keys);
+    }
+}
@@ -0,0 +1,34 @@
+package net.sparkzz.entropy.render.orthographic.batch;
+
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureRegion;
+import net.sparkzz.entropy.render.orthographic.model.Sprite;
+import org.joml.Matrix4f;
+import org.joml.Vector2f;
+import org.joml.Vector4f;
+import org.junit.jupiter.api.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SpriteRenderBatchTest {
+
+    @Test
+    void testPutModelMatchesTransformChain() {
+        Sprite sprite = new Sprite(new TextureRegion(mock(Texture.class), 0f, 0f, 1f, 1f),
+                new Vector2f(10f, 20f), new Vector2f(32f, 64f), new Vector4f(1f), 30f);
+        FloatBuffer buffer = FloatBuffer.allocate(16);
+
+        SpriteRenderBatch.putModel(buffer, sprite);
+
+        Matrix4f expected = new Matrix4f()
+                .translate(10f, 20f, 0)
+                .scale(32f, 64f, 1)
+                .rotateZ((float) Math.toRadians(30f));
+
+        assertEquals(16, buffer.position());
+        assertArrayEquals(expected.get(new float[16]), buffer.array(), 1e-4f);
+    }
+}
@@ -1,5 +1,7 @@
 package net.sparkzz.entropy.render.orthographic.camera;
 
+import net.sparkzz.entropy.render.orthographic.culling.Bounds2D;
+import org.joml.Vector2f;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,4 +27,101 @@ public class Camera2DTest {
 
         assertNotNull(camera.getProjectionMatrix());
     }
+
+    @Test
+    void testViewBounds() {
+        Camera2D camera = new Camera2D();
+
+        camera.resize(800, 600);
+
+        Bounds2D bounds = camera.getViewBounds();
+
+        assertEquals(0f, bounds.getMinX(), 0.001);
+        assertEquals(0f, bounds.getMinY(), 0.001);
+        assertEquals(800f, bounds.getMaxX(), 0.001);
+        assertEquals(600f, bounds.getMaxY(), 0.001);
+    }
+
+    @Test
+    void testDefaultViewProjectionEqualsProjection() {
+        Camera2D camera = new Camera2D();
+
+        camera.resize(800, 600);
+
+        assertEquals(camera.getProjectionMatrix(), camera.getViewProjectionMatrix());
+    }
+
+    @Test
+    void testVersionOnlyChangesWithCamera() {
+        Camera2D camera = new Camera2D();
+
+        camera.resize(800, 600);
+        int version = camera.getVersion();
+
+        camera.setPosition(0f, 0f);
+        camera.setZoom(1f);
+        camera.setRotation(0f);
+        camera.getViewProjectionMatrix();
+
+        assertEquals(version, camera.getVersion());
+
+        camera.translate(10f, 0f);
+
+        assertEquals(version + 1, camera.getVersion());
+    }
+
+    @Test
+    void testPanningScrollsViewBounds() {
+        Camera2D camera = new Camera2D();
+
+        camera.resize(800, 600);
+        camera.setPosition(100f, 50f);
+
+        Bounds2D bounds = camera.getViewBounds();
+
+        assertEquals(100f, bounds.getMinX(), 0.001);
+        assertEquals(50f, bounds.getMinY(), 0.001);
+        assertEquals(900f, bounds.getMaxX(), 0.001);
+        assertEquals(650f, bounds.getMaxY(), 0.001);
+    }
+
+    @Test
+    void testZoomPivotsAroundCenter() {
+        Camera2D camera = new Camera2D();
+
+        camera.resize(800, 600);
+        camera.centerOn(1000f, 1000f);
+        camera.setZoom(2f);
+
+        Bounds2D bounds = camera.getViewBounds();
+
+        assertEquals(800f, bounds.getMinX(), 0.01);
+        assertEquals(850f, bounds.getMinY(), 0.01);
+        assertEquals(1200f, bounds.getMaxX(), 0.01);
+        assertEquals(1150f, bounds.getMaxY(), 0.01);
+    }
+
+    @Test
+    void testScreenWorldRoundTrip() {
+        Camera2D camera = new Camera2D();
+
+        camera.resize(800, 600);
+        camera.setPosition(-30f, 45f);
+        camera.setZoom(1.5f);
+        camera.setRotation(30f);
+
+        Vector2f world = camera.screenToWorld(400f, 300f, new Vector2f());
+        Vector2f screen = camera.worldToScreen(world.x, world.y, new Vector2f());
+
+        // The center of the screen is the pivot, so it stays over the same world point
+        assertEquals(370f, world.x, 0.01);
+        assertEquals(345f, world.y, 0.01);
+        assertEquals(400f, screen.x, 0.01);
+        assertEquals(300f, screen.y, 0.01);
+    }
+
+    @Test
+    void testInvalidZoom() {
+        assertThrows(IllegalArgumentException.class, () -> new Camera2D().setZoom(0f));
+    }
 }
@@ -0,0 +1,174 @@
+package net.sparkzz.entropy.render.orthographic.culling;
+
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureRegion;
+import net.sparkzz.entropy.render.orthographic.Renderable2D;
+import org.joml.Vector2f;
+import org.joml.Vector4f;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SpatialHashGridTest {
+
+    private static final Bounds2D VIEW = new Bounds2D(0f, 0f, 800f, 600f);
+
+    @Test
+    void testQueryReturnsOnlyVisibleItems() {
+        SpatialHashGrid<Item> grid = new SpatialHashGrid<>(128f);
+        Item visible = new Item(100f, 100f, 32f, 32f, 0f);
+        Item hidden = new Item(5000f, 5000f, 32f, 32f, 0f);
+        Item behind = new Item(-200f, -200f, 32f, 32f, 0f);
+
+        grid.insert(visible);
+        grid.insert(hidden);
+        grid.insert(behind);
+
+        assertEquals(List.of(visible), query(grid, VIEW));
+    }
+
+    @Test
+    void testItemSpanningCellsIsVisitedOnce() {
+        SpatialHashGrid<Item> grid = new SpatialHashGrid<>(64f);
+        Item large = new Item(10f, 10f, 500f, 300f, 0f);
+
+        grid.insert(large);
+
+        assertEquals(List.of(large), query(grid, VIEW));
+        assertTrue(grid.getCellCount() > 1);
+    }
+
+    @Test
+    void testQueryVisitsInInsertionOrderAcrossCells() {
+        SpatialHashGrid<Item> grid = new SpatialHashGrid<>(128f);
+        Item first = new Item(400f, 300f, 32f, 32f, 0f);
+        Item second = new Item(10f, 10f, 32f, 32f, 0f);
+
+        grid.insert(first);
+        grid.insert(second);
+
+        assertEquals(List.of(first, second), query(grid, VIEW));
+
+        // Moving the second item past the first in cell order must not swap their draw order
+        second.position.set(600f, 500f);
+        grid.update(second);
+
+        assertEquals(List.of(first, second), query(grid, VIEW));
+    }
+
+    @Test
+    void testUpdateMovesItemBetweenCells() {
+        SpatialHashGrid<Item> grid = new SpatialHashGrid<>(128f);
+        Item item = new Item(5000f, 5000f, 32f, 32f, 0f);
+
+        grid.insert(item);
+        assertTrue(query(grid, VIEW).isEmpty());
+
+        item.position.set(400f, 300f);
+        grid.update(item);
+
+        assertEquals(List.of(item), query(grid, VIEW));
+        assertEquals(1, grid.getCellCount());
+    }
+
+    @Test
+    void testRemove() {
+        SpatialHashGrid<Item> grid = new SpatialHashGrid<>(128f);
+        Item item = new Item(100f, 100f, 32f, 32f, 0f);
+
+        grid.insert(item);
+
+        assertTrue(grid.remove(item));
+        assertFalse(grid.remove(item));
+        assertEquals(0, grid.size());
+        assertEquals(0, grid.getCellCount());
+        assertTrue(query(grid, VIEW).isEmpty());
+    }
+
+    @Test
+    void testInsertRejectsDuplicates() {
+        SpatialHashGrid<Item> grid = new SpatialHashGrid<>(128f);
+        Item item = new Item(0f, 0f, 1f, 1f, 0f);
+
+        grid.insert(item);
+
+        assertThrows(IllegalArgumentException.class, () -> grid.insert(item));
+    }
+
+    @Test
+    void testRotatedBoundsEncloseCorners() {
+        // The batches rotate the unit quad before scaling it, so a 100x10 quad rotated 90 degrees
+        // maps its (0, 1) corner to (-1, 0) and then to (-100, 0)
+        Bounds2D bounds = new Bounds2D().set(new Item(500f, 500f, 100f, 10f, 90f));
+
+        assertEquals(400f, bounds.getMinX(), 0.001);
+        assertEquals(500f, bounds.getMaxX(), 0.001);
+        assertEquals(500f, bounds.getMinY(), 0.001);
+        assertEquals(510f, bounds.getMaxY(), 0.001);
+    }
+
+    @Test
+    void testRotationCanMakeItemVisible() {
+        SpatialHashGrid<Item> grid = new SpatialHashGrid<>(128f);
+        Item item = new Item(820f, 100f, 50f, 10f, 0f);
+
+        grid.insert(item);
+        assertTrue(query(grid, VIEW).isEmpty());
+
+        // Rotated 180 degrees the quad extends to the left, into the view
+        item.rotation = 180f;
+        grid.update(item);
+
+        assertEquals(List.of(item), query(grid, VIEW));
+    }
+
+    private static List<Item> query(SpatialHashGrid<Item> grid, Bounds2D area) {
+        List<Item> result = new ArrayList<>();
+
+        assertEquals(grid.query(area, result::add), result.size());
+        return result;
+    }
+
+    private static final class Item extends Renderable2D {
+
+        private final TextureRegion region = new TextureRegion(mock(Texture.class), 0f, 0f, 1f, 1f);
+        private final Vector2f position;
+        private final Vector2f size;
+        private float rotation;
+
+        private Item(float x, float y, float width, float height, float rotation) {
+            this.position = new Vector2f(x, y);
+            this.size = new Vector2f(width, height);
+            this.rotation = rotation;
+        }
+
+        @Override
+        public Texture getTexture() {
+            return region.getTexture();
+        }
+
+        @Override
+        public Vector2f getPosition() {
+            return position;
+        }
+
+        @Override
+        public Vector2f getSize() {
+            return size;
+        }
+
+        @Override
+        public Vector4f getColor() {
+            return new Vector4f(1f);
+        }
+
+        @Override
+        public float getRotation() {
+            return rotation;
+        }
+    }
+}
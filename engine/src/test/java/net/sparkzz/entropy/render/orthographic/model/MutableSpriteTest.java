@@ -0,0 +1,77 @@
+package net.sparkzz.entropy.render.orthographic.model;
+
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureRegion;
+import org.joml.Vector2f;
+import org.joml.Vector4f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class MutableSpriteTest {
+
+    @Test
+    void testPrimitiveAccessorsMatchVectors() {
+        MutableSprite sprite = sprite();
+
+        assertEquals(sprite.getPosition().x, sprite.getX());
+        assertEquals(sprite.getPosition().y, sprite.getY());
+        assertEquals(sprite.getSize().x, sprite.getWidth());
+        assertEquals(sprite.getSize().y, sprite.getHeight());
+        assertEquals(sprite.getColor(), new Vector4f(sprite.getRed(), sprite.getGreen(), sprite.getBlue(), sprite.getAlpha()));
+    }
+
+    @Test
+    void testSettersUpdateInPlaceAndMarkDirty() {
+        MutableSprite sprite = sprite();
+        int version = sprite.getVersion();
+
+        assertFalse(sprite.isDirty());
+
+        sprite.setPosition(5f, 6f);
+        sprite.translate(1f, 1f);
+        sprite.setSize(8f, 9f);
+        sprite.setColor(0.5f, 0.5f, 0.5f, 0.25f);
+        sprite.setRotation(90f);
+
+        assertTrue(sprite.isDirty());
+        assertEquals(version + 5, sprite.getVersion());
+        assertEquals(new Vector2f(6f, 7f), sprite.getPosition());
+        assertEquals(new Vector2f(8f, 9f), sprite.getSize());
+        assertEquals(0.25f, sprite.getAlpha());
+        assertEquals(90f, sprite.getRotation());
+    }
+
+    @Test
+    void testUnchangedValuesStayClean() {
+        MutableSprite sprite = sprite();
+        int version = sprite.getVersion();
+
+        sprite.setPosition(sprite.getX(), sprite.getY());
+        sprite.setSize(sprite.getWidth(), sprite.getHeight());
+        sprite.setColor(sprite.getRed(), sprite.getGreen(), sprite.getBlue(), sprite.getAlpha());
+        sprite.setRotation(sprite.getRotation());
+        sprite.setRegion(sprite.getRegion());
+
+        assertFalse(sprite.isDirty());
+        assertEquals(version, sprite.getVersion());
+    }
+
+    @Test
+    void testClearDirtyKeepsVersion() {
+        MutableSprite sprite = sprite();
+
+        sprite.setRotation(45f);
+        int version = sprite.getVersion();
+        sprite.clearDirty();
+
+        assertFalse(sprite.isDirty());
+        assertEquals(version, sprite.getVersion());
+    }
+
+    private static MutableSprite sprite() {
+        return new MutableSprite(new TextureRegion(mock(Texture.class), 0f, 0f, 1f, 1f),
+                new Vector2f(1f, 2f), new Vector2f(3f, 4f), new Vector4f(1f, 0.5f, 0.25f, 1f), 0f);
+    }
+}
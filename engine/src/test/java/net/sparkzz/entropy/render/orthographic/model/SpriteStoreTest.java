@@ -0,0 +1,145 @@
+package net.sparkzz.entropy.render.orthographic.model;
+
+import net.sparkzz.entropy.render.Texture;
+import net.sparkzz.entropy.render.TextureRegion;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpriteStoreTest {
+
+    @Test
+    void testAddAndUpdateThroughHandles() {
+        SpriteStore store = new SpriteStore(2);
+        TextureRegion region = region(1);
+
+        int first = store.add(region, 1f, 2f, 3f, 4f);
+        int second = store.add(region, 5f, 6f, 7f, 8f);
+        int third = store.add(region, 9f, 10f, 11f, 12f);
+
+        store.translate(second, 1f, -1f);
+        store.setRotation(third, 45f);
+        store.setColor(first, 1f, 0f, 0f, 1f);
+
+        assertEquals(3, store.size());
+        assertEquals(6f, store.getX(second));
+        assertEquals(5f, store.getY(second));
+        assertEquals(45f, store.getRotation(third));
+        assertEquals(0xFF0000FF, store.getColor(first));
+        assertEquals(11f, store.getWidth(third));
+    }
+
+    @Test
+    void testRemoveSwapsLastAndReusesHandle() {
+        SpriteStore store = new SpriteStore();
+        TextureRegion region = region(1);
+
+        int first = store.add(region, 1f, 0f, 1f, 1f);
+        store.add(region, 2f, 0f, 1f, 1f);
+        int third = store.add(region, 3f, 0f, 1f, 1f);
+
+        assertTrue(store.remove(first));
+        assertFalse(store.remove(first));
+        assertFalse(store.contains(first));
+
+        // The last sprite fills the hole and keeps its handle
+        assertEquals(2, store.size());
+        assertEquals(third, store.getHandleAt(0));
+        assertEquals(3f, store.getX(third));
+        assertThrows(IllegalArgumentException.class, () -> store.getX(first));
+
+        assertEquals(first, store.add(region, 4f, 0f, 1f, 1f));
+    }
+
+    @Test
+    void testSortOrdersByZIndexThenTexture() {
+        SpriteStore store = new SpriteStore();
+        TextureRegion a = region(1), b = region(2);
+
+        int top = store.add(b, 0f, 0f, 1f, 1f);
+        int second = store.add(b, 1f, 0f, 1f, 1f);
+        int first = store.add(a, 2f, 0f, 1f, 1f);
+        int third = store.add(a, 3f, 0f, 1f, 1f);
+
+        store.setZIndex(top, 5);
+        store.sort();
+
+        // Opaque sprites on the same z-index are grouped by texture, keeping their relative order
+        assertEquals(first, store.getHandleAt(0));
+        assertEquals(third, store.getHandleAt(1));
+        assertEquals(second, store.getHandleAt(2));
+        assertEquals(top, store.getHandleAt(3));
+
+        // Handles still resolve after the arrays were reordered
+        assertEquals(0f, store.getX(top));
+        assertEquals(2f, store.getX(first));
+    }
+
+    @Test
+    void testTranslucentSpritesKeepTheirOrder() {
+        SpriteStore store = new SpriteStore();
+        TextureRegion a = region(1), b = region(2);
+
+        int back = store.add(b, 0f, 0f, 1f, 1f);
+        int front = store.add(a, 1f, 0f, 1f, 1f);
+
+        store.setColor(back, 1f, 1f, 1f, 0.5f);
+        store.setColor(front, 1f, 1f, 1f, 0.5f);
+        store.sort();
+
+        assertEquals(back, store.getHandleAt(0));
+        assertEquals(front, store.getHandleAt(1));
+    }
+
+    @Test
+    void testRemoveKeepsTranslucentOrder() {
+        SpriteStore store = new SpriteStore();
+        TextureRegion region = region(1);
+
+        int first = store.add(region, 0f, 0f, 1f, 1f);
+        int second = store.add(region, 1f, 0f, 1f, 1f);
+        int third = store.add(region, 2f, 0f, 1f, 1f);
+
+        store.setColor(second, 1f, 1f, 1f, 0.5f);
+        store.setColor(third, 1f, 1f, 1f, 0.5f);
+        store.sort();
+        store.remove(first);
+        store.sort();
+
+        // The translucent sprites shift down rather than the last one jumping ahead
+        assertEquals(second, store.getHandleAt(0));
+        assertEquals(third, store.getHandleAt(1));
+        assertEquals(2f, store.getX(third));
+    }
+
+    @Test
+    void testClearInvalidatesHandles() {
+        SpriteStore store = new SpriteStore();
+        int handle = store.add(region(1), 0f, 0f, 1f, 1f);
+
+        store.clear();
+
+        assertEquals(0, store.size());
+        assertFalse(store.contains(handle));
+        assertEquals(handle, store.add(region(1), 0f, 0f, 1f, 1f));
+    }
+
+    @Test
+    void testPackColorRoundTrips() {
+        int rgba = SpriteStore.packColor(1f, 0.5f, 0f, 0.25f);
+
+        assertEquals(1f, SpriteStore.unpackColor(rgba, 24));
+        assertEquals(0.5f, SpriteStore.unpackColor(rgba, 16), 1f / 255f);
+        assertEquals(0f, SpriteStore.unpackColor(rgba, 8));
+        assertEquals(0.25f, SpriteStore.unpackColor(rgba, 0), 1f / 255f);
+    }
+
+    private static TextureRegion region(int textureId) {
+        Texture texture = mock(Texture.class);
+        when(texture.getId()).thenReturn(textureId);
+
+        return new TextureRegion(texture, 0f, 0f, 1f, 1f);
+    }
+}
@@ -1,5 +1,6 @@
 package net.sparkzz.entropy.render.orthographic.shader;
 
+import net.sparkzz.entropy.render.GLStateCache;
 import org.joml.Matrix4f;
 import org.joml.Vector4f;
 import org.junit.jupiter.api.AfterEach;
@@ -11,7 +12,10 @@ import org.lwjgl.opengl.GL;
 import java.io.IOException;
 
 import static net.sparkzz.entropy.io.util.ResourceLoader.loadResourceAsString;
-import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.lwjgl.opengl.GL20.glGetUniformLocation;
+import static org.lwjgl.opengl.GL20.glGetUniformfv;
 
 public class Shader2DTest {
 
@@ -37,6 +41,8 @@ public class Shader2DTest {
 
         GLFW.glfwMakeContextCurrent(window);
         GL.createCapabilities();
+        // Every test creates a fresh context, so forget the bindings of the previous one
+        GLStateCache.get().invalidate();
 
         try {
             vertexShaderSource = loadResourceAsString("/shaders/test_vertex_shader.glsl");
@@ -57,21 +63,30 @@ public class Shader2DTest {
 
     @Test
     void testSetProjectionMatrix() {
-        Shader2D shader = spy(new Shader2D(vertexShaderSource, fragmentShaderSource));
-        Matrix4f matrix = new Matrix4f();
+        Shader2D shader = new Shader2D(vertexShaderSource, fragmentShaderSource);
+        Matrix4f matrix = new Matrix4f().ortho2D(0, 800, 600, 0);
 
+        shader.bind();
         shader.setProjectionMatrix(matrix);
 
-        verify(shader).setUniformMatrix4f("uProjection", matrix);
+        float[] uploaded = new float[16];
+        glGetUniformfv(shader.getProgramId(), glGetUniformLocation(shader.getProgramId(), "uProjection"), uploaded);
+
+        assertFalse(shader.usesGlobalsBlock());
+        assertArrayEquals(matrix.get(new float[16]), uploaded);
     }
 
     @Test
     void testSetColor() {
-        Shader2D shader = spy(new Shader2D(vertexShaderSource, fragmentShaderSource));
+        Shader2D shader = new Shader2D(vertexShaderSource, fragmentShaderSource);
         Vector4f color = new Vector4f(1f, 0f, 0f, 1f);
 
+        shader.bind();
         shader.setColor(color);
 
-        verify(shader).setUniform4f("uColor", color);
+        float[] uploaded = new float[4];
+        glGetUniformfv(shader.getProgramId(), glGetUniformLocation(shader.getProgramId(), "uColor"), uploaded);
+
+        assertArrayEquals(new float[] {1f, 0f, 0f, 1f}, uploaded);
     }
 }
@@ -0,0 +1,66 @@
+package net.sparkzz.entropy.render.orthographic.shader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShaderCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testHashIsStable() {
+        assertEquals(ShaderCache.hash("driver", "vertex", "fragment"), ShaderCache.hash("driver", "vertex", "fragment"));
+        assertEquals(64, ShaderCache.hash("driver", "vertex", "fragment").length());
+    }
+
+    @Test
+    void testHashDependsOnDriverAndSources() {
+        String key = ShaderCache.hash("driver", "vertex", "fragment");
+
+        assertNotEquals(key, ShaderCache.hash("other driver", "vertex", "fragment"));
+        assertNotEquals(key, ShaderCache.hash("driver", "other vertex", "fragment"));
+        assertNotEquals(key, ShaderCache.hash("driver", "vertex", "other fragment"));
+        // Text moving from one source to the other is a different program
+        assertNotEquals(ShaderCache.hash("driver", "ab", "c"), ShaderCache.hash("driver", "a", "bc"));
+    }
+
+    @Test
+    void testEntryRoundTrip() throws IOException {
+        Path file = directory.resolve("nested").resolve("program.bin");
+        ByteBuffer binary = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5});
+
+        ShaderCache.writeEntry(file, 0x8741, binary);
+        ShaderCache.Entry entry = ShaderCache.readEntry(file);
+
+        assertEquals(0x8741, entry.format());
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, entry.binary());
+        assertEquals(0, binary.position());
+        // Only the entry is left behind, not the temporary file it was written through
+        try (var files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void testReadCorruptEntryThrows() throws IOException {
+        Path file = directory.resolve("program.bin");
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> ShaderCache.readEntry(file));
+
+        ShaderCache.writeEntry(file, 1, ByteBuffer.wrap(new byte[]{1, 2, 3, 4}));
+        byte[] truncated = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(truncated, truncated.length - 1));
+
+        assertThrows(IOException.class, () -> ShaderCache.readEntry(file));
+    }
+}
@@ -0,0 +1,53 @@
+package net.sparkzz.entropy.render.orthographic.shader;
+
+import org.joml.Matrix4f;
+import org.joml.Vector4f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Handles with location -1 only update their shadow, so the skipping logic runs without a GL context
+class UniformTest {
+
+    @Test
+    void testMatrixSkipsUnchangedValue() {
+        UniformMatrix4f uniform = new UniformMatrix4f(-1);
+        Matrix4f matrix = new Matrix4f().ortho2D(0, 800, 600, 0);
+
+        assertFalse(uniform.isPresent());
+        assertTrue(uniform.set(matrix));
+        assertFalse(uniform.set(new Matrix4f(matrix)));
+
+        matrix.translate(10f, 0f, 0f);
+
+        assertTrue(uniform.set(matrix));
+    }
+
+    @Test
+    void testMatrixUploadsFirstValueEvenIfIdentity() {
+        assertTrue(new UniformMatrix4f(-1).set(new Matrix4f()));
+    }
+
+    @Test
+    void testVectorSkipsUnchangedValue() {
+        Uniform4f uniform = new Uniform4f(-1);
+
+        assertTrue(uniform.set(new Vector4f(1f, 0f, 0f, 1f)));
+        assertFalse(uniform.set(1f, 0f, 0f, 1f));
+        assertTrue(uniform.set(1f, 0f, 0f, 0.5f));
+    }
+
+    @Test
+    void testIntArrayKeepsItsOwnCopy() {
+        Uniform1iv uniform = new Uniform1iv(-1);
+        int[] values = {0, 1, 2};
+
+        assertTrue(uniform.set(values));
+        assertFalse(uniform.set(new int[] {0, 1, 2}));
+
+        // Changing the caller's array must not change the shadow
+        values[2] = 5;
+
+        assertTrue(uniform.set(values));
+    }
+}